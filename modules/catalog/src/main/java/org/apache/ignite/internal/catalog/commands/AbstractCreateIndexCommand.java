@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.catalog.commands.CatalogUtils.schemaOrT
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.table;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -30,12 +31,17 @@ import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogValidationException;
 import org.apache.ignite.internal.catalog.UpdateContext;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.catalog.storage.NewIndexEntry;
 import org.apache.ignite.internal.catalog.storage.ObjectIdGenUpdateEntry;
 import org.apache.ignite.internal.catalog.storage.UpdateEntry;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Abstract create index command.
@@ -49,6 +55,8 @@ public abstract class AbstractCreateIndexCommand extends AbstractIndexCommand {
 
     protected final List<String> columns;
 
+    private final @Nullable List<IndexConditionParams> predicate;
+
     private final boolean ifNotExists;
 
     AbstractCreateIndexCommand(
@@ -57,16 +65,18 @@ public abstract class AbstractCreateIndexCommand extends AbstractIndexCommand {
             boolean ifNotExists,
             String tableName,
             boolean unique,
-            List<String> columns
+            List<String> columns,
+            @Nullable List<IndexConditionParams> predicate
     ) throws CatalogValidationException {
         super(schemaName, indexName);
 
-        validate(tableName, columns);
+        validate(tableName, unique, columns, predicate);
 
         this.ifNotExists = ifNotExists;
         this.tableName = tableName;
         this.unique = unique;
         this.columns = List.copyOf(columns);
+        this.predicate = predicate == null ? null : List.copyOf(predicate);
     }
 
     public boolean ifNotExists() {
@@ -98,6 +108,12 @@ public abstract class AbstractCreateIndexCommand extends AbstractIndexCommand {
             }
         }
 
+        if (predicate != null) {
+            for (IndexConditionParams condition : predicate) {
+                validateCondition(table, condition);
+            }
+        }
+
         if (unique && !new HashSet<>(columns).containsAll(CatalogUtils.resolveColumnNames(table, table.colocationColumns()))) {
             throw new CatalogValidationException("Unique index must include all colocation columns.");
         }
@@ -114,7 +130,61 @@ public abstract class AbstractCreateIndexCommand extends AbstractIndexCommand {
         );
     }
 
-    private static void validate(String tableName, List<String> columns) {
+    /**
+     * Resolves the predicate of a partial index against the table. Must be called after validation.
+     *
+     * @param table Table the index belongs to.
+     * @return Predicate or {@code null} if the index covers all rows of the table.
+     */
+    protected @Nullable CatalogIndexPredicate resolvePredicate(CatalogTableDescriptor table) {
+        if (predicate == null) {
+            return null;
+        }
+
+        List<Condition> conditions = new ArrayList<>(predicate.size());
+
+        for (IndexConditionParams condition : predicate) {
+            CatalogTableColumnDescriptor column = table.column(condition.columnName());
+
+            assert column != null : condition.columnName();
+
+            conditions.add(new Condition(column.id(), condition.operator(), condition.value(column.type())));
+        }
+
+        return new CatalogIndexPredicate(conditions);
+    }
+
+    private void validateCondition(CatalogTableDescriptor table, IndexConditionParams condition) {
+        CatalogTableColumnDescriptor column = table.column(condition.columnName());
+
+        if (column == null) {
+            throw new CatalogValidationException("Column with name '{}' not found in table '{}.{}'.",
+                    condition.columnName(), schemaName, tableName);
+        }
+
+        Object value = condition.value(column.type());
+
+        if (condition.hasValue() && value == null) {
+            throw new CatalogValidationException("Column '{}' can't be compared with NULL in the index predicate.", column.name());
+        }
+
+        if (value != null && !column.type().javaClass().isInstance(value)) {
+            throw new CatalogValidationException("Constant of the index predicate doesn't match the type of column '{}' [expected={}, "
+                    + "actual={}].", column.name(), column.type(), value.getClass().getSimpleName());
+        }
+
+        if (value instanceof byte[] && condition.operator() != Operator.EQUALS && condition.operator() != Operator.NOT_EQUALS) {
+            throw new CatalogValidationException("Column '{}' of binary type can only be compared for equality in the index predicate.",
+                    column.name());
+        }
+    }
+
+    private static void validate(
+            String tableName,
+            boolean unique,
+            List<String> columns,
+            @Nullable List<IndexConditionParams> predicate
+    ) {
         validateIdentifier(tableName, "Name of the table");
 
         if (nullOrEmpty(columns)) {
@@ -130,5 +200,29 @@ public abstract class AbstractCreateIndexCommand extends AbstractIndexCommand {
                 throw new CatalogValidationException("Column with name '{}' specified more than once.", name);
             }
         }
+
+        if (predicate == null) {
+            return;
+        }
+
+        if (predicate.isEmpty()) {
+            throw new CatalogValidationException("Conditions of the index predicate not specified.");
+        }
+
+        if (unique) {
+            throw new CatalogValidationException("Unique index can't have a predicate.");
+        }
+
+        for (IndexConditionParams condition : predicate) {
+            validateIdentifier(condition.columnName(), "Name of the column");
+
+            if (condition.operator() == null) {
+                throw new CatalogValidationException("Operator of the index predicate not specified.");
+            }
+
+            if (condition.operator().unary() == condition.hasValue()) {
+                throw new CatalogValidationException("Constant of the index predicate must be specified for binary operators only.");
+            }
+        }
     }
 }
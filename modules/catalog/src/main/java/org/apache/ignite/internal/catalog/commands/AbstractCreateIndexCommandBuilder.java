@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.catalog.commands;
 
 import java.util.List;
+import org.jetbrains.annotations.Nullable;
 
 /** Builder that covers attributes which is common among all types of indexes. */
 interface AbstractCreateIndexCommandBuilder<T extends AbstractIndexCommandBuilder<T>> extends AbstractIndexCommandBuilder<T> {
@@ -32,4 +33,10 @@ interface AbstractCreateIndexCommandBuilder<T extends AbstractIndexCommandBuilde
 
     /** List of the columns to index. There must be at least one column. */
     T columns(List<String> columns);
+
+    /**
+     * Conditions of the predicate of a partial index, only rows satisfying all of them are indexed. Should be {@code null} for an
+     * index covering all rows of the table.
+     */
+    T predicate(@Nullable List<IndexConditionParams> predicate);
 }
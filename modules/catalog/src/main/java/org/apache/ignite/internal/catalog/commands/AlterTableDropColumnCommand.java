@@ -37,6 +37,8 @@ import org.apache.ignite.internal.catalog.UpdateContext;
 import org.apache.ignite.internal.catalog.descriptors.CatalogHashIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSortedIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
@@ -128,16 +130,29 @@ public class AlterTableDropColumnCommand extends AbstractTableCommand {
     }
 
     private static IntStream indexColumnIds(CatalogIndexDescriptor index) {
+        IntStream keyColumnIds;
+
         switch (index.indexType()) {
             case HASH:
-                return ((CatalogHashIndexDescriptor) index).columnIds().intStream();
+                keyColumnIds = ((CatalogHashIndexDescriptor) index).columnIds().intStream();
+                break;
 
             case SORTED:
-                return ((CatalogSortedIndexDescriptor) index).columns().stream().mapToInt(CatalogIndexColumnDescriptor::columnId);
+                keyColumnIds = ((CatalogSortedIndexDescriptor) index).columns().stream().mapToInt(CatalogIndexColumnDescriptor::columnId);
+                break;
 
             default:
                 throw new AssertionError(index.indexType().toString());
         }
+
+        CatalogIndexPredicate predicate = index.predicate();
+
+        if (predicate == null) {
+            return keyColumnIds;
+        }
+
+        // Columns of the predicate of a partial index are used by the index as well.
+        return IntStream.concat(keyColumnIds, predicate.conditions().stream().mapToInt(Condition::columnId));
     }
 
     private static void validate(Set<String> columns) {
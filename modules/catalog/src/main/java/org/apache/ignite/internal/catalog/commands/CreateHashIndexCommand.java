@@ -27,6 +27,7 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A command that adds a new hash index to the catalog.
@@ -46,6 +47,7 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
      * @param tableName Name of the table the index belong to. Should not be null or blank.
      * @param unique A flag denoting whether index keeps at most one row per every key or not.
      * @param columns List of the indexed columns. There should be at least one column.
+     * @param predicate Conditions of the predicate of a partial index or {@code null}.
      * @throws CatalogValidationException if any of restrictions above is violated.
      */
     private CreateHashIndexCommand(
@@ -54,9 +56,10 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
             boolean ifNotExists,
             String tableName,
             boolean unique,
-            List<String> columns
+            List<String> columns,
+            @Nullable List<IndexConditionParams> predicate
     ) throws CatalogValidationException {
-        super(schemaName, indexName, ifNotExists, tableName, unique, columns);
+        super(schemaName, indexName, ifNotExists, tableName, unique, columns, predicate);
     }
 
     @Override
@@ -74,7 +77,9 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
             columnIds.add(column.id());
         }
 
-        return new CatalogHashIndexDescriptor(indexId, indexName, table.id(), unique, status, columnIds, createdWithTable);
+        return new CatalogHashIndexDescriptor(
+                indexId, indexName, table.id(), unique, status, columnIds, resolvePredicate(table), createdWithTable
+        );
     }
 
     private static class Builder implements CreateHashIndexCommandBuilder {
@@ -84,6 +89,7 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
         private String tableName;
         private List<String> columns;
         private boolean unique;
+        private @Nullable List<IndexConditionParams> predicate;
 
         @Override
         public Builder tableName(String tableName) {
@@ -106,6 +112,13 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
             return this;
         }
 
+        @Override
+        public Builder predicate(@Nullable List<IndexConditionParams> predicate) {
+            this.predicate = predicate;
+
+            return this;
+        }
+
         @Override
         public Builder schemaName(String schemaName) {
             this.schemaName = schemaName;
@@ -129,7 +142,7 @@ public class CreateHashIndexCommand extends AbstractCreateIndexCommand {
 
         @Override
         public CatalogCommand build() {
-            return new CreateHashIndexCommand(schemaName, indexName, ifNotExists, tableName, unique, columns);
+            return new CreateHashIndexCommand(schemaName, indexName, ifNotExists, tableName, unique, columns, predicate);
         }
     }
 }
@@ -31,6 +31,7 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSortedIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A command that adds a new sorted index to the catalog.
@@ -53,6 +54,7 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
      * @param unique A flag denoting whether index keeps at most one row per every key or not.
      * @param columns List of the indexed columns. There should be at least one column.
      * @param collations List of the columns collations. The size of this list should much size of the columns.
+     * @param predicate Conditions of the predicate of a partial index or {@code null}.
      * @throws CatalogValidationException if any of restrictions above is violated.
      */
     private CreateSortedIndexCommand(
@@ -62,9 +64,10 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
             String tableName,
             boolean unique,
             List<String> columns,
-            List<CatalogColumnCollation> collations
+            List<CatalogColumnCollation> collations,
+            @Nullable List<IndexConditionParams> predicate
     ) throws CatalogValidationException {
-        super(schemaName, indexName, ifNotExists, tableName, unique, columns);
+        super(schemaName, indexName, ifNotExists, tableName, unique, columns, predicate);
 
         this.collations = copyOrNull(collations);
 
@@ -91,7 +94,7 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
         }
 
         return new CatalogSortedIndexDescriptor(
-                indexId, indexName, table.id(), unique, status, indexColumnDescriptors, createdWithTable
+                indexId, indexName, table.id(), unique, status, indexColumnDescriptors, resolvePredicate(table), createdWithTable
         );
     }
 
@@ -113,6 +116,7 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
         private List<String> columns;
         private List<CatalogColumnCollation> collations;
         private boolean unique;
+        private @Nullable List<IndexConditionParams> predicate;
 
         @Override
         public Builder tableName(String tableName) {
@@ -135,6 +139,13 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
             return this;
         }
 
+        @Override
+        public Builder predicate(@Nullable List<IndexConditionParams> predicate) {
+            this.predicate = predicate;
+
+            return this;
+        }
+
         @Override
         public Builder schemaName(String schemaName) {
             this.schemaName = schemaName;
@@ -166,7 +177,7 @@ public class CreateSortedIndexCommand extends AbstractCreateIndexCommand {
         @Override
         public CatalogCommand build() {
             return new CreateSortedIndexCommand(
-                    schemaName, indexName, ifNotExists, tableName, unique, columns, collations
+                    schemaName, indexName, ifNotExists, tableName, unique, columns, collations, predicate
             );
         }
     }
@@ -225,6 +225,22 @@ public abstract class DefaultValue {
         }
     }
 
+    /**
+     * Writes the given constant into output.
+     *
+     * @param value Constant or null.
+     * @param out Output.
+     * @throws IOException if thrown.
+     */
+    public static void writeConstant(@Nullable Object value, IgniteDataOutput out) throws IOException {
+        writeValue(new ConstantValue(value).columnType, value, out);
+    }
+
+    /** Reads a constant written by {@link #writeConstant(Object, IgniteDataOutput)}. */
+    public static @Nullable Object readConstant(IgniteDataInput in) throws IOException {
+        return readValue(in);
+    }
+
     private static void writeValue(ColumnType columnType, @Nullable Object value, IgniteDataOutput out) throws IOException {
         out.writeByte(columnType.id());
         if (value == null) {
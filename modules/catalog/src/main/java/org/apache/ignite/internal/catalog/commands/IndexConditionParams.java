@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.catalog.commands;
+
+import java.util.function.Function;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
+import org.apache.ignite.sql.ColumnType;
+import org.jetbrains.annotations.Nullable;
+
+/** Defines a condition of the predicate of a partial index. */
+public class IndexConditionParams {
+    /** Creates parameters builder. */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private String columnName;
+
+    private Operator operator;
+
+    private @Nullable Function<ColumnType, Object> value;
+
+    private IndexConditionParams() {}
+
+    /** Returns name of the column the condition is applied to. */
+    public String columnName() {
+        return columnName;
+    }
+
+    /** Returns operator of the condition. */
+    public Operator operator() {
+        return operator;
+    }
+
+    /** Returns {@code true} if a constant to compare the column with is specified. */
+    public boolean hasValue() {
+        return value != null;
+    }
+
+    /**
+     * Returns constant the column is compared with, {@code null} for unary operators.
+     *
+     * @param columnType Actual type of the column, which is not known until the command is applied to the catalog.
+     */
+    public @Nullable Object value(ColumnType columnType) {
+        return value == null ? null : value.apply(columnType);
+    }
+
+    /** Parameters builder. */
+    public static class Builder {
+        private IndexConditionParams params;
+
+        private Builder() {
+            params = new IndexConditionParams();
+        }
+
+        /**
+         * Sets name of the column.
+         *
+         * @param columnName Name of the column.
+         * @return {@code this}.
+         */
+        public Builder columnName(String columnName) {
+            params.columnName = columnName;
+
+            return this;
+        }
+
+        /**
+         * Sets operator.
+         *
+         * @param operator Operator.
+         * @return {@code this}.
+         */
+        public Builder operator(Operator operator) {
+            params.operator = operator;
+
+            return this;
+        }
+
+        /**
+         * Sets constant to compare the column with.
+         *
+         * @param value Constant, must be {@code null} for unary operators only.
+         * @return {@code this}.
+         */
+        public Builder value(@Nullable Object value) {
+            params.value = value == null ? null : type -> value;
+
+            return this;
+        }
+
+        /**
+         * Sets constant to compare the column with, which is derived from the actual type of the column.
+         *
+         * @param value Function deriving the constant from the type of the column.
+         * @return {@code this}.
+         */
+        public Builder deferredValue(Function<ColumnType, Object> value) {
+            params.value = value;
+
+            return this;
+        }
+
+        /** Builds parameters. */
+        public IndexConditionParams build() {
+            IndexConditionParams params0 = params;
+
+            params = null;
+
+            return params0;
+        }
+    }
+}
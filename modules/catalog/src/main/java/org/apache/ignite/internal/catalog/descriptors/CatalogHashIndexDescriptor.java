@@ -46,8 +46,8 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
      *
      * @throws IllegalArgumentException If columns list contains duplicates.
      * @deprecated This constructor is used in old deserializers. Use
-     *         {@link #CatalogHashIndexDescriptor(int, String, int, boolean, CatalogIndexStatus, List, IntList, HybridTimestamp, boolean)}
-     *         instead.
+     *         {@link #CatalogHashIndexDescriptor(int, String, int, boolean, CatalogIndexStatus, List, IntList, CatalogIndexPredicate,
+     *         HybridTimestamp, boolean)} instead.
      */
     @Deprecated(forRemoval = true)
     public CatalogHashIndexDescriptor(
@@ -59,7 +59,7 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
             List<String> columnNames,
             boolean isCreatedWithTable
     ) {
-        this(id, name, tableId, unique, status, columnNames, null, INITIAL_TIMESTAMP, isCreatedWithTable);
+        this(id, name, tableId, unique, status, columnNames, null, null, INITIAL_TIMESTAMP, isCreatedWithTable);
     }
 
     /**
@@ -84,7 +84,34 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
             IntList columnIds,
             boolean isCreatedWithTable
     ) {
-        this(id, name, tableId, unique, status, null, columnIds, INITIAL_TIMESTAMP, isCreatedWithTable);
+        this(id, name, tableId, unique, status, null, columnIds, null, INITIAL_TIMESTAMP, isCreatedWithTable);
+    }
+
+    /**
+     * Constructs a hash index descriptor.
+     *
+     * @param id Id of the index.
+     * @param name Name of the index.
+     * @param tableId Id of the table index belongs to.
+     * @param unique Unique flag.
+     * @param status Index status.
+     * @param columnIds A list of indexed columns. Must not contain duplicates.
+     * @param predicate Predicate of a partial index, {@code null} if every row of the table is indexed.
+     * @param isCreatedWithTable Flag indicating that this index has been created at the same time as its table.
+     *
+     * @throws IllegalArgumentException If columns list contains duplicates.
+     */
+    public CatalogHashIndexDescriptor(
+            int id,
+            String name,
+            int tableId,
+            boolean unique,
+            CatalogIndexStatus status,
+            IntList columnIds,
+            @Nullable CatalogIndexPredicate predicate,
+            boolean isCreatedWithTable
+    ) {
+        this(id, name, tableId, unique, status, null, columnIds, predicate, INITIAL_TIMESTAMP, isCreatedWithTable);
     }
 
     /**
@@ -96,6 +123,8 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
      * @param unique Unique flag.
      * @param status Index status.
      * @param columnNames A list of indexed columns. Must not contain duplicates.
+     * @param columnIds A list of indexed columns. Must not contain duplicates.
+     * @param predicate Predicate of a partial index, {@code null} if every row of the table is indexed.
      * @param timestamp Timestamp of the update of the descriptor.
      * @param isCreatedWithTable Flag indicating that this index has been created at the same time as its table.
      * @throws IllegalArgumentException If columns list contains duplicates.
@@ -108,10 +137,11 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
             CatalogIndexStatus status,
             @Nullable List<String> columnNames,
             @Nullable IntList columnIds,
+            @Nullable CatalogIndexPredicate predicate,
             HybridTimestamp timestamp,
             boolean isCreatedWithTable
     ) {
-        super(CatalogIndexDescriptorType.HASH, id, name, tableId, unique, status, timestamp, isCreatedWithTable);
+        super(CatalogIndexDescriptorType.HASH, id, name, tableId, unique, status, timestamp, isCreatedWithTable, predicate);
 
         this.columnIds = columnIds;
         this.columnNames = copyOrNull(columnNames);
@@ -148,7 +178,8 @@ public class CatalogHashIndexDescriptor extends CatalogIndexDescriptor {
         }
 
         return new CatalogHashIndexDescriptor(
-                id(), name(), tableId(), unique(), status(), null, IntList.of(columnIds), updateTimestamp(), isCreatedWithTable()
+                id(), name(), tableId(), unique(), status(), null, IntList.of(columnIds), predicate(), updateTimestamp(),
+                isCreatedWithTable()
         );
     }
 
@@ -60,7 +60,7 @@ public class CatalogHashIndexDescriptorSerializers {
 
             // Here we use the initial timestamp because it's old storage.
             return new CatalogHashIndexDescriptor(
-                    id, name, tableId, unique, status, columns, null, INITIAL_TIMESTAMP, isCreatedWithTable
+                    id, name, tableId, unique, status, columns, null, null, INITIAL_TIMESTAMP, isCreatedWithTable
             );
         }
 
@@ -92,7 +92,7 @@ public class CatalogHashIndexDescriptorSerializers {
             List<String> columns = input.readObjectCollection(IgniteUnsafeDataInput::readUTF, ArrayList::new);
 
             return new CatalogHashIndexDescriptor(
-                    id, name, tableId, unique, status, columns, null, updateTimestamp, isCreatedWithTable
+                    id, name, tableId, unique, status, columns, null, null, updateTimestamp, isCreatedWithTable
             );
         }
 
@@ -125,7 +125,7 @@ public class CatalogHashIndexDescriptorSerializers {
             int[] columnIds = input.readIntArray(size);
 
             return new CatalogHashIndexDescriptor(
-                    id, name, tableId, unique, status, null, IntList.of(columnIds), updateTimestamp, isCreatedWithTable
+                    id, name, tableId, unique, status, null, IntList.of(columnIds), null, updateTimestamp, isCreatedWithTable
             );
         }
 
@@ -142,4 +142,40 @@ public class CatalogHashIndexDescriptorSerializers {
             output.writeIntArray(value.columnIds().toIntArray());
         }
     }
+
+    @CatalogSerializer(version = 4, since = "3.2.0")
+    static class HashIndexDescriptorSerializerV4 implements CatalogObjectSerializer<CatalogHashIndexDescriptor> {
+        @Override
+        public CatalogHashIndexDescriptor readFrom(CatalogObjectDataInput input) throws IOException {
+            int id = input.readVarIntAsInt();
+            String name = input.readUTF();
+            long updateTimestampLong = input.readVarInt();
+            HybridTimestamp updateTimestamp = updateTimestampLong == 0 ? MIN_VALUE : hybridTimestamp(updateTimestampLong);
+            int tableId = input.readVarIntAsInt();
+            boolean unique = input.readBoolean();
+            CatalogIndexStatus status = CatalogIndexStatus.forId(input.readByte());
+            boolean isCreatedWithTable = input.readBoolean();
+            int size = input.readVarIntAsInt();
+            int[] columnIds = input.readIntArray(size);
+            CatalogIndexPredicate predicate = CatalogIndexPredicate.readFrom(input);
+
+            return new CatalogHashIndexDescriptor(
+                    id, name, tableId, unique, status, null, IntList.of(columnIds), predicate, updateTimestamp, isCreatedWithTable
+            );
+        }
+
+        @Override
+        public void writeTo(CatalogHashIndexDescriptor value, CatalogObjectDataOutput output) throws IOException {
+            output.writeVarInt(value.id());
+            output.writeUTF(value.name());
+            output.writeVarInt(value.updateTimestamp().longValue());
+            output.writeVarInt(value.tableId());
+            output.writeBoolean(value.unique());
+            output.writeByte(value.status().id());
+            output.writeBoolean(value.isCreatedWithTable());
+            output.writeVarInt(value.columnIds().size());
+            output.writeIntArray(value.columnIds().toIntArray());
+            CatalogIndexPredicate.writeTo(value.predicate(), output);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Objects;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntry;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 
 /** Index descriptor base class. */
 public abstract class CatalogIndexDescriptor extends CatalogObjectDescriptor implements MarshallableEntry {
@@ -48,6 +49,9 @@ public abstract class CatalogIndexDescriptor extends CatalogObjectDescriptor imp
      */
     private final boolean createdWithTable;
 
+    /** Predicate of a partial index, {@code null} if every row of the table is indexed. */
+    private final @Nullable CatalogIndexPredicate predicate;
+
     CatalogIndexDescriptor(
             CatalogIndexDescriptorType indexType,
             int id,
@@ -56,7 +60,8 @@ public abstract class CatalogIndexDescriptor extends CatalogObjectDescriptor imp
             boolean unique,
             CatalogIndexStatus status,
             HybridTimestamp timestamp,
-            boolean createdWithTable
+            boolean createdWithTable,
+            @Nullable CatalogIndexPredicate predicate
     ) {
         super(id, Type.INDEX, name, timestamp);
         this.indexType = indexType;
@@ -64,6 +69,7 @@ public abstract class CatalogIndexDescriptor extends CatalogObjectDescriptor imp
         this.unique = unique;
         this.status = Objects.requireNonNull(status, "status");
         this.createdWithTable = createdWithTable;
+        this.predicate = predicate;
     }
 
     /** Gets table ID. */
@@ -91,6 +97,11 @@ public abstract class CatalogIndexDescriptor extends CatalogObjectDescriptor imp
         return createdWithTable;
     }
 
+    /** Returns predicate of a partial index, {@code null} if every row of the table is indexed. */
+    public @Nullable CatalogIndexPredicate predicate() {
+        return predicate;
+    }
+
     public abstract CatalogIndexDescriptor upgradeIfNeeded(CatalogTableDescriptor table);
 
     @Override
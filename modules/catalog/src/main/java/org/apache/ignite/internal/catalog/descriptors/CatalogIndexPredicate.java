@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.catalog.descriptors;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import org.apache.ignite.internal.catalog.commands.DefaultValue;
+import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.util.io.IgniteDataInput;
+import org.apache.ignite.internal.util.io.IgniteDataOutput;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Predicate of a partial index.
+ *
+ * <p>The predicate is a conjunction of conditions, each of which compares a column of the table with a constant or checks
+ * the column for {@code NULL}. Only rows satisfying the predicate are put into the index.
+ */
+public class CatalogIndexPredicate {
+    private final List<Condition> conditions;
+
+    /**
+     * Constructs the object.
+     *
+     * @param conditions Conditions of the conjunction. There must be at least one condition.
+     */
+    public CatalogIndexPredicate(List<Condition> conditions) {
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("Conditions not specified.");
+        }
+
+        this.conditions = List.copyOf(conditions);
+    }
+
+    /** Returns conditions of the conjunction. */
+    public List<Condition> conditions() {
+        return conditions;
+    }
+
+    /**
+     * Evaluates the predicate against a row.
+     *
+     * @param valueByColumnId Function returning the value of the row by ID of a column.
+     * @return {@code true} if the row satisfies every condition of the predicate.
+     */
+    public boolean test(IntFunction<Object> valueByColumnId) {
+        for (Condition condition : conditions) {
+            if (!condition.test(valueByColumnId.apply(condition.columnId()))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Writes the given predicate into output.
+     *
+     * @param predicate Predicate or null.
+     * @param out Output.
+     * @throws IOException if thrown.
+     */
+    public static void writeTo(@Nullable CatalogIndexPredicate predicate, IgniteDataOutput out) throws IOException {
+        out.writeBoolean(predicate != null);
+
+        if (predicate == null) {
+            return;
+        }
+
+        out.writeVarInt(predicate.conditions.size());
+
+        for (Condition condition : predicate.conditions) {
+            out.writeVarInt(condition.columnId);
+            out.writeByte(condition.operator.id());
+
+            if (!condition.operator.unary()) {
+                DefaultValue.writeConstant(condition.value, out);
+            }
+        }
+    }
+
+    /** Reads predicate or {@code null}. */
+    public static @Nullable CatalogIndexPredicate readFrom(IgniteDataInput in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+
+        int size = in.readVarIntAsInt();
+        List<Condition> conditions = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            int columnId = in.readVarIntAsInt();
+            Operator operator = Operator.forId(in.readByte());
+            Object value = operator.unary() ? null : DefaultValue.readConstant(in);
+
+            conditions.add(new Condition(columnId, operator, value));
+        }
+
+        return new CatalogIndexPredicate(conditions);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        return conditions.equals(((CatalogIndexPredicate) o).conditions);
+    }
+
+    @Override
+    public int hashCode() {
+        return conditions.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(CatalogIndexPredicate.class, this);
+    }
+
+    /** Condition of a partial index predicate. */
+    public static class Condition {
+        private final int columnId;
+
+        private final Operator operator;
+
+        private final @Nullable Object value;
+
+        /**
+         * Constructs the object.
+         *
+         * @param columnId ID of the column.
+         * @param operator Operator.
+         * @param value Constant to compare the column with, must be {@code null} for unary operators only.
+         */
+        public Condition(int columnId, Operator operator, @Nullable Object value) {
+            if (operator.unary() != (value == null)) {
+                throw new IllegalArgumentException("Constant must be specified for binary operators only: " + operator);
+            }
+
+            this.columnId = columnId;
+            this.operator = Objects.requireNonNull(operator, "operator");
+            this.value = value;
+        }
+
+        /** Returns ID of the column. */
+        public int columnId() {
+            return columnId;
+        }
+
+        /** Returns operator. */
+        public Operator operator() {
+            return operator;
+        }
+
+        /** Returns constant to compare the column with, {@code null} for unary operators. */
+        public @Nullable Object value() {
+            return value;
+        }
+
+        /** Returns {@code true} if the given value of the column satisfies the condition. */
+        boolean test(@Nullable Object columnValue) {
+            switch (operator) {
+                case IS_NULL:
+                    return columnValue == null;
+                case IS_NOT_NULL:
+                    return columnValue != null;
+                default:
+                    // Comparison with NULL is never true.
+                    return columnValue != null && operator.test(compare(columnValue, value));
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            Condition that = (Condition) o;
+
+            return columnId == that.columnId && operator == that.operator && Objects.deepEquals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(columnId, operator, value instanceof byte[] ? Arrays.hashCode((byte[]) value) : value);
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(Condition.class, this);
+        }
+    }
+
+    /** Operator of a condition. */
+    public enum Operator {
+        EQUALS(0),
+        NOT_EQUALS(1),
+        LESS_THAN(2),
+        LESS_THAN_OR_EQUAL(3),
+        GREATER_THAN(4),
+        GREATER_THAN_OR_EQUAL(5),
+        IS_NULL(6),
+        IS_NOT_NULL(7);
+
+        private final int id;
+
+        Operator(int id) {
+            this.id = id;
+        }
+
+        /** Returns operator identifier used by serialization. */
+        public int id() {
+            return id;
+        }
+
+        /** Returns {@code true} if the operator doesn't take a constant. */
+        public boolean unary() {
+            return this == IS_NULL || this == IS_NOT_NULL;
+        }
+
+        /** Returns operator by identifier. */
+        public static Operator forId(int id) {
+            for (Operator operator : values()) {
+                if (operator.id == id) {
+                    return operator;
+                }
+            }
+
+            throw new IllegalArgumentException("Unknown operator id: " + id);
+        }
+
+        private boolean test(int cmp) {
+            switch (this) {
+                case EQUALS:
+                    return cmp == 0;
+                case NOT_EQUALS:
+                    return cmp != 0;
+                case LESS_THAN:
+                    return cmp < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return cmp <= 0;
+                case GREATER_THAN:
+                    return cmp > 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return cmp >= 0;
+                default:
+                    throw new AssertionError(this);
+            }
+        }
+    }
+
+    /**
+     * Compares a value of a column with a constant. Types of the column may be widened after the index was created, thus numbers
+     * of different types are compared by value.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object columnValue, Object constant) {
+        if (columnValue.getClass() == constant.getClass()) {
+            if (columnValue instanceof byte[]) {
+                return Arrays.compareUnsigned((byte[]) columnValue, (byte[]) constant);
+            }
+
+            return ((Comparable) columnValue).compareTo(constant);
+        }
+
+        if (columnValue instanceof Number && constant instanceof Number) {
+            return toBigDecimal((Number) columnValue).compareTo(toBigDecimal((Number) constant));
+        }
+
+        throw new IllegalArgumentException("Incomparable values [value=" + columnValue + ", constant=" + constant + ']');
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+
+        if (number instanceof Float || number instanceof Double) {
+            return BigDecimal.valueOf(number.doubleValue());
+        }
+
+        return BigDecimal.valueOf(number.longValue());
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Objects;
 import org.apache.ignite.internal.catalog.storage.serialization.MarshallableEntryType;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
 
 /** Sorted index descriptor. */
 public class CatalogSortedIndexDescriptor extends CatalogIndexDescriptor {
@@ -74,7 +75,7 @@ public class CatalogSortedIndexDescriptor extends CatalogIndexDescriptor {
             List<CatalogIndexColumnDescriptor> columns,
             boolean isCreatedWithTable
     ) {
-        this(id, name, tableId, unique, status, columns, INITIAL_TIMESTAMP, isCreatedWithTable);
+        this(id, name, tableId, unique, status, columns, null, INITIAL_TIMESTAMP, isCreatedWithTable);
     }
 
     /**
@@ -86,6 +87,34 @@ public class CatalogSortedIndexDescriptor extends CatalogIndexDescriptor {
      * @param unique Unique flag.
      * @param status Index status.
      * @param columns A list of columns descriptors.
+     * @param predicate Predicate of a partial index, {@code null} if every row of the table is indexed.
+     * @param isCreatedWithTable Flag indicating that this index has been created at the same time as its table.
+     *
+     * @throws IllegalArgumentException If columns list contains duplicates or columns size doesn't match the collations size.
+     */
+    public CatalogSortedIndexDescriptor(
+            int id,
+            String name,
+            int tableId,
+            boolean unique,
+            CatalogIndexStatus status,
+            List<CatalogIndexColumnDescriptor> columns,
+            @Nullable CatalogIndexPredicate predicate,
+            boolean isCreatedWithTable
+    ) {
+        this(id, name, tableId, unique, status, columns, predicate, INITIAL_TIMESTAMP, isCreatedWithTable);
+    }
+
+    /**
+     * Constructs a sorted index descriptor.
+     *
+     * @param id Id of the index.
+     * @param name Name of the index.
+     * @param tableId Id of the table index belongs to.
+     * @param unique Unique flag.
+     * @param status Index status.
+     * @param columns A list of columns descriptors.
+     * @param predicate Predicate of a partial index, {@code null} if every row of the table is indexed.
      * @param timestamp Timestamp of the update of the descriptor.
      * @param isCreatedWithTable Flag indicating that this index has been created at the same time as its table.
      *
@@ -98,10 +127,11 @@ public class CatalogSortedIndexDescriptor extends CatalogIndexDescriptor {
             boolean unique,
             CatalogIndexStatus status,
             List<CatalogIndexColumnDescriptor> columns,
+            @Nullable CatalogIndexPredicate predicate,
             HybridTimestamp timestamp,
             boolean isCreatedWithTable
     ) {
-        super(CatalogIndexDescriptorType.SORTED, id, name, tableId, unique, status, timestamp, isCreatedWithTable);
+        super(CatalogIndexDescriptorType.SORTED, id, name, tableId, unique, status, timestamp, isCreatedWithTable, predicate);
 
         this.columns = Objects.requireNonNull(columns, "columns");
     }
@@ -139,7 +169,7 @@ public class CatalogSortedIndexDescriptor extends CatalogIndexDescriptor {
         }
 
         return new CatalogSortedIndexDescriptor(
-                id(), name(), tableId(), unique(), status(), upgradedColumns, updateTimestamp(), isCreatedWithTable()
+                id(), name(), tableId(), unique(), status(), upgradedColumns, predicate(), updateTimestamp(), isCreatedWithTable()
         );
     }
 
@@ -66,7 +66,9 @@ public class CatalogSortedIndexDescriptorSerializers {
             List<CatalogIndexColumnDescriptor> columns = readList(indexColumnSerializer, input);
 
             // Here we use the initial timestamp because it's old storage.
-            return new CatalogSortedIndexDescriptor(id, name, tableId, unique, status, columns, INITIAL_TIMESTAMP, isCreatedWithTable);
+            return new CatalogSortedIndexDescriptor(
+                    id, name, tableId, unique, status, columns, null, INITIAL_TIMESTAMP, isCreatedWithTable
+            );
         }
 
         @Override
@@ -121,7 +123,9 @@ public class CatalogSortedIndexDescriptorSerializers {
                 return new CatalogIndexColumnDescriptor(columnName, collation);
             }, ArrayList::new);
 
-            return new CatalogSortedIndexDescriptor(id, name, tableId, unique, status, columns, updateTimestamp, isCreatedWithTable);
+            return new CatalogSortedIndexDescriptor(
+                    id, name, tableId, unique, status, columns, null, updateTimestamp, isCreatedWithTable
+            );
         }
 
         @SuppressWarnings("removal")
@@ -161,7 +165,9 @@ public class CatalogSortedIndexDescriptorSerializers {
                 return new CatalogIndexColumnDescriptor(columnId, collation);
             }, ArrayList::new);
 
-            return new CatalogSortedIndexDescriptor(id, name, tableId, unique, status, columns, updateTimestamp, isCreatedWithTable);
+            return new CatalogSortedIndexDescriptor(
+                    id, name, tableId, unique, status, columns, null, updateTimestamp, isCreatedWithTable
+            );
         }
 
         @Override
@@ -180,4 +186,49 @@ public class CatalogSortedIndexDescriptorSerializers {
             }, descriptor.columns());
         }
     }
+
+    @CatalogSerializer(version = 4, since = "3.2.0")
+    static class SortedIndexDescriptorSerializerV4 implements CatalogObjectSerializer<CatalogSortedIndexDescriptor> {
+        @Override
+        public CatalogSortedIndexDescriptor readFrom(CatalogObjectDataInput input) throws IOException {
+            int id = input.readVarIntAsInt();
+            String name = input.readUTF();
+            long updateTimestampLong = input.readVarInt();
+            HybridTimestamp updateTimestamp = updateTimestampLong == 0 ? MIN_VALUE : hybridTimestamp(updateTimestampLong);
+            int tableId = input.readVarIntAsInt();
+            boolean unique = input.readBoolean();
+            CatalogIndexStatus status = CatalogIndexStatus.forId(input.readByte());
+            boolean isCreatedWithTable = input.readBoolean();
+
+            List<CatalogIndexColumnDescriptor> columns = input.readObjectCollection(in -> {
+                int columnId = input.readVarIntAsInt();
+                CatalogColumnCollation collation = CatalogColumnCollation.unpack(input.readByte());
+                return new CatalogIndexColumnDescriptor(columnId, collation);
+            }, ArrayList::new);
+
+            CatalogIndexPredicate predicate = CatalogIndexPredicate.readFrom(input);
+
+            return new CatalogSortedIndexDescriptor(
+                    id, name, tableId, unique, status, columns, predicate, updateTimestamp, isCreatedWithTable
+            );
+        }
+
+        @Override
+        public void writeTo(CatalogSortedIndexDescriptor descriptor, CatalogObjectDataOutput output) throws IOException {
+            output.writeVarInt(descriptor.id());
+            output.writeUTF(descriptor.name());
+            output.writeVarInt(descriptor.updateTimestamp().longValue());
+            output.writeVarInt(descriptor.tableId());
+            output.writeBoolean(descriptor.unique());
+            output.writeByte(descriptor.status().id());
+            output.writeBoolean(descriptor.isCreatedWithTable());
+
+            output.writeObjectCollection((out, elem) -> {
+                output.writeVarInt(elem.columnId());
+                output.writeByte(CatalogColumnCollation.pack(elem.collation()));
+            }, descriptor.columns());
+
+            CatalogIndexPredicate.writeTo(descriptor.predicate(), output);
+        }
+    }
 }
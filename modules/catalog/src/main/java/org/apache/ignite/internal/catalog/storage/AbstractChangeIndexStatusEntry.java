@@ -99,6 +99,7 @@ abstract class AbstractChangeIndexStatusEntry implements UpdateEntry {
                 index.unique(),
                 newStatus,
                 index.columnIds(),
+                index.predicate(),
                 index.isCreatedWithTable()
         );
     }
@@ -111,6 +112,7 @@ abstract class AbstractChangeIndexStatusEntry implements UpdateEntry {
                 index.unique(),
                 newStatus,
                 index.columns(),
+                index.predicate(),
                 index.isCreatedWithTable()
         );
     }
@@ -103,6 +103,7 @@ public class RenameIndexEntry implements UpdateEntry {
                 index.unique(),
                 index.status(),
                 index.columnIds(),
+                index.predicate(),
                 index.isCreatedWithTable()
         );
     }
@@ -115,6 +116,7 @@ public class RenameIndexEntry implements UpdateEntry {
                 index.unique(),
                 index.status(),
                 index.columns(),
+                index.predicate(),
                 index.isCreatedWithTable()
         );
     }
@@ -28,6 +28,7 @@ import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogCommand;
 import org.apache.ignite.internal.catalog.CatalogValidationException;
 import org.apache.ignite.internal.catalog.UpdateContext;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -221,6 +222,84 @@ public abstract class CreateAbstractIndexCommandValidationTest extends AbstractC
         );
     }
 
+    @Test
+    void uniqueIndexMustNotHavePredicate() {
+        AbstractCreateIndexCommandBuilder builder = prefilledBuilder();
+
+        builder.unique(true).predicate(List.of(condition("C", Operator.IS_NOT_NULL, null)));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Unique index can't have a predicate"
+        );
+    }
+
+    @Test
+    void predicateShouldHaveAtLeastOneCondition() {
+        AbstractCreateIndexCommandBuilder builder = prefilledBuilder();
+
+        builder.predicate(List.of());
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Conditions of the index predicate not specified"
+        );
+    }
+
+    @Test
+    void predicateConstantMustBeSpecifiedForBinaryOperatorsOnly() {
+        AbstractCreateIndexCommandBuilder builder = prefilledBuilder();
+
+        builder.predicate(List.of(condition("C", Operator.IS_NULL, 1)));
+
+        assertThrowsWithCause(
+                builder::build,
+                CatalogValidationException.class,
+                "Constant of the index predicate must be specified for binary operators only"
+        );
+    }
+
+    @Test
+    void exceptionIsThrownIfPredicateColumnNotExists() {
+        Catalog catalog = catalogWithTable("TEST");
+
+        CatalogCommand command = prefilledBuilder()
+                .predicate(List.of(condition("UNK", Operator.IS_NOT_NULL, null)))
+                .build();
+
+        assertThrowsWithCause(
+                () -> command.get(new UpdateContext(catalog)),
+                CatalogValidationException.class,
+                "Column with name 'UNK' not found in table 'PUBLIC.TEST'"
+        );
+    }
+
+    @Test
+    void exceptionIsThrownIfPredicateConstantDoesNotMatchColumnType() {
+        ColumnParams c1 = ColumnParams.builder().name("C1").type(INT32).build();
+        ColumnParams c2 = ColumnParams.builder().name("C2").type(INT32).build();
+
+        Catalog catalog = catalogWithTable(builder -> builder
+                .schemaName(SCHEMA_NAME)
+                .tableName("TEST")
+                .columns(List.of(c1, c2))
+                .primaryKey(primaryKey(c1.name()))
+        );
+
+        CatalogCommand command = prefilledBuilder()
+                .columns(List.of(c2.name()))
+                .predicate(List.of(condition(c2.name(), Operator.GREATER_THAN, "1")))
+                .build();
+
+        assertThrowsWithCause(
+                () -> command.get(new UpdateContext(catalog)),
+                CatalogValidationException.class,
+                "Constant of the index predicate doesn't match the type of column 'C2'"
+        );
+    }
+
     @Test
     void noExceptionIsThrownIfStoppingIndexWithGivenNameAlreadyExists() {
         String indexName = "IDX";
@@ -236,4 +315,12 @@ public abstract class CreateAbstractIndexCommandValidationTest extends AbstractC
 
         assertDoesNotThrow(() -> applyCommandsToCatalog(newCatalog, createIndexCommand));
     }
+
+    private static IndexConditionParams condition(String columnName, Operator operator, Object value) {
+        return IndexConditionParams.builder()
+                .columnName(columnName)
+                .operator(operator)
+                .value(value)
+                .build();
+    }
 }
@@ -26,8 +26,12 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
 import org.apache.ignite.internal.catalog.descriptors.CatalogHashIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexColumnDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSortedIndexDescriptor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Random {@link CatalogIndexDescriptor}s for testing.
@@ -43,6 +47,22 @@ final class TestIndexDescriptors {
         return new CatalogIndexColumnDescriptor(columnId, collation);
     }
 
+    /** Returns a predicate for non-unique indexes only, as unique partial indexes are not supported. */
+    private static @Nullable CatalogIndexPredicate predicate(boolean unique, boolean isCreatedWithTable) {
+        if (unique) {
+            return null;
+        }
+
+        if (isCreatedWithTable) {
+            return new CatalogIndexPredicate(List.of(new Condition(1, Operator.NOT_EQUALS, "DONE")));
+        }
+
+        return new CatalogIndexPredicate(List.of(
+                new Condition(0, Operator.GREATER_THAN_OR_EQUAL, 100),
+                new Condition(1, Operator.IS_NOT_NULL, null)
+        ));
+    }
+
     /**
      * Generates a list of {@link CatalogSortedIndexDescriptor}s of the given version.
      *
@@ -57,6 +77,8 @@ final class TestIndexDescriptors {
                 return sortedIndicesV0(state);
             case 3:
                 return sortedIndicesV3(state);
+            case 4:
+                return sortedIndicesV4(state);
             default:
                 throw new IllegalArgumentException("Unexpected CatalogSortedIndexDescriptor version: " + version);
         }
@@ -120,6 +142,36 @@ final class TestIndexDescriptors {
         return list;
     }
 
+    private static List<CatalogSortedIndexDescriptor> sortedIndicesV4(TestDescriptorState state) {
+        List<CatalogSortedIndexDescriptor> list = new ArrayList<>();
+
+        for (var unique : new boolean[]{true, false}) {
+            for (var indexStatus : CatalogIndexStatus.values()) {
+                for (var isCreatedWithTable : new boolean[]{false, true}) {
+                    List<CatalogIndexColumnDescriptor> columns = Arrays.asList(
+                            column(0, CatalogColumnCollation.ASC_NULLS_FIRST),
+                            column(1, CatalogColumnCollation.ASC_NULLS_LAST),
+                            column(2, CatalogColumnCollation.DESC_NULLS_FIRST),
+                            column(3, CatalogColumnCollation.DESC_NULLS_LAST)
+                    );
+                    Collections.shuffle(columns, state.random());
+
+                    list.add(new CatalogSortedIndexDescriptor(
+                            state.id(),
+                            state.name("SORTED_IDX"),
+                            1000 + list.size(),
+                            unique,
+                            indexStatus,
+                            columns,
+                            predicate(unique, isCreatedWithTable),
+                            isCreatedWithTable));
+                }
+            }
+        }
+
+        return list;
+    }
+
     static List<CatalogHashIndexDescriptor> hashIndices(TestDescriptorState state, int version) {
         switch (version) {
             case 1:
@@ -127,6 +179,8 @@ final class TestIndexDescriptors {
                 return hashIndicesV0(state);
             case 3:
                 return hashIndicesV3(state);
+            case 4:
+                return hashIndicesV4(state);
             default:
                 throw new IllegalArgumentException("Unexpected CatalogSortedIndexDescriptor version: " + version);
         }
@@ -179,4 +233,28 @@ final class TestIndexDescriptors {
 
         return list;
     }
+
+    private static List<CatalogHashIndexDescriptor> hashIndicesV4(TestDescriptorState state) {
+        List<CatalogHashIndexDescriptor> list = new ArrayList<>();
+
+        for (var unique : new boolean[]{true, false}) {
+            for (var indexStatus : CatalogIndexStatus.values()) {
+                for (var isCreatedWithTable : new boolean[]{false, true}) {
+                    IntList columns = IntList.of(0, 1);
+
+                    list.add(new CatalogHashIndexDescriptor(
+                            state.id(),
+                            state.name("HASH_IDX"),
+                            1000 + list.size(),
+                            unique,
+                            indexStatus,
+                            columns,
+                            predicate(unique, isCreatedWithTable),
+                            isCreatedWithTable));
+                }
+            }
+        }
+
+        return list;
+    }
 }
@@ -67,6 +67,10 @@ public abstract class CliIntegrationTest extends ClusterPerClassIntegrationTest
             new MetricSource().name("metastorage").enabled(true),
             new MetricSource().name("client.handler").enabled(true),
             new MetricSource().name("sql.client").enabled(true),
+            new MetricSource().name("sql.exchange").enabled(true),
+            new MetricSource().name("sql.executor").enabled(true),
+            new MetricSource().name("sql.expression.cache").enabled(true),
+            new MetricSource().name("sql.memory").enabled(true),
             new MetricSource().name("sql.plan.cache").enabled(true),
             new MetricSource().name("sql.queries").enabled(true),
             new MetricSource().name("storage.aipersist").enabled(true),
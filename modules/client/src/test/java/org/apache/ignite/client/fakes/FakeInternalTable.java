@@ -429,6 +429,17 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public Publisher<BinaryRow> indexOnlyScan(
+            int partId,
+            InternalClusterNode recipientNode,
+            int indexId,
+            IndexScanCriteria criteria,
+            OperationContext operationContext
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public Publisher<BinaryRow> scan(
             int partId,
@@ -438,6 +449,17 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         return null;
     }
 
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            InternalClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            OperationContext operationContext
+    ) {
+        return null;
+    }
+
     @Override
     public void close() {
         // No-op.
@@ -481,6 +503,11 @@ public class FakeInternalTable implements InternalTable, StreamerReceiverRunner
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public CompletableFuture<List<UUID>> rowIdSplitPoints(int partId, int count) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public StreamerReceiverRunner streamerReceiverRunner() {
         return this;
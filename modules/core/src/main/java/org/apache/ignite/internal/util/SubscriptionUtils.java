@@ -25,8 +25,10 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergedPublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -86,6 +88,47 @@ public class SubscriptionUtils {
         return new OrderedMergePublisher<>(comparator, prefetch, sources);
     }
 
+    /**
+     * Merging composite publisher. Consumes multiple data streams concurrently and emits the items in the order they are received.
+     *
+     * @param prefetch Number of items requested from every upstream publisher in advance.
+     * @param sources Upstream publishers.
+     * @return The publisher will combine all of the passed sources into a single one.
+     */
+    public static <T> Publisher<T> merge(int prefetch, List<Publisher<? extends T>> sources) {
+        return new MergedPublisher<>(prefetch, sources.<Publisher<T>>toArray(Publisher[]::new));
+    }
+
+    /**
+     * Creates a publisher which subscribes to the publisher enclosed to the given future once the future is completed. If given future
+     * completes exceptionally, the exception will be propagated to {@link Subscriber#onError(Throwable)}.
+     *
+     * @param publisherFuture A publisher enclosed to a future object.
+     * @param <T> Type of the entries this publisher will emit.
+     * @return Publisher created from the given future.
+     */
+    public static <T> Publisher<T> fromFuture(CompletableFuture<? extends Publisher<? extends T>> publisherFuture) {
+        return subscriber -> publisherFuture.whenComplete((publisher, ex) -> {
+            if (ex == null) {
+                publisher.subscribe(subscriber);
+            } else {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        // No-op.
+                    }
+
+                    @Override
+                    public void cancel() {
+                        // No-op.
+                    }
+                });
+
+                subscriber.onError(ExceptionUtils.unwrapCause(ex));
+            }
+        });
+    }
+
     /**
      * Creates a publisher from the given iterable.
      *
@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merging composite publisher.
+ *
+ * <p>Subscribes to all upstream publishers at once and emits the items in the order they are received, thus the upstream
+ * publishers produce the items concurrently.
+ */
+public class MergedPublisher<T> implements Publisher<T> {
+    /** Array of upstream publishers. */
+    private final Publisher<? extends T>[] sources;
+
+    /** Prefetch size. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param prefetch Number of items requested from every upstream publisher in advance.
+     * @param sources Upstream publishers.
+     */
+    public MergedPublisher(int prefetch, Publisher<? extends T>... sources) {
+        this.sources = sources;
+        this.prefetch = prefetch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergedSubscription<? super T> subscription = new MergedSubscription<>(downstream, prefetch, sources.length);
+
+        subscription.subscribe(sources);
+        downstream.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Merging composite subscription.
+     */
+    static final class MergedSubscription<T> implements Subscription {
+        private final Subscriber<? super T> downstream;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        // Set initial value to 1 to prevent data processing until all subscribers is initialized.
+        private final AtomicInteger guardCntr = new AtomicInteger(1);
+
+        /** Subscribers. */
+        private final MergedSubscriber<T>[] subscribers;
+
+        /** First error received from the upstream publishers. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private Throwable error;
+
+        /** Cancelled flag. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private boolean cancelled;
+
+        /** Number of requested items. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private long requested;
+
+        /** Number of emitted items (guarded by {@link #guardCntr}). */
+        private long emitted;
+
+        /** Index of the subscriber to poll first (guarded by {@link #guardCntr}). */
+        private int next;
+
+        /** Whether the downstream has been notified of the completion (guarded by {@link #guardCntr}). */
+        private boolean done;
+
+        static final VarHandle ERROR;
+
+        static final VarHandle CANCELLED;
+
+        static final VarHandle REQUESTED;
+
+        static {
+            Lookup lk = MethodHandles.lookup();
+
+            try {
+                ERROR = lk.findVarHandle(MergedSubscription.class, "error", Throwable.class);
+                CANCELLED = lk.findVarHandle(MergedSubscription.class, "cancelled", boolean.class);
+                REQUESTED = lk.findVarHandle(MergedSubscription.class, "requested", long.class);
+            } catch (Throwable ex) {
+                throw new InternalError(ex);
+            }
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param downstream Downstream subscriber.
+         * @param prefetch Prefetch size.
+         * @param cnt Count of subscriptions.
+         */
+        MergedSubscription(Subscriber<? super T> downstream, int prefetch, int cnt) {
+            this.downstream = downstream;
+            this.subscribers = new MergedSubscriber[cnt];
+
+            for (int i = 0; i < cnt; i++) {
+                this.subscribers[i] = new MergedSubscriber<>(this, prefetch);
+            }
+        }
+
+        void subscribe(Publisher<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                sources[i].subscribe(subscribers[i]);
+            }
+
+            guardCntr.set(0);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            for (; ; ) {
+                long current = (long) REQUESTED.getAcquire(this);
+                long next = current + n;
+
+                if (next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (REQUESTED.compareAndSet(this, current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            if (CANCELLED.compareAndSet(this, false, true)) {
+                cancelAll();
+
+                drain();
+            }
+        }
+
+        private void onInnerError(Throwable ex) {
+            if (ERROR.compareAndSet(this, null, ex)) {
+                cancelAll();
+            }
+
+            drain();
+        }
+
+        private void cancelAll() {
+            for (MergedSubscriber<T> inner : subscribers) {
+                inner.cancel();
+            }
+        }
+
+        void drain() {
+            // Only one thread can pass below.
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            // Frequently accessed fields.
+            Subscriber<? super T> downstream = this.downstream;
+            MergedSubscriber<T>[] subscribers = this.subscribers;
+            int cnt = subscribers.length;
+
+            long emitted = this.emitted;
+            int next = this.next;
+
+            // Retry loop.
+            for (; ; ) {
+                if (done) {
+                    // Terminal state. No need to release guard.
+                    return;
+                }
+
+                if ((boolean) CANCELLED.getAcquire(this)) {
+                    clear();
+
+                    done = true;
+
+                    return;
+                }
+
+                Throwable err = (Throwable) ERROR.getAcquire(this);
+
+                if (err != null) {
+                    clear();
+
+                    done = true;
+
+                    downstream.onError(err);
+
+                    return;
+                }
+
+                long requested = (long) REQUESTED.getAcquire(this);
+                int idle = 0;
+
+                // Emit loop, polls the subscribers in turn to not starve any of them.
+                while (emitted != requested && idle < cnt) {
+                    MergedSubscriber<T> inner = subscribers[next];
+
+                    next = next + 1 == cnt ? 0 : next + 1;
+
+                    T val = inner.queue.poll();
+
+                    if (val == null) {
+                        idle++;
+
+                        continue;
+                    }
+
+                    idle = 0;
+
+                    downstream.onNext(val);
+                    emitted++;
+
+                    inner.request(1);
+                }
+
+                if (allDone()) {
+                    done = true;
+
+                    downstream.onComplete();
+
+                    return;
+                }
+
+                this.emitted = emitted;
+                this.next = next;
+
+                // Retry if any other thread has incremented the counter.
+                if (guardCntr.decrementAndGet() == 0) {
+                    break;
+                }
+                guardCntr.set(1);
+            }
+        }
+
+        private boolean allDone() {
+            for (MergedSubscriber<T> inner : subscribers) {
+                // Read before checking the queue to preserve correct program order.
+                if (!inner.done || !inner.queue.isEmpty()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void clear() {
+            for (MergedSubscriber<T> inner : subscribers) {
+                inner.queue.clear();
+            }
+        }
+
+        /**
+         * Subscriber to one of the upstream publishers.
+         */
+        static final class MergedSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T>, Subscription {
+            /** Parent subscription. */
+            private final MergedSubscription<T> parent;
+
+            /** Prefetch size. */
+            private final int prefetch;
+
+            /** Number of requests to buffer. */
+            private final int limit;
+
+            /** Inner data buffer. */
+            private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+            /** Count of consumed requests. */
+            private int consumed;
+
+            /** Flag indicating that the subscription has completed. */
+            private volatile boolean done;
+
+            MergedSubscriber(MergedSubscription<T> parent, int prefetch) {
+                assert prefetch > 0;
+
+                this.parent = parent;
+                this.prefetch = prefetch;
+                this.limit = prefetch - (prefetch >> 2);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                if (compareAndSet(null, subscription)) {
+                    subscription.request(prefetch);
+                } else {
+                    subscription.cancel();
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onNext(T item) {
+                queue.offer(item);
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onError(Throwable throwable) {
+                done = true;
+
+                parent.onInnerError(throwable);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onComplete() {
+                done = true;
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void request(long n) {
+                // Invoked from the drain loop only, thus there is no need in synchronization.
+                int c = consumed + 1;
+
+                if (c == limit) {
+                    consumed = 0;
+                    Subscription subscription = get();
+
+                    // If the subscription has not yet been cancelled - request upstream.
+                    if (subscription != this) {
+                        subscription.request(c);
+                    }
+                } else {
+                    consumed = c;
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancel() {
+                Subscription subscription = getAndSet(this);
+
+                if (subscription != null && subscription != this) {
+                    subscription.cancel();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.subscription;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.ExceptionUtils;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MergedPublisher}.
+ */
+public class MergedPublisherTest extends BaseIgniteAbstractTest {
+    @Test
+    public void mergesAllItems() {
+        List<Publisher<? extends Integer>> sources = List.of(
+                SubscriptionUtils.fromIterable(range(0, 10)),
+                SubscriptionUtils.fromIterable(List.of()),
+                SubscriptionUtils.fromIterable(range(10, 25))
+        );
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(3);
+
+        SubscriptionUtils.<Integer>merge(4, sources).subscribe(subscriber);
+
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertThat(subscriber.items, containsInAnyOrder(range(0, 25).toArray()));
+    }
+
+    @Test
+    public void emitsNoMoreThanRequested() {
+        List<Publisher<? extends Integer>> sources = List.of(
+                SubscriptionUtils.fromIterable(range(0, 10)),
+                SubscriptionUtils.fromIterable(range(10, 20))
+        );
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(0);
+
+        SubscriptionUtils.<Integer>merge(4, sources).subscribe(subscriber);
+
+        subscriber.subscription.request(5);
+
+        assertEquals(5, subscriber.items.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(20, subscriber.items.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void propagatesError() {
+        RuntimeException err = new RuntimeException("test");
+
+        List<Publisher<? extends Integer>> sources = List.of(
+                SubscriptionUtils.fromIterable(range(0, 10)),
+                SubscriptionUtils.fromIterable(CompletableFuture.failedFuture(err))
+        );
+
+        CollectingSubscriber subscriber = new CollectingSubscriber(3);
+
+        SubscriptionUtils.<Integer>merge(4, sources).subscribe(subscriber);
+
+        assertSame(err, ExceptionUtils.unwrapCause(subscriber.error));
+        assertFalse(subscriber.completed);
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+
+    /** Subscriber which requests the given number of items once the previously requested ones are received. */
+    private static class CollectingSubscriber implements Subscriber<Integer> {
+        private final int batchSize;
+
+        private final List<Integer> items = new ArrayList<>();
+
+        private Subscription subscription;
+
+        private int pending;
+
+        private boolean completed;
+
+        private Throwable error;
+
+        CollectingSubscriber(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+
+            if (batchSize > 0) {
+                pending = batchSize;
+
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+
+            if (batchSize > 0 && --pending == 0) {
+                pending = batchSize;
+
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -876,7 +876,8 @@ public class Node {
                 lowWatermark,
                 threadPoolsManager.commonScheduler(),
                 new KillCommandHandler(name, logicalTopologyService, clusterService.messagingService()),
-                mock(EventLog.class)
+                mock(EventLog.class),
+                dir
         );
     }
 
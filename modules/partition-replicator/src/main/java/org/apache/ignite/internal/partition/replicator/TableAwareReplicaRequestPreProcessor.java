@@ -23,6 +23,7 @@ import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.GetRowIdSplitPointsRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ScanCloseReplicaRequest;
@@ -88,7 +89,8 @@ public class TableAwareReplicaRequestPreProcessor {
                 + "; request " + request;
 
         assert txTs == null
-                ? request instanceof GetEstimatedSizeRequest || request instanceof ScanCloseReplicaRequest
+                ? request instanceof GetEstimatedSizeRequest || request instanceof GetRowIdSplitPointsRequest
+                || request instanceof ScanCloseReplicaRequest
                 || request instanceof BuildIndexReplicaRequest || request instanceof TableWriteIntentSwitchReplicaRequest
                 : opTs.compareTo(txTs) >= 0 :
                 "Invalid request timestamps [request=" + request + ']';
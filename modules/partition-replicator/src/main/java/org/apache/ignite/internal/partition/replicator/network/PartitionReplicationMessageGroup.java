@@ -57,6 +57,8 @@ import org.apache.ignite.internal.partition.replicator.network.replication.Binar
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ChangePeersAndLearnersAsyncReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.GetRowIdSplitPointsRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.IndexScanRangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
@@ -222,6 +224,16 @@ public interface PartitionReplicationMessageGroup {
      */
     short CHANGE_PEERS_AND_LEARNERS_ASYNC_REPLICA_REQUEST = 28;
 
+    /**
+     * Message type for {@link IndexScanRangeMessage}.
+     */
+    short INDEX_SCAN_RANGE = 29;
+
+    /**
+     * Message type for {@link GetRowIdSplitPointsRequest}.
+     */
+    short GET_ROW_ID_SPLIT_POINTS_REQUEST = 30;
+
     /**
      * Message types for partition replicator module RAFT commands.
      *
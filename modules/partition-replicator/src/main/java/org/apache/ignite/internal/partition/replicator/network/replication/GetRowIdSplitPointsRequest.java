@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.replicator.message.PrimaryReplicaRequest;
+import org.apache.ignite.internal.replicator.message.TableAware;
+
+/**
+ * Request for getting row IDs which split a partition into ranges of roughly the same number of rows. The response is an array of
+ * pairs of the most and the least significant bits of the row IDs, sorted in ascending order.
+ */
+@Transferable(PartitionReplicationMessageGroup.GET_ROW_ID_SPLIT_POINTS_REQUEST)
+public interface GetRowIdSplitPointsRequest extends PrimaryReplicaRequest, TableAware {
+    /** Gets the maximal number of ranges to split the partition into. */
+    int count();
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.partition.replicator.network.replication;
+
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
+import org.apache.ignite.internal.storage.index.SortedIndexStorage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Range of a sorted index to scan.
+ */
+@Transferable(PartitionReplicationMessageGroup.INDEX_SCAN_RANGE)
+public interface IndexScanRangeMessage extends NetworkMessage {
+    /**
+     * Gets a lower bound of the range. Exclusivity is controlled by a {@link SortedIndexStorage#GREATER_OR_EQUAL} or
+     * {@link SortedIndexStorage#GREATER} flag. {@code null} means unbounded.
+     *
+     * @return Lower bound.
+     */
+    @Nullable
+    BinaryTupleMessage lowerBoundPrefix();
+
+    /**
+     * Gets an upper bound of the range. Exclusivity is controlled by a {@link SortedIndexStorage#LESS} or
+     * {@link SortedIndexStorage#LESS_OR_EQUAL} flag. {@code null} means unbounded.
+     *
+     * @return Upper bound.
+     */
+    @Nullable
+    BinaryTupleMessage upperBoundPrefix();
+
+    /**
+     * Gets control flags for {@link SortedIndexStorage}.
+     *
+     * @return Flags to determine a scan order.
+     */
+    int flags();
+}
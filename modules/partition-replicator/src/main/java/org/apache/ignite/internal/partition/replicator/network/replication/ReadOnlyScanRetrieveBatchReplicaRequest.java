@@ -17,10 +17,12 @@
 
 package org.apache.ignite.internal.partition.replicator.network.replication;
 
+import java.util.List;
 import java.util.UUID;
 import org.apache.ignite.internal.network.annotations.Transferable;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessageGroup;
 import org.apache.ignite.internal.replicator.message.TableAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Scan retrieve batch replica request.
@@ -34,4 +36,34 @@ public interface ReadOnlyScanRetrieveBatchReplicaRequest extends ScanRetrieveBat
     // TODO: remove override after @Nullable is removed from the super-interface method, see IGNITE-24120.
     @Override
     UUID coordinatorId();
+
+    /**
+     * Whether the request is served by an index and every returned row holds the values of the indexed columns, in the order of the
+     * index columns, instead of the values of the table columns.
+     */
+    boolean indexOnly();
+
+    /**
+     * Gets ranges of a sorted index to scan in a single pass, or {@code null} if the request is served by a single range defined by
+     * {@link #lowerBoundPrefix()}, {@link #upperBoundPrefix()} and {@link #flags()}. The ranges are sorted in the index order and
+     * don't overlap, thus the rows are returned in the index order as well.
+     *
+     * @return Ranges to scan.
+     */
+    @Nullable
+    List<IndexScanRangeMessage> ranges();
+
+    /**
+     * Gets the lowest row ID (inclusive) of the rows to scan, or {@code null} if not bounded. Applicable to the requests which are not
+     * served by an index only.
+     */
+    @Nullable
+    UUID lowerRowId();
+
+    /**
+     * Gets the row ID (exclusive) the scan stops at, or {@code null} if not bounded. Applicable to the requests which are not served by
+     * an index only.
+     */
+    @Nullable
+    UUID upperRowId();
 }
@@ -55,6 +55,10 @@ class ItMetricControllerTest extends ClusterPerClassIntegrationTest {
             new MetricSource("metastorage", true),
             new MetricSource("client.handler", true),
             new MetricSource("sql.client", true),
+            new MetricSource("sql.exchange", true),
+            new MetricSource("sql.executor", true),
+            new MetricSource("sql.expression.cache", true),
+            new MetricSource("sql.memory", true),
             new MetricSource("sql.plan.cache", true),
             new MetricSource("sql.queries", true),
             new MetricSource("storage.aipersist.default", true),
@@ -84,6 +84,11 @@ public class AbstractMultiNodeBenchmark {
         return "ignite {}";
     }
 
+    /** Returns additional node configuration, appended to the configuration of every node. */
+    protected String nodeConfiguration() {
+        return "";
+    }
+
     /**
      * Starts ignite node and creates table {@link #TABLE_NAME}.
      */
@@ -229,6 +234,7 @@ public class AbstractMultiNodeBenchmark {
                 + "      tryStop: true,\n"
                 + "      timeoutMillis: 60000,\n" // 1 minute for graceful shutdown
                 + "  },\n"
+                + nodeConfiguration()
                 + "}";
 
         for (int i = 0; i < nodes(); i++) {
@@ -1226,7 +1226,8 @@ public class IgniteImpl implements Ignite {
                 lowWatermark,
                 threadPoolsManager.commonScheduler(),
                 killCommandHandler,
-                eventLog
+                eventLog,
+                workDir
         );
 
         systemViewManager.register(qryEngine);
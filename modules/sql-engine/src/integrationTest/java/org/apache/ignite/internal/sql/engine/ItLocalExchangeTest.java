@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine;
+
+import static org.apache.ignite.internal.TestWrappers.unwrapIgniteImpl;
+import static org.apache.ignite.internal.sql.engine.util.QueryChecker.containsSubPlan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.BaseSqlIntegrationTest;
+import org.apache.ignite.internal.sql.engine.util.QueryChecker;
+import org.apache.ignite.internal.sql.metrics.SqlExchangeMetricSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for queries whose fragments are all executed on the same node, so the exchanges between the fragments pass batches without
+ * serialization.
+ */
+public class ItLocalExchangeTest extends BaseSqlIntegrationTest {
+    @Override
+    protected int initialNodes() {
+        return 1;
+    }
+
+    @BeforeAll
+    public void beforeAll() {
+        sql("CREATE TABLE t1 (id INT PRIMARY KEY, val INT)");
+        sql("CREATE TABLE t2 (id INT PRIMARY KEY, val INT)");
+
+        for (int i = 0; i < 10; i++) {
+            sql("INSERT INTO t1 VALUES (?, ?)", i, i % 7);
+        }
+
+        for (int i = 0; i < 30; i++) {
+            sql("INSERT INTO t2 VALUES (?, ?)", i, i % 5);
+        }
+    }
+
+    @Test
+    public void multiFragmentQuery() {
+        long sentBatches = sentBatches();
+
+        assertQuery("SELECT t2.val, COUNT(*) FROM t1 JOIN t2 ON t1.val = t2.val GROUP BY t2.val")
+                .matches(containsSubPlan("Exchange"))
+                .returns(0, 12L)
+                .returns(1, 12L)
+                .returns(2, 12L)
+                .returns(3, 6L)
+                .returns(4, 6L)
+                .check();
+
+        assertEquals(sentBatches, sentBatches());
+    }
+
+    @Test
+    public void rewindOfLocalExchange() {
+        long sentBatches = sentBatches();
+
+        // The subquery is evaluated once per row of t1, and the exchange that collects the rows of t2 is rewound before every
+        // evaluation. The spools are disabled, so the rows of t2 are not cached on the receiving side.
+        assertQuery("SELECT /*+ disable_decorrelation, DISABLE_RULE('FilterSpoolMergeToSortedIndexSpoolRule', "
+                + "'FilterSpoolMergeToHashIndexSpoolRule') */ t1.id, (SELECT COUNT(*) FROM t2 WHERE t2.val = t1.val) FROM t1")
+                .matches(QueryChecker.matches(".*CorrelatedNestedLoopJoin.*Exchange.*"))
+                .returns(0, 6L)
+                .returns(1, 6L)
+                .returns(2, 6L)
+                .returns(3, 6L)
+                .returns(4, 6L)
+                .returns(5, 0L)
+                .returns(6, 0L)
+                .returns(7, 6L)
+                .returns(8, 6L)
+                .returns(9, 6L)
+                .check();
+
+        assertEquals(sentBatches, sentBatches());
+    }
+
+    private static long sentBatches() {
+        MetricSet metrics = unwrapIgniteImpl(CLUSTER.aliveNode()).metricManager().metricSnapshot().metrics()
+                .get(SqlExchangeMetricSource.NAME);
+
+        assertNotNull(metrics);
+
+        return metrics.<LongMetric>get(SqlExchangeMetricSource.SENT_BATCHES).value();
+    }
+}
@@ -97,7 +97,9 @@ public class ItSqlQueriesSystemViewTest extends AbstractSystemViewTest {
                         new MetadataMatcher().name("SCHEMA").type(ColumnType.STRING).nullable(true),
                         new MetadataMatcher().name("START_TIME").type(ColumnType.TIMESTAMP).nullable(true),
                         new MetadataMatcher().name("PARENT_ID").type(ColumnType.STRING).precision(36).nullable(true),
-                        new MetadataMatcher().name("STATEMENT_NUM").type(ColumnType.INT32).nullable(true)
+                        new MetadataMatcher().name("STATEMENT_NUM").type(ColumnType.INT32).nullable(true),
+
+                        new MetadataMatcher().name("MEMORY_RESERVED").type(ColumnType.INT64).nullable(true)
                 )
                 .returnRowCount(1)
                 .check();
@@ -303,6 +303,7 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
     final SqlIdentifier tblId;
     final SqlNodeList columnList;
     IgniteSqlIndexType type = IgniteSqlIndexType.IMPLICIT_SORTED;
+    SqlNode where = null;
 }
 {
     <INDEX>
@@ -329,8 +330,12 @@ SqlCreate SqlCreateIndex(Span s, boolean replace) :
         }
 
         columnList = ColumnNameList()
-    ) {
-        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, type, columnList);
+    )
+    [
+        <WHERE> where = Expression(ExprContext.ACCEPT_NON_QUERY)
+    ]
+    {
+        return new IgniteSqlCreateIndex(s.end(this), ifNotExists, idxId, tblId, type, columnList, where);
     }
 }
 
@@ -45,4 +45,19 @@ public class SqlPlannerDistributedConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 0)
     public final int planCacheExpiresAfterSeconds = 30 * 60;
+
+    /**
+     * The factor the actual number of rows of a scan must differ from the estimated one by to have the cached plan re-optimized with
+     * the observed numbers of rows. Values not greater than 1 disable the cardinality feedback.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final double cardinalityFeedbackFactor = 0;
+
+    /**
+     * Whether wide columns passed through joins by read-only queries are fetched by primary key after the join instead of being read
+     * by the scan.
+     */
+    @Value(hasDefault = true)
+    public final boolean lateMaterializationEnabled = false;
 }
@@ -28,4 +28,59 @@ public class SqlExecutionLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /**
+     * Amount of memory (in bytes) a single query may use on a node before buffering operators start spilling to disk. Zero means the
+     * memory is not limited.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long queryMemoryQuotaBytes = 0;
+
+    /**
+     * Amount of memory (in bytes) all queries may use on a node together. Once the limit is reached, buffering operators start spilling
+     * to disk, and operators which can't spill fail their queries. Zero means the memory is not limited.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long nodeMemoryQuotaBytes = 0;
+
+    /**
+     * Whether an outbox hands batches over to the inbox directly if the receiving fragment is executed on the same node, instead of
+     * serializing them and passing through the message service.
+     */
+    @Value(hasDefault = true)
+    public final boolean localExchangeEnabled = true;
+
+    /**
+     * Whether scan, filter and project nodes exchange batches of rows, and filters and projections are evaluated in a loop over
+     * a batch.
+     */
+    @Value(hasDefault = true)
+    public final boolean batchExecutionEnabled = false;
+
+    /**
+     * Maximal number of row ID ranges a partition is split into by a table scan of a read-only query, the ranges are read
+     * concurrently. Values less than two disable the splitting.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int scanSplitCount = 0;
+
+    /** Whether a stripe of the execution thread pool which has nothing to do executes fragments pinned to busy stripes. */
+    @Value(hasDefault = true)
+    public final boolean workStealingEnabled = false;
+
+    /** Maximal number of cached results of deterministic read-only queries. Zero disables the cache. */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int resultCacheSize = 0;
+
+    /**
+     * Time (in milliseconds) a cached query result may be returned for since the query was executed, even if the tables it reads are
+     * not modified.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long resultCacheTtlMillis = 60_000;
 }
@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.sql.configuration.local;
 
+import static org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl.DEFAULT_WARM_UP_SIZE;
+
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.Range;
@@ -28,4 +30,12 @@ public class SqlPlannerLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /**
+     * Number of the most used cached plans whose queries are persisted on node stop and planned in background on node start and once
+     * the catalog version changes. Zero disables the warm-up.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final int planCacheWarmUpSize = DEFAULT_WARM_UP_SIZE;
 }
@@ -27,6 +27,7 @@ import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.sql.engine.exec.fsm.ExecutionPhase;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryExecutor;
 import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
 import org.apache.ignite.internal.sql.engine.prepare.ExplainablePlan;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -49,8 +50,12 @@ public class SqlQueriesViewProvider {
 
     private final CompletableFuture<PrepareService> prepareServiceFuture = new CompletableFuture<>();
 
+    private volatile @Nullable SpillManager spillManager;
+
     /** Initializes provided with query executor used as datasource of running queries. */
-    public void init(QueryExecutor queryExecutor, PrepareServiceImpl prepareSvc) {
+    public void init(QueryExecutor queryExecutor, PrepareServiceImpl prepareSvc, SpillManager spillManager) {
+        this.spillManager = spillManager;
+
         queryExecutorFuture.complete(queryExecutor);
         prepareServiceFuture.complete(prepareSvc);
     }
@@ -93,10 +98,17 @@ public class SqlQueriesViewProvider {
                 .<String>addColumn("PARENT_ID", idType, info -> mapId(info.parentId()))
                 .<Integer>addColumn("STATEMENT_NUM", NativeTypes.INT32, info -> mapStatementNum(info.statementNum()))
                 // End of legacy columns list. New columns must be added below this line.
+                .<Long>addColumn("MEMORY_RESERVED", NativeTypes.INT64, this::memoryReserved)
                 .dataProvider(viewDataPublisher)
                 .build();
     }
 
+    private long memoryReserved(QueryInfo info) {
+        SpillManager spillManager0 = spillManager;
+
+        return spillManager0 == null ? 0 : spillManager0.reserved(info.id());
+    }
+
     private static @Nullable String mapId(@Nullable UUID id) {
         return id == null ? null : id.toString();
     }
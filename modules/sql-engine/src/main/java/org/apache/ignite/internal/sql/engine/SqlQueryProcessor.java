@@ -27,6 +27,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.apache.ignite.lang.ErrorGroups.Common.NODE_STOPPING_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -70,9 +71,12 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionDependencyResolverImp
 import org.apache.ignite.internal.sql.engine.exec.ExecutionServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
+import org.apache.ignite.internal.sql.engine.exec.QueryResultCache;
+import org.apache.ignite.internal.sql.engine.exec.QueryResultCacheImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.TableModificationCountersImpl;
 import org.apache.ignite.internal.sql.engine.exec.TransactionalOperationTracker;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
@@ -85,8 +89,10 @@ import org.apache.ignite.internal.sql.engine.exec.fsm.QueryInfo;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionDistributionProviderImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
 import org.apache.ignite.internal.sql.engine.expressions.SqlExpressionFactoryAdapter;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
+import org.apache.ignite.internal.sql.engine.prepare.CardinalityFeedback;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.QueryMetadata;
@@ -99,6 +105,7 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatisticsCollector;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl;
 import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticUpdateManager;
@@ -109,7 +116,11 @@ import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlClientMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlExchangeMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlExpressionCacheMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
 import org.apache.ignite.internal.sql.metrics.SqlQueryMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.systemview.api.SystemView;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
@@ -146,6 +157,14 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     private static final long EXECUTION_SERVICE_SHUTDOWN_TIMEOUT = 60_000;
 
+    /** Name of the directory inside the node work directory where the queries offload their state. */
+    private static final String SPILL_DIR_NAME = "sql-spill";
+
+    private static final String STATISTICS_DIR_NAME = "sql-statistics";
+
+    /** Name of the directory inside the node work directory where the queries of the most used plans are persisted. */
+    private static final String PLAN_CACHE_DIR_NAME = "sql-plan-cache";
+
     private final SqlQueriesViewProvider queriesViewProvider = new SqlQueriesViewProvider();
 
     private final List<LifecycleAware> services = new ArrayList<>();
@@ -212,6 +231,14 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
 
     private final SqlExpressionFactory expressionFactory;
 
+    private final SqlExpressionCacheMetricSource expressionCacheMetricSource = new SqlExpressionCacheMetricSource();
+
+    /** Metric source of the query result cache, {@code null} if the cache is disabled. */
+    private @Nullable SqlResultCacheMetricSource resultCacheMetricSource;
+
+    /** Node work directory. */
+    private final Path workDir;
+
     /** Constructor. */
     public SqlQueryProcessor(
             ClusterService clusterSrvc,
@@ -234,7 +261,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
             LowWatermark lowWaterMark,
             ScheduledExecutorService commonScheduler,
             KillCommandHandler killCommandHandler,
-            EventLog eventLog
+            EventLog eventLog,
+            Path workDir
     ) {
         this.clusterSrvc = clusterSrvc;
         this.logicalTopologyService = logicalTopologyService;
@@ -256,6 +284,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         this.commonScheduler = commonScheduler;
         this.killCommandHandler = killCommandHandler;
         this.eventLog = eventLog;
+        this.workDir = workDir;
 
         StatisticAggregatorImpl statAggregator = new StatisticAggregatorImpl(
                 () -> logicalTopologyService.localLogicalTopology().nodes(),
@@ -267,6 +296,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 lowWaterMark,
                 commonScheduler,
                 statAggregator,
+                statAggregator,
+                workDir.resolve(STATISTICS_DIR_NAME),
                 clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds()
         );
         sqlSchemaManager = new SqlSchemaManagerImpl(
@@ -277,7 +308,7 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         );
 
         expressionFactory = new SqlExpressionFactoryImpl(
-                Commons.typeFactory(), COMPILED_EXPRESSIONS_CACHE_SIZE, CACHE_FACTORY
+                Commons.typeFactory(), COMPILED_EXPRESSIONS_CACHE_SIZE, CACHE_FACTORY, expressionCacheMetricSource
         );
     }
 
@@ -291,7 +322,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 nodeName,
                 nodeCfg.execution().threadCount().value(),
                 failureManager,
-                metricManager));
+                metricManager,
+                nodeCfg.execution().workStealingEnabled().value()));
         var mailboxRegistry = registerService(new MailboxRegistryImpl());
 
         SqlClientMetricSource sqlClientMetricSource = new SqlClientMetricSource(this::openedCursors);
@@ -302,6 +334,19 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         metricManager.registerSource(sqlQueryMetricSource);
         metricManager.enable(sqlQueryMetricSource);
 
+        metricManager.registerSource(expressionCacheMetricSource);
+        metricManager.enable(expressionCacheMetricSource);
+
+        var spillManager = registerService(new SpillManager(
+                workDir.resolve(SPILL_DIR_NAME),
+                nodeCfg.execution().queryMemoryQuotaBytes().value(),
+                nodeCfg.execution().nodeMemoryQuotaBytes().value()
+        ));
+
+        SqlMemoryMetricSource sqlMemoryMetricSource = spillManager.metricSource();
+        metricManager.registerSource(sqlMemoryMetricSource);
+        metricManager.enable(sqlMemoryMetricSource);
+
         var storageProfileValidator = new ClusterWideStorageProfileValidator(logicalTopologyService);
         var nodeFilterValidator = new ClusterWideNodeFilterValidator(logicalTopologyService);
 
@@ -326,7 +371,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 ddlSqlToCommandConverter,
                 clockService::currentLong,
                 commonScheduler,
-                sqlStatisticManager
+                sqlStatisticManager,
+                workDir.resolve(PLAN_CACHE_DIR_NAME)
         ));
 
         var msgSrvc = registerService(new MessageServiceImpl(
@@ -343,6 +389,10 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 clockService
         ));
 
+        SqlExchangeMetricSource sqlExchangeMetricSource = exchangeService.metricSource();
+        metricManager.registerSource(sqlExchangeMetricSource);
+        metricManager.enable(sqlExchangeMetricSource);
+
         this.prepareSvc = prepareSvc;
 
         var ddlCommandHandler = registerService(
@@ -350,7 +400,14 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         );
 
         var executableTableRegistry = new ExecutableTableRegistryImpl(
-                tableManager, schemaManager, sqlSchemaManager, replicaService, clockService, TABLE_CACHE_SIZE, CACHE_FACTORY
+                tableManager,
+                schemaManager,
+                sqlSchemaManager,
+                replicaService,
+                clockService,
+                nodeCfg.execution().scanSplitCount().value(),
+                TABLE_CACHE_SIZE,
+                CACHE_FACTORY
         );
 
         var tableFunctionRegistry = new TableFunctionRegistryImpl();
@@ -379,6 +436,28 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         // Need to be implemented after https://issues.apache.org/jira/browse/IGNITE-23519 Add an event for lease Assignments
         // placementDriver.listen(PrimaryReplicaEvent.ASSIGNMENTS_CHANGED, mappingService::onPrimaryReplicaAssignment);
 
+        QueryResultCache resultCache = QueryResultCache.NOOP;
+        int resultCacheSize = nodeCfg.execution().resultCacheSize().value();
+
+        if (resultCacheSize > 0) {
+            QueryResultCacheImpl resultCacheImpl = new QueryResultCacheImpl(
+                    CACHE_FACTORY,
+                    resultCacheSize,
+                    nodeCfg.execution().resultCacheTtlMillis().value(),
+                    new TableModificationCountersImpl(
+                            () -> logicalTopologyService.localLogicalTopology().nodes(),
+                            clusterSrvc.messagingService()
+                    ),
+                    clockService
+            );
+
+            resultCacheMetricSource = resultCacheImpl.metricSource();
+            metricManager.registerSource(resultCacheMetricSource);
+            metricManager.enable(resultCacheMetricSource);
+
+            resultCache = resultCacheImpl;
+        }
+
         var executionSrvc = registerService(ExecutionServiceImpl.create(
                 clusterSrvc.topologyService(),
                 msgSrvc,
@@ -396,8 +475,14 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 clockService,
                 killCommandHandler,
                 expressionFactory,
+                spillManager,
                 EXECUTION_SERVICE_SHUTDOWN_TIMEOUT,
-                SqlPlanToTxSchemaVersionValidator.create(schemaSyncService, catalogManager)
+                SqlPlanToTxSchemaVersionValidator.create(schemaSyncService, catalogManager),
+                prepareSvc::onQueryCompleted,
+                resultCache,
+                nodeCfg.execution().localExchangeEnabled().value(),
+                nodeCfg.execution().batchExecutionEnabled().value(),
+                CardinalityFeedback.enabled(clusterCfg.planner().cardinalityFeedbackFactor().value())
         ));
 
         queryExecutor = registerService(new QueryExecutor(
@@ -418,10 +503,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
                 sqlQueryMetricSource
         ));
 
-        queriesViewProvider.init(queryExecutor, prepareSvc);
+        queriesViewProvider.init(queryExecutor, prepareSvc, spillManager);
 
         logicalTopologyService.addEventListener(executionSrvc);
 
+        registerService(new ColumnStatisticsCollector(nodeName, tableManager, clusterSrvc.messagingService()));
         registerService(sqlStatisticManager);
 
         services.forEach(LifecycleAware::start);
@@ -441,6 +527,11 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
         busyLock.block();
 
         metricManager.unregisterSource(SqlClientMetricSource.NAME);
+        metricManager.unregisterSource(SqlExpressionCacheMetricSource.NAME);
+
+        if (resultCacheMetricSource != null) {
+            metricManager.unregisterSource(SqlResultCacheMetricSource.NAME);
+        }
 
         List<LifecycleAware> services = new ArrayList<>(this.services);
 
@@ -456,6 +547,8 @@ public class SqlQueryProcessor implements QueryProcessor, SystemViewProvider {
             // Calling unregisterSource after closeAll ensures that
             // we are collecting metrics for queries interrupted during node termination,
             metricManager.unregisterSource(SqlQueryMetricSource.NAME);
+            metricManager.unregisterSource(SqlMemoryMetricSource.NAME);
+            metricManager.unregisterSource(SqlExchangeMetricSource.NAME);
         }
 
         return nullCompletedFuture();
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+
+/**
+ * Listener of the numbers of rows produced by the scans of the queries completed on the local node.
+ */
+@FunctionalInterface
+public interface CardinalityFeedbackListener {
+    /** Listener which ignores the feedback. */
+    CardinalityFeedbackListener NOOP = (planId, rowCounts) -> {};
+
+    /**
+     * Notifies that a query has been completed.
+     *
+     * @param planId ID of the plan the query was executed with.
+     * @param rowCounts Numbers of rows by source ID of the scans.
+     */
+    void onQueryCompleted(PlanId planId, Long2LongMap rowCounts);
+}
@@ -0,0 +1,594 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.binarytuple.BinaryTupleReader;
+import org.apache.ignite.internal.lang.InternalTuple;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch of rows packed into a single buffer in column-major order, the format batches are sent through the exchange with.
+ *
+ * <p>Layout of the buffer (little-endian):
+ * <pre>
+ *     int rowCount
+ *     int columnCount
+ *     column[columnCount]:
+ *         byte encoding        -- {@link #PLAIN} or {@link #DICTIONARY}
+ *         byte[(rowCount + 7) / 8] null bitmap
+ *         PLAIN:      int size, binary tuple of rowCount values
+ *         DICTIONARY: int count, int size, binary tuple of count - 1 distinct values followed by a null element,
+ *                     byte codeSize, rowCount codes of codeSize bytes each
+ * </pre>
+ *
+ * <p>Values are copied as raw binary tuple elements, thus the format does not depend on the row schema. Dictionary encoding
+ * is chosen for a column only when it makes the column smaller, which is usually the case for repetitive strings.
+ *
+ * <p>Rows are read from the buffer through lightweight {@link InternalTuple views}, so no intermediate per-row tuples are
+ * materialized. Like {@link BinaryTupleReader}, the views are not thread-safe.
+ */
+public final class ColumnarBatch {
+    /** Values of the column are stored as is. */
+    static final byte PLAIN = 0;
+
+    /** Distinct values of the column are stored once and referenced by codes. */
+    static final byte DICTIONARY = 1;
+
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    private final ByteBuffer buffer;
+
+    private final int rowCount;
+
+    private final Column[] columns;
+
+    private ColumnarBatch(ByteBuffer buffer, int rowCount, Column[] columns) {
+        this.buffer = buffer;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Packs the given rows into a buffer.
+     *
+     * @param handler Handler to convert rows to binary tuples with.
+     * @param rows Rows to pack. All the rows must have the same number of columns.
+     * @return Buffer with the batch.
+     */
+    public static <RowT> ByteBuffer write(RowHandler<RowT> handler, List<RowT> rows) {
+        int rowCount = rows.size();
+
+        if (rowCount == 0) {
+            return ByteBuffer.allocate(2 * Integer.BYTES).order(ORDER).putInt(0).putInt(0).flip();
+        }
+
+        BinaryTuple[] tuples = new BinaryTuple[rowCount];
+        ByteBuffer[] tupleBuffers = new ByteBuffer[rowCount];
+
+        for (int i = 0; i < rowCount; i++) {
+            tuples[i] = handler.toBinaryTuple(rows.get(i));
+            tupleBuffers[i] = tuples[i].byteBuffer();
+        }
+
+        int columnCount = tuples[0].elementCount();
+        List<ByteBuffer> columns = new ArrayList<>(columnCount);
+        int size = 2 * Integer.BYTES;
+
+        for (int col = 0; col < columnCount; col++) {
+            ByteBuffer column = writeColumn(tuples, tupleBuffers, col);
+
+            columns.add(column);
+            size += column.remaining();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ORDER)
+                .putInt(rowCount)
+                .putInt(columnCount);
+
+        for (ByteBuffer column : columns) {
+            buffer.put(column);
+        }
+
+        return buffer.flip();
+    }
+
+    /**
+     * Wraps the buffer previously created with {@link #write(RowHandler, List)}.
+     *
+     * @param buffer Buffer with the batch.
+     * @return Batch to read rows from.
+     */
+    public static ColumnarBatch read(ByteBuffer buffer) {
+        buffer = buffer.slice().order(ORDER);
+
+        int rowCount = buffer.getInt(0);
+        int columnCount = buffer.getInt(Integer.BYTES);
+        int bitmapSize = bitmapSize(rowCount);
+
+        Column[] columns = new Column[columnCount];
+        int pos = 2 * Integer.BYTES;
+
+        for (int col = 0; col < columnCount; col++) {
+            byte encoding = buffer.get(pos);
+            int bitmapOffset = pos + 1;
+
+            pos = bitmapOffset + bitmapSize;
+
+            int valuesCount = rowCount;
+
+            if (encoding == DICTIONARY) {
+                valuesCount = buffer.getInt(pos);
+
+                pos += Integer.BYTES;
+            }
+
+            int valuesSize = buffer.getInt(pos);
+            int valuesOffset = pos + Integer.BYTES;
+            ByteBuffer values = slice(buffer, valuesOffset, valuesSize);
+
+            pos = valuesOffset + valuesSize;
+
+            if (encoding == PLAIN) {
+                columns[col] = new Column(buffer, bitmapOffset, values, rowCount, -1, 0);
+            } else {
+                assert encoding == DICTIONARY : encoding;
+
+                int codeSize = buffer.get(pos);
+                int codesOffset = pos + 1;
+
+                columns[col] = new Column(buffer, bitmapOffset, values, valuesCount, codesOffset, codeSize);
+
+                pos = codesOffset + codeSize * rowCount;
+            }
+        }
+
+        return new ColumnarBatch(buffer, rowCount, columns);
+    }
+
+    /** Returns the number of rows in the batch. */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /** Returns the size of the batch in bytes. */
+    public int size() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Returns a view of the row with the given index. The view shares the buffer of the batch.
+     *
+     * @param idx Index of the row.
+     * @return Row.
+     */
+    public InternalTuple row(int idx) {
+        assert idx >= 0 && idx < rowCount : "idx=" + idx + ", rowCount=" + rowCount;
+
+        return new Row(columns, idx);
+    }
+
+    private static ByteBuffer writeColumn(BinaryTuple[] tuples, ByteBuffer[] tupleBuffers, int col) {
+        int rowCount = tuples.length;
+        byte[] bitmap = new byte[bitmapSize(rowCount)];
+
+        int valuesSize = 0;
+        int nonNullCount = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            BinaryTuple tuple = tuples[row];
+
+            tuple.seek(col);
+
+            if (tuple.begin() == tuple.end()) {
+                bitmap[row >>> 3] |= (byte) (1 << (row & 7));
+            } else {
+                valuesSize += tuple.end() - tuple.begin();
+                nonNullCount++;
+            }
+        }
+
+        ByteBuffer column = nonNullCount > 1 ? writeDictionary(tuples, tupleBuffers, col, bitmap, valuesSize) : null;
+
+        if (column != null) {
+            return column;
+        }
+
+        BinaryTupleBuilder builder = new BinaryTupleBuilder(rowCount, valuesSize);
+
+        for (int row = 0; row < rowCount; row++) {
+            appendElement(builder, tuples[row], tupleBuffers[row], col);
+        }
+
+        ByteBuffer values = builder.build();
+
+        return ByteBuffer.allocate(1 + bitmap.length + Integer.BYTES + values.remaining()).order(ORDER)
+                .put(PLAIN)
+                .put(bitmap)
+                .putInt(values.remaining())
+                .put(values)
+                .flip();
+    }
+
+    private static @Nullable ByteBuffer writeDictionary(
+            BinaryTuple[] tuples,
+            ByteBuffer[] tupleBuffers,
+            int col,
+            byte[] bitmap,
+            int valuesSize
+    ) {
+        int rowCount = tuples.length;
+
+        // Codes are at least one byte each, so the dictionary can't win for values that short.
+        if (valuesSize <= rowCount) {
+            return null;
+        }
+
+        Map<ByteBuffer, Integer> dictionary = new HashMap<>();
+        List<ByteBuffer> distinctValues = new ArrayList<>();
+        int[] codes = new int[rowCount];
+        int dictionarySize = 0;
+
+        for (int row = 0; row < rowCount; row++) {
+            BinaryTuple tuple = tuples[row];
+
+            tuple.seek(col);
+
+            if (tuple.begin() == tuple.end()) {
+                codes[row] = -1;
+
+                continue;
+            }
+
+            ByteBuffer value = slice(tupleBuffers[row], tuple.begin(), tuple.end() - tuple.begin());
+            Integer code = dictionary.get(value);
+
+            if (code == null) {
+                code = dictionary.size();
+
+                dictionary.put(value, code);
+                distinctValues.add(value);
+                dictionarySize += value.remaining();
+
+                if (dictionary.size() > rowCount / 2) {
+                    return null;
+                }
+            }
+
+            codes[row] = code;
+        }
+
+        // One extra code refers to the null element which terminates the dictionary.
+        int nullCode = dictionary.size();
+        int codeSize = nullCode <= 0xFF ? Byte.BYTES : nullCode <= 0xFFFF ? Short.BYTES : Integer.BYTES;
+
+        if (dictionarySize + codeSize * rowCount >= valuesSize) {
+            return null;
+        }
+
+        BinaryTupleBuilder builder = new BinaryTupleBuilder(nullCode + 1, dictionarySize);
+
+        for (ByteBuffer value : distinctValues) {
+            builder.appendElementBytes(value, 0, value.remaining());
+        }
+
+        ByteBuffer values = builder.appendNull().build();
+
+        ByteBuffer column = ByteBuffer.allocate(1 + bitmap.length + 2 * Integer.BYTES + values.remaining() + 1 + codeSize * rowCount)
+                .order(ORDER)
+                .put(DICTIONARY)
+                .put(bitmap)
+                .putInt(nullCode + 1)
+                .putInt(values.remaining())
+                .put(values)
+                .put((byte) codeSize);
+
+        for (int code : codes) {
+            if (code == -1) {
+                code = nullCode;
+            }
+
+            if (codeSize == Byte.BYTES) {
+                column.put((byte) code);
+            } else if (codeSize == Short.BYTES) {
+                column.putShort((short) code);
+            } else {
+                column.putInt(code);
+            }
+        }
+
+        return column.flip();
+    }
+
+    private static void appendElement(BinaryTupleBuilder builder, BinaryTupleReader tuple, ByteBuffer tupleBuffer, int col) {
+        tuple.seek(col);
+
+        if (tuple.begin() == tuple.end()) {
+            builder.appendNull();
+        } else {
+            builder.appendElementBytes(tupleBuffer, tuple.begin(), tuple.end() - tuple.begin());
+        }
+    }
+
+    private static int bitmapSize(int rowCount) {
+        return (rowCount + 7) >>> 3;
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        return buffer.duplicate().position(offset).limit(offset + length).slice().order(ORDER);
+    }
+
+    /** Values of a single column of the batch. */
+    private static final class Column {
+        private final ByteBuffer buffer;
+
+        private final int bitmapOffset;
+
+        private final ByteBuffer valuesBuffer;
+
+        private final BinaryTupleReader values;
+
+        private final int codesOffset;
+
+        private final int codeSize;
+
+        Column(ByteBuffer buffer, int bitmapOffset, ByteBuffer valuesBuffer, int valuesCount, int codesOffset, int codeSize) {
+            this.buffer = buffer;
+            this.bitmapOffset = bitmapOffset;
+            this.valuesBuffer = valuesBuffer;
+            this.values = new BinaryTupleReader(valuesCount, valuesBuffer);
+            this.codesOffset = codesOffset;
+            this.codeSize = codeSize;
+        }
+
+        boolean isNull(int row) {
+            return (buffer.get(bitmapOffset + (row >>> 3)) & (1 << (row & 7))) != 0;
+        }
+
+        /** Returns the index of the element of {@link #values} which holds the value of the given row. */
+        int element(int row) {
+            switch (codeSize) {
+                case 0:
+                    return row;
+                case Byte.BYTES:
+                    return Byte.toUnsignedInt(buffer.get(codesOffset + row));
+                case Short.BYTES:
+                    return Short.toUnsignedInt(buffer.getShort(codesOffset + row * Short.BYTES));
+                default:
+                    return buffer.getInt(codesOffset + row * Integer.BYTES);
+            }
+        }
+    }
+
+    /** View of a single row of the batch. */
+    private static final class Row implements InternalTuple {
+        private final Column[] columns;
+
+        private final int row;
+
+        Row(Column[] columns, int row) {
+            this.columns = columns;
+            this.row = row;
+        }
+
+        @Override
+        public int elementCount() {
+            return columns.length;
+        }
+
+        @Override
+        public boolean hasNullValue(int col) {
+            return columns[col].isNull(row);
+        }
+
+        @Override
+        public boolean booleanValue(int col) {
+            Column column = columns[col];
+
+            return column.values.booleanValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Boolean booleanValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.booleanValueBoxed(column.element(row));
+        }
+
+        @Override
+        public byte byteValue(int col) {
+            Column column = columns[col];
+
+            return column.values.byteValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Byte byteValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.byteValueBoxed(column.element(row));
+        }
+
+        @Override
+        public short shortValue(int col) {
+            Column column = columns[col];
+
+            return column.values.shortValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Short shortValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.shortValueBoxed(column.element(row));
+        }
+
+        @Override
+        public int intValue(int col) {
+            Column column = columns[col];
+
+            return column.values.intValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Integer intValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.intValueBoxed(column.element(row));
+        }
+
+        @Override
+        public long longValue(int col) {
+            Column column = columns[col];
+
+            return column.values.longValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Long longValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.longValueBoxed(column.element(row));
+        }
+
+        @Override
+        public float floatValue(int col) {
+            Column column = columns[col];
+
+            return column.values.floatValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Float floatValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.floatValueBoxed(column.element(row));
+        }
+
+        @Override
+        public double doubleValue(int col) {
+            Column column = columns[col];
+
+            return column.values.doubleValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Double doubleValueBoxed(int col) {
+            Column column = columns[col];
+
+            return column.values.doubleValueBoxed(column.element(row));
+        }
+
+        @Override
+        public @Nullable BigDecimal decimalValue(int col, int decimalScale) {
+            Column column = columns[col];
+
+            return column.values.decimalValue(column.element(row), decimalScale);
+        }
+
+        @Override
+        public @Nullable String stringValue(int col) {
+            Column column = columns[col];
+
+            return column.values.stringValue(column.element(row));
+        }
+
+        @Override
+        public byte @Nullable [] bytesValue(int col) {
+            Column column = columns[col];
+
+            return column.values.bytesValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable UUID uuidValue(int col) {
+            Column column = columns[col];
+
+            return column.values.uuidValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable LocalDate dateValue(int col) {
+            Column column = columns[col];
+
+            return column.values.dateValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable LocalTime timeValue(int col) {
+            Column column = columns[col];
+
+            return column.values.timeValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable LocalDateTime dateTimeValue(int col) {
+            Column column = columns[col];
+
+            return column.values.dateTimeValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Instant timestampValue(int col) {
+            Column column = columns[col];
+
+            return column.values.timestampValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Period periodValue(int col) {
+            Column column = columns[col];
+
+            return column.values.periodValue(column.element(row));
+        }
+
+        @Override
+        public @Nullable Duration durationValue(int col) {
+            Column column = columns[col];
+
+            return column.values.durationValue(column.element(row));
+        }
+
+        /** Assembles a standalone binary tuple with the values of the row. */
+        @Override
+        public ByteBuffer byteBuffer() {
+            BinaryTupleBuilder builder = new BinaryTupleBuilder(columns.length);
+
+            for (Column column : columns) {
+                appendElement(builder, column.values, column.valuesBuffer, column.element(row));
+            }
+
+            return builder.build();
+        }
+    }
+}
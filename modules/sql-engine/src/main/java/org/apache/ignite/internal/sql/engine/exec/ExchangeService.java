@@ -17,9 +17,8 @@
 
 package org.apache.ignite.internal.sql.engine.exec;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
 import org.jetbrains.annotations.Nullable;
@@ -42,12 +41,13 @@ public interface ExchangeService extends LifecycleAware {
      * @param exchangeId The ID of the exchange through which the data will be sent.
      * @param batchId The ID of the batch to which the data belongs.
      * @param last Indicates whether this is the last batch of data to be sent.
-     * @param rows The data to be sent.
+     * @param rows The data to be sent, packed into a {@link ColumnarBatch columnar batch}.
+     * @param rowCounts Numbers of rows observed by scans, see {@link ObservedRowCounts#toArray()}, or {@code null} if there are none.
      * @return A {@link CompletableFuture future} representing the result of operation,
      *      which completes when the data has been sent.
      */
     CompletableFuture<Void> sendBatch(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int batchId, boolean last,
-            List<BinaryTupleMessage> rows);
+            ByteBuffer rows, long @Nullable [] rowCounts);
 
     /**
      * Asynchronously requests data from the specified node.
@@ -64,6 +64,20 @@ public interface ExchangeService extends LifecycleAware {
     CompletableFuture<Void> request(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int amountOfBatches,
             @Nullable SharedState state);
 
+    /**
+     * Asynchronously sends a runtime filter to the specified node.
+     *
+     * @param nodeName The name of the node to which the filter will be sent.
+     * @param executionId The ID of the execution to which the filter belongs.
+     * @param fragmentId The ID of the fragment which rows the filter is applied to.
+     * @param exchangeId The ID of the exchange through which the filtered rows are sent.
+     * @param filter The filter to send, serialized with {@link RuntimeFilter#toByteBuffer()}.
+     * @return A {@link CompletableFuture future} representing the result of operation,
+     *      which completes when the filter has been sent.
+     */
+    CompletableFuture<Void> sendRuntimeFilter(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId,
+            ByteBuffer filter);
+
     /**
      * Asynchronously sends an error message to the specified node.
      *
@@ -75,4 +89,11 @@ public interface ExchangeService extends LifecycleAware {
      *      which completes when the error message has been sent.
      */
     CompletableFuture<Void> sendError(String nodeName, ExecutionId executionId, long fragmentId, Throwable error);
+
+    /**
+     * Accounts a change of the amount of bytes received by an inbox but not yet consumed.
+     *
+     * @param delta Number of bytes buffered, or released if negative.
+     */
+    void onBufferedBytesChanged(long delta);
 }
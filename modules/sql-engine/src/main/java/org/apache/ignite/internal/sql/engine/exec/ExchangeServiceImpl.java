@@ -20,7 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.apache.ignite.internal.hlc.ClockService;
@@ -29,15 +29,16 @@ import org.apache.ignite.internal.lang.SqlExceptionMapperUtil;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.api.expressions.ExpressionEvaluationException;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryBatchMessage;
 import org.apache.ignite.internal.sql.engine.message.QueryBatchRequestMessage;
+import org.apache.ignite.internal.sql.engine.message.RuntimeFilterMessage;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
+import org.apache.ignite.internal.sql.metrics.SqlExchangeMetricSource;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.IgniteException;
 import org.apache.ignite.lang.TraceableException;
@@ -55,6 +56,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     private final MailboxRegistry mailboxRegistry;
     private final MessageService messageService;
     private final ClockService clockService;
+    private final SqlExchangeMetricSource metricSource = new SqlExchangeMetricSource();
 
     /**
      * Creates the object.
@@ -78,12 +80,14 @@ public class ExchangeServiceImpl implements ExchangeService {
     public void start() {
         messageService.register((n, m) -> onMessage(n, (QueryBatchRequestMessage) m), SqlQueryMessageGroup.QUERY_BATCH_REQUEST);
         messageService.register((n, m) -> onMessage(n, (QueryBatchMessage) m), SqlQueryMessageGroup.QUERY_BATCH_MESSAGE);
+        messageService.register((n, m) -> onMessage(n, (RuntimeFilterMessage) m), SqlQueryMessageGroup.RUNTIME_FILTER_MESSAGE);
     }
 
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> sendBatch(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId, int batchId,
-            boolean last, List<BinaryTupleMessage> rows) {
+            boolean last, ByteBuffer rows, long @Nullable [] rowCounts) {
+        metricSource.onBatchSent(rows.remaining());
 
         return messageService.send(
                 nodeName,
@@ -95,6 +99,7 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .batchId(batchId)
                         .last(last)
                         .rows(rows)
+                        .rowCounts(rowCounts)
                         .timestamp(clockService.now())
                         .build()
         );
@@ -117,6 +122,22 @@ public class ExchangeServiceImpl implements ExchangeService {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> sendRuntimeFilter(String nodeName, ExecutionId executionId, long fragmentId, long exchangeId,
+            ByteBuffer filter) {
+        return messageService.send(
+                nodeName,
+                FACTORY.runtimeFilterMessage()
+                        .queryId(executionId.queryId())
+                        .executionToken(executionId.executionToken())
+                        .fragmentId(fragmentId)
+                        .exchangeId(exchangeId)
+                        .filter(filter)
+                        .build()
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> sendError(String nodeName, ExecutionId executionId, long fragmentId, Throwable error) {
@@ -147,6 +168,17 @@ public class ExchangeServiceImpl implements ExchangeService {
         );
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void onBufferedBytesChanged(long delta) {
+        metricSource.onBufferedBytesChanged(delta);
+    }
+
+    /** Returns the metric source of the exchanges. */
+    public SqlExchangeMetricSource metricSource() {
+        return metricSource;
+    }
+
     private void onMessage(InternalClusterNode node, QueryBatchRequestMessage msg) {
         ExecutionId executionId = new ExecutionId(msg.queryId(), msg.executionToken());
         CompletableFuture<Outbox<?>> outboxFut = mailboxRegistry.outbox(executionId, msg.exchangeId());
@@ -176,12 +208,14 @@ public class ExchangeServiceImpl implements ExchangeService {
     }
 
     private void onMessage(InternalClusterNode node, QueryBatchMessage msg) {
+        metricSource.onBatchReceived(msg.rows().remaining());
+
         ExecutionId executionId = new ExecutionId(msg.queryId(), msg.executionToken());
         Inbox<?> inbox = mailboxRegistry.inbox(executionId, msg.exchangeId());
 
         if (inbox != null) {
             try {
-                inbox.onBatchReceived(node.name(), msg.batchId(), msg.last(), msg.rows());
+                inbox.onBatchReceived(node.name(), msg.batchId(), msg.last(), msg.rows(), msg.rowCounts());
             } catch (Throwable e) {
                 Throwable toUse = convertEvaluationException(e);
 
@@ -199,6 +233,27 @@ public class ExchangeServiceImpl implements ExchangeService {
         }
     }
 
+    private void onMessage(InternalClusterNode node, RuntimeFilterMessage msg) {
+        ExecutionId executionId = new ExecutionId(msg.queryId(), msg.executionToken());
+        CompletableFuture<Outbox<?>> outboxFut = mailboxRegistry.outbox(executionId, msg.exchangeId());
+
+        Consumer<Outbox<?>> onFilterHandler = outbox -> {
+            try {
+                outbox.onRuntimeFilter(node.name(), RuntimeFilter.fromByteBuffer(msg.filter()));
+            } catch (Throwable e) {
+                outbox.onError(e);
+
+                throw new IgniteInternalException(INTERNAL_ERR, "Unexpected exception", e);
+            }
+        };
+
+        if (outboxFut.isDone()) {
+            onFilterHandler.accept(outboxFut.join());
+        } else {
+            outboxFut.thenAccept(onFilterHandler);
+        }
+    }
+
     private static Throwable convertEvaluationException(Throwable e) {
         if (e instanceof ExpressionEvaluationException) {
             return SqlExceptionMapperUtil.mapToPublicSqlException(e);
@@ -49,6 +49,8 @@ public class ExecutableTableRegistryImpl implements ExecutableTableRegistry {
 
     private final ClockService clockService;
 
+    private final int scanSplitCount;
+
     /** Executable tables cache. */
     final Cache<CacheKey, ExecutableTable> tableCache;
 
@@ -59,6 +61,7 @@ public class ExecutableTableRegistryImpl implements ExecutableTableRegistry {
             SqlSchemaManager sqlSchemaManager,
             ReplicaService replicaService,
             ClockService clockService,
+            int scanSplitCount,
             int cacheSize,
             CacheFactory cacheFactory
     ) {
@@ -68,6 +71,7 @@ public class ExecutableTableRegistryImpl implements ExecutableTableRegistry {
         this.schemaManager = schemaManager;
         this.replicaService = replicaService;
         this.clockService = clockService;
+        this.scanSplitCount = scanSplitCount;
         this.tableCache = cacheFactory.create(cacheSize);
     }
 
@@ -93,7 +97,7 @@ public class ExecutableTableRegistryImpl implements ExecutableTableRegistry {
         );
 
         InternalTable internalTable = table.internalTable();
-        ScannableTable scannableTable = new ScannableTableImpl(internalTable, converterFactory);
+        ScannableTable scannableTable = new ScannableTableImpl(internalTable, converterFactory, scanSplitCount);
         TableRowConverter rowConverter = converterFactory.create(null);
 
         UpdatableTableImpl updatableTable = new UpdatableTableImpl(
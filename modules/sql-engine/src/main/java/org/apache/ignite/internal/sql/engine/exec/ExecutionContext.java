@@ -45,6 +45,7 @@ import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningColumns;
 import org.apache.ignite.internal.sql.engine.prepare.pruning.PartitionPruningMetadata;
@@ -114,6 +115,10 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
 
     private final @Nullable Long topologyVersion;
 
+    private final QueryMemoryBudget memoryBudget;
+
+    private final ObservedRowCounts observedRowCounts = new ObservedRowCounts();
+
     /**
      * Constructor.
      *
@@ -132,6 +137,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
      * @param clock The clock to use to get the system time.
      * @param username Authenticated user name or {@code null} for unknown user.
      * @param topologyVersion Topology version the query was mapped on.
+     * @param memoryBudget Memory budget of the query on the local node.
      */
     public ExecutionContext(
             SqlExpressionFactory sqlExpressionFactory,
@@ -149,7 +155,8 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
             int inBufSize,
             Clock clock,
             @Nullable String username,
-            @Nullable Long topologyVersion
+            @Nullable Long topologyVersion,
+            QueryMemoryBudget memoryBudget
     ) {
         this.sqlExpressionFactory = sqlExpressionFactory;
         this.executor = executor;
@@ -166,6 +173,7 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         this.inBufSize = inBufSize < 0 ? Commons.IN_BUFFER_SIZE : inBufSize;
         this.currentUser = username;
         this.topologyVersion = topologyVersion;
+        this.memoryBudget = memoryBudget;
 
         assert this.inBufSize > 0 : this.inBufSize;
 
@@ -277,6 +285,20 @@ public class ExecutionContext<RowT> implements SqlEvaluationContext<RowT> {
         return inBufSize;
     }
 
+    /**
+     * Gets memory budget of the query, which buffering execution nodes account materialized rows against.
+     */
+    public QueryMemoryBudget memoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Gets numbers of rows produced by the scans of the fragment and of the fragments it receives rows from.
+     */
+    public ObservedRowCounts observedRowCounts() {
+        return observedRowCounts;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SchemaPlus getRootSchema() {
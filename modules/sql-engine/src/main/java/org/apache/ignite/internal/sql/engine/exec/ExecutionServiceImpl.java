@@ -27,6 +27,9 @@ import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
@@ -88,6 +91,7 @@ import org.apache.ignite.internal.sql.engine.SqlQueryProcessor.PrefetchCallback;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
 import org.apache.ignite.internal.sql.engine.exec.AsyncDataCursor.CancellationReason;
+import org.apache.ignite.internal.sql.engine.exec.QueryResultCache.Lookup;
 import org.apache.ignite.internal.sql.engine.exec.ddl.DdlCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.func.TableFunctionRegistry;
@@ -101,6 +105,8 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.MappedFragments;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingParameters;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingUtils;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
@@ -118,6 +124,7 @@ import org.apache.ignite.internal.sql.engine.prepare.Fragment;
 import org.apache.ignite.internal.sql.engine.prepare.IgniteRelShuttle;
 import org.apache.ignite.internal.sql.engine.prepare.KillPlan;
 import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
 import org.apache.ignite.internal.sql.engine.prepare.QueryPlan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
@@ -157,6 +164,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             .<FragmentCacheKey, IgniteRel>build()
             .asMap();
 
+    /** Fragments which are expected to be cached on remote nodes, thus can be sent without the plan. */
+    private final ConcurrentMap<RemoteFragmentCacheKey, Boolean> remoteFragmentsCache = Caffeine.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .<RemoteFragmentCacheKey, Boolean>build()
+            .asMap();
+
     private final AtomicInteger executionTokenGen = new AtomicInteger();
 
     private final MessageService messageService;
@@ -190,8 +203,14 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
     private final SqlExpressionFactory sqlExpressionFactory;
 
+    private final SpillManager spillManager;
+
     private final SqlPlanToTxSchemaVersionValidator planValidator;
 
+    private final CardinalityFeedbackListener cardinalityFeedbackListener;
+
+    private final QueryResultCache resultCache;
+
     /**
      * Constructor.
      *
@@ -206,8 +225,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
      * @param implementorFactory Relational node implementor factory.
      * @param clockService Clock service.
      * @param killCommandHandler Kill command handler.
+     * @param sqlExpressionFactory Expression factory.
+     * @param spillManager Manager of the memory budgets and spill files of queries.
      * @param shutdownTimeout Shutdown timeout.
      * @param planValidator Validator of the catalog version from the plan relative to the started transaction.
+     * @param cardinalityFeedbackListener Listener of the numbers of rows produced by the scans of completed queries.
+     * @param resultCache Cache of results of read-only queries.
      */
     public ExecutionServiceImpl(
             MessageService messageService,
@@ -224,8 +247,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             ClockService clockService,
             KillCommandHandler killCommandHandler,
             SqlExpressionFactory sqlExpressionFactory,
+            SpillManager spillManager,
             long shutdownTimeout,
-            SqlPlanToTxSchemaVersionValidator planValidator
+            SqlPlanToTxSchemaVersionValidator planValidator,
+            CardinalityFeedbackListener cardinalityFeedbackListener,
+            QueryResultCache resultCache
     ) {
         this.localNode = topSrvc.localMember();
         this.handler = handler;
@@ -241,8 +267,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         this.clockService = clockService;
         this.killCommandHandler = killCommandHandler;
         this.sqlExpressionFactory = sqlExpressionFactory;
+        this.spillManager = spillManager;
         this.shutdownTimeout = shutdownTimeout;
         this.planValidator = planValidator;
+        this.cardinalityFeedbackListener = cardinalityFeedbackListener;
+        this.resultCache = resultCache;
     }
 
     /**
@@ -264,8 +293,15 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
      * @param tableFunctionRegistry Table function registry.
      * @param clockService Clock service.
      * @param killCommandHandler Kill command handler.
+     * @param sqlExpressionFactory Expression factory.
+     * @param spillManager Manager of the memory budgets and spill files of queries.
      * @param shutdownTimeout Shutdown timeout.
      * @param planValidator Validator of the catalog version from the plan relative to the started transaction.
+     * @param cardinalityFeedbackListener Listener of the numbers of rows produced by the scans of completed queries.
+     * @param resultCache Cache of results of read-only queries.
+     * @param localExchange Whether batches sent to fragments executed on the local node are passed without serialization.
+     * @param batchMode Whether scan, filter and project nodes exchange batches of rows.
+     * @param countRows Whether scan nodes count rows to provide the planner with the cardinality feedback.
      * @return An execution service.
      */
     public static <RowT> ExecutionServiceImpl<RowT> create(
@@ -285,8 +321,14 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             ClockService clockService,
             KillCommandHandler killCommandHandler,
             SqlExpressionFactory sqlExpressionFactory,
+            SpillManager spillManager,
             long shutdownTimeout,
-            SqlPlanToTxSchemaVersionValidator planValidator
+            SqlPlanToTxSchemaVersionValidator planValidator,
+            CardinalityFeedbackListener cardinalityFeedbackListener,
+            QueryResultCache resultCache,
+            boolean localExchange,
+            boolean batchMode,
+            boolean countRows
     ) {
         return new ExecutionServiceImpl<>(
                 msgSrvc,
@@ -304,13 +346,19 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                         mailboxRegistry,
                         exchangeSrvc,
                         deps,
-                        tableFunctionRegistry
+                        tableFunctionRegistry,
+                        localExchange,
+                        batchMode,
+                        countRows
                 ),
                 clockService,
                 killCommandHandler,
                 sqlExpressionFactory,
+                spillManager,
                 shutdownTimeout,
-                planValidator
+                planValidator,
+                cardinalityFeedbackListener,
+                resultCache
         );
     }
 
@@ -331,6 +379,43 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
     private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeQuery(
             SqlOperationContext operationContext,
             MultiStepPlan plan
+    ) {
+        if (!resultMayBeCached(operationContext, plan)) {
+            return executeQuery(operationContext, plan, null);
+        }
+
+        Function<@Nullable Lookup, CompletableFuture<AsyncDataCursor<InternalSqlRow>>> execute = lookup -> {
+            List<InternalSqlRow> cachedRows = lookup == null ? null : lookup.rows();
+
+            if (cachedRows != null) {
+                // Neither a transaction is started, nor fragments are sent.
+                return completedFuture(new IteratorToDataCursorAdapter<>(cachedRows.iterator()));
+            }
+
+            return executeQuery(operationContext, plan, lookup);
+        };
+
+        CompletableFuture<@Nullable Lookup> lookupFut = resultCache.lookup(plan, operationContext);
+
+        // Modification counters are collected over the network, do not continue in a network thread.
+        return lookupFut.isDone()
+                ? lookupFut.thenCompose(execute)
+                : lookupFut.thenComposeAsync(execute, taskExecutor);
+    }
+
+    private static boolean resultMayBeCached(SqlOperationContext operationContext, MultiStepPlan plan) {
+        QueryTransactionContext txContext = operationContext.txContext();
+
+        return plan.type() == SqlQueryType.QUERY
+                && txContext != null
+                && txContext.explicitTx() == null
+                && operationContext.retryTx() == null;
+    }
+
+    private CompletableFuture<AsyncDataCursor<InternalSqlRow>> executeQuery(
+            SqlOperationContext operationContext,
+            MultiStepPlan plan,
+            @Nullable Lookup resultLookup
     ) {
         ExecutionId executionid = nextExecutionId(operationContext.queryId());
         DistributedQueryManager queryManager = new DistributedQueryManager(executionid, localNode.name(), true, operationContext);
@@ -344,6 +429,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         QueryTransactionWrapper txWrapper = getOrStartTransaction(operationContext, readOnly);
         InternalTransaction tx = txWrapper.unwrap();
 
+        assert resultLookup == null || tx.readTimestamp() != null : "Result of a read-write transaction may not be cached";
+
         return planValidator.validate(plan, txWrapper)
                 .thenCompose(ignore -> {
                     PrefetchCallback prefetchCallback = queryManager.prefetchCallback;
@@ -364,7 +451,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     CompletableFuture<AsyncDataCursor<InternalSqlRow>> f = queryManager.execute(tx, plan, nodeExclusionFilter)
                             .thenApply(dataCursor -> new TxAwareAsyncCursor<>(
                                     txWrapper,
-                                    dataCursor,
+                                    resultLookup == null ? dataCursor : resultLookup.collect(dataCursor, tx.readTimestamp()),
                                     firstPageReady0,
                                     queryManager::close,
                                     operationContext::notifyError
@@ -429,14 +516,17 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 .build();
     }
 
-    private IgniteRel relationalTreeFromJsonString(int catalogVersion, String jsonFragment) {
+    private @Nullable IgniteRel relationalTree(int catalogVersion, UUID rootId, @Nullable String jsonFragment) {
+        FragmentCacheKey cacheKey = new FragmentCacheKey(catalogVersion, rootId);
+
+        if (jsonFragment == null) {
+            return physNodesCache.get(cacheKey);
+        }
+
         IgniteSchemas schemas = sqlSchemaManager.schemas(catalogVersion);
         SchemaPlus rootSchema = schemas.root();
 
-        return physNodesCache.computeIfAbsent(
-                new FragmentCacheKey(catalogVersion, jsonFragment),
-                key -> fromJson(rootSchema, key.fragmentString)
-        );
+        return physNodesCache.computeIfAbsent(cacheKey, key -> fromJson(rootSchema, jsonFragment));
     }
 
     /** {@inheritDoc} */
@@ -514,7 +604,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 Clock.systemUTC(),
                 operationContext.userName(),
                 // ExecutablePlan use no mapping.
-                null
+                null,
+                // ExecutablePlan has no buffering operators.
+                QueryMemoryBudget.UNLIMITED
         );
 
         QueryTransactionContext txContext = operationContext.txContext();
@@ -656,7 +748,13 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
         DistributedQueryManager dqm = queryManagerMap.get(new ExecutionId(msg.queryId(), msg.executionToken()));
 
-        if (dqm != null) {
+        if (dqm == null) {
+            return;
+        }
+
+        if (msg.unknownRoot()) {
+            dqm.resendFragment(node.name(), msg.fragmentId());
+        } else {
             dqm.acknowledgeFragment(node.name(), msg.fragmentId(), msg.error());
         }
     }
@@ -724,6 +822,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
     @Override
     public void onNodeLeft(LogicalNode leftNode, LogicalTopologySnapshot newTopology) {
         queryManagerMap.values().forEach(qm -> qm.onNodeLeft(leftNode.name(), newTopology.version()));
+
+        remoteFragmentsCache.keySet().removeIf(key -> key.nodeName.equals(leftNode.name()));
     }
 
     /** Returns local fragments for the query with given id. */
@@ -735,19 +835,58 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 .collect(Collectors.toList());
     }
 
+    /** Drops deserialized fragments cached on the local node. */
+    @TestOnly
+    public void clearFragmentsCache() {
+        physNodesCache.clear();
+    }
+
     private void submitFragment(InternalClusterNode initiatorNode, QueryStartRequest msg) {
+        IgniteRel treeRoot;
+
+        try {
+            treeRoot = relationalTree(msg.catalogVersion(), msg.rootId(), msg.root());
+        } catch (Throwable ex) {
+            handleError(ex, initiatorNode.name(), msg);
+
+            return;
+        }
+
+        if (treeRoot == null) {
+            requestRoot(initiatorNode.name(), msg);
+
+            return;
+        }
+
         DistributedQueryManager queryManager = getOrCreateQueryManager(initiatorNode.name(), msg);
 
         queryManager.submitFragment(
                 initiatorNode, 
                 msg.catalogVersion(), 
-                msg.root(), 
+                treeRoot,
                 msg.fragmentDescription(), 
                 msg.txAttributes(),
                 msg.topologyVersion()
         );
     }
 
+    /** Asks the initiator to send the request once again with the plan enclosed, since the plan is not cached on the node. */
+    private void requestRoot(String initiatorNode, QueryStartRequest msg) {
+        messageService.send(
+                initiatorNode,
+                FACTORY.queryStartResponse()
+                        .queryId(msg.queryId())
+                        .executionToken(msg.executionToken())
+                        .fragmentId(msg.fragmentId())
+                        .unknownRoot(true)
+                        .build()
+        ).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                LOG.info("Unable to request fragment plan [queryId={}, fragmentId={}]", ex, msg.queryId(), msg.fragmentId());
+            }
+        });
+    }
+
     private void handleError(Throwable ex, String nodeName, QueryStartRequest msg) {
         DistributedQueryManager queryManager = getOrCreateQueryManager(nodeName, msg);
 
@@ -926,10 +1065,16 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
         private final Map<RemoteFragmentKey, CompletableFuture<Void>> remoteFragmentInitCompletion = new HashMap<>();
 
+        /** Sends the fragment once again with the plan enclosed, if the plan was omitted since it was expected to be cached. */
+        private final Map<RemoteFragmentKey, Runnable> fragmentsToResend = new ConcurrentHashMap<>();
+
         private final Queue<AbstractNode<RowT>> localFragments = new ConcurrentLinkedQueue<>();
 
         private final @Nullable CompletableFuture<AsyncRootNode<RowT, InternalSqlRow>> root;
 
+        /** Memory budget shared by all the fragments of the query executed on the local node. */
+        private final QueryMemoryBudget memoryBudget;
+
         /** Mutex for {@link #remoteFragmentInitCompletion} modifications. */
         private final Object initMux = new Object();
 
@@ -938,6 +1083,15 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         /** On the initiator this field is assigned when mapping completes. */
         private volatile @Nullable Long topologyVersion;
 
+        /** On the initiator this field is assigned when the execution starts. */
+        private volatile @Nullable PlanId planId;
+
+        /** On the initiator this field is assigned when the root fragment is started. */
+        private volatile @Nullable ExecutionContext<RowT> rootContext;
+
+        /** On the initiator this field is assigned when fragments are sent, number of fragment instances by source ID of a scan. */
+        private volatile @Nullable Long2IntMap scanInstances;
+
         private DistributedQueryManager(
                 ExecutionId executionId,
                 String coordinatorNodeName,
@@ -948,6 +1102,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             this.ctx = ctx;
             this.coordinator = coordinator;
             this.coordinatorNodeName = coordinatorNodeName;
+            this.memoryBudget = spillManager.createBudget(executionId.queryId());
 
             if (coordinator) {
                 var root = new CompletableFuture<AsyncRootNode<RowT, InternalSqlRow>>();
@@ -980,17 +1135,42 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
         private CompletableFuture<Void> sendFragment(
                 String targetNodeName,
-                String serialisedFragment,
+                Fragment fragment,
+                FragmentDescription desc,
+                TxAttributes txAttributes,
+                int catalogVersion,
+                long topologyVersion
+        ) {
+            RemoteFragmentCacheKey cacheKey = new RemoteFragmentCacheKey(targetNodeName, catalogVersion, fragment.serializedId());
+
+            if (!remoteFragmentsCache.containsKey(cacheKey)) {
+                return sendFragment(targetNodeName, fragment, desc, txAttributes, catalogVersion, topologyVersion, true);
+            }
+
+            // The node may have evicted the plan, then it requests the fragment once again with the plan enclosed.
+            fragmentsToResend.put(
+                    new RemoteFragmentKey(targetNodeName, fragment.fragmentId()),
+                    () -> sendFragment(targetNodeName, fragment, desc, txAttributes, catalogVersion, topologyVersion, true)
+            );
+
+            return sendFragment(targetNodeName, fragment, desc, txAttributes, catalogVersion, topologyVersion, false);
+        }
+
+        private CompletableFuture<Void> sendFragment(
+                String targetNodeName,
+                Fragment fragment,
                 FragmentDescription desc, 
                 TxAttributes txAttributes, 
                 int catalogVersion,
-                long topologyVersion
+                long topologyVersion,
+                boolean withRoot
         ) {
             QueryStartRequest request = FACTORY.queryStartRequest()
                     .queryId(executionId.queryId())
                     .executionToken(executionId.executionToken())
                     .fragmentId(desc.fragmentId())
-                    .root(serialisedFragment)
+                    .rootId(fragment.serializedId())
+                    .root(withRoot ? fragment.serialized() : null)
                     .fragmentDescription(desc)
                     .parameters(ctx.parameters())
                     .txAttributes(txAttributes)
@@ -1002,7 +1182,41 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     .topologyVersion(topologyVersion)
                     .build();
 
-            return messageService.send(targetNodeName, request);
+            return messageService.send(targetNodeName, request)
+                    .whenComplete((ignored, t) -> {
+                        if (t == null) {
+                            if (withRoot) {
+                                remoteFragmentsCache.put(
+                                        new RemoteFragmentCacheKey(targetNodeName, catalogVersion, fragment.serializedId()),
+                                        Boolean.TRUE
+                                );
+                            }
+
+                            return;
+                        }
+
+                        // if we were unable to send a request, then no need
+                        // to wait for the remote node to complete initialization
+
+                        CompletableFuture<?> completionFuture = remoteFragmentInitCompletion.get(
+                                new RemoteFragmentKey(targetNodeName, fragment.fragmentId())
+                        );
+
+                        if (completionFuture != null) {
+                            completionFuture.complete(null);
+                        }
+                    });
+        }
+
+        private void resendFragment(String nodeName, long fragmentId) {
+            // The node most likely was restarted, so none of the fragments are cached there anymore.
+            remoteFragmentsCache.keySet().removeIf(key -> key.nodeName.equals(nodeName));
+
+            Runnable resend = fragmentsToResend.remove(new RemoteFragmentKey(nodeName, fragmentId));
+
+            if (resend != null) {
+                resend.run();
+            }
         }
 
         private void acknowledgeFragment(String nodeName, long fragmentId, @Nullable Throwable ex) {
@@ -1063,6 +1277,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
                 assert root != null;
 
+                rootContext = ectx;
+
                 root.complete(rootNode);
             }
 
@@ -1104,21 +1320,21 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                     -1,
                     Clock.systemUTC(),
                     ctx.userName(),
-                    topologyVersion
+                    topologyVersion,
+                    memoryBudget
             );
         }
 
         private void submitFragment(
                 InternalClusterNode initiatorNode,
                 int catalogVersion,
-                String fragmentString,
+                IgniteRel treeRoot,
                 FragmentDescription desc,
                 TxAttributes txAttributes,
                 @Nullable Long topologyVersion
         ) {
             try {
                 ExecutionContext<RowT> context = createContext(initiatorNode, desc, txAttributes, topologyVersion);
-                IgniteRel treeRoot = relationalTreeFromJsonString(catalogVersion, fragmentString);
 
                 ResolvedDependencies resolvedDependencies = dependencyResolver.resolveDependencies(List.of(treeRoot), catalogVersion);
                 executeFragment(treeRoot, resolvedDependencies, context)
@@ -1159,6 +1375,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
         ) {
             assert root != null;
 
+            planId = multiStepPlan.id();
+
             boolean mapOnBackups = tx.isReadOnly();
             MappingParameters mappingParameters = MappingParameters.create(ctx.parameters(), mapOnBackups, nodeExclusionFilter);
 
@@ -1177,6 +1395,16 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
             List<MappedFragment> mappedFragments = mappedFragmentList.fragments();
 
+            Long2IntMap scanInstances = new Long2IntOpenHashMap();
+
+            for (MappedFragment mappedFragment : mappedFragments) {
+                for (long sourceId : mappedFragment.fragment().tables().keySet()) {
+                    scanInstances.put(sourceId, mappedFragment.nodes().size());
+                }
+            }
+
+            this.scanInstances = scanInstances;
+
             // we rely on the fact that the very first fragment is a root. Otherwise we need to handle
             // the case when a non-root fragment will fail before the root is processed.
             assert !nullOrEmpty(mappedFragments) && mappedFragments.get(0).fragment().rootFragment()
@@ -1238,29 +1466,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
                 for (String nodeName : mappedFragment.nodes()) {
                     CompletableFuture<Void> resultOfSending =
                             sendFragment(nodeName, 
-                                    fragment.serialized(), 
+                                    fragment,
                                     fragmentDesc, attributes,
                                     multiStepPlan.catalogVersion(),
                                     topologyVersion
                             );
 
-                    resultOfSending.whenComplete((ignored, t) -> {
-                        if (t == null) {
-                            return;
-                        }
-
-                        // if we were unable to send a request, then no need
-                        // to wait for the remote node to complete initialization
-
-                        CompletableFuture<?> completionFuture = remoteFragmentInitCompletion.get(
-                                new RemoteFragmentKey(nodeName, fragment.fragmentId())
-                        );
-
-                        if (completionFuture != null) {
-                            completionFuture.complete(null);
-                        }
-                    });
-
                     resultsOfFragmentSending.add(resultOfSending);
                 }
             }
@@ -1382,6 +1593,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
                 queryManagerMap.remove(executionId);
 
+                memoryBudget.close();
+
                 cancelFut.complete(null);
             }).thenRun(() -> localFragments.forEach(f -> f.context().cancel()));
 
@@ -1481,6 +1694,24 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             return nullCompletedFuture();
         }
 
+        /** Reports the numbers of rows produced by the scans of the query, once all the rows have been fetched. */
+        private void reportRowCounts() {
+            PlanId planId0 = planId;
+            ExecutionContext<RowT> rootContext0 = rootContext;
+            Long2IntMap scanInstances0 = scanInstances;
+
+            if (planId0 == null || rootContext0 == null || scanInstances0 == null) {
+                return;
+            }
+
+            // Scans which have not ended in some instances of their fragments would report a partial number of rows.
+            Long2LongMap rowCounts = rootContext0.observedRowCounts().toMap(scanInstances0);
+
+            if (!rowCounts.isEmpty()) {
+                cardinalityFeedbackListener.onQueryCompleted(planId0, rowCounts);
+            }
+        }
+
         private AsyncCursor<InternalSqlRow> wrapRootNode(AsyncCursor<InternalSqlRow> cursor) {
             return new AsyncCursor<>() {
                 @Override
@@ -1489,6 +1720,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
                     fut.thenAccept(batch -> {
                         if (!batch.hasMore()) {
+                            reportRowCounts();
+
                             DistributedQueryManager.this.close(CancellationReason.CLOSE);
                         }
                     });
@@ -1522,11 +1755,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
 
     private static class FragmentCacheKey {
         private final int catalogVersion;
-        private final String fragmentString;
+        private final UUID rootId;
 
-        FragmentCacheKey(int catalogVersion, String fragmentString) {
+        FragmentCacheKey(int catalogVersion, UUID rootId) {
             this.catalogVersion = catalogVersion;
-            this.fragmentString = fragmentString;
+            this.rootId = rootId;
         }
 
         @Override
@@ -1542,12 +1775,46 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, LogicalTopo
             FragmentCacheKey that = (FragmentCacheKey) o;
 
             return catalogVersion == that.catalogVersion
-                    && fragmentString.equals(that.fragmentString);
+                    && rootId.equals(that.rootId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(catalogVersion, rootId);
+        }
+    }
+
+    private static class RemoteFragmentCacheKey {
+        private final String nodeName;
+        private final int catalogVersion;
+        private final UUID rootId;
+
+        RemoteFragmentCacheKey(String nodeName, int catalogVersion, UUID rootId) {
+            this.nodeName = nodeName;
+            this.catalogVersion = catalogVersion;
+            this.rootId = rootId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            RemoteFragmentCacheKey that = (RemoteFragmentCacheKey) o;
+
+            return catalogVersion == that.catalogVersion
+                    && nodeName.equals(that.nodeName)
+                    && rootId.equals(that.rootId);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(catalogVersion, fragmentString);
+            return Objects.hash(nodeName, catalogVersion, rootId);
         }
     }
 }
@@ -34,6 +34,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -41,14 +42,19 @@ import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.core.Join;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
+import org.apache.calcite.rel.core.Window.Group;
 import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexCall;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexShuttle;
 import org.apache.calcite.rex.RexUtil;
@@ -95,9 +101,12 @@ import org.apache.ignite.internal.sql.engine.exec.rel.ProjectNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.ScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortAggregateNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.SortNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.StorageScanNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.TableFetchNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.UnionAllNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
@@ -119,6 +128,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteSender;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSystemViewScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableFetch;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableFunctionScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableModify;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
@@ -126,6 +136,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteTableSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTrimExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteUnionAll;
 import org.apache.ignite.internal.sql.engine.rel.IgniteValues;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteMapHashAggregate;
@@ -149,6 +160,8 @@ import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMath;
 import org.apache.ignite.internal.sql.engine.util.IgniteResource;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.StructNativeType;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.ErrorGroups.Sql;
 import org.apache.ignite.sql.SqlException;
@@ -185,6 +198,15 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
     private @Nullable List<RexNode> projectionToFuse;
 
+    /** Whether scan, filter and project nodes exchange batches of rows. */
+    private final boolean batchMode;
+
+    /** Whether scan nodes count rows to provide the planner with the cardinality feedback. */
+    private final boolean countRows;
+
+    /** Whether outboxes pass batches for the local node to the inbox as is. */
+    private final boolean localExchange;
+
     /**
      * Constructor.
      *
@@ -193,19 +215,28 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
      * @param exchangeSvc Exchange service.
      * @param resolvedDependencies Dependencies required to execute this query.
      * @param tableFunctionRegistry Table function registry.
+     * @param localExchange Whether outboxes pass batches for the local node to the inbox as is.
+     * @param batchMode Whether scan, filter and project nodes exchange batches of rows.
+     * @param countRows Whether scan nodes count rows to provide the planner with the cardinality feedback.
      */
     public LogicalRelImplementor(
             ExecutionContext<RowT> ctx,
             MailboxRegistry mailboxRegistry,
             ExchangeService exchangeSvc,
             ResolvedDependencies resolvedDependencies,
-            TableFunctionRegistry tableFunctionRegistry
+            TableFunctionRegistry tableFunctionRegistry,
+            boolean localExchange,
+            boolean batchMode,
+            boolean countRows
     ) {
         this.mailboxRegistry = mailboxRegistry;
         this.exchangeSvc = exchangeSvc;
         this.ctx = ctx;
         this.resolvedDependencies = resolvedDependencies;
         this.tableFunctionRegistry = tableFunctionRegistry;
+        this.localExchange = localExchange;
+        this.batchMode = batchMode;
+        this.countRows = countRows;
 
         expressionFactory = ctx.expressionFactory();
         destinationFactory = new DestinationFactory<>(ctx.rowAccessor(), resolvedDependencies);
@@ -223,7 +254,9 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         Destination<RowT> dest = destinationFactory.createDestination(distribution, targetGroup);
 
         // Outbox fragment ID is used as exchange ID as well.
-        Outbox<RowT> outbox = new Outbox<>(ctx, exchangeSvc, mailboxRegistry, rel.exchangeId(), rel.targetFragmentId(), dest);
+        Outbox<RowT> outbox = new Outbox<>(
+                ctx, exchangeSvc, mailboxRegistry, rel.exchangeId(), rel.targetFragmentId(), dest, localExchange
+        );
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -239,8 +272,9 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
     public Node<RowT> visit(IgniteFilter rel) {
         SqlPredicate sqlPredicate = expressionFactory.predicate(rel.getCondition(), rel.getRowType());
         Predicate<RowT> pred = row -> sqlPredicate.test(ctx, row);
+        Consumer<RowBatch<RowT>> batchPred = batchMode ? batch -> sqlPredicate.filter(ctx, batch) : null;
 
-        FilterNode<RowT> node = new FilterNode<>(ctx, pred);
+        FilterNode<RowT> node = new FilterNode<>(ctx, pred, batchPred);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -282,8 +316,9 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         SqlProjection sqlProjection = expressionFactory.project(rel.getProjects(), rel.getInput().getRowType());
         Function<RowT, RowT> prj = row -> sqlProjection.project(ctx, row);
+        Consumer<RowBatch<RowT>> batchPrj = batchMode ? batch -> sqlProjection.project(ctx, batch) : null;
 
-        ProjectNode<RowT> node = new ProjectNode<>(ctx, prj);
+        ProjectNode<RowT> node = new ProjectNode<>(ctx, prj, batchPrj);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -452,17 +487,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RexNode condition = rel.condition();
         List<RexNode> projects = rel.projects();
 
-        Predicate<RowT> filters = null;
-        if (condition != null) {
-            SqlPredicate sqlPredicate = expressionFactory.predicate(condition, rowType);
-            filters = row -> sqlPredicate.test(ctx, row);
-        }
+        SqlPredicate sqlPredicate = condition == null ? null : expressionFactory.predicate(condition, rowType);
+        Predicate<RowT> filters = sqlPredicate == null ? null : row -> sqlPredicate.test(ctx, row);
 
-        Function<RowT, RowT> prj = null;
-        if (projects != null) {
-            SqlProjection sqlProjection = expressionFactory.project(projects, rowType);
-            prj = row -> sqlProjection.project(ctx, row);
-        }
+        SqlProjection sqlProjection = projects == null ? null : expressionFactory.project(projects, rowType);
+        Function<RowT, RowT> prj = sqlProjection == null ? null : row -> sqlProjection.project(ctx, row);
 
         RangeIterable<RowT> ranges = null;
 
@@ -517,7 +546,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
         PartitionProvider<RowT> partitionProvider = ctx.getPartitionProvider(rel.sourceId(), group, tbl);
 
-        return new IndexScanNode<>(
+        IndexScanNode<RowT> node = new IndexScanNode<>(
                 ctx,
                 rowFactory,
                 idx,
@@ -528,8 +557,15 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 ranges,
                 filters,
                 prj,
-                requiredColumns
+                requiredColumns,
+                rel.indexOnly()
         );
+
+        if (countRows) {
+            node.countRows(ctx.observedRowCounts().counter(rel.sourceId()));
+        }
+
+        return withBatchMode(node, sqlPredicate, sqlProjection);
     }
 
     /** {@inheritDoc} */
@@ -546,17 +582,15 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RelDataType rowType = tbl.getRowType(typeFactory, requiredColumns);
 
-        Predicate<RowT> filters = null;
-        if (condition != null) {
-            SqlPredicate sqlPredicate = expressionFactory.predicate(condition, rowType);
-            filters = row -> sqlPredicate.test(ctx, row);
+        if (rel.deferredFields() != null && ctx.txAttributes().readOnly()) {
+            projects = deferFields(projects, rel.deferredFields(), rowType);
         }
 
-        Function<RowT, RowT> prj = null;
-        if (projects != null) {
-            SqlProjection sqlProjection = expressionFactory.project(projects, rowType);
-            prj = row -> sqlProjection.project(ctx, row);
-        }
+        SqlPredicate sqlPredicate = condition == null ? null : expressionFactory.predicate(condition, rowType);
+        Predicate<RowT> filters = sqlPredicate == null ? null : row -> sqlPredicate.test(ctx, row);
+
+        SqlProjection sqlProjection = projects == null ? null : expressionFactory.project(projects, rowType);
+        Function<RowT, RowT> prj = sqlProjection == null ? null : row -> sqlProjection.project(ctx, row);
 
         long sourceId = rel.sourceId();
         ColocationGroup group = ctx.group(sourceId);
@@ -572,7 +606,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         PartitionProvider<RowT> partitionProvider = ctx.getPartitionProvider(rel.sourceId(), group, tbl);
 
-        return new TableScanNode<>(
+        TableScanNode<RowT> node = new TableScanNode<>(
                 ctx,
                 rowFactory,
                 scannableTable,
@@ -581,6 +615,75 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 prj,
                 requiredColumns
         );
+
+        if (countRows) {
+            node.countRows(ctx.observedRowCounts().counter(sourceId));
+        }
+
+        return withBatchMode(node, sqlPredicate, sqlProjection);
+    }
+
+    /**
+     * Replaces the deferred fields of the scan with {@code null}, the values are fetched later by {@link TableFetchNode}.
+     */
+    private List<RexNode> deferFields(@Nullable List<RexNode> projects, ImmutableBitSet deferredFields, RelDataType rowType) {
+        RexBuilder rexBuilder = Commons.rexBuilder();
+        List<RexNode> res = new ArrayList<>();
+
+        if (projects == null) {
+            for (RelDataTypeField field : rowType.getFieldList()) {
+                res.add(new RexLocalRef(field.getIndex(), field.getType()));
+            }
+        } else {
+            res.addAll(projects);
+        }
+
+        for (int field : deferredFields) {
+            res.set(field, rexBuilder.makeNullLiteral(res.get(field).getType()));
+        }
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteTableFetch rel) {
+        if (!ctx.txAttributes().readOnly()) {
+            // The scans below read the deferred fields as is, see visit(IgniteTableScan).
+            return visit(rel.getInput());
+        }
+
+        IgniteTable tbl = rel.getTable().unwrapOrThrow(IgniteTable.class);
+        ScannableTable scannableTable = resolvedDependencies.scannableTable(tbl.id());
+
+        IgniteTypeFactory typeFactory = ctx.getTypeFactory();
+
+        int[] keys = rel.keys().toIntArray();
+        int[] fields = rel.fields().toIntArray();
+        int[] columns = rel.columns().toIntArray();
+
+        StructNativeType inputSchema = convertStructuredType(rel.getInput().getRowType());
+
+        RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(inputSchema);
+        RowFactory<RowT> keyFactory = ctx.rowFactoryFactory().create(TypeUtils.map(inputSchema, keys));
+        RowFactory<RowT> fetchedRowFactory = ctx.rowFactoryFactory().create(
+                convertStructuredType(tbl.getRowType(typeFactory, ImmutableIntList.of(columns)))
+        );
+
+        TableFetchNode<RowT> node = new TableFetchNode<>(
+                ctx,
+                scannableTable,
+                rowFactory,
+                keyFactory,
+                fetchedRowFactory,
+                keys,
+                fields,
+                columns
+        );
+
+        node.register(visit(rel.getInput()));
+
+        return node;
     }
 
     /** {@inheritDoc} */
@@ -599,20 +702,14 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RelDataType rowType = igniteDataSource.getRowType(typeFactory, requiredColumns);
 
-        Predicate<RowT> filters = null;
-        if (condition != null) {
-            SqlPredicate sqlPredicate = expressionFactory.predicate(condition, rowType);
-            filters = row -> sqlPredicate.test(ctx, row);
-        }
+        SqlPredicate sqlPredicate = condition == null ? null : expressionFactory.predicate(condition, rowType);
+        Predicate<RowT> filters = sqlPredicate == null ? null : row -> sqlPredicate.test(ctx, row);
 
-        Function<RowT, RowT> prj = null;
-        if (projects != null) {
-            SqlProjection sqlProjection = expressionFactory.project(projects, rowType);
-            prj = row -> sqlProjection.project(ctx, row);
-        }
+        SqlProjection sqlProjection = projects == null ? null : expressionFactory.project(projects, rowType);
+        Function<RowT, RowT> prj = sqlProjection == null ? null : row -> sqlProjection.project(ctx, row);
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
-        return new DataSourceScanNode<>(
+        DataSourceScanNode<RowT> node = new DataSourceScanNode<>(
                 ctx,
                 rowFactory,
                 schema,
@@ -621,6 +718,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 prj,
                 requiredColumns
         );
+
+        return withBatchMode(node, sqlPredicate, sqlProjection);
     }
 
     /** {@inheritDoc} */
@@ -658,6 +757,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         Node<RowT> input = visit(rel.getInput());
 
+        if (fetch >= 0 && input instanceof StorageScanNode) {
+            // Let the scan stop reading the storage as soon as enough rows are produced.
+            ((StorageScanNode<RowT>) input).limit(IgniteMath.addExact(offset, fetch));
+        }
+
         node.register(input);
 
         return node;
@@ -672,11 +776,13 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         long fetch = rel.fetch == null ? -1 : validateAndGetFetchOffsetParams(rel.fetch, "fetch");
 
         SqlComparator sqlComparator = expressionFactory.comparator(collation);
+        RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getRowType()));
         SortNode<RowT> node = new SortNode<>(
                 ctx,
                 (r1, r2) -> sqlComparator.compare(ctx, r1, r2),
                 offset,
-                fetch
+                fetch,
+                rowFactory
         );
 
         Node<RowT> input = visit(rel.getInput());
@@ -863,8 +969,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory,
+                inputRowFactory);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -891,8 +999,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory,
+                inputRowFactory);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -907,19 +1017,22 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         AggregateType type = AggregateType.REDUCE;
 
         RelDataType rowType = rel.getRowType();
+        RelDataType inputType = rel.getInput().getRowType();
 
         List<AccumulatorWrapper<RowT>> accumulators;
         if (rel.getAggregateCalls().isEmpty()) {
             accumulators = List.of();
         } else {
             accumulators = expressionFactory.<RowT>accumulatorsFactory(
-                    type, rel.getAggregateCalls(), rel.getInput().getRowType()
+                    type, rel.getAggregateCalls(), inputType
             ).get(ctx);
         }
 
         RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+        RowFactory<RowT> inputRowFactory = ctx.rowFactoryFactory().create(convertStructuredType(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accumulators, rowFactory,
+                inputRowFactory);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -1097,6 +1210,70 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         throw new AssertionError(rel.getClass());
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteWindow rel) {
+        Group group = rel.group();
+        RelDataType inputType = rel.getInput().getRowType();
+
+        List<SqlKind> functions = new ArrayList<>(group.aggCalls.size());
+        List<AggregateCall> aggCalls = new ArrayList<>(group.aggCalls.size());
+
+        for (AggregateCall aggCall : group.getAggregateCalls(rel)) {
+            SqlKind kind = aggCall.getAggregation().getKind();
+
+            functions.add(kind);
+
+            if (!WindowNode.isRanking(kind)) {
+                aggCalls.add(aggCall);
+            }
+        }
+
+        List<AccumulatorWrapper<RowT>> accumulators;
+        if (aggCalls.isEmpty()) {
+            accumulators = List.of();
+        } else {
+            accumulators = expressionFactory.<RowT>accumulatorsFactory(
+                    AggregateType.SINGLE, aggCalls, inputType
+            ).get(ctx);
+        }
+
+        Comparator<RowT> partitionComp = null;
+        if (!group.keys.isEmpty()) {
+            SqlComparator comparator = expressionFactory.comparator(TraitUtils.createCollation(group.keys.asList()));
+
+            partitionComp = (r1, r2) -> comparator.compare(ctx, r1, r2);
+        }
+
+        Comparator<RowT> peerComp = null;
+        if (!nullOrEmpty(group.orderKeys.getFieldCollations())) {
+            SqlComparator comparator = expressionFactory.comparator(group.orderKeys);
+
+            peerComp = (r1, r2) -> comparator.compare(ctx, r1, r2);
+        }
+
+        WindowNode.Frame frame = WindowNode.Frame.of(group.isRows, peerComp != null, group.upperBound.isUnbounded());
+
+        RowFactory<RowT> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rel.getRowType()));
+
+        WindowNode<RowT> node = new WindowNode<>(
+                ctx,
+                partitionComp,
+                peerComp,
+                frame,
+                functions,
+                accumulators,
+                inputType.getFieldCount(),
+                rowFactory
+        );
+
+        Node<RowT> input = visit(rel.getInput());
+
+        node.register(input);
+
+        return node;
+    }
+
     private Node<RowT> visit(RelNode rel) {
         return visit((IgniteRel) rel);
     }
@@ -1116,6 +1293,21 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return BinaryTupleSchema.create(elements);
     }
 
+    private Node<RowT> withBatchMode(
+            StorageScanNode<RowT> node,
+            @Nullable SqlPredicate sqlPredicate,
+            @Nullable SqlProjection sqlProjection
+    ) {
+        if (batchMode) {
+            node.enableBatchMode(
+                    sqlPredicate == null ? null : batch -> sqlPredicate.filter(ctx, batch),
+                    sqlProjection == null ? null : batch -> sqlProjection.project(ctx, batch)
+            );
+        }
+
+        return node;
+    }
+
     private static boolean canFuseProjectionInto(RelNode rel) {
         if (rel instanceof Join) {
             Join join = (Join) rel;
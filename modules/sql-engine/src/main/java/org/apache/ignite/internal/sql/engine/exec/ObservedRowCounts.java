@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import it.unimi.dsi.fastutil.longs.Long2IntFunction;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Numbers of rows produced by the scans of a fragment and of the fragments it receives rows from.
+ *
+ * <p>Scan nodes count rows with a {@link Counter} obtained by the source ID of the scan. Once the fragment is drained, the counts
+ * are sent to the parent fragment along with the last batch, thus the counts of the whole query are eventually collected in the
+ * root fragment on the coordinator. Along with the number of rows, the number of fragment instances in which the scan has ended is
+ * passed, so the root takes into account only the scans which have ended in every instance of their fragment.
+ */
+public class ObservedRowCounts {
+    private final Long2ObjectMap<Counter> counters = new Long2ObjectOpenHashMap<>();
+
+    private final Long2LongOpenHashMap receivedRows = new Long2LongOpenHashMap();
+
+    private final Long2IntOpenHashMap receivedInstances = new Long2IntOpenHashMap();
+
+    /**
+     * Returns a counter of rows produced by the scan with the given source ID on the local node.
+     *
+     * @param sourceId Source ID of the scan.
+     * @return Counter of rows.
+     */
+    public synchronized Counter counter(long sourceId) {
+        return counters.computeIfAbsent(sourceId, id -> new Counter());
+    }
+
+    /**
+     * Merges counts received from a child fragment.
+     *
+     * @param counts Triplets of a source ID, a number of rows and a number of fragment instances, as returned by {@link #toArray()}.
+     */
+    public synchronized void merge(long @Nullable [] counts) {
+        if (counts == null) {
+            return;
+        }
+
+        for (int i = 0; i < counts.length; i += 3) {
+            receivedRows.addTo(counts[i], counts[i + 1]);
+            receivedInstances.addTo(counts[i], (int) counts[i + 2]);
+        }
+    }
+
+    /**
+     * Returns the numbers of rows by source ID of the scans which have ended in every instance of their fragment. The number of rows
+     * of a scan which was rewound is averaged over its executions.
+     *
+     * @param expectedInstances Number of instances of the fragment of a scan by source ID of the scan.
+     * @return Numbers of rows by source ID.
+     */
+    public synchronized Long2LongMap toMap(Long2IntFunction expectedInstances) {
+        Long2LongOpenHashMap rows = new Long2LongOpenHashMap();
+        Long2IntOpenHashMap instances = new Long2IntOpenHashMap();
+
+        collect(rows, instances);
+
+        Long2LongOpenHashMap res = new Long2LongOpenHashMap(rows.size());
+
+        for (Long2LongMap.Entry e : rows.long2LongEntrySet()) {
+            long sourceId = e.getLongKey();
+
+            if (instances.get(sourceId) == expectedInstances.get(sourceId)) {
+                res.put(sourceId, e.getLongValue());
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns the numbers of rows packed into an array of triplets of a source ID, a number of rows and a number of fragment
+     * instances the scan has ended in, to be sent to the parent fragment, or {@code null} if nothing has been counted.
+     */
+    public synchronized long @Nullable [] toArray() {
+        Long2LongOpenHashMap rows = new Long2LongOpenHashMap();
+        Long2IntOpenHashMap instances = new Long2IntOpenHashMap();
+
+        collect(rows, instances);
+
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        long[] res = new long[rows.size() * 3];
+        int idx = 0;
+
+        for (Long2LongMap.Entry e : rows.long2LongEntrySet()) {
+            res[idx++] = e.getLongKey();
+            res[idx++] = e.getLongValue();
+            res[idx++] = instances.get(e.getLongKey());
+        }
+
+        return res;
+    }
+
+    /** Collects the received counts along with the counts of the local scans which have ended. */
+    private void collect(Long2LongOpenHashMap rows, Long2IntOpenHashMap instances) {
+        rows.putAll(receivedRows);
+        instances.putAll(receivedInstances);
+
+        for (Long2ObjectMap.Entry<Counter> e : counters.long2ObjectEntrySet()) {
+            Counter counter = e.getValue();
+
+            if (counter.executions > 0) {
+                rows.addTo(e.getLongKey(), counter.rows / counter.executions);
+                instances.addTo(e.getLongKey(), 1);
+            }
+        }
+    }
+
+    /**
+     * Counter of rows produced by a single scan node. The counter is updated by the thread executing the fragment only.
+     */
+    public static final class Counter {
+        private long rows;
+
+        private int executions;
+
+        /** Number of rows pushed to the downstream by the current execution of the scan. */
+        private long current;
+
+        /** Whether the current execution of the scan is cut short, thus its rows are not accounted. */
+        private boolean skipped;
+
+        /** Accounts the given number of rows pushed to the downstream. */
+        public void add(long cnt) {
+            current += cnt;
+        }
+
+        /**
+         * Excludes the current execution of the scan from the counts, the scan is going to end without reading all the rows
+         * of the source, e.g. once a pushed down limit is reached.
+         */
+        public void skip() {
+            skipped = true;
+        }
+
+        /** Accounts the end of the scan. */
+        public void onEnd() {
+            if (!skipped) {
+                rows += current;
+                executions++;
+            }
+
+            reset();
+        }
+
+        /** Drops the rows of the current execution of the scan, the scan is restarted without being ended. */
+        public void reset() {
+            current = 0;
+            skipped = false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.SqlOperationContext;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.util.AsyncCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of results of read-only queries.
+ */
+@FunctionalInterface
+public interface QueryResultCache {
+    /** Cache which never caches anything. */
+    QueryResultCache NOOP = (plan, ctx) -> nullCompletedFuture();
+
+    /**
+     * Looks up the result of the query executed with the given plan in an implicit read-only transaction.
+     *
+     * @param plan Plan of the query.
+     * @param ctx Context of the query.
+     * @return Future of the lookup, or of {@code null} if the result of the query may not be cached.
+     */
+    CompletableFuture<@Nullable Lookup> lookup(MultiStepPlan plan, SqlOperationContext ctx);
+
+    /** Result of a lookup. */
+    interface Lookup {
+        /** Returns the cached result, or {@code null} if there is no valid one. */
+        @Nullable List<InternalSqlRow> rows();
+
+        /**
+         * Wraps the cursor of the executed query to cache the result once the cursor is drained.
+         *
+         * @param cursor Cursor of the query.
+         * @param readTimestamp Timestamp the query reads data at.
+         * @return Cursor returning the same rows.
+         */
+        AsyncCursor<InternalSqlRow> collect(AsyncCursor<InternalSqlRow> cursor, HybridTimestamp readTimestamp);
+    }
+}
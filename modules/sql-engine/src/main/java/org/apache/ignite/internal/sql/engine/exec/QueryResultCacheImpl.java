@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.ignite.internal.hlc.ClockService;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.SqlOperationContext;
+import org.apache.ignite.internal.sql.engine.prepare.MultiStepPlan;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.cache.Cache;
+import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
+import org.apache.ignite.internal.sql.metrics.SqlResultCacheMetricSource;
+import org.apache.ignite.internal.util.AsyncCursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cache of results of deterministic read-only queries.
+ *
+ * <p>A result is cached by the plan of the query, which is shared by all queries having the same normalized text, by the catalog
+ * version, the parameters and the time zone of the query. Along with the result, the modification counters of the partitions of the
+ * tables read by the query are kept, the counters are collected right before the query is executed. A cached result is returned only
+ * if the counters are not changed since, that is no modification has been applied to the tables, and if it is not older than the
+ * configured TTL.
+ *
+ * <p>A read-only transaction reads data at a timestamp lagging behind the current time, thus a query may miss modifications which
+ * have been already counted. To not cache such a stale result, the cache remembers the time since which the same counters have
+ * been observed, and caches a result only if it has been read at a timestamp not earlier than that time. Every modification counted
+ * by then is visible at such a timestamp, while the ones which are not counted change the counters and make the result outdated.
+ *
+ * <p>Only queries reading tables, and neither system views nor non-deterministic or dynamic functions, like {@code RAND} or
+ * {@code CURRENT_TIMESTAMP}, are cached. Results of more than {@link #MAX_ROWS} rows are not cached.
+ */
+public class QueryResultCacheImpl implements QueryResultCache {
+    /** Maximal number of rows of a cached result. */
+    static final int MAX_ROWS = 1_000;
+
+    /** IDs of the tables read by a plan, empty if the result of the plan may not be cached. */
+    private final Cache<PlanId, IntSet> tablesByPlan;
+
+    private final Cache<ResultKey, CachedResult> results;
+
+    /** Counters of the tables read by a query along with the time since which they have been observed. */
+    private final Cache<ResultKey, Observation> observations;
+
+    private final long ttlMillis;
+
+    private final TableModificationCounters modificationCounters;
+
+    private final ClockService clockService;
+
+    private final SqlResultCacheMetricSource metricSource;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheFactory Factory to create caches with.
+     * @param size Maximal number of cached results.
+     * @param ttlMillis Time to live of a cached result in milliseconds.
+     * @param modificationCounters Provider of modification counters of partitions.
+     * @param clockService Clock service.
+     */
+    public QueryResultCacheImpl(
+            CacheFactory cacheFactory,
+            int size,
+            long ttlMillis,
+            TableModificationCounters modificationCounters,
+            ClockService clockService
+    ) {
+        this.tablesByPlan = cacheFactory.create(size);
+        this.results = cacheFactory.create(size);
+        this.observations = cacheFactory.create(size);
+        this.ttlMillis = ttlMillis;
+        this.modificationCounters = modificationCounters;
+        this.clockService = clockService;
+        this.metricSource = new SqlResultCacheMetricSource(results::size);
+    }
+
+    /** Returns the metric source of the cache. */
+    public SqlResultCacheMetricSource metricSource() {
+        return metricSource;
+    }
+
+    @Override
+    public CompletableFuture<@Nullable Lookup> lookup(MultiStepPlan plan, SqlOperationContext ctx) {
+        IntSet tables = tablesByPlan.get(plan.id(), id -> cacheableTables(plan.getRel()));
+
+        if (tables.isEmpty()) {
+            return nullCompletedFuture();
+        }
+
+        return lookup(new ResultKey(plan.id(), plan.catalogVersion(), ctx.parameters(), ctx.timeZoneId()), tables);
+    }
+
+    /**
+     * Looks up the result of a query.
+     *
+     * @param key Key of the result.
+     * @param tables IDs of the tables read by the query.
+     * @return Future of the lookup, or of {@code null} if modifications of the tables can't be tracked.
+     */
+    CompletableFuture<@Nullable Lookup> lookup(ResultKey key, IntSet tables) {
+        return modificationCounters.collect(tables).<Lookup>handle((counters, ex) -> {
+            if (ex != null || counters == null) {
+                // Modifications can't be tracked, thus the result may be neither returned nor cached.
+                return null;
+            }
+
+            HybridTimestamp observedAt = clockService.now();
+            long now = observedAt.getPhysical();
+
+            // Clocks of the nodes the counters are collected from may be ahead of the local one.
+            HybridTimestamp countedBefore = observedAt.addPhysicalTime(clockService.maxClockSkewMillis());
+
+            Observation observation = observations.compute(
+                    key,
+                    (k, v) -> v != null && v.counters.equals(counters) ? v : new Observation(counters, countedBefore)
+            );
+
+            CachedResult cached = results.get(key);
+
+            if (cached != null && (now - cached.createdAt > ttlMillis || !cached.counters.equals(counters))) {
+                CachedResult outdated = cached;
+
+                results.compute(key, (k, v) -> v == outdated ? null : v);
+
+                cached = null;
+            }
+
+            if (cached != null) {
+                metricSource.recordHits(1);
+            } else {
+                metricSource.recordMisses(1);
+            }
+
+            return new LookupImpl(key, observation, now, cached == null ? null : cached.rows);
+        });
+    }
+
+    /**
+     * Returns IDs of the tables read by the given plan, or an empty set if the result of the plan may not be cached.
+     *
+     * @param root Root of the plan.
+     * @return IDs of the tables.
+     */
+    static IntSet cacheableTables(IgniteRel root) {
+        IntSet tables = new IntOpenHashSet();
+
+        return collectTables(root, tables) ? tables : IntSets.EMPTY_SET;
+    }
+
+    private static boolean collectTables(RelNode rel, IntSet tables) {
+        RelOptTable relTable = rel.getTable();
+
+        if (relTable != null) {
+            IgniteTable table = relTable.unwrap(IgniteTable.class);
+
+            if (table == null) {
+                // System view, modifications of which are not tracked.
+                return false;
+            }
+
+            tables.add(table.id());
+        }
+
+        NonDeterministicCallFinder finder = new NonDeterministicCallFinder();
+
+        rel.accept(finder);
+
+        if (finder.found) {
+            return false;
+        }
+
+        for (RelNode input : rel.getInputs()) {
+            if (!collectTables(input, tables)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static class NonDeterministicCallFinder extends RexShuttle {
+        private boolean found;
+
+        @Override
+        public RexNode visitCall(RexCall call) {
+            SqlOperator op = call.getOperator();
+
+            if (!op.isDeterministic() || op.isDynamicFunction()) {
+                found = true;
+            }
+
+            return super.visitCall(call);
+        }
+    }
+
+    private class LookupImpl implements Lookup {
+        private final ResultKey key;
+
+        private final Observation observation;
+
+        private final long createdAt;
+
+        private final @Nullable List<InternalSqlRow> rows;
+
+        LookupImpl(ResultKey key, Observation observation, long createdAt, @Nullable List<InternalSqlRow> rows) {
+            this.key = key;
+            this.observation = observation;
+            this.createdAt = createdAt;
+            this.rows = rows;
+        }
+
+        @Override
+        public @Nullable List<InternalSqlRow> rows() {
+            return rows;
+        }
+
+        @Override
+        public AsyncCursor<InternalSqlRow> collect(AsyncCursor<InternalSqlRow> cursor, HybridTimestamp readTimestamp) {
+            if (readTimestamp.compareTo(observation.since) < 0) {
+                // Modifications counted already may be not visible at the read timestamp.
+                return cursor;
+            }
+
+            return new CollectingCursor(cursor, this);
+        }
+
+        void onDrained(List<InternalSqlRow> rows) {
+            results.put(key, new CachedResult(observation.counters, List.copyOf(rows), createdAt));
+        }
+    }
+
+    /** Passes the rows of the executed query through, and caches them once the cursor is drained. */
+    private static class CollectingCursor implements AsyncCursor<InternalSqlRow> {
+        private final AsyncCursor<InternalSqlRow> delegate;
+
+        private final LookupImpl lookup;
+
+        /** Rows returned so far, {@code null} if there are too many of them. */
+        private @Nullable List<InternalSqlRow> rows = new ArrayList<>();
+
+        CollectingCursor(AsyncCursor<InternalSqlRow> delegate, LookupImpl lookup) {
+            this.delegate = delegate;
+            this.lookup = lookup;
+        }
+
+        @Override
+        public CompletableFuture<BatchedResult<InternalSqlRow>> requestNextAsync(int rows) {
+            return delegate.requestNextAsync(rows).thenApply(batch -> {
+                onBatch(batch);
+
+                return batch;
+            });
+        }
+
+        private synchronized void onBatch(BatchedResult<InternalSqlRow> batch) {
+            if (rows == null) {
+                return;
+            }
+
+            if (rows.size() + batch.items().size() > MAX_ROWS) {
+                rows = null;
+
+                return;
+            }
+
+            rows.addAll(batch.items());
+
+            if (!batch.hasMore()) {
+                lookup.onDrained(rows);
+
+                rows = null;
+            }
+        }
+
+        @Override
+        public CompletableFuture<Void> closeAsync() {
+            return delegate.closeAsync();
+        }
+    }
+
+    private static class Observation {
+        private final Map<UUID, LongList> counters;
+
+        /** Time every modification accounted in the counters has been committed before. */
+        private final HybridTimestamp since;
+
+        Observation(Map<UUID, LongList> counters, HybridTimestamp since) {
+            this.counters = counters;
+            this.since = since;
+        }
+    }
+
+    private static class CachedResult {
+        private final Map<UUID, LongList> counters;
+
+        private final List<InternalSqlRow> rows;
+
+        private final long createdAt;
+
+        CachedResult(Map<UUID, LongList> counters, List<InternalSqlRow> rows, long createdAt) {
+            this.counters = counters;
+            this.rows = rows;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /** Identifies results of the same query. */
+    static class ResultKey {
+        private final PlanId planId;
+
+        private final int catalogVersion;
+
+        private final Object[] params;
+
+        private final ZoneId timeZoneId;
+
+        ResultKey(PlanId planId, int catalogVersion, Object[] params, ZoneId timeZoneId) {
+            this.planId = planId;
+            this.catalogVersion = catalogVersion;
+            this.params = params;
+            this.timeZoneId = timeZoneId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ResultKey that = (ResultKey) o;
+
+            return catalogVersion == that.catalogVersion
+                    && planId.equals(that.planId)
+                    && timeZoneId.equals(that.timeZoneId)
+                    && Arrays.deepEquals(params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            int res = planId.hashCode();
+
+            res = 31 * res + catalogVersion;
+            res = 31 * res + timeZoneId.hashCode();
+            res = 31 * res + Arrays.deepHashCode(params);
+
+            return res;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.metrics.sources.StripedThreadPoolMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlExecutorMetricSource;
 import org.apache.ignite.internal.thread.IgniteThreadFactory;
 import org.apache.ignite.internal.thread.StripedThreadPoolExecutor;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -41,6 +42,10 @@ import org.jetbrains.annotations.TestOnly;
 
 /**
  * Implementation of query task executor for any SQL related execution stage.
+ *
+ * <p>Tasks of a fragment are executed by the stripe the fragment is pinned to, unless work stealing is enabled, in which case a stripe
+ * with nothing to do executes fragments pinned to busy stripes. Either way, tasks of a fragment are executed one by one in the order of
+ * submission.
  */
 public class QueryTaskExecutorImpl implements QueryTaskExecutor {
     private static final IgniteLogger LOG = Loggers.forClass(QueryTaskExecutorImpl.class);
@@ -53,8 +58,14 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     private volatile StripedThreadPoolExecutor stripedThreadPoolExecutor;
 
+    private volatile WorkStealingExecutor workStealingExecutor;
+
     private final int concurrencyLevel;
 
+    private final boolean workStealing;
+
+    private final SqlExecutorMetricSource stripeMetricSource;
+
     private final FailureManager failureManager;
 
     private final MetricManager metricManager;
@@ -72,52 +83,102 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
             int concurrencyLevel,
             FailureManager failureManager,
             MetricManager metricManager
+    ) {
+        this(nodeName, concurrencyLevel, failureManager, metricManager, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Node name.
+     * @param concurrencyLevel concurrency Level for execution thread pool.
+     * @param failureManager Failure processor.
+     * @param metricManager Metric manager.
+     * @param workStealing Whether idle stripes execute fragments pinned to busy ones.
+     */
+    public QueryTaskExecutorImpl(
+            String nodeName,
+            int concurrencyLevel,
+            FailureManager failureManager,
+            MetricManager metricManager,
+            boolean workStealing
     ) {
         this.nodeName = nodeName;
         this.concurrencyLevel = concurrencyLevel;
         this.failureManager = failureManager;
         this.metricManager = metricManager;
+        this.workStealing = workStealing;
+        this.stripeMetricSource = new SqlExecutorMetricSource(concurrencyLevel);
     }
 
     @Override
     public void start() {
-        this.stripedThreadPoolExecutor = new StripedThreadPoolExecutor(
-                concurrencyLevel,
-                IgniteThreadFactory.create(nodeName, "sql-execution-pool", LOG, NOTHING_ALLOWED),
-                false,
-                0
-        );
+        IgniteThreadFactory threadFactory = IgniteThreadFactory.create(nodeName, "sql-execution-pool", LOG, NOTHING_ALLOWED);
+
+        if (workStealing) {
+            this.workStealingExecutor = new WorkStealingExecutor(concurrencyLevel, threadFactory, stripeMetricSource);
 
-        metricManager.registerSource(new StripedThreadPoolMetricSource(QUERY_EXECUTOR_SOURCE_NAME, null, stripedThreadPoolExecutor));
-        metricManager.enable(QUERY_EXECUTOR_SOURCE_NAME);
+            metricManager.registerSource(new WorkStealingExecutorMetricSource(QUERY_EXECUTOR_SOURCE_NAME, workStealingExecutor));
+            metricManager.enable(QUERY_EXECUTOR_SOURCE_NAME);
+        } else {
+            this.stripedThreadPoolExecutor = new StripedThreadPoolExecutor(
+                    concurrencyLevel,
+                    threadFactory,
+                    false,
+                    0
+            );
+
+            metricManager.registerSource(
+                    new StripedThreadPoolMetricSource(QUERY_EXECUTOR_SOURCE_NAME, null, stripedThreadPoolExecutor));
+            metricManager.enable(QUERY_EXECUTOR_SOURCE_NAME);
+        }
+
+        metricManager.registerSource(stripeMetricSource);
+        metricManager.enable(stripeMetricSource);
+    }
+
+    /**
+     * Checks whether the current thread is executing a task of the given fragment which was submitted to a work stealing executor.
+     * Such a fragment may be executed by different threads over time, but never by several threads at once.
+     *
+     * @param qryId Query ID.
+     * @param fragmentId Fragment ID.
+     * @return {@code true} if a task of the fragment is being executed by the current thread.
+     */
+    public static boolean executesFragment(UUID qryId, long fragmentId) {
+        return WorkStealingExecutor.executesFragment(qryId, fragmentId);
     }
 
     @Override
     public void execute(UUID qryId, long fragmentId, Runnable qryTask) {
         int commandIdx = hash(qryId, fragmentId);
-        stripedThreadPoolExecutor.execute(
-                () -> {
-                    try {
-                        qryTask.run();
-                    } catch (Throwable e) {
-                        /*
-                         * No exceptions are rethrown here to preserve the current thread from being destroyed,
-                         * because other queries may be pinned to the current thread id.
-                         * However, any exception here considered as Unexpected and must be processed by FailureHandler.
-                         */
-
-                        String message = String.format(
-                                "Unexpected error during execute fragment %d of query %s",
-                                fragmentId,
-                                qryId);
-
-                        failureManager.process(
-                                new FailureContext(CRITICAL_ERROR, new IgniteException(INTERNAL_ERR, message, e))
-                        );
-                    }
-                },
-                commandIdx
-        );
+
+        Runnable task = () -> {
+            try {
+                qryTask.run();
+            } catch (Throwable e) {
+                /*
+                 * No exceptions are rethrown here to preserve the current thread from being destroyed,
+                 * because other queries may be pinned to the current thread id.
+                 * However, any exception here considered as Unexpected and must be processed by FailureHandler.
+                 */
+
+                String message = String.format(
+                        "Unexpected error during execute fragment %d of query %s",
+                        fragmentId,
+                        qryId);
+
+                failureManager.process(
+                        new FailureContext(CRITICAL_ERROR, new IgniteException(INTERNAL_ERR, message, e))
+                );
+            }
+        };
+
+        if (workStealing) {
+            workStealingExecutor.execute(qryId, fragmentId, commandIdx, task);
+        } else {
+            stripedThreadPoolExecutor.execute(timed(task, commandIdx), commandIdx);
+        }
     }
 
     @Override
@@ -131,7 +192,44 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
 
     @Override
     public CompletableFuture<?> submit(UUID qryId, long fragmentId, Runnable qryTask) {
-        return stripedThreadPoolExecutor.submit(qryTask, hash(qryId, fragmentId));
+        int commandIdx = hash(qryId, fragmentId);
+
+        if (!workStealing) {
+            return stripedThreadPoolExecutor.submit(timed(qryTask, commandIdx), commandIdx);
+        }
+
+        CompletableFuture<Void> fut = new CompletableFuture<>();
+
+        workStealingExecutor.execute(qryId, fragmentId, commandIdx, () -> {
+            try {
+                qryTask.run();
+
+                fut.complete(null);
+            } catch (Throwable e) {
+                fut.completeExceptionally(e);
+            }
+        });
+
+        return fut;
+    }
+
+    /** Wraps a task to record the time it is executed by the stripe for the given index. */
+    private Runnable timed(Runnable task, int idx) {
+        return () -> {
+            if (!stripeMetricSource.enabled()) {
+                task.run();
+
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                task.run();
+            } finally {
+                stripeMetricSource.onTaskExecuted(idx % concurrencyLevel, System.nanoTime() - start, false);
+            }
+        };
     }
 
     private static int hash(UUID qryId, long fragmentId) {
@@ -143,19 +241,32 @@ public class QueryTaskExecutorImpl implements QueryTaskExecutor {
     public void stop() {
         if (stripedThreadPoolExecutor != null) {
             stripedThreadPoolExecutor.shutdownNow();
-
-            metricManager.unregisterSource(QUERY_EXECUTOR_SOURCE_NAME);
+        } else if (workStealingExecutor != null) {
+            workStealingExecutor.shutdownNow();
+        } else {
+            return;
         }
+
+        metricManager.unregisterSource(QUERY_EXECUTOR_SOURCE_NAME);
+        metricManager.unregisterSource(stripeMetricSource);
     }
 
     @Override
     public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        if (workStealing) {
+            return workStealingExecutor.awaitTermination(timeout, unit);
+        }
+
         return stripedThreadPoolExecutor.awaitTermination(timeout, unit);
     }
 
     /** Returns the task queue size used by this executor. */
     @TestOnly
     public int queueSize() {
+        if (workStealing) {
+            return workStealingExecutor.queueSize();
+        }
+
         int totalQueueSize = 0;
 
         for (int i = 0; i < concurrencyLevel; i++) {
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fixed-size batch of rows with a selection vector, the unit of data exchanged by execution nodes in the batch mode.
+ *
+ * <p>Rows of the batch are never moved: filters narrow the selection vector, which holds indexes of the rows still
+ * alive in ascending order, and projections replace the selected rows in place. The batch is owned by the node which
+ * produced it and is reused once a downstream returns from {@code pushBatch}, thus consumers must not keep a reference
+ * to the batch itself, but may keep references to its rows.
+ *
+ * <p>Public methods of the batch are accessed from the generated code, see
+ * {@link org.apache.ignite.internal.sql.engine.exec.exp.SqlPredicate#filter(SqlEvaluationContext, RowBatch)}.
+ */
+public final class RowBatch<RowT> {
+    private final Object[] rows;
+
+    private final int[] selection;
+
+    private int size;
+
+    private int selected;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity Maximal number of rows in the batch.
+     */
+    public RowBatch(int capacity) {
+        assert capacity > 0 : capacity;
+
+        rows = new Object[capacity];
+        selection = new int[capacity];
+    }
+
+    /** Returns the maximal number of rows in the batch. */
+    public int capacity() {
+        return rows.length;
+    }
+
+    /** Returns the number of rows added to the batch. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns {@code true} if no more rows can be added to the batch. */
+    public boolean isFull() {
+        return size == rows.length;
+    }
+
+    /**
+     * Adds a row to the batch. The row is selected.
+     *
+     * @param row Row to add.
+     */
+    public void add(RowT row) {
+        assert selected == size : "Can't add a row to a filtered batch";
+
+        selection[size] = size;
+        rows[size++] = row;
+        selected = size;
+    }
+
+    /** Removes all rows from the batch. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            rows[i] = null;
+        }
+
+        size = 0;
+        selected = 0;
+    }
+
+    /**
+     * Returns the row at the given position of the batch.
+     *
+     * @param idx Index of the row, must be one of the values of the selection vector.
+     */
+    public RowT row(int idx) {
+        return (RowT) rows[idx];
+    }
+
+    /**
+     * Replaces the row at the given position of the batch.
+     *
+     * @param idx Index of the row, must be one of the values of the selection vector.
+     * @param row New row.
+     */
+    public void set(int idx, RowT row) {
+        rows[idx] = row;
+    }
+
+    /** Returns the number of selected rows. */
+    public int selectedCount() {
+        return selected;
+    }
+
+    /**
+     * Returns the selected row.
+     *
+     * @param i Index in the selection vector, between 0 and {@link #selectedCount()} exclusive.
+     */
+    public RowT selectedRow(int i) {
+        assert i < selected : "i=" + i + ", selected=" + selected;
+
+        return (RowT) rows[selection[i]];
+    }
+
+    /**
+     * Returns the selection vector. Only the first {@link #selectedCount()} elements are meaningful. Filters compact
+     * the vector in place and then call {@link #select(int)}.
+     */
+    public int[] selection() {
+        return selection;
+    }
+
+    /**
+     * Sets the number of selected rows after the selection vector has been compacted.
+     *
+     * @param count Number of selected rows, not greater than the current one.
+     */
+    public void select(int count) {
+        assert count >= 0 && count <= selected : "count=" + count + ", selected=" + selected;
+
+        selected = count;
+    }
+
+    /**
+     * Deselects the rows not matching the given predicate.
+     *
+     * @param pred Predicate to test rows with.
+     */
+    public void retainIf(Predicate<RowT> pred) {
+        int cnt = 0;
+
+        for (int i = 0; i < selected; i++) {
+            int idx = selection[i];
+
+            if (pred.test((RowT) rows[idx])) {
+                selection[cnt++] = idx;
+            }
+        }
+
+        selected = cnt;
+    }
+
+    /**
+     * Replaces every selected row with the result of the given function.
+     *
+     * @param fun Function to apply.
+     */
+    public void replaceAll(Function<RowT, RowT> fun) {
+        for (int i = 0; i < selected; i++) {
+            int idx = selection[i];
+
+            rows[idx] = fun.apply((RowT) rows[idx]);
+        }
+    }
+}
@@ -25,6 +25,24 @@ import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
  * Universal accessor for rows. It also has factory methods.
  */
 public interface RowHandler<RowT> extends RowAccessor<RowT> {
+    /**
+     * Reads the specified field of the given row as a {@code long} value without boxing, when the row representation allows it.
+     *
+     * <p>The field must be of an integral type and must not be {@code null}.
+     */
+    default long getLong(int field, RowT row) {
+        return ((Number) get(field, row)).longValue();
+    }
+
+    /**
+     * Reads the specified field of the given row as a {@code double} value without boxing, when the row representation allows it.
+     *
+     * <p>The field must be of a numeric type other than {@code DECIMAL} and must not be {@code null}.
+     */
+    default double getDouble(int field, RowT row) {
+        return ((Number) get(field, row)).doubleValue();
+    }
+
     /**
      * Assembly row representation as BinaryTuple.
      *
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A filter built from the join keys of the build side of a hash join, which is used to drop the rows of the probe side that have
+ * no chance to be matched.
+ *
+ * <p>The filter is a bloom filter over the hash of the join key. If the key consists of a single integral column, the filter
+ * additionally keeps the range of the build side keys. The filter may accept a row that has no match on the build side, but never
+ * rejects a row that has one. Rows with NULL in any of the key columns are rejected, since such rows are never matched.
+ *
+ * <p>The filter is sent through the exchange to the fragments producing the rows of the probe side, thus it can be serialized to
+ * a {@link ByteBuffer}. The buffer layout is as follows: the count of the key columns and their indexes, the count of the hash
+ * functions, the count of the words of the bit set and the words, and, finally, a flag whether the range is present followed by
+ * the lower and the upper bound of the range.
+ */
+public final class RuntimeFilter {
+    /** Maximal number of distinct keys of the build side, the filter is not built for the bigger build sides. */
+    public static final int MAX_KEYS = 1 << 16;
+
+    /** Number of bits of the bloom filter per a key of the build side. Ten bits give about one percent of false positives. */
+    private static final int BITS_PER_KEY = 10;
+
+    private static final int MAX_HASH_FUNCTIONS = 8;
+
+    /** Hash of the key that has NULL in any of the columns. */
+    private static final long NULL_HASH = 0;
+
+    /** Indexes of the key columns in the rows the filter is applied to. */
+    private final int[] keys;
+
+    private final int hashFunctions;
+
+    private final long[] words;
+
+    private final boolean ranged;
+
+    private final long min;
+
+    private final long max;
+
+    private RuntimeFilter(int[] keys, int hashFunctions, long[] words, boolean ranged, long min, long max) {
+        assert Long.bitCount(words.length) == 1 : words.length;
+
+        this.keys = keys;
+        this.hashFunctions = hashFunctions;
+        this.words = words;
+        this.ranged = ranged;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates a builder of the filter.
+     *
+     * @param handler Handler to access the rows of the build side.
+     * @param buildKeys Indexes of the key columns in the rows of the build side.
+     * @param probeKeys Indexes of the key columns in the rows the filter is applied to.
+     * @return Builder of the filter.
+     */
+    public static <RowT> Builder<RowT> builder(RowHandler<RowT> handler, int[] buildKeys, int[] probeKeys) {
+        assert buildKeys.length == probeKeys.length && buildKeys.length > 0;
+
+        return new Builder<>(handler, buildKeys, probeKeys);
+    }
+
+    /**
+     * Returns {@code false} if the given row definitely has no match on the build side.
+     *
+     * @param handler Handler to access the row.
+     * @param row Row to test.
+     */
+    public <RowT> boolean test(RowHandler<RowT> handler, RowT row) {
+        if (ranged) {
+            Object val = handler.get(keys[0], row);
+
+            if (val == null) {
+                return false;
+            }
+
+            long val0 = ((Number) val).longValue();
+
+            if (val0 < min || val0 > max) {
+                return false;
+            }
+        }
+
+        long hash = hash(handler, row, keys);
+
+        if (hash == NULL_HASH) {
+            return false;
+        }
+
+        int mask = (words.length << 6) - 1;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = (h1 + i * h2) & mask;
+
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** Serializes the filter to a buffer. */
+    public ByteBuffer toByteBuffer() {
+        int size = Integer.BYTES * (3 + keys.length) + Long.BYTES * words.length + 1 + 2 * Long.BYTES;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putInt(keys.length);
+
+        for (int key : keys) {
+            buffer.putInt(key);
+        }
+
+        buffer.putInt(hashFunctions);
+        buffer.putInt(words.length);
+
+        for (long word : words) {
+            buffer.putLong(word);
+        }
+
+        buffer.put((byte) (ranged ? 1 : 0));
+        buffer.putLong(min);
+        buffer.putLong(max);
+
+        return buffer.flip();
+    }
+
+    /** Restores the filter from a buffer created with {@link #toByteBuffer()}. */
+    public static RuntimeFilter fromByteBuffer(ByteBuffer buffer) {
+        ByteBuffer buffer0 = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        int[] keys = new int[buffer0.getInt()];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = buffer0.getInt();
+        }
+
+        int hashFunctions = buffer0.getInt();
+        long[] words = new long[buffer0.getInt()];
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer0.getLong();
+        }
+
+        boolean ranged = buffer0.get() != 0;
+        long min = buffer0.getLong();
+        long max = buffer0.getLong();
+
+        return new RuntimeFilter(keys, hashFunctions, words, ranged, min, max);
+    }
+
+    private static <RowT> long hash(RowHandler<RowT> handler, RowT row, int[] keys) {
+        long hash = 1;
+
+        for (int key : keys) {
+            Object val = handler.get(key, row);
+
+            if (val == null) {
+                return NULL_HASH;
+            }
+
+            hash = 31 * hash + val.hashCode();
+        }
+
+        // Spread the bits of the hash code, since it is used to address the bits of the filter.
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        // Zero is reserved for the keys with NULL.
+        return hash == NULL_HASH ? 1 : hash;
+    }
+
+    /** Collects the keys of the build side and creates the filter. */
+    public static final class Builder<RowT> {
+        private final RowHandler<RowT> handler;
+
+        private final int[] buildKeys;
+
+        private final int[] probeKeys;
+
+        private @Nullable LongOpenHashSet hashes = new LongOpenHashSet();
+
+        private boolean ranged;
+
+        private long min = Long.MAX_VALUE;
+
+        private long max = Long.MIN_VALUE;
+
+        private Builder(RowHandler<RowT> handler, int[] buildKeys, int[] probeKeys) {
+            this.handler = handler;
+            this.buildKeys = buildKeys;
+            this.probeKeys = probeKeys;
+
+            ranged = buildKeys.length == 1;
+        }
+
+        /**
+         * Adds the key of the given row of the build side to the filter. Rows with NULL in any of the key columns are ignored.
+         *
+         * @param row Row of the build side.
+         */
+        public void add(RowT row) {
+            if (hashes == null) {
+                return;
+            }
+
+            long hash = hash(handler, row, buildKeys);
+
+            if (hash == NULL_HASH) {
+                return;
+            }
+
+            if (ranged) {
+                Object val = handler.get(buildKeys[0], row);
+
+                if (val instanceof Long || val instanceof Integer || val instanceof Short || val instanceof Byte) {
+                    long val0 = ((Number) val).longValue();
+
+                    min = Math.min(min, val0);
+                    max = Math.max(max, val0);
+                } else {
+                    ranged = false;
+                }
+            }
+
+            if (hashes.add(hash) && hashes.size() > MAX_KEYS) {
+                // Filter would be too big and too inaccurate to be worth sending.
+                hashes = null;
+            }
+        }
+
+        /** Creates the filter, or returns {@code null} if the build side has too many distinct keys. */
+        public @Nullable RuntimeFilter build() {
+            if (hashes == null) {
+                return null;
+            }
+
+            int bits = Math.max(Long.SIZE, Integer.highestOneBit(Math.max(1, hashes.size() * BITS_PER_KEY - 1)) << 1);
+            int hashFunctions = (int) Math.round((double) bits / Math.max(1, hashes.size()) * Math.log(2));
+
+            hashFunctions = Math.max(1, Math.min(MAX_HASH_FUNCTIONS, hashFunctions));
+
+            long[] words = new long[bits >>> 6];
+            int mask = bits - 1;
+
+            for (LongIterator it = hashes.iterator(); it.hasNext(); ) {
+                long hash = it.nextLong();
+                int h1 = (int) hash;
+                int h2 = (int) (hash >>> 32);
+
+                for (int i = 0; i < hashFunctions; i++) {
+                    int bit = (h1 + i * h2) & mask;
+
+                    words[bit >>> 6] |= 1L << bit;
+                }
+            }
+
+            // Empty build side produces the filter rejecting all the rows.
+            boolean ranged0 = ranged && !hashes.isEmpty();
+
+            return new RuntimeFilter(probeKeys, hashFunctions, words, ranged0, min, max);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RuntimeFilter [keys=" + Arrays.toString(keys) + ", bits=" + (words.length << 6)
+                + ", hashFunctions=" + hashFunctions + (ranged ? ", min=" + min + ", max=" + max : "") + ']';
+    }
+}
@@ -23,6 +23,8 @@ import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.apache.ignite.internal.util.TransformingIterator;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -70,6 +72,65 @@ public interface ScannableTable {
             int @Nullable [] requiredColumns
     );
 
+    /**
+     * Performs range scan using the given index, reading the values of the required columns from the index rows if the index
+     * covers all of them. Implementations which can't read the values from the index rows read the table rows instead.
+     *
+     * @param <RowT> A type of row.
+     * @param ctx Execution context.
+     * @param partWithConsistencyToken Partition.
+     * @param rowFactory Row factory.
+     * @param indexId Index id.
+     * @param columns Index columns.
+     * @param cond Index condition.
+     * @param requiredColumns Required columns.
+     * @param indexColumnsMapping Positions of the required columns among the index columns, or {@code null} if the index doesn't
+     *      cover the required columns.
+     * @return A publisher that produces rows.
+     */
+    default <RowT> Publisher<RowT> indexRangeScan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            @Nullable RangeCondition<RowT> cond,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
+    ) {
+        return indexRangeScan(ctx, partWithConsistencyToken, rowFactory, indexId, columns, cond, requiredColumns);
+    }
+
+    /**
+     * Performs scan of several ranges using the given sorted index. The ranges are sorted in the index order and don't overlap, thus
+     * the rows are produced in the index order. Implementations which can't scan several ranges at once scan them one after another.
+     *
+     * @param <RowT> A type of row.
+     * @param ctx Execution context.
+     * @param partWithConsistencyToken Partition.
+     * @param rowFactory Row factory.
+     * @param indexId Index id.
+     * @param columns Index columns.
+     * @param conds Index conditions.
+     * @param requiredColumns Required columns.
+     * @param indexColumnsMapping Positions of the required columns among the index columns, or {@code null} if the index doesn't
+     *      cover the required columns.
+     * @return A publisher that produces rows.
+     */
+    default <RowT> Publisher<RowT> indexMultiRangeScan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            List<RangeCondition<RowT>> conds,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
+    ) {
+        return SubscriptionUtils.concat(new TransformingIterator<>(conds.iterator(), cond -> indexRangeScan(
+                ctx, partWithConsistencyToken, rowFactory, indexId, columns, cond, requiredColumns, indexColumnsMapping)));
+    }
+
     /**
      * Performs a lookup scan using the given index.
      *
@@ -93,6 +154,35 @@ public interface ScannableTable {
             int @Nullable [] requiredColumns
     );
 
+    /**
+     * Performs a lookup scan using the given index, reading the values of the required columns from the index rows if the index
+     * covers all of them. Implementations which can't read the values from the index rows read the table rows instead.
+     *
+     * @param <RowT> A type of row.
+     * @param ctx Execution context.
+     * @param partWithConsistencyToken Partition.
+     * @param rowFactory Row factory.
+     * @param indexId Index id.
+     * @param columns Index columns.
+     * @param key A key to lookup.
+     * @param requiredColumns Required columns.
+     * @param indexColumnsMapping Positions of the required columns among the index columns, or {@code null} if the index doesn't
+     *      cover the required columns.
+     * @return A publisher that produces rows.
+     */
+    default <RowT> Publisher<RowT> indexLookup(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            RowT key,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
+    ) {
+        return indexLookup(ctx, partWithConsistencyToken, rowFactory, indexId, columns, key, requiredColumns);
+    }
+
     /**
      * Performs a lookup by primary index.
      *
@@ -116,6 +206,26 @@ public interface ScannableTable {
             int @Nullable [] requiredColumns
     );
 
+    /**
+     * Performs a batched lookup by primary index within a read-only transaction.
+     *
+     * <p>Unlike {@link #primaryKeyLookup}, the lookup requires attributes of the transaction only, thus it may be
+     * performed on any node. Keys of the same partition are looked up with a single request.
+     *
+     * @param <RowT> A type of row.
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param keys Keys to lookup.
+     * @param requiredColumns Required columns.
+     * @return A future representing rows in the order of the given keys, {@code null} for the keys which are not found.
+     */
+    <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            List<RowT> keys,
+            int @Nullable [] requiredColumns
+    );
+
     /** Returns the number of rows in this table. */
     CompletableFuture<Long> estimatedSize();
 }
@@ -23,7 +23,9 @@ import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATE
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -34,11 +36,14 @@ import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.ProjectedTuple;
 import org.apache.ignite.internal.table.IndexScanCriteria;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.OperationContext;
 import org.apache.ignite.internal.table.TxContext;
 import org.apache.ignite.internal.tx.InternalTransaction;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
 import org.jetbrains.annotations.Nullable;
 
@@ -51,10 +56,26 @@ public class ScannableTableImpl implements ScannableTable {
 
     private final TableRowConverterFactory converterFactory;
 
+    /** Maximal number of row ID ranges a partition is split into by a table scan of a read-only query. */
+    private final int splitCnt;
+
     /** Constructor. */
     public ScannableTableImpl(InternalTable internalTable, TableRowConverterFactory converterFactory) {
+        this(internalTable, converterFactory, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param internalTable Internal table.
+     * @param converterFactory Factory of converters of the table rows.
+     * @param splitCnt Maximal number of row ID ranges a partition is split into by a table scan of a read-only query, values less
+     *      than two disable the splitting.
+     */
+    public ScannableTableImpl(InternalTable internalTable, TableRowConverterFactory converterFactory, int splitCnt) {
         this.internalTable = internalTable;
         this.converterFactory = converterFactory;
+        this.splitCnt = splitCnt;
     }
 
     /** {@inheritDoc} */
@@ -65,17 +86,50 @@ public class ScannableTableImpl implements ScannableTable {
 
         int partId = partWithConsistencyToken.partId();
 
-        Publisher<BinaryRow> pub = internalTable.scan(
-                partId,
-                ctx.localNode(),
-                OperationContext.create(txContext)
-        );
+        Publisher<BinaryRow> pub;
+
+        if (txContext.isReadOnly() && splitCnt > 1) {
+            // Bounds of the ranges are computed by the primary replica, thus every range is read against the same split.
+            pub = SubscriptionUtils.fromFuture(internalTable.rowIdSplitPoints(partId, splitCnt)
+                    .thenApply(points -> rangeScan(ctx, partId, points, txContext)));
+        } else {
+            pub = internalTable.scan(
+                    partId,
+                    ctx.localNode(),
+                    OperationContext.create(txContext)
+            );
+        }
 
         TableRowConverter rowConverter = converterFactory.create(requiredColumns, partId);
 
         return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
     }
 
+    /**
+     * Scans row ID ranges of a partition concurrently, the rows are emitted in the order they are received.
+     *
+     * @param points Row IDs splitting the partition into ranges, see {@link InternalTable#rowIdSplitPoints(int, int)}.
+     */
+    private Publisher<BinaryRow> rangeScan(ExecutionContext<?> ctx, int partId, List<UUID> points, TxContext txContext) {
+        if (points.isEmpty()) {
+            return internalTable.scan(partId, ctx.localNode(), OperationContext.create(txContext));
+        }
+
+        List<Publisher<? extends BinaryRow>> ranges = new ArrayList<>(points.size() + 1);
+
+        UUID lower = null;
+
+        for (UUID upper : points) {
+            ranges.add(internalTable.scan(partId, ctx.localNode(), lower, upper, OperationContext.create(txContext)));
+
+            lower = upper;
+        }
+
+        ranges.add(internalTable.scan(partId, ctx.localNode(), lower, null, OperationContext.create(txContext)));
+
+        return SubscriptionUtils.merge(Commons.IO_BATCH_SIZE, ranges);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> Publisher<RowT> indexRangeScan(
@@ -86,41 +140,78 @@ public class ScannableTableImpl implements ScannableTable {
             List<String> columns,
             @Nullable RangeCondition<RowT> cond,
             int @Nullable [] requiredColumns
+    ) {
+        return indexRangeScan(ctx, partWithConsistencyToken, rowFactory, indexId, columns, cond, requiredColumns, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> Publisher<RowT> indexRangeScan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            @Nullable RangeCondition<RowT> cond,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
     ) {
         TxContext txContext = transactionalContextFrom(ctx.txAttributes(), partWithConsistencyToken.enlistmentConsistencyToken());
 
+        return indexScan(ctx, partWithConsistencyToken.partId(), txContext, rowFactory, indexId, columns.size(),
+                rangeCriteria(columns.size(), ctx.rowAccessor(), cond), requiredColumns, indexColumnsMapping);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> Publisher<RowT> indexMultiRangeScan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            List<RangeCondition<RowT>> conds,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
+    ) {
+        TxContext txContext = transactionalContextFrom(ctx.txAttributes(), partWithConsistencyToken.enlistmentConsistencyToken());
+
+        // Read-write transactions take range locks per range, thus the ranges are scanned one by one.
+        if (!txContext.isReadOnly()) {
+            return ScannableTable.super.indexMultiRangeScan(ctx, partWithConsistencyToken, rowFactory, indexId, columns, conds,
+                    requiredColumns, indexColumnsMapping);
+        }
+
         RowHandler<RowT> handler = ctx.rowAccessor();
 
-        BinaryTuplePrefix lower;
-        BinaryTuplePrefix upper;
+        List<IndexScanCriteria.Range> ranges = new ArrayList<>(conds.size());
 
-        int flags = 0;
+        for (RangeCondition<RowT> cond : conds) {
+            ranges.add(rangeCriteria(columns.size(), handler, cond));
+        }
 
-        if (cond == null) {
-            flags = LESS_OR_EQUAL | GREATER_OR_EQUAL;
-            lower = null;
-            upper = null;
-        } else {
-            lower = toBinaryTuplePrefix(columns.size(), handler, cond.lower());
-            upper = toBinaryTuplePrefix(columns.size(), handler, cond.upper());
+        return indexScan(ctx, partWithConsistencyToken.partId(), txContext, rowFactory, indexId, columns.size(),
+                IndexScanCriteria.ranges(ranges), requiredColumns, indexColumnsMapping);
+    }
 
-            flags |= (cond.lowerInclude()) ? GREATER_OR_EQUAL : GREATER;
-            flags |= (cond.upperInclude()) ? LESS_OR_EQUAL : LESS;
+    private static <RowT> IndexScanCriteria.Range rangeCriteria(
+            int columnsCount,
+            RowHandler<RowT> handler,
+            @Nullable RangeCondition<RowT> cond
+    ) {
+        if (cond == null) {
+            return IndexScanCriteria.range(null, null, LESS_OR_EQUAL | GREATER_OR_EQUAL);
         }
 
-        int partId = partWithConsistencyToken.partId();
+        BinaryTuplePrefix lower = toBinaryTuplePrefix(columnsCount, handler, cond.lower());
+        BinaryTuplePrefix upper = toBinaryTuplePrefix(columnsCount, handler, cond.upper());
 
-        Publisher<BinaryRow> pub = internalTable.scan(
-                partId,
-                ctx.localNode(),
-                indexId,
-                IndexScanCriteria.range(lower, upper, flags),
-                OperationContext.create(txContext)
-        );
+        int flags = 0;
 
-        TableRowConverter rowConverter = converterFactory.create(requiredColumns, partId);
+        flags |= (cond.lowerInclude()) ? GREATER_OR_EQUAL : GREATER;
+        flags |= (cond.upperInclude()) ? LESS_OR_EQUAL : LESS;
 
-        return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
+        return IndexScanCriteria.range(lower, upper, flags);
     }
 
     /** {@inheritDoc} */
@@ -133,6 +224,21 @@ public class ScannableTableImpl implements ScannableTable {
             List<String> columns,
             RowT key,
             int @Nullable [] requiredColumns
+    ) {
+        return indexLookup(ctx, partWithConsistencyToken, rowFactory, indexId, columns, key, requiredColumns, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <RowT> Publisher<RowT> indexLookup(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            List<String> columns,
+            RowT key,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
     ) {
         TxContext txContext = transactionalContextFrom(ctx.txAttributes(), partWithConsistencyToken.enlistmentConsistencyToken());
 
@@ -143,15 +249,32 @@ public class ScannableTableImpl implements ScannableTable {
         assert keyTuple.elementCount() == columns.size()
                 : format("Key should contain exactly {} fields, but was {}", columns.size(), handler.toString(key));
 
-        int partId = partWithConsistencyToken.partId();
+        return indexScan(ctx, partWithConsistencyToken.partId(), txContext, rowFactory, indexId, columns.size(),
+                IndexScanCriteria.lookup(keyTuple), requiredColumns, indexColumnsMapping);
+    }
 
-        Publisher<BinaryRow> pub = internalTable.scan(
-                partId,
-                ctx.localNode(),
-                indexId,
-                IndexScanCriteria.lookup(keyTuple),
-                OperationContext.create(txContext)
-        );
+    private <RowT> Publisher<RowT> indexScan(
+            ExecutionContext<RowT> ctx,
+            int partId,
+            TxContext txContext,
+            RowFactory<RowT> rowFactory,
+            int indexId,
+            int indexColumnsCount,
+            IndexScanCriteria criteria,
+            int @Nullable [] requiredColumns,
+            int @Nullable [] indexColumnsMapping
+    ) {
+        OperationContext operationContext = OperationContext.create(txContext);
+
+        // Read-write transactions lock the table rows anyway, thus the values are taken from the table rows.
+        if (indexColumnsMapping != null && txContext.isReadOnly()) {
+            Publisher<BinaryRow> pub = internalTable.indexOnlyScan(partId, ctx.localNode(), indexId, criteria, operationContext);
+
+            return new TransformingPublisher<>(pub, item -> rowFactory.create(
+                    new ProjectedTuple(new BinaryTuple(indexColumnsCount, item.tupleSlice()), indexColumnsMapping)));
+        }
+
+        Publisher<BinaryRow> pub = internalTable.scan(partId, ctx.localNode(), indexId, criteria, operationContext);
 
         TableRowConverter rowConverter = converterFactory.create(requiredColumns, partId);
 
@@ -182,6 +305,38 @@ public class ScannableTableImpl implements ScannableTable {
                 });
     }
 
+    @Override
+    public <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            List<RowT> keys,
+            int @Nullable [] requiredColumns
+    ) {
+        TxAttributes txAttributes = ctx.txAttributes();
+        HybridTimestamp readTime = txAttributes.time();
+
+        assert txAttributes.readOnly() && readTime != null : "Batched lookup is supported in read-only transactions only";
+
+        TableRowConverter converter = converterFactory.create(requiredColumns);
+
+        List<BinaryRowEx> keyRows = new ArrayList<>(keys.size());
+
+        for (RowT key : keys) {
+            keyRows.add(converter.toKeyRow(ctx, key));
+        }
+
+        return internalTable.getAll(keyRows, readTime, txAttributes.id(), txAttributes.coordinatorId(), null)
+                .thenApply(tableRows -> {
+                    List<@Nullable RowT> res = new ArrayList<>(tableRows.size());
+
+                    for (BinaryRow tableRow : tableRows) {
+                        res.add(tableRow == null ? null : converter.toRow(ctx, tableRow, rowFactory));
+                    }
+
+                    return res;
+                });
+    }
+
     @Override
     public CompletableFuture<Long> estimatedSize() {
         return internalTable.estimatedSize();
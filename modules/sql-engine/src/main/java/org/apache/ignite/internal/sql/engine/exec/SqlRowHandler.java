@@ -80,6 +80,18 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
         return row.isNull(field);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long getLong(int field, RowWrapper row) {
+        return row.getLong(field);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getDouble(int field, RowWrapper row) {
+        return row.getDouble(field);
+    }
+
     @Override
     public int columnsCount(RowWrapper row) {
         return row.columnsCount();
@@ -169,6 +181,14 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
         abstract boolean isNull(int field);
 
         abstract BinaryTuple toBinaryTuple();
+
+        long getLong(int field) {
+            return ((Number) get(field)).longValue();
+        }
+
+        double getDouble(int field) {
+            return ((Number) get(field)).doubleValue();
+        }
     }
 
     /**
@@ -376,6 +396,26 @@ public class SqlRowHandler implements RowHandler<RowWrapper>, RowFactoryFactory<
             return tuple.hasNullValue(field);
         }
 
+        @Override
+        long getLong(int field) {
+            switch (rowType.fields().get(field).type().spec()) {
+                case INT8: return tuple.byteValue(field);
+                case INT16: return tuple.shortValue(field);
+                case INT32: return tuple.intValue(field);
+                case INT64: return tuple.longValue(field);
+                default: return super.getLong(field);
+            }
+        }
+
+        @Override
+        double getDouble(int field) {
+            switch (rowType.fields().get(field).type().spec()) {
+                case FLOAT: return tuple.floatValue(field);
+                case DOUBLE: return tuple.doubleValue(field);
+                default: return super.getDouble(field);
+            }
+        }
+
         @Override
         BinaryTuple toBinaryTuple() {
             if (tuple instanceof BinaryTuple) {
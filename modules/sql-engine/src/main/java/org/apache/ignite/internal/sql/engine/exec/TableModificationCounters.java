@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides modification counters of the partitions of tables across the cluster.
+ */
+@FunctionalInterface
+public interface TableModificationCounters {
+    /**
+     * Collects modification counters of the partitions of the given tables from every node of the cluster. Counters collected later
+     * are equal to the ones collected earlier only if no modification has been applied to the partitions in between.
+     *
+     * @param tableIds IDs of the tables.
+     * @return Future of the counters by ID of the node, or of {@code null} if the counters of some node are unavailable.
+     */
+    CompletableFuture<@Nullable Map<UUID, LongList>> collect(IntSet tableIds);
+}
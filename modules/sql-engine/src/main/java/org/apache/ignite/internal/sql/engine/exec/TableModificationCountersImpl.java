@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static java.util.concurrent.CompletableFuture.allOf;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.cluster.management.topology.api.LogicalNode;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.table.message.GetModificationCountersRequest;
+import org.apache.ignite.internal.table.message.GetModificationCountersResponse;
+import org.apache.ignite.internal.table.message.TableMessagesFactory;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects modification counters of partitions by requesting every node of the logical topology.
+ */
+public class TableModificationCountersImpl implements TableModificationCounters {
+    private static final IgniteLogger LOG = Loggers.forClass(TableModificationCountersImpl.class);
+
+    private static final TableMessagesFactory TABLE_MESSAGES_FACTORY = new TableMessagesFactory();
+
+    private static final long REQUEST_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    private final Supplier<Set<LogicalNode>> clusterNodes;
+
+    private final MessagingService messagingService;
+
+    /** Constructor. */
+    public TableModificationCountersImpl(Supplier<Set<LogicalNode>> clusterNodes, MessagingService messagingService) {
+        this.clusterNodes = clusterNodes;
+        this.messagingService = messagingService;
+    }
+
+    @Override
+    public CompletableFuture<@Nullable Map<UUID, LongList>> collect(IntSet tableIds) {
+        GetModificationCountersRequest request = TABLE_MESSAGES_FACTORY.getModificationCountersRequest()
+                .tables(List.copyOf(tableIds))
+                .build();
+
+        Set<LogicalNode> nodes = clusterNodes.get();
+        List<UUID> nodeIds = new ArrayList<>(nodes.size());
+        List<CompletableFuture<NetworkMessage>> responses = new ArrayList<>(nodes.size());
+
+        for (LogicalNode node : nodes) {
+            nodeIds.add(node.id());
+            responses.add(messagingService.invoke(node, request, REQUEST_TIMEOUT_MILLIS));
+        }
+
+        return allOf(responses.toArray(CompletableFuture[]::new))
+                .handle((ignored, ex) -> {
+                    if (ex != null) {
+                        LOG.debug("Failed to collect modification counters [tables={}].", ex, tableIds);
+
+                        return null;
+                    }
+
+                    Map<UUID, LongList> res = new HashMap<>(nodeIds.size() * 2);
+
+                    for (int i = 0; i < nodeIds.size(); i++) {
+                        GetModificationCountersResponse response = (GetModificationCountersResponse) responses.get(i).join();
+
+                        res.put(nodeIds.get(i), LongArrayList.wrap(response.counters()));
+                    }
+
+                    return res;
+                });
+    }
+}
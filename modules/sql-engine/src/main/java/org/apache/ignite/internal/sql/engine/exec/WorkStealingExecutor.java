@@ -0,0 +1,392 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.sql.metrics.SqlExecutorMetricSource;
+
+/**
+ * Striped executor of query tasks, which lets idle stripes steal fragments from busy ones.
+ *
+ * <p>Tasks of a fragment are put into the mailbox of the fragment, and the mailbox is scheduled to the stripe the fragment is
+ * pinned to. A stripe executes a single task of a mailbox at a time, a morsel, and puts the mailbox back to the tail of its queue
+ * if there are more tasks, thus a heavy fragment does not hold the stripe. A stripe which has nothing to do takes a mailbox from
+ * the queue of another stripe. A mailbox is either queued or being executed by a single stripe, thus tasks of a fragment are
+ * executed one by one in the order of submission, although not necessarily by the same thread.
+ */
+class WorkStealingExecutor {
+    private static final IgniteLogger LOG = Loggers.forClass(WorkStealingExecutor.class);
+
+    /** Fragment which task is being executed by the current thread. */
+    private static final ThreadLocal<FragmentKey> CURRENT_FRAGMENT = new ThreadLocal<>();
+
+    private final Stripe[] stripes;
+
+    private final ConcurrentMap<FragmentKey, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final SqlExecutorMetricSource metricSource;
+
+    /** Number of stripes which are parked or about to park. */
+    private final AtomicInteger idleStripes = new AtomicInteger();
+
+    private volatile boolean stopped;
+
+    /**
+     * Constructor.
+     *
+     * @param concurrencyLevel Number of stripes.
+     * @param threadFactory Factory of stripe threads.
+     * @param metricSource Metric source to record executed tasks to.
+     */
+    WorkStealingExecutor(int concurrencyLevel, ThreadFactory threadFactory, SqlExecutorMetricSource metricSource) {
+        this.metricSource = metricSource;
+
+        stripes = new Stripe[concurrencyLevel];
+
+        for (int i = 0; i < concurrencyLevel; i++) {
+            stripes[i] = new Stripe(i);
+            stripes[i].thread = threadFactory.newThread(stripes[i]);
+        }
+
+        for (Stripe stripe : stripes) {
+            stripe.thread.start();
+        }
+    }
+
+    /**
+     * Checks whether the current thread is executing a task of the given fragment.
+     *
+     * @param qryId Query ID.
+     * @param fragmentId Fragment ID.
+     * @return {@code true} if a task of the fragment is being executed by the current thread.
+     */
+    static boolean executesFragment(UUID qryId, long fragmentId) {
+        FragmentKey key = CURRENT_FRAGMENT.get();
+
+        return key != null && key.fragmentId == fragmentId && key.qryId.equals(qryId);
+    }
+
+    /**
+     * Executes a task of a fragment. The task must not throw.
+     *
+     * @param qryId Query ID.
+     * @param fragmentId Fragment ID.
+     * @param idx Index of the stripe the fragment is pinned to.
+     * @param task Task to execute.
+     */
+    void execute(UUID qryId, long fragmentId, int idx, Runnable task) {
+        FragmentKey key = new FragmentKey(qryId, fragmentId);
+
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(key, k -> new Mailbox(k, idx % stripes.length));
+            boolean schedule;
+
+            synchronized (mailbox) {
+                if (mailbox.removed) {
+                    // Drained concurrently, retry with a new one.
+                    continue;
+                }
+
+                mailbox.tasks.add(task);
+
+                schedule = !mailbox.scheduled;
+                mailbox.scheduled = true;
+            }
+
+            if (schedule) {
+                schedule(stripes[mailbox.home], mailbox);
+            }
+
+            return;
+        }
+    }
+
+    /** Returns the number of tasks waiting for execution. */
+    int queueSize() {
+        int size = 0;
+
+        for (Mailbox mailbox : mailboxes.values()) {
+            synchronized (mailbox) {
+                size += mailbox.tasks.size();
+            }
+        }
+
+        return size;
+    }
+
+    /** Returns the number of stripes. */
+    int concurrencyLevel() {
+        return stripes.length;
+    }
+
+    /** Returns the number of tasks of the mailboxes queued to the stripe with the given index. */
+    int stripeQueueSize(int idx) {
+        int size = 0;
+
+        for (Mailbox mailbox : stripes[idx].queue) {
+            synchronized (mailbox) {
+                size += mailbox.tasks.size();
+            }
+        }
+
+        return size;
+    }
+
+    /** Returns {@code 1} if the stripe with the given index is executing a task, {@code 0} otherwise. */
+    int stripeActiveCount(int idx) {
+        return stripes[idx].active ? 1 : 0;
+    }
+
+    /** Returns the number of tasks executed by the stripe with the given index. */
+    long stripeCompletedTaskCount(int idx) {
+        return stripes[idx].completedTasks.get();
+    }
+
+    /** Stops the stripes, the tasks being executed are interrupted and the queued ones are discarded. */
+    void shutdownNow() {
+        stopped = true;
+
+        for (Stripe stripe : stripes) {
+            stripe.thread.interrupt();
+        }
+    }
+
+    /**
+     * Waits for the stripes to stop after {@link #shutdownNow()}.
+     *
+     * @return {@code true} if all the stripes have stopped, {@code false} if the timeout elapsed.
+     */
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        for (Stripe stripe : stripes) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+            if (remaining > 0) {
+                stripe.thread.join(remaining);
+            }
+
+            if (stripe.thread.isAlive()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void schedule(Stripe stripe, Mailbox mailbox) {
+        stripe.queue.addLast(mailbox);
+
+        if (stripe.parked) {
+            LockSupport.unpark(stripe.thread);
+        } else if (idleStripes.get() > 0) {
+            // The stripe is busy, let an idle one steal the mailbox.
+            for (Stripe other : stripes) {
+                if (other.parked) {
+                    LockSupport.unpark(other.thread);
+
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean hasQueuedMailboxes() {
+        for (Stripe stripe : stripes) {
+            if (!stripe.queue.isEmpty()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static final class FragmentKey {
+        private final UUID qryId;
+
+        private final long fragmentId;
+
+        FragmentKey(UUID qryId, long fragmentId) {
+            this.qryId = qryId;
+            this.fragmentId = fragmentId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            FragmentKey that = (FragmentKey) o;
+
+            return fragmentId == that.fragmentId && qryId.equals(that.qryId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(qryId, fragmentId);
+        }
+    }
+
+    /** Tasks of a fragment. Guarded by the monitor of the mailbox. */
+    private static final class Mailbox {
+        private final FragmentKey key;
+
+        /** Index of the stripe the fragment is pinned to. */
+        private final int home;
+
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+        /** Whether the mailbox is queued or being executed. */
+        private boolean scheduled;
+
+        /** Whether the mailbox has been drained and removed from the map of mailboxes. */
+        private boolean removed;
+
+        Mailbox(FragmentKey key, int home) {
+            this.key = key;
+            this.home = home;
+        }
+    }
+
+    private final class Stripe implements Runnable {
+        private final int idx;
+
+        private final ConcurrentLinkedDeque<Mailbox> queue = new ConcurrentLinkedDeque<>();
+
+        private Thread thread;
+
+        private volatile boolean parked;
+
+        /** Whether the stripe is executing a task. */
+        private volatile boolean active;
+
+        private final AtomicLong completedTasks = new AtomicLong();
+
+        Stripe(int idx) {
+            this.idx = idx;
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                // Clear the interruption left by a task, the stop is signalled by the flag.
+                Thread.interrupted();
+
+                Mailbox mailbox = queue.pollFirst();
+
+                if (mailbox == null) {
+                    mailbox = steal();
+                }
+
+                if (mailbox != null) {
+                    runMorsel(mailbox);
+
+                    continue;
+                }
+
+                idleStripes.incrementAndGet();
+                parked = true;
+
+                // Re-check after the flag is published, so a mailbox scheduled concurrently is not missed.
+                if (!hasQueuedMailboxes() && !stopped) {
+                    LockSupport.park(this);
+                }
+
+                parked = false;
+                idleStripes.decrementAndGet();
+            }
+        }
+
+        private Mailbox steal() {
+            for (int i = 1; i < stripes.length; i++) {
+                Mailbox mailbox = stripes[(idx + i) % stripes.length].queue.pollFirst();
+
+                if (mailbox != null) {
+                    return mailbox;
+                }
+            }
+
+            return null;
+        }
+
+        private void runMorsel(Mailbox mailbox) {
+            Runnable task;
+
+            synchronized (mailbox) {
+                task = mailbox.tasks.poll();
+            }
+
+            assert task != null;
+
+            boolean recordMetrics = metricSource.enabled();
+            long start = recordMetrics ? System.nanoTime() : 0;
+
+            CURRENT_FRAGMENT.set(mailbox.key);
+            active = true;
+
+            try {
+                task.run();
+            } catch (Throwable e) {
+                LOG.error("Unexpected error during execution of a query task", e);
+            } finally {
+                active = false;
+                CURRENT_FRAGMENT.remove();
+            }
+
+            completedTasks.incrementAndGet();
+
+            if (recordMetrics) {
+                metricSource.onTaskExecuted(idx, System.nanoTime() - start, mailbox.home != idx);
+            }
+
+            boolean reschedule;
+
+            synchronized (mailbox) {
+                reschedule = !mailbox.tasks.isEmpty();
+
+                if (!reschedule) {
+                    mailbox.scheduled = false;
+                    mailbox.removed = true;
+
+                    mailboxes.remove(mailbox.key, mailbox);
+                }
+            }
+
+            if (reschedule) {
+                // The fragment stays on the stripe which executes it, so the data it works with remains warm.
+                schedule(this, mailbox);
+            }
+        }
+    }
+}
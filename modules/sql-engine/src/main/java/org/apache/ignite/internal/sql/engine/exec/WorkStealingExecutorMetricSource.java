@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.metrics.sources.ThreadPoolMetricSource.THREAD_POOLS_GROUP_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.IntGauge;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source for monitoring of {@link WorkStealingExecutor}. Provides the same metrics as the source of a striped thread pool,
+ * except the ones describing the sizing of a stripe, since every stripe is a single thread.
+ */
+class WorkStealingExecutorMetricSource extends AbstractMetricSource<WorkStealingExecutorMetricSource.Holder> {
+    private final WorkStealingExecutor exec;
+
+    /**
+     * Constructor.
+     *
+     * @param name Metric source name.
+     * @param exec Executor to monitor.
+     */
+    WorkStealingExecutorMetricSource(String name, WorkStealingExecutor exec) {
+        super(name, null, THREAD_POOLS_GROUP_NAME);
+
+        this.exec = exec;
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder class. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final List<Metric> executorMetrics;
+
+        Holder() {
+            int concurrencyLevel = exec.concurrencyLevel();
+
+            executorMetrics = new ArrayList<>(concurrencyLevel * 4 + 1);
+
+            executorMetrics.add(new IntGauge(
+                    "ConcurrencyLevel",
+                    "Concurrency level of the striped thread pool executor.",
+                    exec::concurrencyLevel
+            ));
+
+            for (int i = 0; i < concurrencyLevel; i++) {
+                int idx = i;
+
+                String stripeName = "stripe." + i + '.';
+
+                executorMetrics.add(new IntGauge(
+                        stripeName + "ActiveCount",
+                        "Approximate number of threads that are actively executing tasks.",
+                        () -> exec.stripeActiveCount(idx)
+                ));
+
+                executorMetrics.add(new LongGauge(
+                        stripeName + "CompletedTaskCount",
+                        "Approximate total number of tasks that have completed execution.",
+                        () -> exec.stripeCompletedTaskCount(idx)
+                ));
+
+                executorMetrics.add(new LongGauge(
+                        stripeName + "TaskCount",
+                        "Approximate total number of tasks that have been scheduled for execution.",
+                        () -> exec.stripeCompletedTaskCount(idx) + exec.stripeActiveCount(idx) + exec.stripeQueueSize(idx)
+                ));
+
+                executorMetrics.add(new IntGauge(
+                        stripeName + "QueueSize",
+                        "Current size of the execution queue.",
+                        () -> exec.stripeQueueSize(idx)
+                ));
+            }
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return executorMetrics;
+        }
+    }
+}
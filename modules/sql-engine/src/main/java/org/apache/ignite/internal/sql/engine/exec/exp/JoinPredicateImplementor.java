@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.sql.engine.util.Commons.cast;
 
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.function.Function;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.function.Function1;
@@ -40,7 +41,6 @@ import org.apache.calcite.rex.RexProgramBuilder;
 import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator.InputGetter;
-import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMethod;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 
@@ -73,13 +73,14 @@ class JoinPredicateImplementor {
      * @see SqlJoinPredicate
      */
     SqlJoinPredicate implement(RexNode predicateExpression, RelDataType type, int firstRowSize) {
-        String digest = digest(SqlJoinPredicate.class, List.of(predicateExpression), type, "firstRowSize=" + firstRowSize);
-        Cache<String, SqlJoinPredicate> cache = cast(this.cache);
+        LiftedLiterals lifted = LiftedLiterals.lift(List.of(predicateExpression), typeFactory);
+        String digest = digest(SqlJoinPredicate.class, lifted.nodes(), type, "firstRowSize=" + firstRowSize);
+        Cache<String, Function<Object[], SqlJoinPredicate>> cache = cast(this.cache);
 
-        return cache.get(digest, ignored -> implementInternal(predicateExpression, type, firstRowSize));
+        return cache.get(digest, ignored -> implementInternal(lifted.nodes().get(0), type, firstRowSize)).apply(lifted.values());
     }
 
-    private SqlJoinPredicate implementInternal(RexNode predicateExpression, RelDataType type, int firstRowSize) {
+    private Function<Object[], SqlJoinPredicate> implementInternal(RexNode predicateExpression, RelDataType type, int firstRowSize) {
         RexProgramBuilder programBuilder = new RexProgramBuilder(type, rexBuilder);
 
         programBuilder.addCondition(predicateExpression);
@@ -116,10 +117,6 @@ class JoinPredicateImplementor {
                 Modifier.PUBLIC, boolean.class, "test", params, methodBody
         );
 
-        Class<SqlJoinPredicate> clazz = cast(SqlJoinPredicate.class);
-
-        String body = Expressions.toString(List.of(declaration), "\n", false);
-
-        return Commons.compile(clazz, body);
+        return LiftedLiterals.compile(SqlJoinPredicate.class, List.of(declaration));
     }
 }
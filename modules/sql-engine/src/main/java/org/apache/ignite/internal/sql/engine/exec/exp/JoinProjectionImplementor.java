@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.sql.engine.util.TypeUtils.structuredTyp
 
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.function.Function;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.function.Function1;
@@ -43,7 +44,6 @@ import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory.RowBuilder;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator.InputGetter;
-import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMethod;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.type.StructNativeType;
@@ -77,17 +77,19 @@ class JoinProjectionImplementor {
      * @see SqlJoinProjection
      */
     SqlJoinProjection implement(List<RexNode> projections, RelDataType type, int firstRowSize) {
-        String digest = digest(SqlJoinProjection.class, projections, type, "firstRowSize=" + firstRowSize);
-        Cache<String, SqlJoinProjection> cache = cast(this.cache);
+        LiftedLiterals lifted = LiftedLiterals.lift(projections, typeFactory);
+        String digest = digest(SqlJoinProjection.class, lifted.nodes(), type, "firstRowSize=" + firstRowSize);
+        Cache<String, Function<Object[], SqlJoinProjection>> cache = cast(this.cache);
 
         return cache.get(digest, key -> {
-            SqlJoinProjectionExt projectionExt = implementInternal(projections, type, firstRowSize);
+            Function<Object[], SqlJoinProjectionExt> projectionExt = implementInternal(lifted.nodes(), type, firstRowSize);
+            StructNativeType rowType = structuredTypeFromRelTypeList(RexUtil.types(projections));
 
-            return new SqlJoinProjectionImpl(projectionExt, structuredTypeFromRelTypeList(RexUtil.types(projections)));
-        });
+            return values -> new SqlJoinProjectionImpl(projectionExt.apply(values), rowType);
+        }).apply(lifted.values());
     }
 
-    private SqlJoinProjectionExt implementInternal(List<RexNode> projections, RelDataType type, int firstRowSize) {
+    private Function<Object[], SqlJoinProjectionExt> implementInternal(List<RexNode> projections, RelDataType type, int firstRowSize) {
         RexProgramBuilder programBuilder = new RexProgramBuilder(type, rexBuilder);
 
         for (RexNode node : projections) {
@@ -131,11 +133,7 @@ class JoinProjectionImplementor {
                 Modifier.PUBLIC, void.class, "project", params, methodBody
         );
 
-        Class<SqlJoinProjectionExt> clazz = cast(SqlJoinProjectionExt.class);
-
-        String body = Expressions.toString(List.of(declaration), "\n", false);
-
-        return Commons.compile(clazz, body);
+        return LiftedLiterals.compile(SqlJoinProjectionExt.class, List.of(declaration));
     }
 
     /** Internal interface of this implementor. Need to be public due to visibility for compiler. */
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.calcite.adapter.java.JavaTypeFactory;
+import org.apache.calcite.linq4j.tree.Expression;
+import org.apache.calcite.linq4j.tree.Expressions;
+import org.apache.calcite.linq4j.tree.MemberDeclaration;
+import org.apache.calcite.linq4j.tree.ParameterExpression;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.sql.type.SqlTypeUtil;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.Primitives;
+import org.apache.ignite.internal.sql.engine.util.RexUtils;
+import org.apache.ignite.internal.sql.engine.util.RexUtils.FaultyContext;
+
+/**
+ * Literals lifted out of expressions before compilation.
+ *
+ * <p>Numeric and character literals are replaced with placeholders, thus expressions which differ only in such literals have the
+ * same digest and share a single compiled class. The class accepts the values of the literals as an argument of the constructor,
+ * and every placeholder is translated into an access to the corresponding element of the array. A placeholder is a dynamic
+ * parameter with a negative index, so it never clashes with the parameters of the query.
+ */
+final class LiftedLiterals {
+    private static final String CLASS_NAME = "LiftedExpression";
+
+    /** Field of the compiled class holding the values of the lifted literals. */
+    private static final ParameterExpression VALUES = Expressions.parameter(Object[].class, "lits");
+
+    private static final String CLASS_PROLOGUE = "private final Object[] " + VALUES.name + ";\n"
+            + "public " + CLASS_NAME + "(Object[] " + VALUES.name + ") { this." + VALUES.name + " = " + VALUES.name + "; }\n";
+
+    private final List<RexNode> nodes;
+
+    private final Object[] values;
+
+    private LiftedLiterals(List<RexNode> nodes, Object[] values) {
+        this.nodes = nodes;
+        this.values = values;
+    }
+
+    /** Returns the expressions with literals replaced with placeholders. */
+    List<RexNode> nodes() {
+        return nodes;
+    }
+
+    /** Returns the values of the lifted literals to pass to the factory returned by {@link #compile(Class, List)}. */
+    Object[] values() {
+        return values;
+    }
+
+    /**
+     * Lifts literals out of the given expressions.
+     *
+     * @param nodes Expressions to lift literals out of.
+     * @param typeFactory Type factory to derive java types of the literals with.
+     * @return Expressions with placeholders and the values of the lifted literals.
+     */
+    static LiftedLiterals lift(List<RexNode> nodes, JavaTypeFactory typeFactory) {
+        List<Object> values = new ArrayList<>();
+
+        RexShuttle shuttle = new RexShuttle() {
+            @Override
+            public RexNode visitLiteral(RexLiteral literal) {
+                if (!liftable(literal)) {
+                    return literal;
+                }
+
+                RelDataType type = literal.getType();
+                Class<?> javaType = Primitives.wrap((Class<?>) typeFactory.getJavaClass(type));
+
+                values.add(RexUtils.literalValue(FaultyContext.INSTANCE, literal, javaType));
+
+                return new RexDynamicParam(type, -values.size());
+            }
+
+            @Override
+            public RexNode visitCall(RexCall call) {
+                if ((call.getKind() == SqlKind.CAST || call.getKind() == SqlKind.SAFE_CAST) && call.getOperands().size() > 1) {
+                    // The format of a cast must remain a literal.
+                    RexNode operand = call.getOperands().get(0);
+                    RexNode newOperand = operand.accept(this);
+
+                    if (newOperand == operand) {
+                        return call;
+                    }
+
+                    List<RexNode> operands = new ArrayList<>(call.getOperands());
+
+                    operands.set(0, newOperand);
+
+                    return call.clone(call.getType(), operands);
+                }
+
+                return super.visitCall(call);
+            }
+        };
+
+        List<RexNode> res = new ArrayList<>(nodes.size());
+
+        for (RexNode node : nodes) {
+            res.add(node == null ? null : node.accept(shuttle));
+        }
+
+        return new LiftedLiterals(res, values.toArray());
+    }
+
+    /**
+     * Compiles a class consisting of the given methods which accepts the values of the lifted literals.
+     *
+     * @param interfaceType Interface the class implements.
+     * @param methods Methods of the class.
+     * @return Factory creating an instance of the class by the values of the lifted literals, see {@link #values()}.
+     */
+    static <T> Function<Object[], T> compile(Class<T> interfaceType, List<? extends MemberDeclaration> methods) {
+        String body = CLASS_PROLOGUE + Expressions.toString(methods, "\n", false);
+
+        return Commons.compileFactory(interfaceType, CLASS_NAME, body);
+    }
+
+    /** Returns {@code true} if the parameter is a placeholder of a lifted literal. */
+    static boolean isLifted(RexDynamicParam param) {
+        return param.getIndex() < 0;
+    }
+
+    /** Returns an expression reading the value of the lifted literal replaced by the given placeholder. */
+    static Expression value(RexDynamicParam param) {
+        assert isLifted(param) : param;
+
+        return Expressions.arrayIndex(VALUES, Expressions.constant(-param.getIndex() - 1));
+    }
+
+    private static boolean liftable(RexLiteral literal) {
+        if (literal.isNull() || literal.getTypeName() == SqlTypeName.SARG || literal.getTypeName() == SqlTypeName.SYMBOL) {
+            return false;
+        }
+
+        RelDataType type = literal.getType();
+
+        return SqlTypeUtil.isNumeric(type) || SqlTypeUtil.isCharacter(type);
+    }
+}
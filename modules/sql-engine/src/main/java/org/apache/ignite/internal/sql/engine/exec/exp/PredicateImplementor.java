@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.sql.engine.util.Commons.cast;
 
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.function.Function;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.function.Function1;
@@ -38,9 +39,9 @@ import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexProgram;
 import org.apache.calcite.rex.RexProgramBuilder;
 import org.apache.calcite.sql.validate.SqlConformance;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator.InputGetter;
-import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMethod;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 
@@ -72,22 +73,31 @@ class PredicateImplementor {
      * @see SqlPredicate
      */
     SqlPredicate implement(RexNode predicateExpression, RelDataType type) {
-        String digest = digest(SqlPredicate.class, List.of(predicateExpression), type);
-        Cache<String, SqlPredicate> cache = cast(this.cache);
+        LiftedLiterals lifted = LiftedLiterals.lift(List.of(predicateExpression), typeFactory);
+        String digest = digest(SqlPredicate.class, lifted.nodes(), type);
+        Cache<String, Function<Object[], SqlPredicate>> cache = cast(this.cache);
 
-        return cache.get(digest, ignored -> implementInternal(predicateExpression, type));
+        return cache.get(digest, ignored -> implementInternal(lifted.nodes().get(0), type)).apply(lifted.values());
     }
 
-    private SqlPredicate implementInternal(RexNode predicateExpression, RelDataType type) {
+    private Function<Object[], SqlPredicate> implementInternal(RexNode predicateExpression, RelDataType type) {
         RexProgramBuilder programBuilder = new RexProgramBuilder(type, rexBuilder);
 
         programBuilder.addCondition(predicateExpression);
 
         RexProgram program = programBuilder.getProgram();
 
+        ParameterExpression ctx = Expressions.parameter(SqlEvaluationContext.class, "ctx");
+
+        MethodDeclaration test = implementTest(program, predicateExpression, type, ctx);
+        MethodDeclaration filter = implementFilter(program, predicateExpression, type, ctx);
+
+        return LiftedLiterals.compile(SqlPredicate.class, List.of(test, filter));
+    }
+
+    private MethodDeclaration implementTest(RexProgram program, RexNode predicateExpression, RelDataType type, ParameterExpression ctx) {
         BlockBuilder builder = new BlockBuilder();
 
-        ParameterExpression ctx = Expressions.parameter(SqlEvaluationContext.class, "ctx");
         ParameterExpression row = Expressions.parameter(Object.class, "row");
 
         builder.add(
@@ -108,16 +118,67 @@ class PredicateImplementor {
 
         BlockStatement methodBody = wrapWithConversionToEvaluationException(builder.toBlock());
 
-        List<ParameterExpression> params = List.of(ctx, row);
+        return Expressions.methodDecl(
+                Modifier.PUBLIC, boolean.class, "test", List.of(ctx, row), methodBody
+        );
+    }
 
-        MethodDeclaration declaration = Expressions.methodDecl(
-                Modifier.PUBLIC, boolean.class, "test", params, methodBody
+    /**
+     * Implements {@link SqlPredicate#filter(SqlEvaluationContext, RowBatch)} as a loop over the selection vector of the batch with
+     * the condition inlined into the body of the loop. Loop-invariant expressions (the row handler, correlated variables) are
+     * evaluated once per batch.
+     */
+    private MethodDeclaration implementFilter(RexProgram program, RexNode predicateExpression, RelDataType type, ParameterExpression ctx) {
+        BlockBuilder builder = new BlockBuilder();
+
+        ParameterExpression batch = Expressions.parameter(RowBatch.class, "batch");
+
+        builder.add(
+                Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx, DataContext.class))
         );
 
-        Class<SqlPredicate> clazz = cast(SqlPredicate.class);
+        Expression rowHandler = builder.append("hnd", Expressions.call(ctx, IgniteMethod.CONTEXT_ROW_HANDLER.method()));
 
-        String body = Expressions.toString(List.of(declaration), "\n", false);
+        Function1<String, InputGetter> correlates = new CorrelatesBuilder(builder, ctx, rowHandler)
+                .build(List.of(predicateExpression));
+
+        Expression selection = builder.append("sel", Expressions.call(batch, IgniteMethod.ROW_BATCH_SELECTION.method()));
+        Expression selected = builder.append("n", Expressions.call(batch, IgniteMethod.ROW_BATCH_SELECTED_COUNT.method()));
+
+        ParameterExpression cnt = Expressions.parameter(int.class, builder.newName("cnt"));
+        ParameterExpression i = Expressions.parameter(int.class, builder.newName("i"));
+
+        builder.add(Expressions.declare(0, cnt, Expressions.constant(0)));
+
+        BlockBuilder loop = new BlockBuilder(true, builder);
+
+        Expression idx = loop.append("idx", Expressions.arrayIndex(selection, i));
+        Expression row = loop.append("row",
+                Expressions.convert_(Expressions.call(batch, IgniteMethod.ROW_BATCH_ROW.method(), idx), Object.class));
+
+        InputGetter inputGetter = new FieldGetter(rowHandler, row, type);
 
-        return Commons.compile(clazz, body);
+        Expression condition = RexToLixTranslator.translateCondition(program, typeFactory, loop,
+                inputGetter, correlates, conformance, ctx);
+
+        loop.add(Expressions.ifThen(condition, Expressions.block(
+                Expressions.statement(Expressions.assign(Expressions.arrayIndex(selection, cnt), idx)),
+                Expressions.statement(Expressions.preIncrementAssign(cnt))
+        )));
+
+        builder.add(Expressions.for_(
+                Expressions.declare(0, i, Expressions.constant(0)),
+                Expressions.lessThan(i, selected),
+                Expressions.preIncrementAssign(i),
+                loop.toBlock()
+        ));
+
+        builder.add(Expressions.statement(Expressions.call(batch, IgniteMethod.ROW_BATCH_SELECT.method(), cnt)));
+
+        BlockStatement methodBody = wrapWithConversionToEvaluationException(builder.toBlock());
+
+        return Expressions.methodDecl(
+                Modifier.PUBLIC, void.class, "filter", List.of(ctx, batch), methodBody
+        );
     }
 }
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.sql.engine.util.TypeUtils.structuredTyp
 
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.function.Function;
 import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.function.Function1;
@@ -41,9 +42,9 @@ import org.apache.calcite.rex.RexProgramBuilder;
 import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.validate.SqlConformance;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory.RowBuilder;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator.InputGetter;
-import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMethod;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.type.StructNativeType;
@@ -76,17 +77,19 @@ class ProjectionImplementor {
      * @see SqlProjection
      */
     public SqlProjection implement(List<RexNode> projections, RelDataType inputRowType) {
-        String digest = digest(SqlProjection.class, projections, inputRowType);
-        Cache<String, SqlProjection> cache = cast(this.cache);
+        LiftedLiterals lifted = LiftedLiterals.lift(projections, typeFactory);
+        String digest = digest(SqlProjection.class, lifted.nodes(), inputRowType);
+        Cache<String, Function<Object[], SqlProjection>> cache = cast(this.cache);
 
         return cache.get(digest, key -> {
-            SqlProjectionExt projectionExt = implementInternal(projections, inputRowType);
+            Function<Object[], SqlProjectionExt> projectionExt = implementInternal(lifted.nodes(), inputRowType);
+            StructNativeType rowType = structuredTypeFromRelTypeList(RexUtil.types(projections));
 
-            return new SqlProjectionImpl(projectionExt, structuredTypeFromRelTypeList(RexUtil.types(projections)));
-        });
+            return values -> new SqlProjectionImpl(projectionExt.apply(values), rowType);
+        }).apply(lifted.values());
     }
 
-    private SqlProjectionExt implementInternal(List<RexNode> projections, RelDataType inputRowType) {
+    private Function<Object[], SqlProjectionExt> implementInternal(List<RexNode> projections, RelDataType inputRowType) {
         RexProgramBuilder programBuilder = new RexProgramBuilder(inputRowType, rexBuilder);
 
         for (RexNode node : projections) {
@@ -97,11 +100,25 @@ class ProjectionImplementor {
 
         RexProgram program = programBuilder.getProgram();
 
+        ParameterExpression ctx = Expressions.parameter(SqlEvaluationContext.class, "ctx");
+        ParameterExpression outBuilder = Expressions.parameter(RowBuilder.class, "outBuilder");
+
+        MethodDeclaration project = implementProject(program, projections, inputRowType, ctx, outBuilder);
+        MethodDeclaration projectBatch = implementProjectBatch(program, projections, inputRowType, ctx, outBuilder);
+
+        return LiftedLiterals.compile(SqlProjectionExt.class, List.of(project, projectBatch));
+    }
+
+    private MethodDeclaration implementProject(
+            RexProgram program,
+            List<RexNode> projections,
+            RelDataType inputRowType,
+            ParameterExpression ctx,
+            ParameterExpression outBuilder
+    ) {
         BlockBuilder builder = new BlockBuilder();
 
-        ParameterExpression ctx = Expressions.parameter(SqlEvaluationContext.class, "ctx");
         ParameterExpression row = Expressions.parameter(Object.class, "row");
-        ParameterExpression outBuilder = Expressions.parameter(RowBuilder.class, "outBuilder");
 
         builder.add(
                 Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx, DataContext.class))
@@ -123,23 +140,78 @@ class ProjectionImplementor {
 
         BlockStatement methodBody = wrapWithConversionToEvaluationException(builder.toBlock());
 
-        List<ParameterExpression> params = List.of(ctx, row, outBuilder);
+        return Expressions.methodDecl(
+                Modifier.PUBLIC, void.class, "project", List.of(ctx, row, outBuilder), methodBody
+        );
+    }
+
+    /**
+     * Implements {@link SqlProjectionExt#projectBatch(SqlEvaluationContext, RowBatch, RowBuilder)} as a loop over the selection
+     * vector of the batch with the projections inlined into the body of the loop.
+     */
+    private MethodDeclaration implementProjectBatch(
+            RexProgram program,
+            List<RexNode> projections,
+            RelDataType inputRowType,
+            ParameterExpression ctx,
+            ParameterExpression outBuilder
+    ) {
+        BlockBuilder builder = new BlockBuilder();
+
+        ParameterExpression batch = Expressions.parameter(RowBatch.class, "batch");
 
-        MethodDeclaration declaration = Expressions.methodDecl(
-                Modifier.PUBLIC, void.class, "project", params, methodBody
+        builder.add(
+                Expressions.declare(Modifier.FINAL, DataContext.ROOT, Expressions.convert_(ctx, DataContext.class))
         );
 
-        Class<SqlProjectionExt> clazz = cast(SqlProjectionExt.class);
+        Expression rowHandler = builder.append("hnd", Expressions.call(ctx, IgniteMethod.CONTEXT_ROW_HANDLER.method()));
+
+        Function1<String, InputGetter> correlates = new CorrelatesBuilder(builder, ctx, rowHandler).build(projections);
 
-        String body = Expressions.toString(List.of(declaration), "\n", false);
+        Expression selection = builder.append("sel", Expressions.call(batch, IgniteMethod.ROW_BATCH_SELECTION.method()));
+        Expression selected = builder.append("n", Expressions.call(batch, IgniteMethod.ROW_BATCH_SELECTED_COUNT.method()));
 
-        return Commons.compile(clazz, body);
+        ParameterExpression i = Expressions.parameter(int.class, builder.newName("i"));
+
+        BlockBuilder loop = new BlockBuilder(true, builder);
+
+        Expression idx = loop.append("idx", Expressions.arrayIndex(selection, i));
+        Expression row = loop.append("row",
+                Expressions.convert_(Expressions.call(batch, IgniteMethod.ROW_BATCH_ROW.method(), idx), Object.class));
+
+        InputGetter inputGetter = new FieldGetter(rowHandler, row, inputRowType);
+
+        List<Expression> projects = RexToLixTranslator.translateProjects(program, typeFactory, conformance,
+                loop, null, null, ctx, inputGetter, correlates);
+
+        for (Expression val : projects) {
+            Expression addRowField = Expressions.call(outBuilder, IgniteMethod.ROW_BUILDER_ADD_FIELD.method(), val);
+            loop.add(Expressions.statement(addRowField));
+        }
+
+        Expression newRow = Expressions.call(outBuilder, IgniteMethod.ROW_BUILDER_BUILD_AND_RESET.method());
+
+        loop.add(Expressions.statement(Expressions.call(batch, IgniteMethod.ROW_BATCH_SET.method(), idx, newRow)));
+
+        builder.add(Expressions.for_(
+                Expressions.declare(0, i, Expressions.constant(0)),
+                Expressions.lessThan(i, selected),
+                Expressions.preIncrementAssign(i),
+                loop.toBlock()
+        ));
+
+        BlockStatement methodBody = wrapWithConversionToEvaluationException(builder.toBlock());
+
+        return Expressions.methodDecl(
+                Modifier.PUBLIC, void.class, "projectBatch", List.of(ctx, batch, outBuilder), methodBody
+        );
     }
 
     /** Internal interface of this implementor. Need to be public due to visibility for compiler. */
-    @FunctionalInterface
     public interface SqlProjectionExt {
         <RowT> void project(SqlEvaluationContext<RowT> context, RowT row, RowBuilder<RowT> outBuilder);
+
+        <RowT> void projectBatch(SqlEvaluationContext<RowT> context, RowBatch<RowT> batch, RowBuilder<RowT> outBuilder);
     }
 
     private static class SqlProjectionImpl implements SqlProjection {
@@ -163,5 +235,10 @@ class ProjectionImplementor {
 
             return rowBuilder.buildAndReset();
         }
+
+        @Override
+        public <RowT> void project(SqlEvaluationContext<RowT> context, RowBatch<RowT> batch) {
+            projection.projectBatch(context, batch, builder(context));
+        }
     }
 }
@@ -1783,9 +1783,12 @@ public class RexToLixTranslator implements RexVisitor<RexToLixTranslator.Result>
             Expressions.call(root, BuiltInMethod.DATA_CONTEXT_GET.method,
                 Expressions.constant("?" + dynamicParam.getIndex())),
             storageType);*/
-    final Expression ctxGet = Expressions.call(root, BuiltInMethod.DATA_CONTEXT_GET.method,
+    // A placeholder of a literal lifted out of the expression is read from the compiled class, see LiftedLiterals.
+    final Expression rawValue = LiftedLiterals.isLifted(dynamicParam)
+        ? LiftedLiterals.value(dynamicParam)
+        : Expressions.call(root, BuiltInMethod.DATA_CONTEXT_GET.method,
             Expressions.constant("?" + dynamicParam.getIndex()));
-    final Expression valueExpression =  ConverterUtils.convert(ctxGet, dynamicParam.getType());
+    final Expression valueExpression =  ConverterUtils.convert(rawValue, dynamicParam.getType());
 
     final ParameterExpression valueVariable =
         Expressions.parameter(valueExpression.getType(),
@@ -38,11 +38,15 @@ import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
+import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Implements rex expression into a function object. Uses JaninoRexCompiler under the hood. Each expression compiles into a class and a
  * wrapper over it is returned.
+ *
+ * <p>Compiled classes are cached by the digest of the expression. Literals of predicates and projections are lifted out of the
+ * expression before compilation (see {@link LiftedLiterals}), thus queries which differ only in literals share the compiled classes.
  */
 public class SqlExpressionFactoryImpl implements SqlExpressionFactory {
     private static final IgniteTypeFactory TYPE_FACTORY = Commons.typeFactory();
@@ -71,9 +75,28 @@ public class SqlExpressionFactoryImpl implements SqlExpressionFactory {
             int cacheSize,
             CacheFactory cacheFactory
     ) {
-        this.typeFactory = typeFactory;
+        this(typeFactory, cacheFactory.create(cacheSize));
+    }
 
-        Cache<String, Object> cache = cacheFactory.create(cacheSize);
+    /**
+     * Constructs the object.
+     *
+     * @param typeFactory The type factory to convert between relational and java types.
+     * @param cacheSize The size of the cache to store compiled expressions.
+     * @param cacheFactory The factory to create cache to store compiled expressions in.
+     * @param statsCounter Accumulator of hits and misses of the cache.
+     */
+    public SqlExpressionFactoryImpl(
+            IgniteTypeFactory typeFactory,
+            int cacheSize,
+            CacheFactory cacheFactory,
+            StatsCounter statsCounter
+    ) {
+        this(typeFactory, cacheFactory.create(cacheSize, statsCounter));
+    }
+
+    private SqlExpressionFactoryImpl(IgniteTypeFactory typeFactory, Cache<String, Object> cache) {
+        this.typeFactory = typeFactory;
 
         comparatorImplementor = new ComparatorImplementor();
         joinPredicateImplementor = new JoinPredicateImplementor(
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.exp;
 
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 
 /**
@@ -39,4 +40,18 @@ public interface SqlPredicate {
      * @return {@code true} if the row satisfies the predicate, {@code false} otherwise.
      */
     <RowT> boolean test(SqlEvaluationContext<RowT> context, RowT row);
+
+    /**
+     * Evaluates the predicate on every selected row of the batch and deselects the rows not satisfying it.
+     *
+     * <p>Generated implementations evaluate the predicate in a loop over the selection vector, so there is no
+     * per-row virtual call.
+     *
+     * @param context The execution context, providing access to query-related data.
+     * @param batch The batch of rows to filter.
+     * @param <RowT> The type of the execution row.
+     */
+    default <RowT> void filter(SqlEvaluationContext<RowT> context, RowBatch<RowT> batch) {
+        batch.retainIf(row -> test(context, row));
+    }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.exp;
 
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 
 /**
@@ -36,4 +37,15 @@ public interface SqlProjection {
      * @return The projected row, which may be a modified version of the input row or a new row.
      */
     <RowT> RowT project(SqlEvaluationContext<RowT> context, RowT row);
+
+    /**
+     * Applies the projection to every selected row of the batch, replacing the rows in place.
+     *
+     * @param context The execution context, providing access to query-related data.
+     * @param batch The batch of rows to project.
+     * @param <RowT> The type of the execution row.
+     */
+    default <RowT> void project(SqlEvaluationContext<RowT> context, RowBatch<RowT> batch) {
+        batch.replaceAll(row -> project(context, row));
+    }
 }
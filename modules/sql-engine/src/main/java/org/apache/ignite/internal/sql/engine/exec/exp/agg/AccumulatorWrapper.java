@@ -39,6 +39,18 @@ public interface AccumulatorWrapper<RowT> {
      */
     Object @Nullable [] getArguments(RowT row);
 
+    /**
+     * Updates the given state with the argument read directly from the row, if the accumulator function supports it.
+     *
+     * @param state State of the accumulator function.
+     * @param row Input row.
+     * @return {@code false} if the row must be processed with the arguments created by {@link #getArguments(Object)} instead.
+     * @see FieldAccumulator
+     */
+    default boolean addField(AccumulatorsState state, RowT row) {
+        return false;
+    }
+
     /** Converts accumulator result. */
     Object convertResult(@Nullable Object result);
 }
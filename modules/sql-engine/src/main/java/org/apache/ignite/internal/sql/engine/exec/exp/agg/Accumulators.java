@@ -44,6 +44,7 @@ import org.apache.calcite.sql.fun.SqlLiteralAggFunction;
 import org.apache.calcite.sql.type.SqlTypeUtil;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.catalog.commands.CatalogUtils;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.exp.IgniteSqlFunctions;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -194,6 +195,15 @@ public class Accumulators {
             case BINARY:
             case VARBINARY:
                 return min ? VarBinaryMinMax.MIN_FACTORY : VarBinaryMinMax.MAX_FACTORY;
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+                return LongMinMax.newAccumulator(min, typeFactory, type);
+            case REAL:
+            case FLOAT:
+            case DOUBLE:
+                return DoubleMinMax.newAccumulator(min, typeFactory, type);
             default:
                 if (type.getSqlTypeName() == ANY) {
                     throw unsupportedAggregateFunction(call);
@@ -607,7 +617,7 @@ public class Accumulators {
     /**
      * {@code AVG(DOUBLE)} accumulator.
      */
-    public static class DoubleAvg implements Accumulator {
+    public static class DoubleAvg implements FieldAccumulator {
         public static final Supplier<Accumulator> FACTORY = DoubleAvg::new;
 
         /** State. */
@@ -636,6 +646,29 @@ public class Accumulators {
             avgState.cnt++;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return SqlTypeUtil.isApproximateNumeric(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            DoubleAvgState avgState = (DoubleAvgState) state.get();
+            if (avgState == null) {
+                avgState = new DoubleAvgState();
+                state.set(avgState);
+            }
+
+            avgState.sum += handler.getDouble(field, row);
+            avgState.cnt++;
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
@@ -665,7 +698,7 @@ public class Accumulators {
     }
 
     /** {@code COUNT(LONG)} accumulator.. */
-    public static class LongCount implements Accumulator {
+    public static class LongCount implements FieldAccumulator {
         public static final Supplier<Accumulator> FACTORY = LongCount::new;
 
         /** {@inheritDoc} */
@@ -685,6 +718,29 @@ public class Accumulators {
             }
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            MutableLong cnt = (MutableLong) state.get();
+
+            if (cnt == null) {
+                cnt = new MutableLong();
+                state.set(cnt);
+            }
+
+            cnt.add(1);
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
@@ -710,7 +766,7 @@ public class Accumulators {
     }
 
     /** Wraps another sum accumulator and returns {@code null} if there was updates. */
-    public static class Sum implements Accumulator {
+    public static class Sum implements FieldAccumulator {
         private final Accumulator acc;
 
         public Sum(Accumulator acc) {
@@ -727,6 +783,19 @@ public class Accumulators {
             acc.add(state, args);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return acc instanceof FieldAccumulator && ((FieldAccumulator) acc).acceptsField(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            // Wrapped accumulator doesn't update the state on NULL values.
+            ((FieldAccumulator) acc).addField(state, handler, row, field);
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
@@ -751,7 +820,7 @@ public class Accumulators {
     }
 
     /** {@code SUM(DOUBLE)} accumulator. */
-    public static class DoubleSumEmptyIsZero implements Accumulator {
+    public static class DoubleSumEmptyIsZero implements FieldAccumulator {
         public static final Supplier<Accumulator> FACTORY = DoubleSumEmptyIsZero::new;
 
         /** {@inheritDoc} */
@@ -771,6 +840,27 @@ public class Accumulators {
             sum.add(in);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return SqlTypeUtil.isApproximateNumeric(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            MutableDouble sum = (MutableDouble) state.get();
+            if (sum == null) {
+                sum = new MutableDouble();
+                state.set(sum);
+            }
+            sum.add(handler.getDouble(field, row));
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
@@ -796,7 +886,7 @@ public class Accumulators {
     }
 
     /** {@code SUM(LONG)} accumulator. */
-    public static class LongSumEmptyIsZero implements Accumulator {
+    public static class LongSumEmptyIsZero implements FieldAccumulator {
         public static final Supplier<Accumulator> FACTORY = LongSumEmptyIsZero::new;
 
         /** {@inheritDoc} */
@@ -816,6 +906,27 @@ public class Accumulators {
             sum.add(in);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return SqlTypeUtil.isIntType(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            MutableLong sum = (MutableLong) state.get();
+            if (sum == null) {
+                sum = new MutableLong();
+                state.set(sum);
+            }
+            sum.add(handler.getLong(field, row));
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
@@ -841,7 +952,7 @@ public class Accumulators {
     }
 
     /** SUM(DECIMAL) accumulator. */
-    public static class DecimalSumEmptyIsZero implements Accumulator {
+    public static class DecimalSumEmptyIsZero implements FieldAccumulator {
         public static final IntFunction<Accumulator> FACTORY = DecimalSumEmptyIsZero::new;
 
         private final int precision;
@@ -870,13 +981,54 @@ public class Accumulators {
             }
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            // Decimal values are objects anyway, thus only integral ones are worth reading directly.
+            return SqlTypeUtil.isIntType(type);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>Values are summed up as {@code long} until the sum overflows, and as {@link BigDecimal} afterwards.
+         */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            long in = handler.getLong(field, row);
+            Object sum = state.get();
+
+            if (sum == null) {
+                MutableLong sum0 = new MutableLong();
+
+                sum0.set(in);
+                state.set(sum0);
+            } else if (sum instanceof MutableLong) {
+                MutableLong sum0 = (MutableLong) sum;
+                long res = sum0.longValue() + in;
+
+                if (((sum0.longValue() ^ res) & (in ^ res)) < 0) {
+                    state.set(BigDecimal.valueOf(sum0.longValue()).add(BigDecimal.valueOf(in)));
+                } else {
+                    sum0.add(in);
+                }
+            } else {
+                state.set(((BigDecimal) sum).add(BigDecimal.valueOf(in)));
+            }
+        }
+
         /** {@inheritDoc} */
         @Override
         public void end(AccumulatorsState state, AccumulatorsState result) {
             if (!state.hasValue()) {
                 result.set(BigDecimal.ZERO);
             } else {
-                BigDecimal value = (BigDecimal) state.get();
+                Object sum = state.get();
+                BigDecimal value = sum instanceof MutableLong ? BigDecimal.valueOf(((MutableLong) sum).longValue()) : (BigDecimal) sum;
                 result.set(IgniteSqlFunctions.toBigDecimal(value, precision, scale));
             }
         }
@@ -967,6 +1119,189 @@ public class Accumulators {
         }
     }
 
+    /** {@code MIN/MAX} for integral types. */
+    public static final class LongMinMax implements FieldAccumulator {
+        private final boolean min;
+
+        private final RelDataType type;
+
+        private LongMinMax(boolean min, RelDataTypeFactory typeFactory, RelDataType type) {
+            this.min = min;
+            this.type = typeFactory.createTypeWithNullability(type, true);
+        }
+
+        public static Supplier<Accumulator> newAccumulator(boolean min, RelDataTypeFactory typeFactory, RelDataType type) {
+            return () -> new LongMinMax(min, typeFactory, type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void add(AccumulatorsState state, Object... args) {
+            Number in = (Number) args[0];
+
+            if (in == null) {
+                return;
+            }
+
+            apply(state, in.longValue());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return SqlTypeUtil.isIntType(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            apply(state, handler.getLong(field, row));
+        }
+
+        private void apply(AccumulatorsState state, long in) {
+            MutableLong val = (MutableLong) state.get();
+
+            if (val == null) {
+                val = new MutableLong();
+                val.set(in);
+
+                state.set(val);
+            } else if (min ? in < val.longValue() : in > val.longValue()) {
+                val.set(in);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end(AccumulatorsState state, AccumulatorsState result) {
+            MutableLong val = (MutableLong) state.get();
+
+            if (val == null) {
+                result.set(null);
+
+                return;
+            }
+
+            switch (type.getSqlTypeName()) {
+                case TINYINT:
+                    result.set((byte) val.longValue());
+                    break;
+                case SMALLINT:
+                    result.set((short) val.longValue());
+                    break;
+                case INTEGER:
+                    result.set(val.intValue());
+                    break;
+                default:
+                    result.set(val.longValue());
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<RelDataType> argumentTypes(IgniteTypeFactory typeFactory) {
+            return List.of(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RelDataType returnType(IgniteTypeFactory typeFactory) {
+            return type;
+        }
+    }
+
+    /** {@code MIN/MAX} for approximate numeric types. */
+    public static final class DoubleMinMax implements FieldAccumulator {
+        private final boolean min;
+
+        private final RelDataType type;
+
+        private DoubleMinMax(boolean min, RelDataTypeFactory typeFactory, RelDataType type) {
+            this.min = min;
+            this.type = typeFactory.createTypeWithNullability(type, true);
+        }
+
+        public static Supplier<Accumulator> newAccumulator(boolean min, RelDataTypeFactory typeFactory, RelDataType type) {
+            return () -> new DoubleMinMax(min, typeFactory, type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void add(AccumulatorsState state, Object... args) {
+            Number in = (Number) args[0];
+
+            if (in == null) {
+                return;
+            }
+
+            apply(state, in.doubleValue());
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean acceptsField(RelDataType type) {
+            return SqlTypeUtil.isApproximateNumeric(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field) {
+            if (handler.isNull(field, row)) {
+                return;
+            }
+
+            apply(state, handler.getDouble(field, row));
+        }
+
+        private void apply(AccumulatorsState state, double in) {
+            MutableDouble val = (MutableDouble) state.get();
+
+            if (val == null) {
+                val = new MutableDouble();
+                val.set(in);
+
+                state.set(val);
+            } else {
+                // Compares the same way as Double#compareTo does, thus the result is consistent with MinMaxAccumulator.
+                int cmp = Double.compare(in, val.doubleValue());
+
+                if (min ? cmp < 0 : cmp > 0) {
+                    val.set(in);
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end(AccumulatorsState state, AccumulatorsState result) {
+            MutableDouble val = (MutableDouble) state.get();
+
+            if (val == null) {
+                result.set(null);
+            } else if (type.getSqlTypeName() == DOUBLE) {
+                result.set(val.doubleValue());
+            } else {
+                result.set(val.floatValue());
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public List<RelDataType> argumentTypes(IgniteTypeFactory typeFactory) {
+            return List.of(type);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RelDataType returnType(IgniteTypeFactory typeFactory) {
+            return type;
+        }
+    }
+
     /** {@code MIN/MAX} for {@code VARCHAR} type. */
     public static class VarCharMinMax implements Accumulator {
         public static final Supplier<Accumulator> MIN_FACTORY = () -> new VarCharMinMax(true);
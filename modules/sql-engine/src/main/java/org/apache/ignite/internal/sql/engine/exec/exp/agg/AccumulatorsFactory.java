@@ -49,6 +49,7 @@ import org.apache.calcite.sql.type.SqlTypeUtil;
 import org.apache.calcite.sql.validate.SqlConformanceEnum;
 import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.RexToLixTranslator;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -181,6 +182,8 @@ public class AccumulatorsFactory<RowT> {
 
         private Function<Object, Object> outAdapter;
 
+        private boolean readField;
+
         private WrapperPrototype(Accumulators accumulators, AggregateCall call) {
             this.accumulators = accumulators;
             this.call = call;
@@ -191,7 +194,7 @@ public class AccumulatorsFactory<RowT> {
         public AccumulatorWrapper<RowT> apply(SqlEvaluationContext<RowT> context) {
             Accumulator accumulator = accumulator(context);
 
-            return new AccumulatorWrapperImpl<>(context, accumulator, call, inAdapter, outAdapter);
+            return new AccumulatorWrapperImpl<>(context, accumulator, call, inAdapter, outAdapter, readField);
         }
 
         private Accumulator accumulator(DataContext context) {
@@ -205,10 +208,23 @@ public class AccumulatorsFactory<RowT> {
 
             inAdapter = createInAdapter(accumulator);
             outAdapter = createOutAdapter(accumulator);
+            readField = canReadField(accumulator);
 
             return accumulator;
         }
 
+        /** Returns {@code true} if the accumulator may read its argument directly from the input row. */
+        private boolean canReadField(Accumulator accumulator) {
+            if (type == AggregateType.REDUCE || call.isDistinct() || call.getArgList().size() != 1
+                    || !(accumulator instanceof FieldAccumulator)) {
+                return false;
+            }
+
+            RelDataType argType = inputRowType.getFieldList().get(call.getArgList().get(0)).getType();
+
+            return ((FieldAccumulator) accumulator).acceptsField(argType);
+        }
+
         private Function<Object[], Object[]> createInAdapter(Accumulator accumulator) {
             if (type == AggregateType.REDUCE || nullOrEmpty(call.getArgList())) {
                 return Function.identity();
@@ -261,6 +277,8 @@ public class AccumulatorsFactory<RowT> {
 
         private static final Object[] NO_ARGUMENTS = {null};
 
+        private static final Object[] NO_ARGUMENTS_ARRAY = new Object[0];
+
         private final Accumulator accumulator;
 
         private final Function<Object[], Object[]> inAdapter;
@@ -277,6 +295,13 @@ public class AccumulatorsFactory<RowT> {
 
         private final RowAccessor<RowT> handler;
 
+        /** Accumulator reading the argument directly from the row, or {@code null} if the arguments array must be created. */
+        private final @Nullable FieldAccumulator fieldAccumulator;
+
+        private final @Nullable RowHandler<RowT> fieldHandler;
+
+        private final int field;
+
         private final boolean distinct;
 
         private final boolean grouping;
@@ -286,7 +311,8 @@ public class AccumulatorsFactory<RowT> {
                 Accumulator accumulator,
                 AggregateCall call,
                 Function<Object[], Object[]> inAdapter,
-                Function<Object, Object> outAdapter
+                Function<Object, Object> outAdapter,
+                boolean readField
         ) {
             this.handler = ctx.rowAccessor();
             this.accumulator = accumulator;
@@ -300,6 +326,16 @@ public class AccumulatorsFactory<RowT> {
             filterArg = call.hasFilter() ? call.filterArg : -1;
 
             argList = distinct && call.getArgList().isEmpty() ? SINGLE_ARG_LIST : new IntArrayList(call.getArgList());
+
+            if (readField && handler instanceof RowHandler) {
+                fieldAccumulator = (FieldAccumulator) accumulator;
+                fieldHandler = (RowHandler<RowT>) handler;
+                field = argList.getInt(0);
+            } else {
+                fieldAccumulator = null;
+                fieldHandler = null;
+                field = -1;
+            }
         }
 
         @Override
@@ -317,6 +353,21 @@ public class AccumulatorsFactory<RowT> {
             return accumulator;
         }
 
+        @Override
+        public boolean addField(AccumulatorsState state, RowT row) {
+            if (fieldAccumulator == null) {
+                return false;
+            }
+
+            if (filterArg >= 0 && !Boolean.TRUE.equals(handler.get(filterArg, row))) {
+                return true;
+            }
+
+            fieldAccumulator.addField(state, fieldHandler, row, field);
+
+            return true;
+        }
+
         @Override
         public Object @Nullable [] getArguments(RowT row) {
             if (filterArg >= 0 && !Boolean.TRUE.equals(handler.get(filterArg, row))) {
@@ -336,6 +387,11 @@ public class AccumulatorsFactory<RowT> {
 
             int params = argList.size();
 
+            if (params == 0) {
+                // COUNT(*) doesn't need any arguments, thus let's not allocate an empty array per row.
+                return NO_ARGUMENTS_ARRAY;
+            }
+
             Object[] args = new Object[params];
             for (int i = 0; i < params; i++) {
                 int argPos = argList.getInt(i);
@@ -65,20 +65,21 @@ public class AggregateRow<RowT> {
         for (int i = 0; i < accs.size(); i++) {
             AccumulatorWrapper<RowT> acc = accs.get(i);
 
-            Object[] args = acc.getArguments(row);
-            if (args == null) {
-                continue;
-            }
-
             state.setIndex(i);
 
-            if (acc.isGrouping()) {
-                state.set(grpFields);
-            } else if (acc.isDistinct()) {
-                Set<Object> distinctSet = distinctSets.get(i);
-                distinctSet.add(args[0]);
-            } else {
-                acc.accumulator().add(state, args);
+            if (!acc.addField(state, row)) {
+                Object[] args = acc.getArguments(row);
+
+                if (args != null) {
+                    if (acc.isGrouping()) {
+                        state.set(grpFields);
+                    } else if (acc.isDistinct()) {
+                        Set<Object> distinctSet = distinctSets.get(i);
+                        distinctSet.add(args[0]);
+                    } else {
+                        acc.accumulator().add(state, args);
+                    }
+                }
             }
 
             state.resetIndex();
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.agg;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+
+/**
+ * Accumulator of a single argument that is able to read the argument directly from the input row.
+ *
+ * <p>Such accumulators read numeric values with the primitive accessors of the {@link RowHandler} and keep the state in mutable
+ * holders, thus neither the array of arguments nor the boxed value is created per an input row.
+ */
+public interface FieldAccumulator extends Accumulator {
+    /**
+     * Returns {@code true} if the argument of the given type may be read directly from the row.
+     *
+     * @param type Type of the input field.
+     */
+    boolean acceptsField(RelDataType type);
+
+    /**
+     * Updates this accumulator with the value of the given field. Rows with {@code null} value of the field are ignored.
+     *
+     * @param state State of the accumulator.
+     * @param handler Handler to access the row.
+     * @param row Input row.
+     * @param field Index of the argument field.
+     */
+    <RowT> void addField(AccumulatorsState state, RowHandler<RowT> handler, RowT row, int field);
+}
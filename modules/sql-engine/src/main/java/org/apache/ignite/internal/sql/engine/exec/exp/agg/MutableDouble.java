@@ -31,6 +31,11 @@ final class MutableDouble extends Number {
         value += v;
     }
 
+    /** Sets the value of this double. */
+    public void set(double v) {
+        value = v;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int intValue() {
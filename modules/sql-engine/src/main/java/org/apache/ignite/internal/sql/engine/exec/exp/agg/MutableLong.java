@@ -31,6 +31,11 @@ final class MutableLong extends Number {
         value += v;
     }
 
+    /** Sets the value of this long. */
+    public void set(long v) {
+        value = v;
+    }
+
     /** {@inheritDoc} */
     @Override
     public int intValue() {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.util.Cursor;
+
+/**
+ * Cursor which merges several sorted sources into a single sorted sequence of rows.
+ *
+ * <p>Only the current row of every source is held in memory, thus the cursor is suitable to merge sorted runs spilled to disk.
+ */
+public class MergeSortCursor<RowT> implements Cursor<RowT> {
+    private final List<? extends Iterator<RowT>> sources;
+
+    private final PriorityQueue<Source<RowT>> heap;
+
+    /**
+     * Constructor.
+     *
+     * @param comp Comparator the sources are sorted with.
+     * @param sources Sorted sources. Sources implementing {@link AutoCloseable} are closed along with the cursor.
+     */
+    public MergeSortCursor(Comparator<RowT> comp, List<? extends Iterator<RowT>> sources) {
+        this.sources = sources;
+        this.heap = new PriorityQueue<>(Math.max(1, sources.size()), (s1, s2) -> comp.compare(s1.head, s2.head));
+
+        for (Iterator<RowT> it : sources) {
+            if (it.hasNext()) {
+                heap.add(new Source<>(it));
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !heap.isEmpty();
+    }
+
+    @Override
+    public RowT next() {
+        Source<RowT> source = heap.poll();
+
+        if (source == null) {
+            throw new NoSuchElementException();
+        }
+
+        RowT row = source.head;
+
+        if (source.advance()) {
+            heap.add(source);
+        }
+
+        return row;
+    }
+
+    @Override
+    public void close() {
+        heap.clear();
+
+        for (Iterator<RowT> it : sources) {
+            Commons.closeQuiet(it);
+        }
+    }
+
+    private static class Source<RowT> {
+        private final Iterator<RowT> it;
+
+        private RowT head;
+
+        Source(Iterator<RowT> it) {
+            this.it = it;
+            this.head = it.next();
+        }
+
+        boolean advance() {
+            if (!it.hasNext()) {
+                return false;
+            }
+
+            head = it.next();
+
+            return true;
+        }
+    }
+}
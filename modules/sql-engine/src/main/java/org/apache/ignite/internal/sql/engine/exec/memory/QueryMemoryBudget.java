@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Memory budget shared by all fragments of a query executing on the local node.
+ *
+ * <p>Buffering execution nodes reserve the estimated size of materialized rows against the budget. A reservation is rejected if it
+ * exceeds either the quota of the query, or the quota of the whole node. Once a reservation is rejected, the node is expected to
+ * offload its state to disk with help of {@link #createSpillFile(RowHandler, RowFactory)}. Nodes which are unable to spill use
+ * {@link #reserveOrFail(long)} instead, which fails the query.
+ *
+ * <p>The budget is thread-safe, since fragments of the same query may be executed by different threads.
+ */
+public class QueryMemoryBudget {
+    /** Budget without any limit. Spilling to disk is not possible with this budget. */
+    public static final QueryMemoryBudget UNLIMITED = new QueryMemoryBudget(null, null, 0, 0);
+
+    private final @Nullable SpillManager spillManager;
+
+    private final @Nullable UUID queryId;
+
+    private final long quota;
+
+    private final long nodeQuota;
+
+    private final AtomicLong reserved = new AtomicLong();
+
+    private volatile boolean closed;
+
+    QueryMemoryBudget(@Nullable SpillManager spillManager, @Nullable UUID queryId, long quota, long nodeQuota) {
+        this.spillManager = spillManager;
+        this.queryId = queryId;
+        this.quota = quota;
+        this.nodeQuota = nodeQuota;
+    }
+
+    /** Returns ID of the query the budget belongs to. */
+    @Nullable UUID queryId() {
+        return queryId;
+    }
+
+    /** Returns {@code true} if the budget is limited, thus buffering nodes should account their memory and spill on overflow. */
+    public boolean spillEnabled() {
+        return spillManager != null && spillManager.limited();
+    }
+
+    /**
+     * Tries to reserve the given amount of memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @return {@code true} if memory was reserved, {@code false} if the reservation would exceed the query or the node quota.
+     */
+    public boolean tryReserve(long bytes) {
+        if (!spillEnabled() || closed) {
+            return true;
+        }
+
+        while (true) {
+            long current = reserved.get();
+
+            if (quota > 0 && current + bytes > quota) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(current, current + bytes)) {
+                break;
+            }
+        }
+
+        if (!spillManager.tryReserve(bytes)) {
+            reserved.addAndGet(-bytes);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Reserves the given amount of memory regardless of the quota. Used when the data has to be kept in memory anyway, for
+     * example, when a spilled partition is loaded back to be processed.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void reserve(long bytes) {
+        if (spillEnabled() && !closed) {
+            reserved.addAndGet(bytes);
+
+            spillManager.reserve(bytes);
+        }
+    }
+
+    /**
+     * Reserves the given amount of memory, or fails the query if the reservation would exceed the query or the node quota. Used
+     * by execution nodes which are not able to offload their state to disk.
+     *
+     * @param bytes Amount of memory in bytes.
+     * @throws SqlException If the memory could not be reserved.
+     */
+    public void reserveOrFail(long bytes) {
+        if (!tryReserve(bytes)) {
+            throw new SqlException(EXECUTION_CANCELLED_ERR, "Query exceeded the memory quota [queryId=" + queryId
+                    + ", reserved=" + reserved.get() + ", requested=" + bytes
+                    + ", queryQuota=" + quota + ", nodeQuota=" + nodeQuota + ']');
+        }
+    }
+
+    /**
+     * Releases previously reserved memory.
+     *
+     * @param bytes Amount of memory in bytes.
+     */
+    public void release(long bytes) {
+        if (spillEnabled() && !closed) {
+            reserved.addAndGet(-bytes);
+
+            spillManager.release(bytes);
+        }
+    }
+
+    /** Returns amount of memory in bytes currently reserved by the query. */
+    public long reserved() {
+        return reserved.get();
+    }
+
+    /**
+     * Reports the number of groups built by a hash aggregation.
+     *
+     * @param count Number of groups.
+     */
+    public void onGroupsAggregated(long count) {
+        if (spillManager != null) {
+            spillManager.metricSource().onGroupsAggregated(count);
+        }
+    }
+
+    /**
+     * Reports the number of bytes offloaded to disk by a hash aggregation.
+     *
+     * @param bytes Number of bytes.
+     */
+    public void onAggregationSpilled(long bytes) {
+        if (spillManager != null) {
+            spillManager.metricSource().onAggregationSpilled(bytes);
+        }
+    }
+
+    /**
+     * Creates a new file to offload rows to.
+     *
+     * @param handler Handler to serialize rows with.
+     * @param factory Factory to restore rows with.
+     * @return Spill file. The caller is responsible to close the file, which deletes it from disk as well.
+     */
+    public <RowT> SpillFile<RowT> createSpillFile(RowHandler<RowT> handler, RowFactory<RowT> factory) {
+        assert spillEnabled();
+
+        return spillManager.createFile(handler, factory);
+    }
+
+    /**
+     * Closes the budget once the query is completed on the local node. Memory which is still reserved is returned to the node,
+     * further reservations and releases are ignored.
+     */
+    public void close() {
+        if (spillManager == null || closed) {
+            return;
+        }
+
+        closed = true;
+
+        spillManager.release(reserved.getAndSet(0));
+        spillManager.onBudgetClosed(this);
+    }
+}
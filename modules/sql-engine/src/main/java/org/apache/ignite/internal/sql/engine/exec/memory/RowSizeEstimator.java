@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import java.math.BigDecimal;
+import org.apache.calcite.avatica.util.ByteString;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Estimates the amount of heap occupied by materialized rows.
+ *
+ * <p>The estimation is rough by design: it must be cheap enough to be computed for every buffered row, and is used only to
+ * decide when an execution node should offload its state to disk.
+ */
+public final class RowSizeEstimator {
+    /** Object header plus an array of references to the field values. */
+    private static final int ROW_OVERHEAD = 32;
+
+    /** Size of a reference to a field value. */
+    private static final int REFERENCE_SIZE = 8;
+
+    /** Size of a boxed primitive value. */
+    private static final int BOXED_VALUE_SIZE = 16;
+
+    /** Size of a string object without its content. */
+    private static final int STRING_OVERHEAD = 40;
+
+    /** Size of a decimal object without its unscaled value. */
+    private static final int DECIMAL_OVERHEAD = 40;
+
+    private RowSizeEstimator() {
+        // No-op.
+    }
+
+    /**
+     * Estimates the size of the given row.
+     *
+     * @param accessor Row accessor.
+     * @param row Row.
+     * @return Estimated size in bytes.
+     */
+    public static <RowT> long estimate(RowAccessor<RowT> accessor, RowT row) {
+        int columnsCount = accessor.columnsCount(row);
+
+        long size = ROW_OVERHEAD + (long) REFERENCE_SIZE * columnsCount;
+
+        for (int i = 0; i < columnsCount; i++) {
+            size += estimateValue(accessor.get(i, row));
+        }
+
+        return size;
+    }
+
+    /**
+     * Estimates the size of rows which are views over a shared buffer, like rows of a received exchange batch.
+     *
+     * @param rowsCount Number of rows.
+     * @param bufferSize Size of the shared buffer in bytes.
+     * @return Estimated size in bytes.
+     */
+    public static long estimateBatch(int rowsCount, long bufferSize) {
+        return bufferSize + (long) ROW_OVERHEAD * rowsCount;
+    }
+
+    private static long estimateValue(@Nullable Object value) {
+        if (value == null) {
+            return 0;
+        }
+
+        if (value instanceof String) {
+            return STRING_OVERHEAD + ((String) value).length();
+        }
+
+        if (value instanceof ByteString) {
+            return STRING_OVERHEAD + ((ByteString) value).length();
+        }
+
+        if (value instanceof byte[]) {
+            return BOXED_VALUE_SIZE + ((byte[]) value).length;
+        }
+
+        if (value instanceof BigDecimal) {
+            return DECIMAL_OVERHEAD + ((BigDecimal) value).unscaledValue().bitLength() / Byte.SIZE;
+        }
+
+        return BOXED_VALUE_SIZE;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Append-only file of rows serialized to the binary tuple format.
+ *
+ * <p>Every row is stored as a length-prefixed binary tuple. The file is written once, and may be read any number of times
+ * after {@link #finishWrite()} is called. Closing the file removes it from disk.
+ *
+ * <p>Not thread-safe, the file is expected to be used by a single execution node.
+ */
+public class SpillFile<RowT> implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    private final RowHandler<RowT> handler;
+
+    private final RowFactory<RowT> factory;
+
+    private final int columnsCount;
+
+    private final LongConsumer spilledBytesListener;
+
+    private final List<Reader> readers = new ArrayList<>();
+
+    private @Nullable DataOutputStream out;
+
+    private boolean writeFinished;
+
+    private long size;
+
+    private long rowsCount;
+
+    SpillFile(Path path, RowHandler<RowT> handler, RowFactory<RowT> factory, LongConsumer spilledBytesListener) {
+        this.path = path;
+        this.handler = handler;
+        this.factory = factory;
+        this.columnsCount = factory.rowSchema().fields().size();
+        this.spilledBytesListener = spilledBytesListener;
+    }
+
+    /**
+     * Appends the row to the file.
+     *
+     * @param row Row to append.
+     */
+    public void write(RowT row) {
+        assert !writeFinished : "Spill file is read-only [path=" + path + ']';
+
+        try {
+            DataOutputStream out0 = out;
+
+            if (out0 == null) {
+                out0 = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path, CREATE_NEW, WRITE), BUFFER_SIZE));
+
+                out = out0;
+            }
+
+            ByteBuffer buf = handler.toByteBuffer(row);
+            int len = buf.remaining();
+
+            out0.writeInt(len);
+
+            if (buf.hasArray()) {
+                out0.write(buf.array(), buf.arrayOffset() + buf.position(), len);
+            } else {
+                byte[] bytes = new byte[len];
+
+                buf.get(bytes);
+
+                out0.write(bytes);
+            }
+
+            size += Integer.BYTES + len;
+            rowsCount++;
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write spill file [path=" + path + ']', e);
+        }
+    }
+
+    /** Flushes written rows to disk and makes the file available for reading. */
+    public void finishWrite() {
+        if (writeFinished) {
+            return;
+        }
+
+        writeFinished = true;
+
+        DataOutputStream out0 = out;
+
+        if (out0 == null) {
+            return;
+        }
+
+        out = null;
+
+        try {
+            out0.close();
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to write spill file [path=" + path + ']', e);
+        }
+
+        spilledBytesListener.accept(size);
+    }
+
+    /** Returns the number of rows written to the file. */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /** Returns the number of bytes written to the file. */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Opens a cursor over the rows of the file, in the order they were written.
+     *
+     * @return Cursor over the rows. The cursor is closed automatically once exhausted.
+     */
+    public Cursor<RowT> read() {
+        assert writeFinished : "Spill file is not finished [path=" + path + ']';
+
+        Reader reader = new Reader();
+
+        readers.add(reader);
+
+        return reader;
+    }
+
+    /** Closes all opened cursors and removes the file from disk. */
+    @Override
+    public void close() {
+        writeFinished = true;
+
+        Commons.closeQuiet(out);
+
+        out = null;
+
+        for (Reader reader : readers) {
+            reader.close();
+        }
+
+        readers.clear();
+
+        IgniteUtils.deleteIfExists(path);
+    }
+
+    private class Reader implements Cursor<RowT> {
+        private @Nullable DataInputStream in;
+
+        private long rowsRead;
+
+        @Override
+        public boolean hasNext() {
+            return rowsRead < rowsCount;
+        }
+
+        @Override
+        public RowT next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            try {
+                DataInputStream in0 = in;
+
+                if (in0 == null) {
+                    in0 = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE));
+
+                    in = in0;
+                }
+
+                byte[] bytes = new byte[in0.readInt()];
+
+                in0.readFully(bytes);
+
+                if (++rowsRead == rowsCount) {
+                    close();
+                }
+
+                return factory.create(new BinaryTuple(columnsCount, bytes));
+            } catch (IOException e) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Failed to read spill file [path=" + path + ']', e);
+            }
+        }
+
+        @Override
+        public void close() {
+            Commons.closeQuiet(in);
+
+            in = null;
+            rowsRead = rowsCount;
+        }
+    }
+}
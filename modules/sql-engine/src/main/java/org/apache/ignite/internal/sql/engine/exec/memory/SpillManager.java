@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Node-wide service which accounts the memory used by queries, and owns the directory used by execution nodes to offload their
+ * state to disk.
+ *
+ * <p>Every query gets its own {@link QueryMemoryBudget} limited by the per-query quota, while reservations of all budgets are
+ * additionally limited by the per-node quota.
+ *
+ * <p>The directory is wiped out on start and on stop, since spill files are never reused between node runs.
+ */
+public class SpillManager implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(SpillManager.class);
+
+    private final Path spillDir;
+
+    private final long queryMemoryQuota;
+
+    private final long nodeMemoryQuota;
+
+    private final SqlMemoryMetricSource metricSource;
+
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /** Amount of memory reserved by all queries on the node. */
+    private final AtomicLong reserved = new AtomicLong();
+
+    private final AtomicLong maxReserved = new AtomicLong();
+
+    private final ConcurrentMap<UUID, QueryMemoryBudget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param spillDir Directory to store spill files in.
+     * @param queryMemoryQuota Amount of memory (in bytes) a single query may use on the node before its buffering nodes start
+     *         spilling to disk. Zero or negative value means the memory of a query is not limited.
+     * @param nodeMemoryQuota Amount of memory (in bytes) all queries may use on the node together. Zero or negative value means
+     *         the memory is not limited. If neither quota is set, memory is not accounted and spilling is disabled.
+     */
+    public SpillManager(Path spillDir, long queryMemoryQuota, long nodeMemoryQuota) {
+        this.spillDir = spillDir;
+        this.queryMemoryQuota = Math.max(queryMemoryQuota, 0);
+        this.nodeMemoryQuota = Math.max(nodeMemoryQuota, 0);
+        this.metricSource = new SqlMemoryMetricSource(this.nodeMemoryQuota, this.queryMemoryQuota, reserved::get, maxReserved::get);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        try {
+            IgniteUtils.deleteIfExistsThrowable(spillDir);
+
+            Files.createDirectories(spillDir);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Failed to initialize SQL spill directory [dir=" + spillDir + ']', e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        if (!IgniteUtils.deleteIfExists(spillDir)) {
+            LOG.warn("Failed to clean up SQL spill directory [dir={}]", spillDir);
+        }
+    }
+
+    /**
+     * Creates a budget to account the memory used by a query on the local node. The budget must be closed once the query is
+     * completed.
+     *
+     * @param queryId ID of the query.
+     * @return Memory budget.
+     */
+    public QueryMemoryBudget createBudget(UUID queryId) {
+        QueryMemoryBudget budget = new QueryMemoryBudget(this, queryId, queryMemoryQuota, nodeMemoryQuota);
+
+        budgets.put(queryId, budget);
+
+        return budget;
+    }
+
+    /**
+     * Returns the amount of memory reserved by the query on the local node.
+     *
+     * @param queryId ID of the query.
+     * @return Amount of memory in bytes, or {@code 0} if the query has no open budget on the node.
+     */
+    public long reserved(UUID queryId) {
+        QueryMemoryBudget budget = budgets.get(queryId);
+
+        return budget == null ? 0 : budget.reserved();
+    }
+
+    /** Returns the metric source to report memory usage statistics to. */
+    public SqlMemoryMetricSource metricSource() {
+        return metricSource;
+    }
+
+    /** Returns {@code true} if the memory used by queries is limited, thus has to be accounted. */
+    boolean limited() {
+        return queryMemoryQuota > 0 || nodeMemoryQuota > 0;
+    }
+
+    /** Tries to reserve the given amount of memory within the node quota. */
+    boolean tryReserve(long bytes) {
+        while (true) {
+            long current = reserved.get();
+
+            if (nodeMemoryQuota > 0 && current + bytes > nodeMemoryQuota) {
+                return false;
+            }
+
+            if (reserved.compareAndSet(current, current + bytes)) {
+                maxReserved.accumulateAndGet(current + bytes, Math::max);
+
+                return true;
+            }
+        }
+    }
+
+    /** Reserves the given amount of memory regardless of the node quota. */
+    void reserve(long bytes) {
+        long current = reserved.addAndGet(bytes);
+
+        maxReserved.accumulateAndGet(current, Math::max);
+    }
+
+    /** Releases memory previously reserved on the node. */
+    void release(long bytes) {
+        reserved.addAndGet(-bytes);
+    }
+
+    /** Forgets the given budget, since its query is completed. */
+    void onBudgetClosed(QueryMemoryBudget budget) {
+        budgets.remove(budget.queryId(), budget);
+    }
+
+    /**
+     * Creates a new spill file.
+     *
+     * @param handler Handler to serialize rows with.
+     * @param factory Factory to restore rows with.
+     * @return Spill file.
+     */
+    <RowT> SpillFile<RowT> createFile(RowHandler<RowT> handler, RowFactory<RowT> factory) {
+        Path path = spillDir.resolve("spill-" + fileIdGen.incrementAndGet() + ".bin");
+
+        metricSource.onSpillFileCreated();
+
+        return new SpillFile<>(path, handler, factory, metricSource::onBytesSpilled);
+    }
+}
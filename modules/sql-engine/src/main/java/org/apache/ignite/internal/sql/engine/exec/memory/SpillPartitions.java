@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+
+/**
+ * Set of spill files where every row is routed to a file by the hash of its key.
+ *
+ * <p>Rows with equal keys always end up in the same partition, so partitions may be processed independently of each other.
+ */
+public class SpillPartitions<RowT> implements AutoCloseable {
+    private final SpillFile<RowT>[] files;
+
+    /**
+     * Constructor.
+     *
+     * @param budget Budget to create files with.
+     * @param handler Handler to serialize rows with.
+     * @param factory Factory to restore rows with.
+     * @param count Number of partitions. Must be a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    public SpillPartitions(QueryMemoryBudget budget, RowHandler<RowT> handler, RowFactory<RowT> factory, int count) {
+        assert count > 0 && (count & (count - 1)) == 0 : count;
+
+        files = new SpillFile[count];
+
+        for (int i = 0; i < count; i++) {
+            files[i] = budget.createSpillFile(handler, factory);
+        }
+    }
+
+    /**
+     * Appends the row to the partition the given hash belongs to.
+     *
+     * @param hash Hash of the row key.
+     * @param row Row.
+     */
+    public void write(int hash, RowT row) {
+        files[partition(hash, files.length)].write(row);
+    }
+
+    /** Flushes all partitions to disk and makes them available for reading. */
+    public void finishWrite() {
+        for (SpillFile<RowT> file : files) {
+            file.finishWrite();
+        }
+    }
+
+    /** Returns the number of partitions. */
+    public int count() {
+        return files.length;
+    }
+
+    /** Returns the total number of bytes written to all partitions. */
+    public long size() {
+        long size = 0;
+
+        for (SpillFile<RowT> file : files) {
+            size += file.size();
+        }
+
+        return size;
+    }
+
+    /** Returns a file of the partition with the given index. */
+    public SpillFile<RowT> partition(int idx) {
+        return files[idx];
+    }
+
+    /** Closes and removes from disk all the partitions. */
+    @Override
+    public void close() {
+        for (SpillFile<RowT> file : files) {
+            file.close();
+        }
+    }
+
+    /**
+     * Returns the index of a partition for the given hash.
+     *
+     * @param hash Hash of a key.
+     * @param count Number of partitions. Must be a power of two.
+     * @return Partition index.
+     */
+    public static int partition(int hash, int count) {
+        // Spread higher bits downwards, since hash codes of composite keys are sums of hash codes of their fields.
+        return (hash ^ (hash >>> 16)) & (count - 1);
+    }
+}
@@ -26,10 +26,16 @@ import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.lang.RunnableX;
 import org.apache.ignite.internal.sql.engine.api.expressions.ExpressionEvaluationException;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ObservedRowCounts;
+import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.lang.ErrorGroups.Sql;
 import org.apache.ignite.sql.SqlException;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -48,6 +54,9 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     /** Max count for parallel network requests. */
     static final int IO_BATCH_CNT = Commons.IO_BATCH_COUNT;
 
+    /** Target size of a network batch in bytes. */
+    static final int IO_BATCH_BYTES = Commons.IO_BATCH_BYTES;
+
     /** Execution node buffer size. */
     protected final int inBufSize;
 
@@ -62,6 +71,12 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
     private List<Node<RowT>> sources;
 
+    /** Amount of memory reserved with {@link #reserveOrFail(Object)}. */
+    private long reservedBytes;
+
+    /** Counter of rows pushed to the downstream, or {@code null} if rows are not counted. */
+    private ObservedRowCounts.@Nullable Counter rowCounter;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -104,6 +119,8 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
 
         closeInternal();
 
+        releaseReserved();
+
         if (!nullOrEmpty(sources())) {
             sources().forEach(Commons::closeQuiet);
         }
@@ -114,6 +131,10 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     public void rewind() {
         rewindInternal();
 
+        if (rowCounter != null) {
+            rowCounter.reset();
+        }
+
         if (!nullOrEmpty(sources())) {
             sources().forEach(Node::rewind);
         }
@@ -145,9 +166,36 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
     /** {@inheritDoc} */
     @Override
     public void onRegister(Downstream<RowT> downstream) {
+        if (rowCounter != null) {
+            downstream = downstream instanceof BatchDownstream
+                    ? new CountingBatchDownstream<>((BatchDownstream<RowT>) downstream, rowCounter)
+                    : new CountingDownstream<>(downstream, rowCounter);
+        }
+
         this.downstream = downstream;
     }
 
+    /**
+     * Makes the node count rows it pushes to the downstream. Must be called before the node is registered in its consumer.
+     *
+     * @param counter Counter of rows.
+     */
+    public void countRows(ObservedRowCounts.Counter counter) {
+        assert downstream == null : "Node is already registered";
+
+        rowCounter = counter;
+    }
+
+    /**
+     * Excludes the current execution of the node from the row count as the node is going to end without pushing all the rows
+     * of its input.
+     */
+    protected void skipRowCount() {
+        if (rowCounter != null) {
+            rowCounter.skip();
+        }
+    }
+
     /**
      * Processes given exception.
      *
@@ -169,6 +217,53 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
         closed = true;
     }
 
+    /**
+     * Accounts the row buffered by the node in the query memory budget.
+     *
+     * <p>Fails the query if either the query or the node memory quota is exceeded, thus is meant for nodes which are not able
+     * to offload their state to disk. Memory is released once the node is closed, or by {@link #releaseReserved()}.
+     *
+     * @param row Buffered row.
+     */
+    protected void reserveOrFail(RowT row) {
+        QueryMemoryBudget budget = ctx.memoryBudget();
+
+        if (!budget.spillEnabled()) {
+            return;
+        }
+
+        long size = RowSizeEstimator.estimate(ctx.rowAccessor(), row);
+
+        budget.reserveOrFail(size);
+
+        reservedBytes += size;
+    }
+
+    /** Releases memory reserved with {@link #reserveOrFail(Object)}. */
+    protected void releaseReserved() {
+        if (reservedBytes > 0) {
+            ctx.memoryBudget().release(reservedBytes);
+
+            reservedBytes = 0;
+        }
+    }
+
+    /**
+     * Pushes the selected rows of the batch to the downstream, either as a whole if the downstream accepts batches, or one
+     * by one otherwise.
+     *
+     * @param batch Batch of rows.
+     */
+    protected void pushDownstream(RowBatch<RowT> batch) throws Exception {
+        if (downstream instanceof BatchDownstream) {
+            ((BatchDownstream<RowT>) downstream).pushBatch(batch);
+        } else {
+            for (int i = 0; i < batch.selectedCount(); i++) {
+                downstream.push(batch.selectedRow(i));
+            }
+        }
+    }
+
     protected abstract void rewindInternal();
 
     /**
@@ -188,6 +283,10 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
         synchronized (this) {
             if (thread == null) {
                 thread = currentedThread;
+            } else if (thread != currentedThread
+                    && QueryTaskExecutorImpl.executesFragment(context().queryId(), context().fragmentId())) {
+                // The fragment has been stolen by another stripe, which never executes it concurrently with the previous one.
+                thread = currentedThread;
             } else {
                 assert thread == currentedThread : format("expThread={}, actThread={}, "
                                 + "executionId={}, fragmentId={}", thread.getName(), currentedThread.getName(),
@@ -219,4 +318,51 @@ public abstract class AbstractNode<RowT> implements Node<RowT> {
             Debuggable.dumpState(writer, Debuggable.childIndentation(indent), sources);
         }
     }
+
+    private static class CountingDownstream<RowT> implements Downstream<RowT> {
+        private final Downstream<RowT> delegate;
+
+        final ObservedRowCounts.Counter counter;
+
+        CountingDownstream(Downstream<RowT> delegate, ObservedRowCounts.Counter counter) {
+            this.delegate = delegate;
+            this.counter = counter;
+        }
+
+        @Override
+        public void push(RowT row) throws Exception {
+            counter.add(1);
+
+            delegate.push(row);
+        }
+
+        @Override
+        public void end() throws Exception {
+            counter.onEnd();
+
+            delegate.end();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            delegate.onError(e);
+        }
+    }
+
+    private static class CountingBatchDownstream<RowT> extends CountingDownstream<RowT> implements BatchDownstream<RowT> {
+        private final BatchDownstream<RowT> delegate;
+
+        CountingBatchDownstream(BatchDownstream<RowT> delegate, ObservedRowCounts.Counter counter) {
+            super(delegate, counter);
+
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void pushBatch(RowBatch<RowT> batch) throws Exception {
+            counter.add(batch.selectedCount());
+
+            delegate.pushBatch(batch);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
+
+/**
+ * Data consumer which is able to accept rows in batches.
+ *
+ * <p>Pushing a batch is equivalent to pushing every selected row of the batch one by one, thus the number of selected rows
+ * must not exceed the number of rows requested by the consumer. The batch may be reused by the producer once the method
+ * returns.
+ */
+public interface BatchDownstream<RowT> extends Downstream<RowT> {
+    /**
+     * Pushes a batch of rows to consumer.
+     *
+     * @param batch Batch of rows, only the selected rows are consumed.
+     */
+    void pushBatch(RowBatch<RowT> batch) throws Exception;
+}
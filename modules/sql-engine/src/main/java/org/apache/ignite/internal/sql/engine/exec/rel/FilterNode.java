@@ -21,17 +21,22 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * FilterNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
-public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, BatchDownstream<RowT> {
     private final Predicate<RowT> pred;
 
+    private final Consumer<RowBatch<RowT>> batchPred;
+
     private final Deque<RowT> inBuf = new ArrayDeque<>(inBufSize);
 
     private int requested;
@@ -48,9 +53,21 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
      * @param pred Predicate.
      */
     public FilterNode(ExecutionContext<RowT> ctx, Predicate<RowT> pred) {
+        this(ctx, pred, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param pred Predicate.
+     * @param batchPred Predicate to filter batches of rows with, or {@code null} to test the rows of a batch one by one.
+     */
+    public FilterNode(ExecutionContext<RowT> ctx, Predicate<RowT> pred, @Nullable Consumer<RowBatch<RowT>> batchPred) {
         super(ctx);
 
         this.pred = pred;
+        this.batchPred = batchPred != null ? batchPred : batch -> batch.retainIf(pred);
     }
 
     /** {@inheritDoc} */
@@ -81,6 +98,39 @@ public class FilterNode<RowT> extends AbstractNode<RowT> implements SingleNode<R
         filter();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(RowBatch<RowT> batch) throws Exception {
+        assert downstream() != null;
+        assert waiting >= batch.selectedCount();
+
+        waiting -= batch.selectedCount();
+
+        batchPred.accept(batch);
+
+        int selected = batch.selectedCount();
+
+        if (selected > 0) {
+            if (inBuf.isEmpty() && selected <= requested && downstream() instanceof BatchDownstream) {
+                // Nothing is buffered, so the order of rows is preserved if the batch is passed as is.
+                requested -= selected;
+
+                inLoop = true;
+                try {
+                    pushDownstream(batch);
+                } finally {
+                    inLoop = false;
+                }
+            } else {
+                for (int i = 0; i < selected; i++) {
+                    inBuf.add(batch.selectedRow(i));
+                }
+            }
+        }
+
+        filter();
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
@@ -40,16 +40,33 @@ import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsState;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillPartitions;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>If the query memory budget is limited and the groups don't fit into it, input rows of the groups that are not in memory yet
+ * are written to disk, partitioned by the hash of the group key. Groups kept in memory are emitted first, then spilled partitions
+ * are aggregated one by one. Rows of the same group always end up in the same partition, so every partition produces final groups.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    private static final int SPILL_PARTITIONS = 16;
+
     private final AggregateType type;
 
     private final RowFactory<RowT> rowFactory;
 
+    /** Factory to restore spilled input rows with. {@code null} if spilling is not possible. */
+    private final @Nullable RowFactory<RowT> inputRowFactory;
+
+    private final QueryMemoryBudget memoryBudget;
+
     /** A bit set that contains fields included in all grouping sets. */
     private final ImmutableBitSet allFields;
 
@@ -71,10 +88,28 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
     public HashAggregateNode(
             ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
             List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory) {
+        this(ctx, type, grpSets, accumulators, rowFactory, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param type Aggregation phase.
+     * @param grpSets Grouping sets.
+     * @param accumulators Accumulators.
+     * @param rowFactory Factory to create output rows with.
+     * @param inputRowFactory Factory to restore spilled input rows with, or {@code null} if the node must never spill.
+     */
+    public HashAggregateNode(
+            ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
+            List<AccumulatorWrapper<RowT>> accumulators, RowFactory<RowT> rowFactory, @Nullable RowFactory<RowT> inputRowFactory) {
         super(ctx);
 
         this.type = type;
         this.rowFactory = rowFactory;
+        this.memoryBudget = ctx.memoryBudget();
+        this.inputRowFactory = memoryBudget.spillEnabled() ? inputRowFactory : null;
 
         assert grpSets.size() <= Byte.MAX_VALUE : "Too many grouping sets";
 
@@ -136,6 +171,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = NOT_WAITING;
 
+        for (Grouping grouping : groupings) {
+            grouping.finishInput();
+        }
+
         flush();
     }
 
@@ -145,6 +184,16 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         requested = 0;
         waiting = 0;
         groupings.forEach(Grouping::reset);
+
+        releaseReserved();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::clear);
     }
 
     /** {@inheritDoc} */
@@ -211,7 +260,7 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private ArrayDeque<Grouping> groupingsQueue() {
         return groupings.stream()
-                .filter(g -> !g.isEmpty())
+                .filter(g -> !g.isExhausted())
                 .collect(toCollection(ArrayDeque::new));
     }
 
@@ -222,6 +271,15 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
 
+        /** Amount of memory reserved for the groups held by {@link #groups}. */
+        private long reservedBytes;
+
+        /** Input rows of the groups which didn't fit into memory. Once created, new groups are never added to {@link #groups}. */
+        private @Nullable SpillPartitions<RowT> spill;
+
+        /** Index of the spilled partition which groups are currently held by {@link #groups}. */
+        private int currentPartition = -1;
+
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
@@ -236,11 +294,23 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private void reset() {
-            groups.clear();
+            clear();
 
             init();
         }
 
+        private void clear() {
+            groups.clear();
+
+            Commons.closeQuiet(spill);
+
+            spill = null;
+            currentPartition = -1;
+
+            memoryBudget.release(reservedBytes);
+            reservedBytes = 0;
+        }
+
         private void add(RowT row) {
             RowHandler<RowT> handler = context().rowAccessor();
 
@@ -256,10 +326,123 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
             GroupKey grpKey = b.build();
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
+            if (inputRowFactory == null) {
+                AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+                if (aggRow == null) {
+                    reserveOrFail(row);
+
+                    aggRow = create();
+
+                    groups.put(grpKey, aggRow);
+                }
+
+                aggRow.update(accs, grpFields, handler, row);
+
+                return;
+            }
+
+            AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+            if (aggRow == null) {
+                if (spill == null) {
+                    long size = RowSizeEstimator.estimate(handler, row);
+
+                    if (memoryBudget.tryReserve(size)) {
+                        reservedBytes += size;
+                    } else {
+                        spill = new SpillPartitions<>(memoryBudget, handler, inputRowFactory, SPILL_PARTITIONS);
+                    }
+                }
+
+                if (spill != null) {
+                    spill.write(grpKey.hashCode(), row);
+
+                    return;
+                }
+
+                aggRow = create();
+
+                groups.put(grpKey, aggRow);
+            }
+
             aggRow.update(accs, grpFields, handler, row);
         }
 
+        /** Makes spilled partitions available for reading once the input is exhausted. */
+        private void finishInput() {
+            memoryBudget.onGroupsAggregated(groups.size());
+
+            if (spill != null) {
+                spill.finishWrite();
+
+                memoryBudget.onAggregationSpilled(spill.size());
+            }
+        }
+
+        /**
+         * Loads groups of the next non-empty spilled partition, if any.
+         *
+         * @return {@code true} if groups were loaded, {@code false} if there are no more partitions.
+         */
+        private boolean loadNextPartition() {
+            assert groups.isEmpty();
+
+            memoryBudget.release(reservedBytes);
+            reservedBytes = 0;
+
+            while (spill != null) {
+                if (++currentPartition == spill.count()) {
+                    spill.close();
+                    spill = null;
+
+                    return false;
+                }
+
+                RowHandler<RowT> handler = context().rowAccessor();
+
+                Cursor<RowT> rows = spill.partition(currentPartition).read();
+
+                while (rows.hasNext()) {
+                    RowT row = rows.next();
+
+                    GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+
+                    for (int field : grpFields) {
+                        b.add(handler.get(field, row));
+                    }
+
+                    GroupKey grpKey = b.build();
+
+                    AggregateRow<RowT> aggRow = groups.get(grpKey);
+
+                    if (aggRow == null) {
+                        // The partition has to be aggregated anyway, so memory is reserved regardless of the quota.
+                        long size = RowSizeEstimator.estimate(handler, row);
+
+                        memoryBudget.reserve(size);
+                        reservedBytes += size;
+
+                        aggRow = create();
+
+                        groups.put(grpKey, aggRow);
+                    }
+
+                    aggRow.update(accs, grpFields, handler, row);
+                }
+
+                spill.partition(currentPartition).close();
+
+                if (!groups.isEmpty()) {
+                    memoryBudget.onGroupsAggregated(groups.size());
+
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
         /**
          * Returns up to {@code cnt} rows collected by the given node group by group.
          *
@@ -313,8 +496,14 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
             return new AggregateRow<>(state, distinctSets);
         }
 
+        /** Returns {@code true} if there are no more groups to emit, loading the next spilled partition if necessary. */
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && !loadNextPartition();
+        }
+
+        /** Returns {@code true} if neither in-memory nor spilled groups are left, without loading spilled partitions. */
+        private boolean isExhausted() {
+            return groups.isEmpty() && spill == null;
         }
     }
 }
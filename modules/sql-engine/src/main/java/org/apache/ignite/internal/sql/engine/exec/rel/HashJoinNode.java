@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -35,13 +36,35 @@ import org.apache.calcite.rel.type.RelDataType;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlJoinProjection;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillPartitions;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.type.StructNativeType;
+import org.apache.ignite.internal.util.Cursor;
 import org.jetbrains.annotations.Nullable;
 
-/** HashJoin implementor. */
+/**
+ * HashJoin implementor.
+ *
+ * <p>The right input is materialized into the hash table. If the query runs out of its memory budget while the right input is
+ * being materialized, the node switches to the grace hash join: both inputs are partitioned by the hash of the join key into
+ * spill files, and then every pair of partitions is joined independently, loading only one right partition into memory at a time.
+ *
+ * <p>If unmatched rows of the left input are never emitted (INNER, RIGHT and SEMI joins) and the left input is received from
+ * remote fragments, the node builds a {@link RuntimeFilter} from the keys of the right input. Once the right input is over, the filter
+ * is sent to the remote fragments, so they don't send the rows having no match. The left input is not requested until the filter
+ * is sent.
+ */
 public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNode<RowT> {
     private static final int INITIAL_CAPACITY = 128;
+
+    /** Number of partitions both inputs are split into once the build side is spilled. */
+    private static final int SPILL_PARTITIONS = 16;
+
     private static final BiPredicate<?, ?> ALWAYS_TRUE = (l, r) -> true;
 
     /** All keys with null-fields are mapped to this object. */
@@ -56,21 +79,61 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
     final BiPredicate<RowT, RowT> nonEquiCondition;
 
+    /** Left row factory. */
+    final RowFactory<RowT> leftRowFactory;
+
+    /** Right row factory. */
+    final RowFactory<RowT> rightRowFactory;
+
+    /** Whether unmatched rows of the right input are being emitted (RIGHT and FULL OUTER joins only). */
+    boolean drainMaterialization;
+
+    private final QueryMemoryBudget memoryBudget;
+
+    /** Amount of memory reserved for the rows held by {@link #hashStore}. */
+    private long reservedBytes;
+
+    /** Partitions of the right input, not {@code null} once the build side has been spilled to disk. */
+    private @Nullable SpillPartitions<RowT> rightSpill;
+
+    /** Partitions of the left input, not {@code null} once the build side has been spilled to disk. */
+    private @Nullable SpillPartitions<RowT> leftSpill;
+
+    /** Index of the spilled partition being joined, or {@code -1} if the left input is not partitioned yet. */
+    private int currentPartition = -1;
+
+    /** Remaining rows of the left partition being joined. */
+    private @Nullable Cursor<RowT> leftPartitionRows;
+
+    /** Left input to send the runtime filter to, {@code null} if the filter is not applicable. */
+    private @Nullable Inbox<RowT> runtimeFilterTarget;
+
+    /** Builder of the runtime filter, {@code null} if the filter is not applicable or is already sent. */
+    private @Nullable RuntimeFilter.Builder<RowT> runtimeFilter;
+
     /**
      * Creates HashJoinNode.
      *
      * @param ctx Execution context.
      * @param joinInfo Join info.
+     * @param leftRowFactory Left row factory.
+     * @param rightRowFactory Right row factory.
      * @param nonEquiCondition Optional post-filtration predicate. If provided, only rows matching the predicate will be emitted as
      *         matched rows.
      */
     private HashJoinNode(
             ExecutionContext<RowT> ctx,
             JoinInfo joinInfo,
+            RowFactory<RowT> leftRowFactory,
+            RowFactory<RowT> rightRowFactory,
             @Nullable BiPredicate<RowT, RowT> nonEquiCondition
     ) {
         super(ctx);
 
+        this.leftRowFactory = leftRowFactory;
+        this.rightRowFactory = rightRowFactory;
+        this.memoryBudget = ctx.memoryBudget();
+
         leftJoinPositions = joinInfo.leftKeys.toIntArray();
         rightJoinPositions = joinInfo.rightKeys.toIntArray();
         assert leftJoinPositions.length == rightJoinPositions.length;
@@ -83,61 +146,78 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     @Override
     protected void rewindInternal() {
         rightIt = Collections.emptyIterator();
+        drainMaterialization = false;
 
-        hashStore.clear();
+        clearHashStore();
+        closeSpill();
+
+        runtimeFilter = createRuntimeFilter();
 
         super.rewindInternal();
     }
 
+    @Override
+    public void register(List<Node<RowT>> sources) {
+        super.register(sources);
+
+        if (filtersProbeSide() && leftJoinPositions.length > 0 && leftSource() instanceof Inbox) {
+            runtimeFilterTarget = (Inbox<RowT>) leftSource();
+            runtimeFilter = createRuntimeFilter();
+        }
+    }
+
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        clearHashStore();
+        closeSpill();
+    }
+
     /** Supplied algorithm implementation. */
     public static <RowT> HashJoinNode<RowT> create(ExecutionContext<RowT> ctx, @Nullable SqlJoinProjection projection,
             RelDataType leftRowType, RelDataType rightRowType, JoinRelType joinType, JoinInfo joinInfo,
             @Nullable BiPredicate<RowT, RowT> nonEquiCondition) {
 
+        StructNativeType leftRowSchema = convertStructuredType(leftRowType);
+        StructNativeType rightRowSchema = convertStructuredType(rightRowType);
+
+        // Factories are required by outer joins to create empty rows, and by any join to restore spilled rows.
+        RowFactory<RowT> leftRowFactory = ctx.rowFactoryFactory().create(leftRowSchema);
+        RowFactory<RowT> rightRowFactory = ctx.rowFactoryFactory().create(rightRowSchema);
+
         switch (joinType) {
             case INNER:
                 assert projection != null;
 
-                return new InnerHashJoin<>(ctx, joinInfo, projection, nonEquiCondition);
+                return new InnerHashJoin<>(ctx, joinInfo, projection, leftRowFactory, rightRowFactory, nonEquiCondition);
 
-            case LEFT: {
+            case LEFT:
                 assert projection != null;
 
-                StructNativeType rightRowSchema = convertStructuredType(rightRowType);
-                RowFactory<RowT> rightRowFactory = ctx.rowFactoryFactory().create(rightRowSchema);
+                return new LeftHashJoin<>(ctx, joinInfo, projection, leftRowFactory, rightRowFactory, nonEquiCondition);
 
-                return new LeftHashJoin<>(ctx, joinInfo, projection, rightRowFactory, nonEquiCondition);
-            }
-            case RIGHT: {
+            case RIGHT:
                 assert projection != null;
 
-                StructNativeType leftRowSchema = convertStructuredType(leftRowType);
-                RowFactory<RowT> leftRowFactory = ctx.rowFactoryFactory().create(leftRowSchema);
+                return new RightHashJoin<>(ctx, joinInfo, projection, leftRowFactory, rightRowFactory, nonEquiCondition);
 
-                return new RightHashJoin<>(ctx, joinInfo, projection, leftRowFactory, nonEquiCondition);
-            }
-            case FULL: {
+            case FULL:
                 assert projection != null;
 
-                StructNativeType leftRowSchema = convertStructuredType(leftRowType);
-                StructNativeType rightRowSchema = convertStructuredType(rightRowType);
-
-                RowFactory<RowT> leftRowFactory = ctx.rowFactoryFactory().create(leftRowSchema);
-                RowFactory<RowT> rightRowFactory = ctx.rowFactoryFactory().create(rightRowSchema);
-
                 return new FullOuterHashJoin<>(
                         ctx, joinInfo, projection, leftRowFactory, rightRowFactory, nonEquiCondition
                 );
-            }
+
             case SEMI:
                 assert projection == null;
 
-                return new SemiHashJoin<>(ctx, joinInfo, nonEquiCondition);
+                return new SemiHashJoin<>(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             case ANTI:
                 assert projection == null;
 
-                return new AntiHashJoin<>(ctx, joinInfo, nonEquiCondition);
+                return new AntiHashJoin<>(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             default:
                 throw new IllegalStateException("Join type \"" + joinType + "\" is not supported yet");
@@ -153,22 +233,31 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
          * @param ctx Execution context.
          * @param joinInfo Join info.
          * @param outputProjection Output projection.
+         * @param leftRowFactory Left row factory.
+         * @param rightRowFactory Right row factory.
          */
         private InnerHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
                 SqlJoinProjection outputProjection,
+                RowFactory<RowT> leftRowFactory,
+                RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             this.outputProjection = outputProjection;
         }
 
+        @Override
+        protected boolean filtersProbeSide() {
+            return true;
+        }
+
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
-            if (waitingRight == NOT_WAITING && hashStore.isEmpty()) {
+            if (buildSideEmpty()) {
                 waitingLeft--;
 
                 if (waitingLeft == 0) {
@@ -185,7 +274,7 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         }
 
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -247,8 +336,6 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     }
 
     private static class LeftHashJoin<RowT> extends HashJoinNode<RowT> {
-        /** Right row factory. */
-        private final RowFactory<RowT> rightRowFactory;
         private final SqlJoinProjection outputProjection;
 
         private boolean matched;
@@ -259,19 +346,20 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
          * @param ctx Execution context.
          * @param joinInfo Join info.
          * @param outputProjection Output projection.
+         * @param leftRowFactory Left row factory.
          * @param rightRowFactory Right row factory.
          */
         private LeftHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
                 SqlJoinProjection outputProjection,
+                RowFactory<RowT> leftRowFactory,
                 RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             this.outputProjection = outputProjection;
-            this.rightRowFactory = rightRowFactory;
         }
 
         /** {@inheritDoc} */
@@ -282,9 +370,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             super.rewindInternal();
         }
 
-        /** {@inheritDoc} */
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -364,12 +451,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     }
 
     private static class RightHashJoin<RowT> extends HashJoinNode<RowT> {
-        /** Left row factory. */
-        private final RowFactory<RowT> leftRowFactory;
         private final SqlJoinProjection outputProjection;
 
-        private boolean drainMaterialization;
-
         /**
          * Creates HashJoinNode for RIGHT OUTER JOIN operator.
          *
@@ -377,36 +460,34 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
          * @param joinInfo Join info.
          * @param outputProjection Output projection.
          * @param leftRowFactory Left row factory.
+         * @param rightRowFactory Right row factory.
          */
         private RightHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
                 SqlJoinProjection outputProjection,
                 RowFactory<RowT> leftRowFactory,
+                RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             if (nonEquiCondition != null) {
                 throw new IllegalStateException("Non equi condition is not supported in RIGHT join");
             }
 
             this.outputProjection = outputProjection;
-            this.leftRowFactory = leftRowFactory;
         }
 
-        /** {@inheritDoc} */
         @Override
-        protected void rewindInternal() {
-            drainMaterialization = false;
-
-            super.rewindInternal();
+        protected boolean filtersProbeSide() {
+            return true;
         }
 
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
-            if (waitingRight == NOT_WAITING && hashStore.isEmpty()) {
+            if (buildSideEmpty()) {
                 waitingLeft--;
 
                 if (waitingLeft == 0) {
@@ -423,7 +504,7 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         }
 
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -477,7 +558,7 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             }
 
             // Emit unmatched right rows.
-            if (left == null && leftInBuf.isEmpty() && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && requested > 0) {
+            if (left == null && leftInBuf.isEmpty() && probeSideExhausted() && waitingRight == NOT_WAITING && requested > 0) {
                 inLoop = true;
                 int processed = 0;
                 try {
@@ -518,15 +599,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
     }
 
     private static class FullOuterHashJoin<RowT> extends HashJoinNode<RowT> {
-        /** Left row factory. */
-        private final RowFactory<RowT> leftRowFactory;
-
-        /** Right row factory. */
-        private final RowFactory<RowT> rightRowFactory;
         private final SqlJoinProjection outputProjection;
 
-        private boolean drainMaterialization;
-
         /**
          * Creates HashJoinNode for FULL OUTER JOIN operator.
          *
@@ -544,28 +618,17 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
                 RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             if (nonEquiCondition != null) {
                 throw new IllegalStateException("Non equi condition is not supported in FULL OUTER join");
             }
 
             this.outputProjection = outputProjection;
-            this.leftRowFactory = leftRowFactory;
-            this.rightRowFactory = rightRowFactory;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected void rewindInternal() {
-            drainMaterialization = false;
-
-            super.rewindInternal();
         }
 
-        /** {@inheritDoc} */
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -624,7 +687,7 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             }
 
             // Emit unmatched right rows.
-            if (left == null && leftInBuf.isEmpty() && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && requested > 0) {
+            if (left == null && leftInBuf.isEmpty() && probeSideExhausted() && waitingRight == NOT_WAITING && requested > 0) {
                 inLoop = true;
                 int processed = 0;
                 try {
@@ -670,21 +733,30 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
          *
          * @param ctx Execution context.
          * @param joinInfo Join info.
+         * @param leftRowFactory Left row factory.
+         * @param rightRowFactory Right row factory.
          * @param nonEquiCondition Optional post-filtration predicate. If provided, only rows matching the predicate will be emitted as
          *         matched rows.
          */
         private SemiHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowFactory<RowT> leftRowFactory,
+                RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
+        }
+
+        @Override
+        protected boolean filtersProbeSide() {
+            return true;
         }
 
         @Override
         protected void pushLeft(RowT row) throws Exception {
             // Prevent fetching left if right is empty.
-            if (waitingRight == NOT_WAITING && hashStore.isEmpty()) {
+            if (buildSideEmpty()) {
                 waitingLeft--;
 
                 if (waitingLeft == 0) {
@@ -700,9 +772,8 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             super.pushLeft(row);
         }
 
-        /** {@inheritDoc} */
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -774,24 +845,27 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
          *
          * @param ctx Execution context.
          * @param joinInfo Join info.
+         * @param leftRowFactory Left row factory.
+         * @param rightRowFactory Right row factory.
          * @param nonEquiCondition Optional post-filtration predicate. If provided, only rows matching the predicate will be emitted as
          *         matched rows.
          */
         private AntiHashJoin(
                 ExecutionContext<RowT> ctx,
                 JoinInfo joinInfo,
+                RowFactory<RowT> leftRowFactory,
+                RowFactory<RowT> rightRowFactory,
                 @Nullable BiPredicate<RowT, RowT> nonEquiCondition
         ) {
-            super(ctx, joinInfo, nonEquiCondition);
+            super(ctx, joinInfo, leftRowFactory, rightRowFactory, nonEquiCondition);
 
             if (nonEquiCondition != null) {
                 throw new IllegalStateException("Non equi condition is not supported in ANTI join");
             }
         }
 
-        /** {@inheritDoc} */
         @Override
-        protected void join() throws Exception {
+        protected void joinInternal() throws Exception {
             if (waitingRight == NOT_WAITING) {
                 inLoop = true;
                 int processed = 0;
@@ -891,11 +965,23 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
 
         Key key = extractKey(row, rightJoinPositions);
 
+        if (runtimeFilter != null && key != NULL_KEY) {
+            runtimeFilter.add(row);
+        }
+
         // No need to store the row in hashStore, if it contains NULL,
         // and we are not going to emit right part alone (like in RIGHT and FULL OUTER joins)
         if (keepRowsWithNull() || key != NULL_KEY) {
-            TouchedCollection<RowT> raw = hashStore.computeIfAbsent(key, k -> new TouchedCollection<>());
-            raw.add(row);
+            if (rightSpill == null && !tryReserve(row)) {
+                spillBuildSide();
+            }
+
+            if (rightSpill != null) {
+                rightSpill.write(hash(key), row);
+            } else {
+                TouchedCollection<RowT> raw = hashStore.computeIfAbsent(key, k -> new TouchedCollection<>());
+                raw.add(row);
+            }
         }
 
         if (waitingRight == 0) {
@@ -903,6 +989,171 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         }
     }
 
+    @Override
+    protected final void join() throws Exception {
+        if (runtimeFilter != null && waitingRight == NOT_WAITING) {
+            sendRuntimeFilter();
+        }
+
+        if (rightSpill != null && waitingRight == NOT_WAITING && currentPartition < 0) {
+            partitionProbeSide();
+
+            return;
+        }
+
+        joinInternal();
+    }
+
+    /** Joins buffered rows of the left input with the rows materialized in {@link #hashStore}. */
+    protected abstract void joinInternal() throws Exception;
+
+    /** Returns {@code true} if the right input is over and it has no rows to join with. */
+    boolean buildSideEmpty() {
+        return waitingRight == NOT_WAITING && rightSpill == null && hashStore.isEmpty();
+    }
+
+    /** Returns {@code true} if there are no more rows of the left input to join with {@link #hashStore}, except buffered ones. */
+    boolean probeSideExhausted() {
+        return waitingLeft == NOT_WAITING && (leftPartitionRows == null || !leftPartitionRows.hasNext());
+    }
+
+    private boolean tryReserve(RowT row) {
+        if (!memoryBudget.spillEnabled()) {
+            return true;
+        }
+
+        long size = RowSizeEstimator.estimate(context().rowAccessor(), row);
+
+        if (!memoryBudget.tryReserve(size)) {
+            return false;
+        }
+
+        reservedBytes += size;
+
+        return true;
+    }
+
+    /** Moves the materialized rows of the right input to disk. All subsequent rows of the right input go to disk as well. */
+    private void spillBuildSide() {
+        RowHandler<RowT> handler = context().rowAccessor();
+
+        rightSpill = new SpillPartitions<>(memoryBudget, handler, rightRowFactory, SPILL_PARTITIONS);
+        leftSpill = new SpillPartitions<>(memoryBudget, handler, leftRowFactory, SPILL_PARTITIONS);
+
+        for (Map.Entry<Key, TouchedCollection<RowT>> entry : hashStore.entrySet()) {
+            int hash = hash(entry.getKey());
+
+            for (RowT row : entry.getValue().items()) {
+                rightSpill.write(hash, row);
+            }
+        }
+
+        clearHashStore();
+    }
+
+    /** Moves the rows of the left input to disk, and starts joining the partitions once the left input is over. */
+    private void partitionProbeSide() throws Exception {
+        assert rightSpill != null && leftSpill != null;
+
+        inLoop = true;
+        try {
+            while (!leftInBuf.isEmpty()) {
+                RowT row = leftInBuf.remove();
+
+                leftSpill.write(hash(extractKey(row, leftJoinPositions)), row);
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (waitingLeft == 0) {
+            leftSource().request(waitingLeft = inBufSize);
+        } else if (waitingLeft == NOT_WAITING) {
+            rightSpill.finishWrite();
+            leftSpill.finishWrite();
+
+            nextPartition();
+
+            joinInternal();
+        }
+    }
+
+    /**
+     * Loads the next non-empty pair of partitions: right partition is materialized into {@link #hashStore}, and left partition
+     * becomes the source of the left rows.
+     *
+     * <p>The right partition is loaded regardless of the memory budget, since there is no way to split it any further.
+     *
+     * @return {@code false} if there are no more partitions to join.
+     */
+    private boolean nextPartition() {
+        assert rightSpill != null && leftSpill != null;
+
+        clearHashStore();
+
+        rightIt = Collections.emptyIterator();
+        drainMaterialization = false;
+
+        if (leftPartitionRows != null) {
+            leftPartitionRows.close();
+
+            leftPartitionRows = null;
+        }
+
+        while (++currentPartition < rightSpill.count()) {
+            SpillFile<RowT> rightFile = rightSpill.partition(currentPartition);
+            SpillFile<RowT> leftFile = leftSpill.partition(currentPartition);
+
+            if (rightFile.rowsCount() == 0 && leftFile.rowsCount() == 0) {
+                continue;
+            }
+
+            RowHandler<RowT> handler = context().rowAccessor();
+
+            try (Cursor<RowT> rows = rightFile.read()) {
+                while (rows.hasNext()) {
+                    RowT row = rows.next();
+
+                    long size = RowSizeEstimator.estimate(handler, row);
+
+                    memoryBudget.reserve(size);
+                    reservedBytes += size;
+
+                    hashStore.computeIfAbsent(extractKey(row, rightJoinPositions), k -> new TouchedCollection<>()).add(row);
+                }
+            }
+
+            leftPartitionRows = leftFile.read();
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private void clearHashStore() {
+        hashStore.clear();
+
+        memoryBudget.release(reservedBytes);
+        reservedBytes = 0;
+    }
+
+    private void closeSpill() {
+        Commons.closeQuiet(leftPartitionRows);
+        Commons.closeQuiet(rightSpill);
+        Commons.closeQuiet(leftSpill);
+
+        leftPartitionRows = null;
+        rightSpill = null;
+        leftSpill = null;
+        currentPartition = -1;
+    }
+
+    /** Returns hash of the join key, keys with NULL fields are never matched, so they are all put into the same partition. */
+    private static int hash(Key key) {
+        return key == NULL_KEY ? 0 : key.hashCode();
+    }
+
     private Key extractKey(RowT row, int[] mapping) {
         RowHandler<RowT> handler = context().rowAccessor();
 
@@ -968,14 +1219,34 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
             rightSource().request(waitingRight = inBufSize);
         }
 
-        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+        // Left input is requested only after the runtime filter is sent, so the remote sources can apply it from the very beginning.
+        if (waitingLeft == 0 && leftInBuf.isEmpty() && runtimeFilter == null) {
             leftSource().request(waitingLeft = inBufSize);
         }
 
+        if (leftInBuf.isEmpty() && leftPartitionRows != null && leftPartitionRows.hasNext()) {
+            while (leftInBuf.size() < inBufSize && leftPartitionRows.hasNext()) {
+                leftInBuf.add(leftPartitionRows.next());
+            }
+
+            if (requested > 0) {
+                execute(this::join);
+            }
+
+            return;
+        }
+
         if (requested > 0 && waitingLeft == NOT_WAITING && waitingRight == NOT_WAITING && leftInBuf.isEmpty() && left == null
                 && !rightIt.hasNext()) {
+            if (rightSpill != null && nextPartition()) {
+                execute(this::join);
+
+                return;
+            }
+
             requested = 0;
-            hashStore.clear();
+            clearHashStore();
+            closeSpill();
             downstream().end();
         }
     }
@@ -991,6 +1262,34 @@ public abstract class HashJoinNode<RowT> extends AbstractRightMaterializedJoinNo
         return false;
     }
 
+    /**
+     * Returns {@code true} if the rows of the left input that have no match in the right input are never emitted, thus the left input
+     * may be filtered with the keys of the right input.
+     */
+    protected boolean filtersProbeSide() {
+        return false;
+    }
+
+    private @Nullable RuntimeFilter.Builder<RowT> createRuntimeFilter() {
+        if (runtimeFilterTarget == null) {
+            return null;
+        }
+
+        return RuntimeFilter.builder(context().rowAccessor(), rightJoinPositions, leftJoinPositions);
+    }
+
+    private void sendRuntimeFilter() {
+        assert runtimeFilter != null && runtimeFilterTarget != null;
+
+        RuntimeFilter filter = runtimeFilter.build();
+
+        runtimeFilter = null;
+
+        if (filter != null) {
+            runtimeFilterTarget.sendRuntimeFilter(filter);
+        }
+    }
+
     private static class TouchedCollection<RowT> {
         Collection<RowT> coll;
         boolean touched;
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.calcite.util.Util.unexpected;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -28,19 +29,23 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.function.LongConsumer;
 import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.lang.Debuggable;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.sql.engine.NodeLeftException;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ColumnarBatch;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.ErrorGroups.Common;
@@ -51,6 +56,15 @@ import org.jetbrains.annotations.TestOnly;
  * A part of exchange which receives batches from remote sources.
  */
 public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, SingleNode<RowT> {
+    /** Initial amount of bytes a remote source may have in flight. */
+    static final long INITIAL_WINDOW = (long) IO_BATCH_CNT * IO_BATCH_BYTES;
+
+    /** Maximal amount of bytes a remote source may have in flight. */
+    static final long MAX_WINDOW = 16 * INITIAL_WINDOW;
+
+    /** Maximal number of batches a remote source may have in flight. */
+    static final int MAX_IN_FLIGHT_BATCHES = 16 * IO_BATCH_CNT;
+
     private final ExchangeService exchange;
     private final MailboxRegistry registry;
     private final long exchangeId;
@@ -99,7 +113,11 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         Map<String, RemoteSource<RowT>> sources = new HashMap<>();
         for (String nodeName : srcNodeNames) {
-            sources.put(nodeName, new RemoteSource<>((cnt, state) -> requestBatches(nodeName, cnt, state)));
+            sources.put(nodeName, new RemoteSource<>(
+                    (cnt, state) -> requestBatches(nodeName, cnt, state),
+                    ctx.memoryBudget(),
+                    exchange::onBufferedBytesChanged
+            ));
         }
 
         this.perNodeBuffers = Map.copyOf(sources);
@@ -129,6 +147,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         super.closeInternal();
 
         registry.unregister(this);
+
+        perNodeBuffers.values().forEach(RemoteSource::releaseMemory);
     }
 
     /** {@inheritDoc} */
@@ -183,22 +203,57 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
      * @param srcNodeName Source node consistent id.
      * @param batchId Batch ID.
      * @param last Last batch flag.
-     * @param rows Rows.
+     * @param rows Rows packed into a {@link ColumnarBatch columnar batch}.
+     * @param rowCounts Numbers of rows observed by scans of the source fragment, sent with the last batch only.
      */
-    public void onBatchReceived(String srcNodeName, int batchId, boolean last, List<BinaryTupleMessage> rows) throws Exception {
+    public void onBatchReceived(String srcNodeName, int batchId, boolean last, ByteBuffer rows, long @Nullable [] rowCounts)
+            throws Exception {
         checkState();
 
-        RemoteSource<RowT> source = perNodeBuffers.get(srcNodeName);
+        ColumnarBatch batch = ColumnarBatch.read(rows);
 
-        boolean waitingBefore = source.check() == State.WAITING;
+        List<RowT> rows0 = new ArrayList<>(batch.rowCount());
+
+        for (int i = 0; i < batch.rowCount(); i++) {
+            rows0.add(rowFactory.create(batch.row(i)));
+        }
 
-        List<RowT> rows0 = new ArrayList<>(rows.size());
+        // Buffered batches are bounded by the flow control, so their memory is accounted, but never leads to failure.
+        long size = context().memoryBudget().spillEnabled() ? RowSizeEstimator.estimateBatch(batch.rowCount(), batch.size()) : 0;
 
-        for (BinaryTupleMessage row : rows) {
-            rows0.add(rowFactory.create(row.asBinaryTuple()));
+        onBatchReceived0(srcNodeName, batchId, last, rows0, size, batch.size(), rowCounts);
+    }
+
+    /**
+     * Pushes a batch sent by a fragment executed on the local node into a buffer.
+     *
+     * @param srcNodeName Source node consistent id.
+     * @param batchId Batch ID.
+     * @param last Last batch flag.
+     * @param rows Rows, the list is owned by the inbox since then.
+     * @param bytes Estimated size of the rows in bytes.
+     * @param rowCounts Numbers of rows observed by scans of the source fragment, sent with the last batch only.
+     */
+    public void onBatchReceived(String srcNodeName, int batchId, boolean last, List<RowT> rows, long bytes,
+            long @Nullable [] rowCounts) throws Exception {
+        checkState();
+
+        long size = context().memoryBudget().spillEnabled() ? bytes : 0;
+
+        onBatchReceived0(srcNodeName, batchId, last, rows, size, bytes, rowCounts);
+    }
+
+    private void onBatchReceived0(String srcNodeName, int batchId, boolean last, List<RowT> rows, long size, long bytes,
+            long @Nullable [] rowCounts) throws Exception {
+        if (last) {
+            context().observedRowCounts().merge(rowCounts);
         }
 
-        source.onBatchReceived(batchId, last, rows0);
+        RemoteSource<RowT> source = perNodeBuffers.get(srcNodeName);
+
+        boolean waitingBefore = source.check() == State.WAITING;
+
+        source.onBatchReceived(batchId, last, rows, size, bytes);
 
         if (requested > 0 && waitingBefore && source.check() != State.WAITING) {
             push();
@@ -247,7 +302,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     private void pushOrdered() throws Exception {
         if (!checkAllBuffsReady(remoteSources.iterator())) {
             for (RemoteSource<RowT> remote : remoteSources) {
-                remote.requestNextBatchIfNeeded();
+                remote.requestNextBatchIfNeeded(requested > 0);
             }
 
             return;
@@ -307,7 +362,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
 
         for (RemoteSource<?> remote : remoteSources) {
-            remote.requestNextBatchIfNeeded();
+            remote.requestNextBatchIfNeeded(requested > 0);
         }
 
         if (requested > 0 && remoteSources.isEmpty() && heap.isEmpty()) {
@@ -366,7 +421,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
 
         for (RemoteSource<?> source : remoteSources) {
-            source.requestNextBatchIfNeeded();
+            source.requestNextBatchIfNeeded(requested > 0);
         }
 
         if (requested > 0 && remoteSources.isEmpty()) {
@@ -391,6 +446,31 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
                 });
     }
 
+    /**
+     * Sends the filter to all the remote sources. Remote sources drop the rows not accepted by the filter instead of sending them.
+     *
+     * @param filter Filter of the rows of the remote sources.
+     */
+    public void sendRuntimeFilter(RuntimeFilter filter) {
+        ByteBuffer buffer = filter.toByteBuffer();
+
+        for (String nodeName : srcNodeNames) {
+            exchange.sendRuntimeFilter(nodeName, executionId(), srcFragmentId, exchangeId, buffer.duplicate())
+                    .whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                            IgniteInternalException wrapperEx = ExceptionUtils.withCause(
+                                    IgniteInternalException::new,
+                                    Common.INTERNAL_ERR,
+                                    "Unable to send runtime filter: " + ex.getMessage(),
+                                    ex
+                            );
+
+                            this.execute(() -> onError(wrapperEx));
+                        }
+                    });
+        }
+    }
+
     /** Notifies the inbox that provided node has left the cluster. */
     public void onNodeLeft(InternalClusterNode node, long version) {
         Long topologyVersion = context().topologyVersion();
@@ -416,12 +496,20 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         private final List<RowT> rows;
 
+        /** Estimated size of the rows in bytes. */
+        private final long size;
+
+        /** Size of the batch as received in bytes. */
+        private final long bytes;
+
         private int idx;
 
-        private Batch(int batchId, boolean last, List<RowT> rows) {
+        private Batch(int batchId, boolean last, List<RowT> rows, long size, long bytes) {
             this.batchId = batchId;
             this.last = last;
             this.rows = rows;
+            this.size = size;
+            this.bytes = bytes;
         }
 
         /** {@inheritDoc} */
@@ -455,6 +543,12 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     /**
      * An object to keep track of batches and their order from particular remote source.
      *
+     * <p>The number of batches requested from the source is driven by a window of bytes the source is allowed to have in flight,
+     * i.e. requested but not yet consumed. The window is converted to a number of batches with the average size of the received
+     * batches, thus batches of wide rows are requested by fewer at a time than batches of narrow ones. The window grows twice when
+     * the downstream is starving for rows of this source, and shrinks by a batch when a received batch has to wait for the
+     * downstream to consume the previous one.
+     *
      * @param <RowT> A type if the rows received in batches.
      * @see State
      */
@@ -542,8 +636,29 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         private @Nullable SharedState sharedStateHolder = null;
 
-        private RemoteSource(BatchRequester batchRequester) {
+        private final QueryMemoryBudget memoryBudget;
+
+        private final LongConsumer bufferedBytesListener;
+
+        /** Amount of memory reserved for the received but not yet drained batches. */
+        private long reservedBytes;
+
+        /** Amount of bytes the source may have in flight. */
+        private long window = INITIAL_WINDOW;
+
+        /** Whether the window has grown since the last received batch. */
+        private boolean grown;
+
+        /** Moving average of the size of the received batches in bytes, zero until a non-empty batch is received. */
+        private long avgBatchBytes;
+
+        /** Size of the received but not yet drained batches in bytes. */
+        private long bufferedBytes;
+
+        private RemoteSource(BatchRequester batchRequester, QueryMemoryBudget memoryBudget, LongConsumer bufferedBytesListener) {
             this.batchRequester = batchRequester;
+            this.memoryBudget = memoryBudget;
+            this.bufferedBytesListener = bufferedBytesListener;
         }
 
         /**
@@ -556,13 +671,15 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             sharedStateHolder = state;
             batches.clear();
 
+            releaseMemory();
+
             this.lastEnqueued = lastRequested;
             this.state = State.WAITING;
             this.curr = null;
         }
 
         /** A handler for batches received from remote source. */
-        void onBatchReceived(int id, boolean last, List<RowT> rows) {
+        void onBatchReceived(int id, boolean last, List<RowT> rows, long size, long bytes) {
             if (id <= lastEnqueued) {
                 // most probably it's a batch that was prefetched in advance,
                 // but the execution tree has been rewinded, so we just silently
@@ -570,7 +687,19 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
                 return;
             }
 
-            batches.offer(new Batch<>(id, last, rows));
+            memoryBudget.reserve(size);
+            reservedBytes += size;
+
+            bufferedBytes += bytes;
+            bufferedBytesListener.accept(bytes);
+
+            if (!rows.isEmpty()) {
+                avgBatchBytes = avgBatchBytes == 0 ? bytes : (3 * avgBatchBytes + bytes) / 4;
+            }
+
+            grown = false;
+
+            batches.offer(new Batch<>(id, last, rows, size, bytes));
 
             if (state == State.WAITING && id == lastEnqueued + 1) {
                 advanceBatch();
@@ -579,12 +708,21 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         /**
          * Requests another several batches from remote source if a count of in-flight batches is less or equal than half of
-         * {@link #IO_BATCH_CNT}.
+         * the number of batches fitting into the window.
+         *
+         * @param demanded Whether the downstream is waiting for rows.
          */
-        void requestNextBatchIfNeeded() throws IgniteInternalCheckedException {
-            int maxInFlightCount = Math.max(IO_BATCH_CNT, 1);
+        void requestNextBatchIfNeeded(boolean demanded) throws IgniteInternalCheckedException {
             int currentInFlightCount = lastRequested - lastEnqueued;
 
+            if (demanded && state == State.WAITING && currentInFlightCount > 0 && !grown) {
+                // The downstream has consumed all the batches before the next one arrived.
+                window = Math.min(window * 2, MAX_WINDOW);
+                grown = true;
+            }
+
+            int maxInFlightCount = (int) Math.max(1, Math.min(MAX_IN_FLIGHT_BATCHES, window / batchBytes()));
+
             if (maxInFlightCount / 2 >= currentInFlightCount) {
                 int countOfBatches = maxInFlightCount - currentInFlightCount;
 
@@ -625,9 +763,20 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             RowT row = curr.rows.set(curr.idx++, null);
 
             if (curr.idx == curr.rows.size()) {
+                memoryBudget.release(curr.size);
+                reservedBytes -= curr.size;
+
+                bufferedBytes -= curr.bytes;
+                bufferedBytesListener.accept(-curr.bytes);
+
                 if (curr.last) {
                     state = State.END;
                 } else {
+                    if (hasNextBatch()) {
+                        // The next batch has been waiting for the downstream, less data in flight is enough.
+                        window = Math.max(window - batchBytes(), batchBytes());
+                    }
+
                     advanceBatch();
                 }
             }
@@ -635,6 +784,19 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             return row;
         }
 
+        /** Releases memory reserved for all buffered batches. */
+        void releaseMemory() {
+            memoryBudget.release(reservedBytes);
+            reservedBytes = 0;
+
+            bufferedBytesListener.accept(-bufferedBytes);
+            bufferedBytes = 0;
+        }
+
+        private long batchBytes() {
+            return avgBatchBytes > 0 ? avgBatchBytes : IO_BATCH_BYTES;
+        }
+
         private boolean hasNextBatch() {
             return !batches.isEmpty() && batches.peek().batchId == lastEnqueued + 1;
         }
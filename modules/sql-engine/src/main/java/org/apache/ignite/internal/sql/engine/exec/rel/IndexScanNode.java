@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -25,6 +26,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.calcite.rel.RelFieldCollation;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
@@ -36,6 +38,7 @@ import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeIterable;
 import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
 import org.apache.ignite.internal.sql.engine.schema.TableDescriptor;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.SubscriptionUtils;
@@ -65,6 +68,9 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
 
     private final List<String> columns;
 
+    /** Positions of the required columns among the index columns if the values are read from the index rows. */
+    private final int @Nullable [] indexColumnsMapping;
+
     /**
      * Constructor.
      *
@@ -90,6 +96,38 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
             @Nullable ImmutableIntList requiredColumns
+    ) {
+        this(ctx, rowFactory, schemaIndex, table, tableDescriptor, partitionProvider, comp, rangeConditions, filters, rowTransformer,
+                requiredColumns, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param rowFactory Row factory.
+     * @param tableDescriptor Table descriptor.
+     * @param partitionProvider Partition provider.
+     * @param comp Rows comparator.
+     * @param rangeConditions Range conditions.
+     * @param filters Optional filter to filter out rows.
+     * @param rowTransformer Optional projection function.
+     * @param requiredColumns Optional set of column of interest.
+     * @param indexOnly Whether the index covers the required columns, thus the values may be read from the index rows.
+     */
+    public IndexScanNode(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            IgniteIndex schemaIndex,
+            ScannableTable table,
+            TableDescriptor tableDescriptor,
+            PartitionProvider<RowT> partitionProvider,
+            @Nullable Comparator<RowT> comp,
+            @Nullable RangeIterable<RowT> rangeConditions,
+            @Nullable Predicate<RowT> filters,
+            @Nullable Function<RowT, RowT> rowTransformer,
+            @Nullable ImmutableIntList requiredColumns,
+            boolean indexOnly
     ) {
         super(ctx, filters, rowTransformer);
 
@@ -106,6 +144,24 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
                 .map(tableDescriptor::columnDescriptor)
                 .map(ColumnDescriptor::name)
                 .collect(Collectors.toList());
+
+        indexColumnsMapping = indexOnly ? indexColumnsMapping(schemaIndex, tableDescriptor, this.requiredColumns) : null;
+    }
+
+    private static int[] indexColumnsMapping(IgniteIndex index, TableDescriptor tableDescriptor, int @Nullable [] requiredColumns) {
+        List<Integer> indexColumns = index.collation().getKeys();
+
+        int[] mapping = requiredColumns == null
+                ? IntStream.range(0, tableDescriptor.columnsCount()).toArray()
+                : requiredColumns.clone();
+
+        for (int i = 0; i < mapping.length; i++) {
+            mapping[i] = indexColumns.indexOf(mapping[i]);
+
+            assert mapping[i] >= 0 : "Index doesn't cover the required columns [index=" + index.name() + ']';
+        }
+
+        return mapping;
     }
 
     /** {@inheritDoc} */
@@ -113,21 +169,37 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
     protected Publisher<RowT> scan() {
         List<PartitionWithConsistencyToken> partitions = partitionProvider.getPartitions(context());
 
-        if (rangeConditions != null) {
-            return SubscriptionUtils.concat(
-                    new TransformingIterator<>(rangeConditions.iterator(), cond -> indexPublisher(partitions, cond)));
-        } else {
-            return indexPublisher(partitions, null);
+        if (rangeConditions == null) {
+            return indexPublisher(partitions, part -> partitionPublisher(part, null));
         }
+
+        Iterable<RangeCondition<RowT>> conds = rangeConditions;
+
+        if (rangeConditions.multiBounds() && schemaIndex.type() == Type.SORTED) {
+            List<RangeCondition<RowT>> condList = new ArrayList<>();
+
+            rangeConditions.forEach(condList::add);
+
+            // Ranges of a sorted index are sorted and don't overlap, thus every partition is scanned by all the ranges at once
+            // instead of scanning all the partitions by every range.
+            if (condList.size() > 1) {
+                return indexPublisher(partitions, part -> multiRangePartitionPublisher(part, condList));
+            }
+
+            conds = condList;
+        }
+
+        return SubscriptionUtils.concat(new TransformingIterator<>(conds.iterator(),
+                cond -> indexPublisher(partitions, part -> partitionPublisher(part, cond))));
     }
 
     private Publisher<RowT> indexPublisher(
             Collection<PartitionWithConsistencyToken> partsWithConsistencyTokens,
-            @Nullable RangeCondition<RowT> cond
+            Function<PartitionWithConsistencyToken, Publisher<RowT>> partitionPublisher
     ) {
         Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
                 partsWithConsistencyTokens.iterator(),
-                partWithConsistencyToken -> partitionPublisher(partWithConsistencyToken, cond)
+                partitionPublisher::apply
         );
 
         if (comp != null) {
@@ -137,6 +209,14 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
         }
     }
 
+    private Publisher<RowT> multiRangePartitionPublisher(
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            List<RangeCondition<RowT>> conds
+    ) {
+        return table.indexMultiRangeScan(context(), partWithConsistencyToken, factory, schemaIndex.id(),
+                columns, conds, requiredColumns, indexColumnsMapping);
+    }
+
     private Publisher<RowT> partitionPublisher(
             PartitionWithConsistencyToken partWithConsistencyToken,
             @Nullable RangeCondition<RowT> cond
@@ -147,11 +227,11 @@ public class IndexScanNode<RowT> extends StorageScanNode<RowT> {
         switch (schemaIndex.type()) {
             case SORTED:
                 return table.indexRangeScan(ctx, partWithConsistencyToken, factory, indexId,
-                        columns, cond, requiredColumns);
+                        columns, cond, requiredColumns, indexColumnsMapping);
 
             case HASH:
                 return table.indexLookup(ctx, partWithConsistencyToken, factory, indexId,
-                        columns, cond.lower(), requiredColumns);
+                        columns, cond.lower(), requiredColumns, indexColumnsMapping);
 
             default:
                 throw new AssertionError("Unexpected index type: " + schemaIndex.type());
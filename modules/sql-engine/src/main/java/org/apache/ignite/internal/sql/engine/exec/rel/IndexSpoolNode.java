@@ -112,6 +112,8 @@ public class IndexSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
     /** {@inheritDoc} */
     @Override
     public void push(RowT row) throws Exception {
+        reserveOrFail(row);
+
         idx.push(row);
 
         waiting--;
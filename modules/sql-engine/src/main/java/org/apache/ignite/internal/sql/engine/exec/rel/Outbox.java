@@ -17,8 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
-import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
-
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -34,14 +33,14 @@ import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.InternalClusterNode;
-import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
+import org.apache.ignite.internal.sql.engine.exec.ColumnarBatch;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionId;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
-import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.ExceptionUtils;
@@ -54,7 +53,6 @@ import org.jetbrains.annotations.TestOnly;
  */
 public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, SingleNode<RowT>, Downstream<RowT> {
     private static final IgniteLogger LOG = Loggers.forClass(Outbox.class);
-    private static final PartitionReplicationMessagesFactory TABLE_MESSAGES_FACTORY = new PartitionReplicationMessagesFactory();
 
     private final long exchangeId;
     private final long targetFragmentId;
@@ -63,11 +61,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     private final Destination<RowT> dest;
     private final Map<String, RemoteDownstream<RowT>> nodeBuffers;
     private final Deque<RowT> inBuf = new ArrayDeque<>(inBufSize);
+    /** Runtime filters received from remote downstreams, rows not accepted by the filter are not sent to the downstream. */
+    private final Map<String, RuntimeFilter> runtimeFilters = new HashMap<>();
+    /** Whether batches for the local node are passed to the inbox as is. */
+    private final boolean localExchange;
     /** Queue for requests, which requires rewind. */
     private Queue<RewindRequest> rewindQueue;
     private int waiting;
     /** Node, which rewindable request is processed now. */
     private @Nullable String currentNode;
+    /** Whether the numbers of rows observed by scans have been sent, they are sent with the first last batch only. */
+    private boolean rowCountsSent;
 
     /**
      * Constructor.
@@ -78,6 +82,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
      * @param exchangeId An identifier of the exchange this outbox is part of.
      * @param targetFragmentId An identifier of the fragment to send batches to.
      * @param dest A function which determines which row to send on which remote.
+     * @param localExchange Whether batches for the local node are passed to the inbox as is, without serialization.
      */
     public Outbox(
             ExecutionContext<RowT> ctx,
@@ -85,7 +90,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             MailboxRegistry registry,
             long exchangeId,
             long targetFragmentId,
-            Destination<RowT> dest
+            Destination<RowT> dest,
+            boolean localExchange
     ) {
         super(ctx);
         this.exchange = exchange;
@@ -93,6 +99,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         this.targetFragmentId = targetFragmentId;
         this.exchangeId = exchangeId;
         this.dest = dest;
+        this.localExchange = localExchange;
 
         Map<String, RemoteDownstream<RowT>> downstreams = new HashMap<>();
         for (String nodeName : dest.targets()) {
@@ -126,6 +133,19 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
     }
 
+    /**
+     * A handler which saves the runtime filter of remote downstream. All the rows that are not sent yet are filtered out with the
+     * given filter before being sent to the downstream.
+     *
+     * @param nodeName An identifier of the downstream.
+     * @param filter A filter of the rows.
+     */
+    public void onRuntimeFilter(String nodeName, RuntimeFilter filter) throws Exception {
+        checkState();
+
+        runtimeFilters.put(nodeName, filter);
+    }
+
     /**
      * Starts the execution of the fragment and keeps the result in the intermediate buffer.
      *
@@ -257,21 +277,24 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         Debuggable.dumpState(writer, childIndent, sources());
     }
 
-    private void sendBatch(String nodeName, int batchId, boolean last, List<RowT> rows) {
-        RowHandler<RowT> handler = context().rowAccessor();
+    private void sendBatch(String nodeName, int batchId, boolean last, List<RowT> rows, long bytes) {
+        long[] rowCounts = null;
 
-        List<BinaryTupleMessage> rows0 = new ArrayList<>(rows.size());
+        if (last && !rowCountsSent) {
+            rowCounts = context().observedRowCounts().toArray();
 
-        for (RowT row : rows) {
-            rows0.add(
-                    TABLE_MESSAGES_FACTORY.binaryTupleMessage()
-                            .elementCount(handler.columnsCount(row))
-                            .tuple(handler.toByteBuffer(row))
-                            .build()
-            );
+            rowCountsSent = true;
         }
 
-        exchange.sendBatch(nodeName, executionId(), targetFragmentId, exchangeId, batchId, last, rows0)
+        if (localExchange && nodeName.equals(context().localNode().name())) {
+            sendLocalBatch(batchId, last, rows, bytes, rowCounts);
+
+            return;
+        }
+
+        ByteBuffer batch = ColumnarBatch.write(context().rowAccessor(), rows);
+
+        exchange.sendBatch(nodeName, executionId(), targetFragmentId, exchangeId, batchId, last, batch, rowCounts)
                 .whenComplete((ignored, ex) -> {
                     if (ex == null) {
                         return;
@@ -288,6 +311,28 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
                 });
     }
 
+    /**
+     * Hands the rows over to the inbox of the receiving fragment executed on the same node. The batch is processed by the task
+     * executor of the receiving fragment, thus the rows are neither serialized nor passed through the message service, while the
+     * flow control stays the same as for a remote inbox.
+     */
+    @SuppressWarnings("unchecked")
+    private void sendLocalBatch(int batchId, boolean last, List<RowT> rows, long bytes, long @Nullable [] rowCounts) {
+        String nodeName = context().localNode().name();
+        Inbox<RowT> inbox = (Inbox<RowT>) registry.inbox(executionId(), exchangeId);
+
+        if (inbox == null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Stale local batch: [executionId={}, fragmentId={}, exchangeId={}, batchId={}]",
+                        executionId(), targetFragmentId, exchangeId, batchId);
+            }
+
+            return;
+        }
+
+        inbox.execute(() -> inbox.onBatchReceived(nodeName, batchId, last, rows, bytes, rowCounts));
+    }
+
     private void sendError(Throwable original) {
         String nodeName = context().originatingNodeName();
         ExecutionId executionId = executionId();
@@ -315,10 +360,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
     private void flush() throws Exception {
         while (!inBuf.isEmpty()) {
-            List<String> targets = dest.targets(inBuf.peek());
+            RowT row = inBuf.peek();
+            List<String> targets = dest.targets(row);
             List<RemoteDownstream<RowT>> buffers = new ArrayList<>(targets.size());
 
             for (String target : targets) {
+                RuntimeFilter filter = runtimeFilters.get(target);
+
+                if (filter != null && !filter.test(context().rowAccessor(), row)) {
+                    continue;
+                }
+
                 RemoteDownstream<RowT> buffer = nodeBuffers.get(target);
 
                 if (!buffer.ready()) {
@@ -328,12 +380,16 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
                 buffers.add(buffer);
             }
 
-            assert !nullOrEmpty(buffers);
+            inBuf.remove();
 
-            RowT row = inBuf.remove();
+            if (buffers.isEmpty()) {
+                continue;
+            }
+
+            long rowSize = RowSizeEstimator.estimate(context().rowAccessor(), row);
 
             for (RemoteDownstream<RowT> dest : buffers) {
-                dest.add(row);
+                dest.add(row, rowSize);
             }
         }
 
@@ -384,6 +440,9 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
         rewindQueue.offer(new RewindRequest(nodeName, state, amountOfBatches));
 
+        // The filter was built for the previous state, the downstream sends a new one if needed.
+        runtimeFilters.remove(nodeName);
+
         if (currentNode == null || currentNode.equals(nodeName)) {
             currentNode = null;
 
@@ -421,7 +480,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     private static final class RemoteDownstream<RowT> {
         @FunctionalInterface
         private interface BatchSender<RowT> {
-            void send(String targetNodeName, int batchId, boolean last, List<RowT> rows) throws IgniteInternalCheckedException;
+            void send(String targetNodeName, int batchId, boolean last, List<RowT> rows, long bytes)
+                    throws IgniteInternalCheckedException;
         }
 
         /**
@@ -494,6 +554,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         private int lastSentBatchId = -1;
 
         private @Nullable List<RowT> curr;
+        /** Estimated size of the rows of the current batch in bytes. */
+        private long currBytes;
         private int pendingCount;
 
         private RemoteDownstream(String nodeName, BatchSender<RowT> sender) {
@@ -513,6 +575,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             lastSentBatchId += pendingCount;
             pendingCount = 0;
             curr = new ArrayList<>(IO_BATCH_SIZE);
+            currBytes = 0;
         }
 
         /** A handler of a requests from downstream. */
@@ -533,17 +596,20 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
 
         /**
-         * Adds a row to current batch.
+         * Adds a row to current batch. The batch is full once it reaches either {@link #IO_BATCH_SIZE} rows or {@link #IO_BATCH_BYTES}
+         * bytes, thus batches of wide rows hold fewer rows.
          *
          * @param row Row to add.
+         * @param rowSize Estimated size of the row in bytes.
          */
-        void add(RowT row) throws Exception {
+        void add(RowT row, long rowSize) throws Exception {
             assert ready() : state;
             assert curr != null;
 
             curr.add(row);
+            currBytes += rowSize;
 
-            if (curr.size() == IO_BATCH_SIZE) {
+            if (curr.size() == IO_BATCH_SIZE || currBytes >= IO_BATCH_BYTES) {
                 state = State.FULL;
 
                 if (pendingCount > 0) {
@@ -560,7 +626,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
             boolean lastBatch = state == State.LAST_BATCH;
 
-            sender.send(nodeName, ++lastSentBatchId, lastBatch, curr);
+            sender.send(nodeName, ++lastSentBatchId, lastBatch, curr, currBytes);
 
             pendingCount--;
 
@@ -573,6 +639,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
                 state = State.FILLING;
                 curr = new ArrayList<>(IO_BATCH_SIZE);
             }
+
+            currBytes = 0;
         }
 
         /** Completes this downstream by sending all collected so far rows. */
@@ -19,17 +19,22 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * ProjectNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
  */
-public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, BatchDownstream<RowT> {
     private final Function<RowT, RowT> prj;
 
+    private final Consumer<RowBatch<RowT>> batchPrj;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -38,9 +43,21 @@ public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<
      * @param prj Projection.
      */
     public ProjectNode(ExecutionContext<RowT> ctx, Function<RowT, RowT> prj) {
+        this(ctx, prj, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param prj Projection.
+     * @param batchPrj Projection of batches of rows, or {@code null} to project the rows of a batch one by one.
+     */
+    public ProjectNode(ExecutionContext<RowT> ctx, Function<RowT, RowT> prj, @Nullable Consumer<RowBatch<RowT>> batchPrj) {
         super(ctx);
 
         this.prj = prj;
+        this.batchPrj = batchPrj != null ? batchPrj : batch -> batch.replaceAll(prj);
     }
 
     /** {@inheritDoc} */
@@ -66,6 +83,16 @@ public class ProjectNode<RowT> extends AbstractNode<RowT> implements SingleNode<
         downstream().push(prj.apply(row));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void pushBatch(RowBatch<RowT> batch) throws Exception {
+        assert downstream() != null;
+
+        batchPrj.accept(batch);
+
+        pushDownstream(batch);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void end() throws Exception {
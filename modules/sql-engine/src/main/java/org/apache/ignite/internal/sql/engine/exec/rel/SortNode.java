@@ -21,17 +21,33 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.memory.MergeSortCursor;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillFile;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.IgniteMath;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>If the query memory budget is limited and the input doesn't fit into it, the node performs an external merge sort: buffered rows
+ * are written to disk as sorted runs, which are merged on the fly once the input is exhausted. Runs are organized in levels, and
+ * every {@link #MERGE_FACTOR} runs of the same level are merged into a single run of the next level, so the number of files opened
+ * at once stays bounded regardless of the input size.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Maximum number of runs merged at once. */
+    static final int MERGE_FACTOR = 64;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -51,6 +67,22 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    private final Comparator<RowT> comp;
+
+    /** Factory to restore spilled rows with. {@code null} if spilling is not possible. */
+    private final @Nullable RowFactory<RowT> rowFactory;
+
+    private final QueryMemoryBudget memoryBudget;
+
+    /** Amount of memory reserved for the rows held by {@link #rows}. */
+    private long reservedBytes;
+
+    /** Sorted runs spilled to disk, grouped by merge level. */
+    private final List<List<SpillFile<RowT>>> runs = new ArrayList<>();
+
+    /** Cursor merging spilled runs with the rows remaining in memory. Initialized once the input is exhausted. */
+    private @Nullable MergeSortCursor<RowT> merged;
+
     /**
      * Constructor.
      *
@@ -63,6 +95,24 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             Comparator<RowT> comp,
             long offset,
             long fetch
+    ) {
+        this(ctx, comp, offset, fetch, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param comp Rows comparator.
+     * @param offset Offset.
+     * @param fetch Limit.
+     * @param rowFactory Factory to restore spilled rows with, or {@code null} if the node must never spill.
+     */
+    public SortNode(ExecutionContext<RowT> ctx,
+            Comparator<RowT> comp,
+            long offset,
+            long fetch,
+            @Nullable RowFactory<RowT> rowFactory
     ) {
         super(ctx);
 
@@ -78,6 +128,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         this.fetch = fetch;
         this.offset = offset;
+        this.comp = comp == null ? (Comparator<RowT>) Comparator.naturalOrder() : comp;
+        this.memoryBudget = ctx.memoryBudget();
+        // The bounded case keeps at most offset + fetch rows, thus is never spilled.
+        this.rowFactory = fetch == -1 && memoryBudget.spillEnabled() ? rowFactory : null;
 
         long limit = fetch == -1 ? -1 : IgniteMath.addExact(fetch, offset);
 
@@ -107,6 +161,18 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         if (reversed != null) {
             reversed.clear();
         }
+
+        releaseResources();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        rows.clear();
+
+        releaseResources();
     }
 
     /** {@inheritDoc} */
@@ -150,7 +216,20 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting--;
 
-        rows.add(row);
+        if (rowFactory != null) {
+            reserve(row);
+
+            rows.add(row);
+        } else {
+            int size = rows.size();
+
+            rows.add(row);
+
+            // The bounded queue doesn't grow once the limit is reached, so only the first offset + fetch rows are accounted.
+            if (rows.size() > size) {
+                reserveOrFail(row);
+            }
+        }
 
         if (waiting == 0) {
             source().request(waiting = inBufSize);
@@ -165,6 +244,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting = NOT_WAITING;
 
+        if (!runs.isEmpty()) {
+            merged = mergeRuns();
+        }
+
         flush();
     }
 
@@ -206,10 +289,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 processed = 0;
             }
 
-            while (requested > 0 && !(reversed == null ? rows.isEmpty() : reversed.isEmpty())) {
+            while (requested > 0 && hasMoreRows()) {
                 requested--;
 
-                downstream().push(reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1));
+                downstream().push(nextRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -219,7 +302,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
+                releaseResources();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -230,4 +315,133 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    private boolean hasMoreRows() {
+        if (merged != null) {
+            return merged.hasNext();
+        }
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    private RowT nextRow() {
+        if (merged != null) {
+            return merged.next();
+        }
+
+        return reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+    }
+
+    /** Accounts the row in the memory budget, and writes buffered rows to disk as a sorted run if the budget is exhausted. */
+    private void reserve(RowT row) {
+        long size = RowSizeEstimator.estimate(context().rowAccessor(), row);
+
+        if (!memoryBudget.tryReserve(size)) {
+            // Don't produce tiny runs if the quota is exhausted by the other nodes of the query.
+            if (rows.size() >= inBufSize) {
+                spillRun();
+            }
+
+            memoryBudget.reserve(size);
+        }
+
+        reservedBytes += size;
+    }
+
+    private void spillRun() {
+        SpillFile<RowT> run = memoryBudget.createSpillFile(context().rowAccessor(), rowFactory);
+
+        while (!rows.isEmpty()) {
+            run.write(rows.poll());
+        }
+
+        run.finishWrite();
+
+        memoryBudget.release(reservedBytes);
+        reservedBytes = 0;
+
+        addRun(0, run);
+    }
+
+    private void addRun(int level, SpillFile<RowT> run) {
+        if (runs.size() == level) {
+            runs.add(new ArrayList<>(MERGE_FACTOR));
+        }
+
+        List<SpillFile<RowT>> levelRuns = runs.get(level);
+
+        levelRuns.add(run);
+
+        if (levelRuns.size() < MERGE_FACTOR) {
+            return;
+        }
+
+        SpillFile<RowT> mergedRun = memoryBudget.createSpillFile(context().rowAccessor(), rowFactory);
+
+        List<Iterator<RowT>> sources = new ArrayList<>(levelRuns.size());
+
+        for (SpillFile<RowT> file : levelRuns) {
+            sources.add(file.read());
+        }
+
+        try (MergeSortCursor<RowT> cursor = new MergeSortCursor<>(comp, sources)) {
+            while (cursor.hasNext()) {
+                mergedRun.write(cursor.next());
+            }
+        }
+
+        mergedRun.finishWrite();
+
+        for (SpillFile<RowT> file : levelRuns) {
+            file.close();
+        }
+
+        levelRuns.clear();
+
+        addRun(level + 1, mergedRun);
+    }
+
+    private MergeSortCursor<RowT> mergeRuns() {
+        List<Iterator<RowT>> sources = new ArrayList<>();
+
+        for (List<SpillFile<RowT>> levelRuns : runs) {
+            for (SpillFile<RowT> file : levelRuns) {
+                sources.add(file.read());
+            }
+        }
+
+        // Rows remaining in memory are merged as one more run, without writing them to disk.
+        sources.add(new Iterator<RowT>() {
+            @Override
+            public boolean hasNext() {
+                return !rows.isEmpty();
+            }
+
+            @Override
+            public RowT next() {
+                return rows.poll();
+            }
+        });
+
+        return new MergeSortCursor<>(comp, sources);
+    }
+
+    private void releaseResources() {
+        Commons.closeQuiet(merged);
+
+        merged = null;
+
+        for (List<SpillFile<RowT>> levelRuns : runs) {
+            for (SpillFile<RowT> file : levelRuns) {
+                file.close();
+            }
+        }
+
+        runs.clear();
+
+        memoryBudget.release(reservedBytes);
+        reservedBytes = 0;
+
+        releaseReserved();
+    }
 }
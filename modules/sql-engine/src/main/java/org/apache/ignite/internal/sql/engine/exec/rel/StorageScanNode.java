@@ -23,10 +23,12 @@ import java.util.concurrent.Flow;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -40,6 +42,13 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private final @Nullable Function<RowT, RowT> rowTransformer;
 
+    /** Batch the rows are pushed to downstream with, {@code null} unless the batch mode is enabled. */
+    private @Nullable RowBatch<RowT> batch;
+
+    private @Nullable Consumer<RowBatch<RowT>> batchFilters;
+
+    private @Nullable Consumer<RowBatch<RowT>> batchTransformer;
+
     private int requested;
 
     private int waiting;
@@ -48,6 +57,15 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
 
     private @Nullable Subscription activeSubscription;
 
+    /** Maximal number of rows to push to downstream, or {@code -1} if not limited. */
+    private long limit = -1;
+
+    /** Number of rows pushed to downstream since the scan was started. */
+    private long pushed;
+
+    /** Number of rows requested from the datasource since the scan was started. */
+    private long requestedFromSource;
+
     /** Flag that indicate scan method was called already. */
     private boolean dataRequested;
 
@@ -71,6 +89,49 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         this.rowTransformer = rowTransformer;
     }
 
+    /**
+     * Switches the node to the batch mode, in which rows are taken from the buffer in batches, filtered and projected with
+     * the given functions, and pushed to a {@link BatchDownstream} as a whole. Must be called before the execution starts.
+     *
+     * @param batchFilters Filter of batches, or {@code null} to test the rows of a batch with the row filter one by one.
+     * @param batchTransformer Projection of batches, or {@code null} to apply the row projection to the rows of a batch one
+     *         by one.
+     */
+    public void enableBatchMode(
+            @Nullable Consumer<RowBatch<RowT>> batchFilters,
+            @Nullable Consumer<RowBatch<RowT>> batchTransformer
+    ) {
+        Predicate<RowT> filters0 = filters;
+        Function<RowT, RowT> rowTransformer0 = rowTransformer;
+
+        batch = new RowBatch<>(inBufSize);
+
+        if (batchFilters != null) {
+            this.batchFilters = batchFilters;
+        } else if (filters0 != null) {
+            this.batchFilters = b -> b.retainIf(filters0);
+        }
+
+        if (batchTransformer != null) {
+            this.batchTransformer = batchTransformer;
+        } else if (rowTransformer0 != null) {
+            this.batchTransformer = b -> b.replaceAll(rowTransformer0);
+        }
+    }
+
+    /**
+     * Limits the number of rows the node pushes to downstream. Once the limit is reached, the subscription to the datasource is
+     * cancelled, thus the storage cursors are closed without reading the remaining rows. If the node has no filters, no more rows
+     * than the limit are requested from the datasource either. Must be called before the execution starts.
+     *
+     * @param limit Maximal number of rows to push to downstream.
+     */
+    public void limit(long limit) {
+        assert limit >= 0 : limit;
+
+        this.limit = limit;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void request(int rowsCnt) throws Exception {
@@ -101,9 +162,15 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         requested = 0;
         waiting = 0;
         dataRequested = false;
+        pushed = 0;
+        requestedFromSource = 0;
 
         inBuff = new LinkedBlockingQueue<>(inBufSize);
 
+        if (batch != null) {
+            batch.clear();
+        }
+
         if (activeSubscription != null) {
             activeSubscription.cancel();
 
@@ -126,6 +193,19 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             inLoop = true;
             try {
                 while (requested > 0 && !inBuff.isEmpty()) {
+                    if (batch != null) {
+                        if (processed >= inBufSize) {
+                            // Allow others to do their job.
+                            execute(this::push);
+
+                            return;
+                        }
+
+                        processed += pushBatch(batch);
+
+                        continue;
+                    }
+
                     if (processed++ >= inBufSize) {
                         // Allow others to do their job.
                         execute(this::push);
@@ -144,6 +224,7 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
                     }
 
                     requested--;
+                    pushed++;
                     downstream().push(row);
                 }
             } finally {
@@ -151,6 +232,10 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             }
         }
 
+        if (limit >= 0 && pushed >= limit && waiting != NOT_WAITING) {
+            stopScan();
+        }
+
         if (requested > 0) {
             if (waiting == 0 || activeSubscription == null) {
                 requestNextBatch();
@@ -167,6 +252,46 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
+    /**
+     * Takes up to the requested number of rows from the buffer, filters and projects them as a batch, and pushes the result
+     * to downstream.
+     *
+     * @return Number of rows taken from the buffer.
+     */
+    private int pushBatch(RowBatch<RowT> batch) throws Exception {
+        batch.clear();
+
+        int toTake = Math.min(requested, batch.capacity());
+
+        while (batch.size() < toTake) {
+            RowT row = inBuff.poll();
+
+            if (row == null) {
+                break;
+            }
+
+            batch.add(row);
+        }
+
+        int taken = batch.size();
+
+        if (batchFilters != null) {
+            batchFilters.accept(batch);
+        }
+
+        if (batch.selectedCount() > 0) {
+            if (batchTransformer != null) {
+                batchTransformer.accept(batch);
+            }
+
+            requested -= batch.selectedCount();
+            pushed += batch.selectedCount();
+            pushDownstream(batch);
+        }
+
+        return taken;
+    }
+
     private void requestNextBatch() {
         if (waiting == NOT_WAITING) {
             return;
@@ -178,6 +303,19 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         if (waiting == 0) {
             // we must not request rows more than inBufSize
             waiting = inBufSize - inBuff.size();
+
+            long sourceLimit = sourceLimit();
+
+            if (sourceLimit >= 0) {
+                waiting = (int) Math.min(waiting, sourceLimit - requestedFromSource);
+
+                if (waiting == 0) {
+                    // All the rows up to the limit have been requested already.
+                    return;
+                }
+            }
+
+            requestedFromSource += waiting;
         }
 
         Subscription subscription = this.activeSubscription;
@@ -192,6 +330,34 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
         }
     }
 
+    /**
+     * Returns the maximal number of rows to request from the datasource, or {@code -1} if not limited. Rows may be filtered out
+     * by the node, thus the number of rows to read is unknown unless the node has no filters.
+     */
+    private long sourceLimit() {
+        return filters == null && batchFilters == null ? limit : -1;
+    }
+
+    /**
+     * Cancels the subscription to the datasource once the limit is reached, the scan is considered exhausted. The rows are not
+     * counted as the datasource has not been read entirely.
+     */
+    private void stopScan() {
+        skipRowCount();
+
+        Subscription subscription = activeSubscription;
+
+        if (subscription != null) {
+            subscription.cancel();
+
+            activeSubscription = null;
+        }
+
+        // Rows which are still in flight are put to the buffer of the cancelled subscription.
+        inBuff = new LinkedBlockingQueue<>(inBufSize);
+        waiting = NOT_WAITING;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void register(List<Node<RowT>> sources) {
@@ -208,19 +374,26 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
     protected void dumpDebugInfo0(IgniteStringBuilder buf) {
         buf.app("class=").app(getClass().getSimpleName())
                 .app(", requested=").app(requested)
-                .app(", waiting=").app(waiting);
+                .app(", waiting=").app(waiting)
+                .app(", limit=").app(limit)
+                .app(", pushed=").app(pushed);
     }
 
     /** Subscriber which handle scan's rows. */
     private class SubscriberImpl implements Flow.Subscriber<RowT> {
         private Queue<RowT> inBuffInner;
 
+        private long sourceLimit;
+
+        private long received;
+
         /** {@inheritDoc} */
         @Override
         public void onSubscribe(Subscription subscription) {
             assert StorageScanNode.this.activeSubscription == null;
 
             inBuffInner = inBuff;
+            sourceLimit = sourceLimit();
 
             StorageScanNode.this.activeSubscription = subscription;
             subscription.request(waiting);
@@ -233,7 +406,13 @@ public abstract class StorageScanNode<RowT> extends AbstractNode<RowT> {
             // It is safe not to be aware about already closed execution flow.
             inBuffInner.add(row);
 
-            if (inBuffInner.size() == inBufSize) {
+            if (++received == sourceLimit) {
+                // No more rows are requested, thus push the rest of them to downstream.
+                StorageScanNode.this.execute(() -> {
+                    waiting = 0;
+                    push();
+                });
+            } else if (inBuffInner.size() == inBufSize) {
                 StorageScanNode.this.execute(() -> {
                     waiting = 0;
                     push();
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory.RowBuilder;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Fills in the fields of incoming rows with values looked up in a table by the primary key the rows hold.
+ *
+ * <p>Rows are collected into batches, and every batch is looked up with a single request per partition. The fields are filled in
+ * with {@code null} if the key is {@code null}, i.e. the row was produced by an outer join and has no counterpart in the table.
+ */
+public class TableFetchNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    private final ScannableTable table;
+
+    private final RowFactory<RowT> rowFactory;
+
+    private final RowFactory<RowT> keyFactory;
+
+    private final RowFactory<RowT> fetchedRowFactory;
+
+    private final int[] keys;
+
+    private final int[] fields;
+
+    private final int[] columns;
+
+    private final Deque<RowT> outBuf = new ArrayDeque<>(inBufSize);
+
+    private List<RowT> inBuf = new ArrayList<>(inBufSize);
+
+    private int requested;
+
+    private int waiting;
+
+    private boolean inFlight;
+
+    private boolean inLoop;
+
+    /** Incremented on rewind to ignore the lookups issued before. */
+    private int epoch;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param table Table to fetch values from.
+     * @param rowFactory Factory of rows of the input row type.
+     * @param keyFactory Factory of rows of the primary key of the table.
+     * @param fetchedRowFactory Factory of rows consisting of the fetched columns.
+     * @param keys Input fields holding the columns of the primary key, in the order of the key.
+     * @param fields Input fields to fill in.
+     * @param columns Table columns the fields are filled in from.
+     */
+    public TableFetchNode(
+            ExecutionContext<RowT> ctx,
+            ScannableTable table,
+            RowFactory<RowT> rowFactory,
+            RowFactory<RowT> keyFactory,
+            RowFactory<RowT> fetchedRowFactory,
+            int[] keys,
+            int[] fields,
+            int[] columns
+    ) {
+        super(ctx);
+
+        assert fields.length == columns.length;
+
+        this.table = table;
+        this.rowFactory = rowFactory;
+        this.keyFactory = keyFactory;
+        this.fetchedRowFactory = fetchedRowFactory;
+        this.keys = keys;
+        this.fields = fields;
+        this.columns = columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            this.execute(this::flush);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        waiting--;
+
+        inBuf.add(row);
+
+        if (waiting == 0) {
+            lookup();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        waiting = NOT_WAITING;
+
+        if (!inBuf.isEmpty()) {
+            lookup();
+        } else {
+            flush();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        epoch++;
+
+        requested = 0;
+        waiting = 0;
+        inFlight = false;
+        inBuf = new ArrayList<>(inBufSize);
+        outBuf.clear();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx != 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this;
+    }
+
+    @Override
+    protected void dumpDebugInfo0(IgniteStringBuilder buf) {
+        buf.app("class=").app(getClass().getSimpleName())
+                .app(", requested=").app(requested)
+                .app(", waiting=").app(waiting)
+                .app(", inFlight=").app(inFlight)
+                .app(", buffered=").app(outBuf.size());
+    }
+
+    private void lookup() {
+        assert !inFlight && !inBuf.isEmpty();
+
+        inFlight = true;
+
+        List<RowT> rows = inBuf;
+        inBuf = new ArrayList<>(inBufSize);
+
+        RowHandler<RowT> handler = context().rowAccessor();
+        List<RowT> keyRows = new ArrayList<>(rows.size());
+
+        for (RowT row : rows) {
+            if (hasKey(handler, row)) {
+                keyRows.add(keyFactory.map(row, keys));
+            }
+        }
+
+        int epoch0 = epoch;
+
+        table.primaryKeyLookupAll(context(), fetchedRowFactory, keyRows, columns).whenComplete((fetched, e) -> this.execute(() -> {
+            if (epoch0 != epoch) {
+                return;
+            }
+
+            if (e != null) {
+                onError(e);
+
+                return;
+            }
+
+            inFlight = false;
+
+            merge(handler, rows, fetched);
+
+            flush();
+        }));
+    }
+
+    private void merge(RowHandler<RowT> handler, List<RowT> rows, List<@Nullable RowT> fetched) {
+        RowBuilder<RowT> builder = rowFactory.rowBuilder();
+        int fieldsCnt = rowFactory.rowSchema().fieldsCount();
+        int fetchedIdx = 0;
+
+        for (RowT row : rows) {
+            RowT fetchedRow = hasKey(handler, row) ? fetched.get(fetchedIdx++) : null;
+
+            for (int i = 0, f = 0; i < fieldsCnt; i++) {
+                if (f < fields.length && fields[f] == i) {
+                    builder.addField(fetchedRow == null ? null : handler.get(f, fetchedRow));
+
+                    f++;
+                } else {
+                    builder.addField(handler.get(i, row));
+                }
+            }
+
+            outBuf.add(builder.buildAndReset());
+        }
+    }
+
+    private boolean hasKey(RowHandler<RowT> handler, RowT row) {
+        for (int key : keys) {
+            if (handler.isNull(key, row)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void flush() throws Exception {
+        if (inFlight) {
+            return;
+        }
+
+        inLoop = true;
+        try {
+            while (requested > 0 && !outBuf.isEmpty()) {
+                requested--;
+
+                downstream().push(outBuf.poll());
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (!outBuf.isEmpty()) {
+            return;
+        }
+
+        if (waiting == NOT_WAITING) {
+            if (requested > 0) {
+                requested = 0;
+
+                downstream().end();
+            }
+        } else if (waiting == 0 && requested > 0) {
+            source().request(waiting = inBufSize);
+        }
+    }
+}
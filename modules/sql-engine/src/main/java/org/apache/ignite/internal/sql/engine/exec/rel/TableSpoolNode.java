@@ -144,6 +144,8 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         waiting--;
 
+        reserveOrFail(row);
+
         rows.add(row);
 
         if (waiting == 0) {
@@ -0,0 +1,362 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectArrayMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorsState;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Execution node evaluating window functions over the input sorted by the partition keys followed by the order keys of the window.
+ *
+ * <p>Every output row consists of the fields of the input row followed by the values of the window functions. The node supports
+ * frames starting at the beginning of the partition only, thus the frame of every next row contains the frame of the previous one
+ * and aggregates are computed incrementally. Rows are buffered until the end of the frame of the last buffered row is known:
+ * <ul>
+ *     <li>{@link Frame#ROWS} - the frame ends with the current row, thus rows are not buffered at all;</li>
+ *     <li>{@link Frame#RANGE} - the frame ends with the last peer of the current row;</li>
+ *     <li>{@link Frame#PARTITION} - the frame spans the whole partition.</li>
+ * </ul>
+ */
+public class WindowNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Frame of the window. */
+    public enum Frame {
+        /** From the start of the partition up to the current row. */
+        ROWS,
+
+        /** From the start of the partition up to the last peer of the current row. */
+        RANGE,
+
+        /** The whole partition. */
+        PARTITION;
+
+        /**
+         * Returns the frame of a window starting at the beginning of the partition.
+         *
+         * @param rows Whether the frame is defined in rows rather than in a range of the order keys.
+         * @param ordered Whether the window has order keys.
+         * @param unboundedFollowing Whether the frame ends at the end of the partition rather than at the current row.
+         * @return Frame.
+         */
+        public static Frame of(boolean rows, boolean ordered, boolean unboundedFollowing) {
+            if (unboundedFollowing) {
+                return PARTITION;
+            } else if (rows) {
+                // Without order keys rows are taken in the order they arrive, yet the frame still ends with the current row.
+                return ROWS;
+            } else if (!ordered) {
+                // All rows of the partition are peers of the current row.
+                return PARTITION;
+            } else {
+                return RANGE;
+            }
+        }
+    }
+
+    private final @Nullable Comparator<RowT> partitionComp;
+
+    private final @Nullable Comparator<RowT> peerComp;
+
+    private final Frame frame;
+
+    private final List<SqlKind> functions;
+
+    private final List<AccumulatorWrapper<RowT>> accs;
+
+    private final int inputFieldCount;
+
+    private final RowFactory<RowT> rowFactory;
+
+    private final Deque<RowT> outBuf = new ArrayDeque<>(inBufSize);
+
+    /** Rows whose frame is not complete yet. */
+    private final List<RowT> pending = new ArrayList<>();
+
+    private AggregateRow<RowT> aggRow;
+
+    private @Nullable RowT prevRow;
+
+    private @Nullable RowT prevPeer;
+
+    private long rowNumber;
+
+    private long rank;
+
+    private long denseRank;
+
+    private int requested;
+
+    private int waiting;
+
+    private boolean inLoop;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param partitionComp Comparator of the partition keys, or {@code null} if all rows belong to the single partition.
+     * @param peerComp Comparator of the order keys, or {@code null} if all rows of the partition are peers.
+     * @param frame Frame of the window.
+     * @param functions Kinds of the window functions in the order of the output fields.
+     * @param accumulators Accumulators of the window functions other than ranking ones, in the order of the output fields.
+     * @param inputFieldCount Number of the fields of the input row.
+     * @param rowFactory Row factory.
+     */
+    public WindowNode(
+            ExecutionContext<RowT> ctx,
+            @Nullable Comparator<RowT> partitionComp,
+            @Nullable Comparator<RowT> peerComp,
+            Frame frame,
+            List<SqlKind> functions,
+            List<AccumulatorWrapper<RowT>> accumulators,
+            int inputFieldCount,
+            RowFactory<RowT> rowFactory
+    ) {
+        super(ctx);
+
+        assert functions.stream().filter(f -> !isRanking(f)).count() == accumulators.size();
+
+        this.partitionComp = partitionComp;
+        this.peerComp = peerComp;
+        this.frame = frame;
+        this.functions = functions;
+        this.accs = accumulators;
+        this.inputFieldCount = inputFieldCount;
+        this.rowFactory = rowFactory;
+
+        aggRow = newAggregateRow();
+    }
+
+    /** Returns {@code true} if the function is evaluated by the node itself rather than by an accumulator. */
+    public static boolean isRanking(SqlKind kind) {
+        return kind == SqlKind.ROW_NUMBER || kind == SqlKind.RANK || kind == SqlKind.DENSE_RANK;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 1;
+        assert rowsCnt > 0 && requested == 0;
+
+        requested = rowsCnt;
+
+        if (waiting == 0) {
+            source().request(waiting = inBufSize);
+        } else if (!inLoop) {
+            execute(this::flush);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void push(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        waiting--;
+
+        if (prevRow != null) {
+            if (partitionComp != null && partitionComp.compare(prevRow, row) != 0) {
+                emitPending();
+
+                aggRow = newAggregateRow();
+                prevPeer = null;
+                rowNumber = 0;
+                rank = 0;
+                denseRank = 0;
+            } else if (frame == Frame.RANGE && peerComp != null && peerComp.compare(prevRow, row) != 0) {
+                emitPending();
+            }
+        }
+
+        reserveOrFail(row);
+
+        pending.add(row);
+        aggRow.update(accs, ImmutableBitSet.of(), context().rowAccessor(), row);
+
+        if (frame == Frame.ROWS) {
+            emitPending();
+        }
+
+        prevRow = row;
+
+        if (!outBuf.isEmpty()) {
+            flush();
+        }
+
+        if (waiting == 0 && requested > 0) {
+            waiting = inBufSize;
+
+            source().request(inBufSize);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void end() throws Exception {
+        assert downstream() != null;
+        assert waiting > 0;
+
+        waiting = NOT_WAITING;
+
+        emitPending();
+
+        flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waiting = 0;
+
+        reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx != 0) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return this;
+    }
+
+    @Override
+    protected void dumpDebugInfo0(IgniteStringBuilder buf) {
+        buf.app("class=").app(getClass().getSimpleName())
+                .app(", requested=").app(requested)
+                .app(", waiting=").app(waiting)
+                .app(", pending=").app(pending.size());
+    }
+
+    /** Moves the rows whose frame is complete to the output buffer. */
+    private void emitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Object[] values = new Object[accs.size()];
+
+        aggRow.writeTo(AggregateType.SINGLE, accs, values, 0, ImmutableBitSet.of(), AggregateRow.NO_GROUP_ID);
+
+        RowHandler<RowT> handler = context().rowAccessor();
+
+        for (RowT row : pending) {
+            rowNumber++;
+
+            if (prevPeer == null || (peerComp != null && peerComp.compare(prevPeer, row) != 0)) {
+                rank = rowNumber;
+                denseRank++;
+            }
+
+            prevPeer = row;
+
+            Object[] fields = new Object[inputFieldCount + functions.size()];
+
+            for (int i = 0; i < inputFieldCount; i++) {
+                fields[i] = handler.get(i, row);
+            }
+
+            int accIdx = 0;
+
+            for (int i = 0; i < functions.size(); i++) {
+                Object value;
+
+                switch (functions.get(i)) {
+                    case ROW_NUMBER:
+                        value = rowNumber;
+                        break;
+
+                    case RANK:
+                        value = rank;
+                        break;
+
+                    case DENSE_RANK:
+                        value = denseRank;
+                        break;
+
+                    default:
+                        value = values[accIdx++];
+                }
+
+                fields[inputFieldCount + i] = value;
+            }
+
+            outBuf.add(rowFactory.create(fields));
+        }
+
+        pending.clear();
+
+        releaseReserved();
+    }
+
+    private void flush() throws Exception {
+        inLoop = true;
+        try {
+            while (requested > 0 && !outBuf.isEmpty()) {
+                requested--;
+
+                downstream().push(outBuf.poll());
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (requested > 0 && waiting == NOT_WAITING && outBuf.isEmpty()) {
+            requested = 0;
+            downstream().end();
+
+            reset();
+        }
+    }
+
+    private void reset() {
+        outBuf.clear();
+        pending.clear();
+        releaseReserved();
+
+        aggRow = newAggregateRow();
+        prevRow = null;
+        prevPeer = null;
+        rowNumber = 0;
+        rank = 0;
+        denseRank = 0;
+    }
+
+    private AggregateRow<RowT> newAggregateRow() {
+        return new AggregateRow<>(new AccumulatorsState(accs.size()), new Int2ObjectArrayMap<>());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.externalize;
 import java.util.List;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rex.RexWindowBound;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 
 /**
@@ -43,4 +44,12 @@ public interface RelInputEx extends RelInput {
      * @return Search bounds.
      */
     List<SearchBounds> getSearchBounds(String tag);
+
+    /**
+     * Returns bound of a window frame.
+     *
+     * @param tag Tag.
+     * @return Window bound.
+     */
+    RexWindowBound getWindowBound(String tag);
 }
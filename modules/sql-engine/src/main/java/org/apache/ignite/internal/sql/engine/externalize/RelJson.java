@@ -1024,7 +1024,7 @@ class RelJson {
         return list;
     }
 
-    private RexWindowBound toRexWindowBound(RelInput input, Map<String, Object> map) {
+    RexWindowBound toRexWindowBound(RelInput input, Map<String, Object> map) {
         if (map == null) {
             return null;
         }
@@ -46,6 +46,7 @@ import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowBound;
 import org.apache.calcite.runtime.SqlFunctions;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlAggFunction;
@@ -351,6 +352,12 @@ public class RelJsonReader {
             return relJson.toSearchBoundList(this, (List<Map<String, Object>>) get(tag));
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public RexWindowBound getWindowBound(String tag) {
+            return relJson.toRexWindowBound(this, (Map<String, Object>) get(tag));
+        }
+
         /** {@inheritDoc} */
         @Override
         public RelDistribution getDistribution() {
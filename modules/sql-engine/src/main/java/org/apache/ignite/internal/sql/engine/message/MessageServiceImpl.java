@@ -126,7 +126,7 @@ public class MessageServiceImpl implements MessageService {
     }
 
     private void onMessage(InternalClusterNode sender, NetworkMessage msg) {
-        if (msg instanceof CancelOperationRequest) {
+        if (msg instanceof CancelOperationRequest || msg instanceof ColumnStatisticsRequest) {
             return;
         }
 
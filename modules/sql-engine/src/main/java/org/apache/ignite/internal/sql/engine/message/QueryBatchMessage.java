@@ -17,10 +17,10 @@
 
 package org.apache.ignite.internal.sql.engine.message;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import org.apache.ignite.internal.network.annotations.Transferable;
-import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.replicator.message.TimestampAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * QueryBatchMessage interface.
@@ -44,7 +44,14 @@ public interface QueryBatchMessage extends TimestampAware, ExecutionContextAware
     boolean last();
 
     /**
-     * Get rows.
+     * Get rows packed into a {@link org.apache.ignite.internal.sql.engine.exec.ColumnarBatch columnar batch}.
      */
-    List<BinaryTupleMessage> rows();
+    ByteBuffer rows();
+
+    /**
+     * Get numbers of rows produced by the scans of the sending fragment and of the fragments it receives rows from, packed into
+     * triplets of a source ID, a number of rows and a number of fragment instances the scan has ended in. Sent with the last
+     * batch only.
+     */
+    long @Nullable [] rowCounts();
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.message;
 
+import java.util.UUID;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.network.annotations.Marshallable;
 import org.apache.ignite.internal.network.annotations.Transferable;
@@ -37,8 +38,14 @@ public interface QueryStartRequest extends TimestampAware, ExecutionContextAware
     FragmentDescription fragmentDescription();
 
     /**
-     * Get fragment plan.
+     * Get identifier of the fragment plan. Remote nodes cache deserialized plans by this identifier.
      */
+    UUID rootId();
+
+    /**
+     * Get fragment plan. The plan is omitted if the target node is expected to have it cached, see {@link #rootId()}.
+     */
+    @Nullable
     String root();
 
     /**
@@ -45,6 +45,12 @@ public interface QueryStartResponse extends NetworkMessage, Serializable {
      */
     long fragmentId();
 
+    /**
+     * Returns {@code true} if the fragment was not started since its plan was omitted from the request, and the node
+     * has no plan with such identifier cached. The request must be sent once again with the plan enclosed.
+     */
+    boolean unknownRoot();
+
     /**
      * Get error.
      */
@@ -46,4 +46,13 @@ public final class SqlQueryMessageGroup {
 
     /** See {@link CancelOperationResponse} for the details. */
     public static final short OPERATION_CANCEL_RESPONSE = 7;
+
+    /** See {@link RuntimeFilterMessage} for the details. */
+    public static final short RUNTIME_FILTER_MESSAGE = 8;
+
+    /** See {@link ColumnStatisticsRequest} for the details. */
+    public static final short COLUMN_STATISTICS_REQUEST = 9;
+
+    /** See {@link ColumnStatisticsResponse} for the details. */
+    public static final short COLUMN_STATISTICS_RESPONSE = 10;
 }
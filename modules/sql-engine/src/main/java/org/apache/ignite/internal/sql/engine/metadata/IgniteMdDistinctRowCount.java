@@ -23,12 +23,17 @@ import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.metadata.BuiltInMetadata;
 import org.apache.calcite.rel.metadata.CyclicMetadataException;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
+import org.apache.calcite.rel.metadata.RelColumnOrigin;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
+import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.NumberUtil;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -45,6 +50,57 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
         return rel.estimateRowCount(mq);
     }
 
+    /**
+     * Estimates the number of distinct values of the given fields of the table scan using statistics of columns.
+     *
+     * <p>Columns are assumed to be independent, thus the number of distinct combinations is the product of numbers of distinct
+     * values of the columns, then it is adjusted to the number of rows returned by the scan. Falls back to the default estimation
+     * if statistics of any of the columns are not available.
+     */
+    public @Nullable Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            @Nullable RexNode predicate
+    ) {
+        IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+        if (table == null || groupKey.isEmpty()) {
+            return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+        }
+
+        double domainSize = 1.0;
+
+        for (int field : groupKey) {
+            RelColumnOrigin origin = mq.getColumnOrigin(rel, field);
+
+            ColumnStatistics stats = origin == null || origin.isDerived()
+                    ? null
+                    : IgniteMdSelectivity.columnStatistics(table, origin.getOriginColumnOrdinal());
+
+            if (stats == null) {
+                return super.getDistinctRowCount((RelNode) rel, mq, groupKey, predicate);
+            }
+
+            // NULL is a distinct value as well.
+            domainSize *= stats.distinctCount() + (stats.nullFraction() > 0.0 ? 1 : 0);
+        }
+
+        Double rowCount = mq.getRowCount(rel);
+
+        if (rowCount == null) {
+            return null;
+        }
+
+        if (predicate != null) {
+            Double selectivity = mq.getSelectivity(rel, predicate);
+
+            rowCount *= selectivity == null ? 1.0 : selectivity;
+        }
+
+        return RelMdUtil.numDistinctVals(domainSize, rowCount);
+    }
+
     /** {@inheritDoc} */
     @Override
     public Double getDistinctRowCount(
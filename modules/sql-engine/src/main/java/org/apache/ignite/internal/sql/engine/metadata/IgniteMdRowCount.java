@@ -45,6 +45,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteAggregate;
 import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -232,6 +233,14 @@ public class IgniteMdRowCount extends RelMdRowCount {
         }
 
         if (context.joinType() == JoiningRelationType.UNKNOWN) {
+            Double rowCount = rel.getJoinType() == JoinRelType.INNER
+                    ? distinctValuesJoinRowCount(joinInfo, leftRowCount, rightRowCount, columnsFromLeft, columnsFromRight)
+                    : null;
+
+            if (rowCount != null) {
+                return joinInfo.isEqui() && joinInfo.pairs().size() == 1 ? rowCount : rowCount * NON_EQUI_COEFF;
+            }
+
             // Fall-back to calcite's implementation.
             return RelMdUtil.getJoinRowCount(mq, rel, rel.getCondition());
         }
@@ -327,6 +336,51 @@ public class IgniteMdRowCount extends RelMdRowCount {
         return baseRowCount * percentageAdjustment * postFiltrationAdjustment;
     }
 
+    /**
+     * Estimates the number of rows produced by an inner join by non-primary key columns using statistics of the columns.
+     *
+     * <p>Every non-null value of the join key having fewer distinct values is assumed to match some value of the other side,
+     * thus selectivity of the join by a pair of keys is {@code 1 / max(ndv(left), ndv(right))}. If there are several pairs of
+     * keys, the most selective one is taken, the rest are accounted as post-filtration.
+     *
+     * @return Estimated number of rows, or {@code null} if statistics of none of the pairs of keys are available.
+     */
+    private static @Nullable Double distinctValuesJoinRowCount(
+            JoinInfo joinInfo,
+            double leftRowCount,
+            double rightRowCount,
+            Int2ObjectMap<KeyColumnOrigin> columnsFromLeft,
+            Int2ObjectMap<KeyColumnOrigin> columnsFromRight
+    ) {
+        Double selectivity = null;
+
+        for (IntPair joinKeys : joinInfo.pairs()) {
+            ColumnStatistics leftStats = columnStatistics(columnsFromLeft.get(joinKeys.source));
+            ColumnStatistics rightStats = columnStatistics(columnsFromRight.get(joinKeys.target));
+
+            if (leftStats == null || rightStats == null) {
+                continue;
+            }
+
+            double pairSelectivity = (1.0 - leftStats.nullFraction()) * (1.0 - rightStats.nullFraction())
+                    / Math.max(leftStats.distinctCount(), rightStats.distinctCount());
+
+            selectivity = selectivity == null ? pairSelectivity : Math.min(selectivity, pairSelectivity);
+        }
+
+        return selectivity == null ? null : leftRowCount * rightRowCount * selectivity;
+    }
+
+    private static @Nullable ColumnStatistics columnStatistics(@Nullable KeyColumnOrigin key) {
+        if (key == null || key.origin.isDerived()) {
+            return null;
+        }
+
+        IgniteTable table = key.origin.getOriginTable().unwrap(IgniteTable.class);
+
+        return table == null ? null : IgniteMdSelectivity.columnStatistics(table, key.origin.getOriginColumnOrdinal());
+    }
+
     private static Int2ObjectMap<KeyColumnOrigin> resolveOrigins(RelMetadataQuery mq, RelNode joinShoulder, ImmutableIntList keys) {
         Int2ObjectMap<KeyColumnOrigin> origins = new Int2ObjectOpenHashMap<>();
         for (int i : keys) {
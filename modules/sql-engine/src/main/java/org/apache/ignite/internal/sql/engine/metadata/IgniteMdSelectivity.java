@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.metadata;
 
 import static org.apache.calcite.rex.RexUtil.expandSearch;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
@@ -32,10 +33,13 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
 import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.rex.RexVisitor;
 import org.apache.calcite.rex.RexVisitorImpl;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.sql.SqlKind;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.Util;
@@ -48,7 +52,9 @@ import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.jetbrains.annotations.Nullable;
@@ -109,7 +115,12 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
      * OR(<($t3, 110), >($t3, 150), AND(>=($t2, -($t1, 2)), <=($t2, +($t3, 2))), >($t4, $t2), <($t4, $t3)) selectivity computes separately
      * for each local ref with AND selectivity adjustment. <br>
      */
-    private static double computeOrSelectivity(RexCall call, @Nullable BitSet primaryKeys, @Nullable Mapping columnMapping) {
+    private static double computeOrSelectivity(
+            RexCall call,
+            @Nullable IgniteTable table,
+            @Nullable BitSet primaryKeys,
+            @Nullable Mapping columnMapping
+    ) {
         List<RexNode> operands = call.operands;
         List<RexNode> andOperands = new ArrayList<>();
         List<RexNode> otherOperands = new ArrayList<>();
@@ -132,7 +143,7 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
 
         // AND inside OR
         for (RexNode andOp : andOperands) {
-            baseSelectivity = Math.max(baseSelectivity, guessAndSelectivity(andOp, primaryKeys == null
+            baseSelectivity = Math.max(baseSelectivity, guessAndSelectivity(andOp, table, primaryKeys == null
                     ? null : (BitSet) primaryKeys.clone(), columnMapping));
         }
 
@@ -219,18 +230,23 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
             RexNode predicateExpanded = expandSearch(Commons.rexBuilder(), null, pred);
 
             if (predicateExpanded.isA(SqlKind.OR)) {
-                double processed = computeOrSelectivity((RexCall) predicateExpanded, primaryKeys == null
+                double processed = computeOrSelectivity((RexCall) predicateExpanded, table, primaryKeys == null
                         ? null : (BitSet) primaryKeys.clone(), columnMapping);
                 sel *= processed;
             } else {
-                sel *= computeSelectivity(predicateExpanded, primaryKeys, columnMapping);
+                sel *= computeSelectivity(predicateExpanded, table, primaryKeys, columnMapping);
             }
         }
 
         return sel * artificialSel;
     }
 
-    private static double guessAndSelectivity(@Nullable RexNode predicate, @Nullable BitSet keyColumns, @Nullable Mapping columnMapping) {
+    private static double guessAndSelectivity(
+            @Nullable RexNode predicate,
+            @Nullable IgniteTable table,
+            @Nullable BitSet keyColumns,
+            @Nullable Mapping columnMapping
+    ) {
         double sel = 1.0;
         if ((predicate == null) || predicate.isAlwaysTrue()) {
             return sel;
@@ -239,18 +255,27 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         List<RexNode> conjunctions = RelOptUtil.conjunctions(predicate);
 
         for (RexNode pred : conjunctions) {
-            sel *= computeSelectivity(pred, keyColumns, columnMapping);
+            sel *= computeSelectivity(pred, table, keyColumns, columnMapping);
         }
 
         return sel;
     }
 
-    private static double computeSelectivity(RexNode predicate, @Nullable BitSet keyColumns, @Nullable Mapping columnMapping) {
+    private static double computeSelectivity(
+            RexNode predicate,
+            @Nullable IgniteTable table,
+            @Nullable BitSet keyColumns,
+            @Nullable Mapping columnMapping
+    ) {
         double sel = 1.0;
         double artificialSel = 1.0;
 
+        ColumnStatistics columnStats = columnStatistics(predicate, table, columnMapping);
+
         if (predicate.getKind() == SqlKind.IS_NOT_NULL) {
-            sel *= IS_NOT_NULL_SELECTIVITY;
+            sel *= columnStats == null ? IS_NOT_NULL_SELECTIVITY : 1.0 - columnStats.nullFraction();
+        } else if (predicate.getKind() == SqlKind.IS_NULL && columnStats != null) {
+            sel *= columnStats.nullFraction();
         } else if (
                 (predicate instanceof RexCall)
                         && (((RexCall) predicate).getOperator()
@@ -268,9 +293,11 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
                     }
                 }
             }
-            sel *= EQ_SELECTIVITY;
+            sel *= columnStats == null ? EQ_SELECTIVITY : columnStats.equalsSelectivity();
         } else if (predicate.isA(SqlKind.COMPARISON)) {
-            sel *= COMPARISON_SELECTIVITY;
+            Double comparisonSel = columnStats == null ? null : comparisonSelectivity((RexCall) predicate, columnStats);
+
+            sel *= comparisonSel == null ? COMPARISON_SELECTIVITY : comparisonSel;
         } else {
             sel *= DEFAULT_SELECTIVITY;
         }
@@ -278,6 +305,87 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         return sel * artificialSel;
     }
 
+    /**
+     * Returns statistics of the column the predicate applies to, if the predicate compares a column with constants only.
+     *
+     * @param predicate Predicate.
+     * @param table Table the predicate applies to.
+     * @param columnMapping Mapping from the fields of the scan to the columns of the table.
+     * @return Statistics of the column or {@code null} if not available.
+     */
+    private static @Nullable ColumnStatistics columnStatistics(
+            RexNode predicate,
+            @Nullable IgniteTable table,
+            @Nullable Mapping columnMapping
+    ) {
+        if (table == null || columnMapping == null || !(predicate instanceof RexCall)) {
+            return null;
+        }
+
+        RexLocalRef ref = null;
+
+        for (RexNode operand : ((RexCall) predicate).getOperands()) {
+            if (operand instanceof RexLocalRef && ref == null) {
+                ref = (RexLocalRef) operand;
+            } else if (!RexUtil.isConstant(operand)) {
+                return null;
+            }
+        }
+
+        return ref == null ? null : columnStatistics(table, columnMapping.getSource(ref.getIndex()));
+    }
+
+    /**
+     * Returns statistics of the column of the table.
+     *
+     * @param table Table.
+     * @param columnIdx Index of the column in the table.
+     * @return Statistics of the column or {@code null} if not available.
+     */
+    static @Nullable ColumnStatistics columnStatistics(IgniteTable table, int columnIdx) {
+        Statistic statistic = table.getStatistic();
+
+        return statistic instanceof IgniteStatistic ? ((IgniteStatistic) statistic).columnStatistics(columnIdx) : null;
+    }
+
+    /** Estimates selectivity of comparison of a column with a numeric literal using the histogram of the column. */
+    private static @Nullable Double comparisonSelectivity(RexCall call, ColumnStatistics columnStats) {
+        if (!columnStats.hasHistogram() || call.getOperands().size() != 2) {
+            return null;
+        }
+
+        RexNode left = call.getOperands().get(0);
+        RexNode right = call.getOperands().get(1);
+        SqlKind kind = call.getKind();
+        RexNode literal;
+
+        if (left instanceof RexLocalRef) {
+            literal = right;
+        } else {
+            literal = left;
+            kind = kind.reverse();
+        }
+
+        if (!(literal instanceof RexLiteral) || !(((RexLiteral) literal).getValue() instanceof BigDecimal)) {
+            return null;
+        }
+
+        double value = ((BigDecimal) ((RexLiteral) literal).getValue()).doubleValue();
+
+        switch (kind) {
+            case LESS_THAN:
+                return columnStats.lessThanSelectivity(value, false);
+            case LESS_THAN_OR_EQUAL:
+                return columnStats.lessThanSelectivity(value, true);
+            case GREATER_THAN:
+                return columnStats.greaterThanSelectivity(value, false);
+            case GREATER_THAN_OR_EQUAL:
+                return columnStats.greaterThanSelectivity(value, true);
+            default:
+                return null;
+        }
+    }
+
     /** Implements selectivity prediction algorithm.
      *
      * @param rel Relational operator.
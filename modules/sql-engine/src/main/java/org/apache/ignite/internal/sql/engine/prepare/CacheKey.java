@@ -69,6 +69,11 @@ public class CacheKey {
         return query;
     }
 
+    /** Returns the key of the same query planned against the given catalog version. */
+    CacheKey withCatalogVersion(int catalogVersion) {
+        return catalogVersion == this.catalogVersion ? this : new CacheKey(catalogVersion, schemaName, query, paramTypes);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object o) {
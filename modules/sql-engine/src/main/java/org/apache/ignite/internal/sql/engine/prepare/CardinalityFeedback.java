@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Objects;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteDataSource;
+import org.apache.ignite.internal.sql.engine.util.cache.Cache;
+import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Numbers of rows observed by the scans of executed queries.
+ *
+ * <p>Once a plan is built, estimated numbers of rows of its scans are registered by the ID of the plan. When a query executed with
+ * the plan completes, the observed numbers of rows are compared with the estimated ones, and if any of them differs by more than
+ * the configured factor, the observed number is kept to be used by the planner instead of the estimation, and the plan is supposed
+ * to be re-optimized. A scan is identified by the table and the condition, thus the observed number is used for any plan having
+ * the same scan.
+ */
+public class CardinalityFeedback {
+    private final double factor;
+
+    /** Estimated numbers of rows of the scans by source ID, by plan. */
+    private final Cache<PlanId, Long2ObjectMap<ScanEstimate>> estimates;
+
+    /** Observed numbers of rows by scan. */
+    private final Cache<ScanKey, Double> observed;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheFactory Factory to create caches with.
+     * @param size Maximal number of plans and of scans to keep the numbers of rows for.
+     * @param factor Factor the observed number of rows must differ from the estimated one by to be taken into account.
+     */
+    public CardinalityFeedback(CacheFactory cacheFactory, int size, double factor) {
+        assert enabled(factor) : factor;
+
+        this.factor = factor;
+        this.estimates = cacheFactory.create(size);
+        this.observed = cacheFactory.create(size);
+    }
+
+    /**
+     * Checks whether the cardinality feedback is enabled by the given factor.
+     *
+     * @param factor Factor the observed number of rows must differ from the estimated one by to be taken into account.
+     * @return A {@code true} if the cardinality feedback is enabled, {@code false} otherwise.
+     */
+    public static boolean enabled(double factor) {
+        return factor > 1;
+    }
+
+    /**
+     * Returns the number of rows observed by the given scan, or {@code null} if the estimation of the planner is good enough.
+     *
+     * @param scan Scan.
+     * @return Observed number of rows.
+     */
+    public @Nullable Double observedRowCount(ProjectableFilterableTableScan scan) {
+        if (observed.size() == 0) {
+            return null;
+        }
+
+        return observed.get(ScanKey.of(scan));
+    }
+
+    /**
+     * Estimates numbers of rows of the scans of a plan. Must be invoked before the plan is detached from the planning cluster.
+     *
+     * @param sources Source relations of the plan by source ID.
+     * @return Estimated numbers of rows by source ID.
+     */
+    Long2ObjectMap<ScanEstimate> estimate(Long2ObjectMap<IgniteRel> sources) {
+        Long2ObjectMap<ScanEstimate> res = new Long2ObjectOpenHashMap<>();
+
+        for (Long2ObjectMap.Entry<IgniteRel> e : sources.long2ObjectEntrySet()) {
+            if (!(e.getValue() instanceof ProjectableFilterableTableScan)) {
+                continue;
+            }
+
+            ProjectableFilterableTableScan scan = (ProjectableFilterableTableScan) e.getValue();
+            RelMetadataQuery mq = scan.getCluster().getMetadataQuery();
+
+            res.put(e.getLongKey(), new ScanEstimate(ScanKey.of(scan), mq.getRowCount(scan)));
+        }
+
+        return res;
+    }
+
+    /**
+     * Registers estimated numbers of rows of the scans of a plan.
+     *
+     * @param planId ID of the plan.
+     * @param scanEstimates Estimated numbers of rows by source ID, see {@link #estimate(Long2ObjectMap)}.
+     */
+    void register(PlanId planId, Long2ObjectMap<ScanEstimate> scanEstimates) {
+        if (!scanEstimates.isEmpty()) {
+            estimates.put(planId, scanEstimates);
+        }
+    }
+
+    /**
+     * Compares the numbers of rows observed by the scans of a completed query with the estimated ones.
+     *
+     * @param planId ID of the plan the query was executed with.
+     * @param rowCounts Observed numbers of rows by source ID.
+     * @return {@code true} if the plan should be re-optimized.
+     */
+    boolean onQueryCompleted(PlanId planId, Long2LongMap rowCounts) {
+        Long2ObjectMap<ScanEstimate> planEstimates = estimates.get(planId);
+
+        if (planEstimates == null) {
+            return false;
+        }
+
+        boolean mismatch = false;
+
+        for (Long2ObjectMap.Entry<ScanEstimate> e : planEstimates.long2ObjectEntrySet()) {
+            if (!rowCounts.containsKey(e.getLongKey())) {
+                // The scan was not drained.
+                continue;
+            }
+
+            double actual = rowCounts.get(e.getLongKey());
+            ScanEstimate estimate = e.getValue();
+
+            if (differs(estimate.rowCount, actual)) {
+                observed.put(estimate.key, actual);
+
+                mismatch = true;
+            }
+        }
+
+        if (mismatch) {
+            // The plan is about to be replaced, the feedback of the subsequent executions is of no use.
+            estimates.invalidate(planId);
+        }
+
+        return mismatch;
+    }
+
+    private boolean differs(double estimated, double actual) {
+        double ratio = Math.max(estimated, 1.0) / Math.max(actual, 1.0);
+
+        return ratio > factor || ratio * factor < 1.0;
+    }
+
+    /** Estimated number of rows of a scan. */
+    static class ScanEstimate {
+        private final ScanKey key;
+
+        private final double rowCount;
+
+        ScanEstimate(ScanKey key, double rowCount) {
+            this.key = key;
+            this.rowCount = rowCount;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(ScanEstimate.class, this);
+        }
+    }
+
+    /**
+     * Identifies scans reading the same rows regardless of the access path.
+     *
+     * <p>The condition refers to the fields of the row consisting of the required columns only, thus the same condition over
+     * different sets of required columns filters different columns of the table.
+     */
+    static class ScanKey {
+        private final int tableId;
+
+        private final @Nullable ImmutableIntList requiredColumns;
+
+        private final String condition;
+
+        ScanKey(int tableId, @Nullable ImmutableIntList requiredColumns, String condition) {
+            this.tableId = tableId;
+            this.requiredColumns = requiredColumns;
+            this.condition = condition;
+        }
+
+        static ScanKey of(ProjectableFilterableTableScan scan) {
+            IgniteDataSource dataSource = scan.getTable().unwrap(IgniteDataSource.class);
+
+            assert dataSource != null;
+
+            return new ScanKey(dataSource.id(), scan.requiredColumns(), Objects.toString(scan.condition(), ""));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ScanKey scanKey = (ScanKey) o;
+
+            return tableId == scanKey.tableId
+                    && Objects.equals(requiredColumns, scanKey.requiredColumns)
+                    && condition.equals(scanKey.condition);
+        }
+
+        @Override
+        public int hashCode() {
+            int res = tableId;
+
+            res = 31 * res + Objects.hashCode(requiredColumns);
+            res = 31 * res + condition.hashCode();
+
+            return res;
+        }
+
+        @Override
+        public String toString() {
+            return S.toString(ScanKey.class, this);
+        }
+    }
+}
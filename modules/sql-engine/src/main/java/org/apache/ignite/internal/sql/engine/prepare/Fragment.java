@@ -21,7 +21,9 @@ import static org.apache.ignite.internal.sql.engine.externalize.RelJsonWriter.to
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectArrayMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.UUID;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.ignite.internal.sql.engine.rel.IgniteReceiver;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
@@ -31,6 +33,7 @@ import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
+import org.apache.ignite.internal.util.HashUtils;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -45,6 +48,9 @@ public class Fragment {
     @IgniteToStringExclude
     private final String rootSer;
 
+    /** Identifier of the serialized root representation. */
+    private final UUID rootSerId;
+
     private final List<IgniteReceiver> remotes;
     private final Long2ObjectMap<IgniteTable> tables;
     private final List<IgniteSystemView> systemViews;
@@ -69,6 +75,7 @@ public class Fragment {
         this.tables = new Long2ObjectArrayMap<>(tables);
         this.systemViews = List.copyOf(systemViews);
         this.rootSer = toJson(root);
+        this.rootSerId = serializedId(rootSer);
         this.correlated = correlated;
     }
 
@@ -95,6 +102,16 @@ public class Fragment {
         return rootSer;
     }
 
+    /**
+     * Returns an identifier of the {@link #serialized() serialized form}. Fragments with equal serialized forms have equal
+     * identifiers, thus the identifier may be used to cache the deserialized fragment on remote nodes.
+     *
+     * @return Identifier of the serialized form.
+     */
+    public UUID serializedId() {
+        return rootSerId;
+    }
+
     /**
      * Returns {@code true} if this fragment expecting some correlated variables being set from
      * outside (e.g. parent fragment).
@@ -138,6 +155,12 @@ public class Fragment {
                 && ((IgniteSender) root).sourceDistribution().satisfies(IgniteDistributions.single()));
     }
 
+    private static UUID serializedId(String rootSer) {
+        byte[] bytes = rootSer.getBytes(StandardCharsets.UTF_8);
+
+        return new UUID(HashUtils.hash64(bytes, 0, bytes.length, 0), HashUtils.hash64(bytes, 0, bytes.length, 31));
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.sql.ColumnType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Durable storage of the queries whose plans were used the most, the queries are planned in advance on node start to warm up the
+ * plan cache.
+ *
+ * <p>Only the normalized query text, the default schema and the types of the dynamic parameters are stored, the catalog version
+ * of the returned keys is undefined. The warm-up is not critical for query execution, thus I/O errors are logged and never
+ * propagated.
+ */
+class HotQueriesStore {
+    private static final IgniteLogger LOG = Loggers.forClass(HotQueriesStore.class);
+
+    private static final int VERSION = 1;
+
+    private static final String FILE_NAME = "hot-queries.bin";
+
+    private static final String TMP_FILE_NAME = "hot-queries.tmp";
+
+    private final Path dir;
+
+    HotQueriesStore(Path dir) {
+        this.dir = dir;
+    }
+
+    /** Returns the stored queries, or an empty list if the queries were never stored or can't be read. */
+    List<CacheKey> read() {
+        Path file = dir.resolve(FILE_NAME);
+
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+
+        try {
+            return deserialize(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (Exception e) {
+            LOG.warn("Failed to read hot queries [file={}].", e, file);
+
+            return List.of();
+        }
+    }
+
+    /** Stores the queries replacing the previous ones. */
+    void write(List<CacheKey> keys) {
+        Path file = dir.resolve(FILE_NAME);
+        Path tmp = dir.resolve(TMP_FILE_NAME);
+
+        try {
+            Files.createDirectories(dir);
+
+            Files.write(tmp, serialize(keys).array());
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to write hot queries [file={}].", e, file);
+        }
+    }
+
+    private static ByteBuffer serialize(List<CacheKey> keys) {
+        int size = 2 * Integer.BYTES;
+
+        for (CacheKey key : keys) {
+            size += 3 * Integer.BYTES + utf8Length(key.schemaName()) + utf8Length(key.query());
+
+            for (ColumnType type : key.paramTypes()) {
+                size += Integer.BYTES + (type == null ? 0 : utf8Length(type.name()));
+            }
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.putInt(VERSION);
+        buf.putInt(keys.size());
+
+        for (CacheKey key : keys) {
+            putString(buf, key.schemaName());
+            putString(buf, key.query());
+
+            buf.putInt(key.paramTypes().length);
+
+            for (ColumnType type : key.paramTypes()) {
+                putString(buf, type == null ? null : type.name());
+            }
+        }
+
+        return buf.flip();
+    }
+
+    private static List<CacheKey> deserialize(ByteBuffer buf) {
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+
+        int ver = buf.getInt();
+
+        if (ver != VERSION) {
+            throw new IllegalStateException("Unsupported version: " + ver);
+        }
+
+        int cnt = buf.getInt();
+
+        List<CacheKey> res = new ArrayList<>(cnt);
+
+        for (int i = 0; i < cnt; i++) {
+            String schema = getString(buf);
+            String query = getString(buf);
+
+            ColumnType[] paramTypes = new ColumnType[buf.getInt()];
+
+            for (int j = 0; j < paramTypes.length; j++) {
+                String type = getString(buf);
+
+                paramTypes[j] = type == null ? null : ColumnType.valueOf(type);
+            }
+
+            assert schema != null && query != null;
+
+            res.add(new CacheKey(-1, schema, query, paramTypes.length == 0 ? CacheKey.EMPTY_CLASS_ARRAY : paramTypes));
+        }
+
+        return res;
+    }
+
+    private static int utf8Length(String str) {
+        return str.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void putString(ByteBuffer buf, @Nullable String str) {
+        if (str == null) {
+            buf.putInt(-1);
+
+            return;
+        }
+
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        buf.putInt(bytes.length);
+        buf.put(bytes);
+    }
+
+    private static @Nullable String getString(ByteBuffer buf) {
+        int len = buf.getInt();
+
+        if (len < 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[len];
+
+        buf.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
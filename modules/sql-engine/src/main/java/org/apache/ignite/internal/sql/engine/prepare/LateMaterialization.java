@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.rel.AbstractIgniteJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteMergeJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteNestedLoopJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableFetch;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTrimExchange;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Defers reading of wide columns passed through joins until the join is done.
+ *
+ * <p>A wide column which is read by a table scan below a join, but which is not used by the join itself, is replaced with
+ * {@code null} by the scan, and the values are fetched by the primary key of the table after the join by {@link IgniteTableFetch}.
+ * Thus only the rows which survived the join are materialized, and wide values are neither buffered by the join nor sent over the
+ * network. Fetches of nested joins are pulled up through the joins above as long as the deferred fields are not used by them.
+ *
+ * <p>The rewrite does not change the row types. The deferral takes place within read-only transactions only, since the fetch
+ * requires a read timestamp to be performed on an arbitrary node. Within a read-write transaction the scans read the deferred
+ * columns as is, and the fetch passes rows through.
+ */
+public class LateMaterialization extends IgniteRelShuttle {
+    /** Minimal precision of a variable length column to be deferred. */
+    static final int MIN_DEFERRED_PRECISION = 256;
+
+    private LateMaterialization() {
+    }
+
+    /**
+     * Rewrites the given plan.
+     *
+     * @param rel Optimized plan.
+     * @return Plan with deferred columns.
+     */
+    public static IgniteRel apply(IgniteRel rel) {
+        return new LateMaterialization().visit(rel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel visit(IgniteNestedLoopJoin rel) {
+        return processJoin(rel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel visit(IgniteHashJoin rel) {
+        return processJoin(rel);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel visit(IgniteMergeJoin rel) {
+        return processJoin(rel);
+    }
+
+    private IgniteRel processJoin(AbstractIgniteJoin join) {
+        processNode(join);
+
+        int leftCnt = join.getLeft().getRowType().getFieldCount();
+
+        // Fields used by the join itself in terms of the concatenation of its inputs.
+        ImmutableBitSet.Builder usedBuilder = RelOptUtil.InputFinder.bits(join.getCondition()).rebuild();
+
+        addTraitFields(usedBuilder, join);
+
+        ImmutableBitSet used = usedBuilder.build();
+
+        List<Fetch> fetches = new ArrayList<>();
+
+        // Semi and anti joins do not project fields of the right input.
+        int inputs = join.getJoinType().projectsRight() ? 2 : 1;
+
+        for (int i = 0; i < inputs; i++) {
+            int offset = i == 0 ? 0 : leftCnt;
+
+            RelNode input = join.getInput(i);
+
+            while (input instanceof IgniteTableFetch) {
+                IgniteTableFetch fetch = (IgniteTableFetch) input;
+                Fetch shifted = new Fetch(fetch.getTable(), fetch.keys(), fetch.fields(), fetch.columns()).shift(offset);
+
+                if (used.intersects(ImmutableBitSet.of(shifted.fields))) {
+                    break;
+                }
+
+                fetches.add(shifted);
+
+                input = fetch.getInput();
+
+                join.replaceInput(i, input);
+            }
+
+            Fetch fetch = deferFields(join, i, used.get(offset, offset + input.getRowType().getFieldCount()).shift(-offset));
+
+            if (fetch != null) {
+                fetches.add(fetch.shift(offset));
+            }
+        }
+
+        IgniteRel res = join;
+
+        for (Fetch fetch : fetches) {
+            res = new IgniteTableFetch(join.getCluster(), join.getTraitSet(), res, fetch.table, fetch.keys, fetch.fields, fetch.columns);
+        }
+
+        return res;
+    }
+
+    /**
+     * Defers wide fields of the table scan the given input of the join reads, if any.
+     *
+     * @param join Join.
+     * @param idx Index of the input.
+     * @param used Fields of the input used by the join.
+     * @return Fetch of the deferred fields in terms of the input, or {@code null} if nothing is deferred.
+     */
+    private static @Nullable Fetch deferFields(AbstractIgniteJoin join, int idx, ImmutableBitSet used) {
+        ImmutableBitSet.Builder usedBuilder = used.rebuild();
+
+        RelNode parent = join;
+        int parentIdx = idx;
+        RelNode rel = join.getInput(idx);
+
+        // Exchanges pass the fields through as is.
+        while (rel instanceof IgniteExchange || rel instanceof IgniteTrimExchange) {
+            addTraitFields(usedBuilder, rel);
+
+            parent = rel;
+            parentIdx = 0;
+            rel = rel.getInput(0);
+        }
+
+        if (!(rel instanceof IgniteTableScan) || ((IgniteTableScan) rel).deferredFields() != null) {
+            return null;
+        }
+
+        IgniteTableScan scan = (IgniteTableScan) rel;
+
+        addTraitFields(usedBuilder, scan);
+
+        used = usedBuilder.build();
+
+        IgniteTable table = scan.getTable().unwrapOrThrow(IgniteTable.class);
+        List<RelDataType> fieldTypes = RelOptUtil.getFieldTypeList(scan.getRowType());
+        int[] columns = new int[fieldTypes.size()];
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column(scan, i);
+        }
+
+        ImmutableIntList keyColumns = table.keyColumns();
+        int[] keys = new int[keyColumns.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = indexOf(columns, keyColumns.get(i));
+
+            if (keys[i] < 0) {
+                // The row can't be identified.
+                return null;
+            }
+        }
+
+        List<Integer> fields = new ArrayList<>();
+        List<Integer> fetchedColumns = new ArrayList<>();
+
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] >= 0 && !used.get(i) && !keyColumns.contains(columns[i]) && isWide(fieldTypes.get(i))) {
+                fields.add(i);
+                fetchedColumns.add(columns[i]);
+            }
+        }
+
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        parent.replaceInput(parentIdx, scan.withDeferredFields(ImmutableBitSet.of(fields)));
+
+        return new Fetch(scan.getTable(), ImmutableIntList.of(keys), ImmutableIntList.copyOf(fields),
+                ImmutableIntList.copyOf(fetchedColumns));
+    }
+
+    /** Returns the column of the table the field of the scan holds as is, or {@code -1} if the field is an expression. */
+    private static int column(IgniteTableScan scan, int field) {
+        int ref = field;
+
+        if (scan.projects() != null) {
+            RexNode project = scan.projects().get(field);
+
+            if (!(project instanceof RexLocalRef)) {
+                return -1;
+            }
+
+            ref = ((RexLocalRef) project).getIndex();
+        }
+
+        return scan.requiredColumns() == null ? ref : scan.requiredColumns().get(ref);
+    }
+
+    private static int indexOf(int[] arr, int val) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == val) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isWide(RelDataType type) {
+        if (type.getSqlTypeName() != SqlTypeName.VARCHAR && type.getSqlTypeName() != SqlTypeName.VARBINARY) {
+            return false;
+        }
+
+        return type.getPrecision() == RelDataType.PRECISION_NOT_SPECIFIED || type.getPrecision() >= MIN_DEFERRED_PRECISION;
+    }
+
+    /** Adds fields the distribution and the collation of the relation depend on. */
+    private static void addTraitFields(ImmutableBitSet.Builder builder, RelNode rel) {
+        builder.addAll(TraitUtils.distribution(rel).getKeys());
+
+        for (RelFieldCollation collation : TraitUtils.collation(rel).getFieldCollations()) {
+            builder.set(collation.getFieldIndex());
+        }
+    }
+
+    /** Fields to fetch by the primary key of a table. */
+    private static class Fetch {
+        private final RelOptTable table;
+
+        private final ImmutableIntList keys;
+
+        private final ImmutableIntList fields;
+
+        private final ImmutableIntList columns;
+
+        Fetch(RelOptTable table, ImmutableIntList keys, ImmutableIntList fields, ImmutableIntList columns) {
+            this.table = table;
+            this.keys = keys;
+            this.fields = fields;
+            this.columns = columns;
+        }
+
+        Fetch shift(int offset) {
+            return offset == 0 ? this : new Fetch(table, keys.incr(offset), fields.incr(offset), columns);
+        }
+    }
+}
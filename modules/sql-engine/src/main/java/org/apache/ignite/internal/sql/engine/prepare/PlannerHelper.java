@@ -47,6 +47,7 @@ import org.apache.calcite.rel.RelRoot;
 import org.apache.calcite.rel.RelShuttle;
 import org.apache.calcite.rel.RelShuttleImpl;
 import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Project;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.core.Window;
 import org.apache.calcite.rel.logical.LogicalCorrelate;
@@ -58,7 +59,11 @@ import org.apache.calcite.rel.rules.MultiJoin;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexBuilder;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexOver;
 import org.apache.calcite.rex.RexSlot;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.rex.RexVisitor;
+import org.apache.calcite.rex.RexVisitorImpl;
 import org.apache.calcite.sql.SqlBasicCall;
 import org.apache.calcite.sql.SqlCall;
 import org.apache.calcite.sql.SqlDynamicParam;
@@ -90,6 +95,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify.Operation;
 import org.apache.ignite.internal.sql.engine.rel.IgniteProject;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSelectCount;
+import org.apache.ignite.internal.sql.engine.rule.WindowConverterRule;
 import org.apache.ignite.internal.sql.engine.schema.ColumnDescriptor;
 import org.apache.ignite.internal.sql.engine.schema.IgniteDataSource;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
@@ -182,6 +188,8 @@ public final class PlannerHelper {
 
             rel = planner.transform(PlannerPhase.HEP_PROJECT_PUSH_DOWN, rel.getTraitSet(), rel);
 
+            rel = convertWindowFunctions(planner, rel);
+
             if (fastQueryOptimizationEnabled()) {
                 // the sole purpose of this code block is to limit scope of `simpleOperation` variable.
                 // The result of `HEP_TO_SIMPLE_KEY_VALUE_OPERATION` phase MUST NOT be passed to next stage,
@@ -220,6 +228,10 @@ public final class PlannerHelper {
 
             result = planner.transform(PlannerPhase.OPTIMIZATION, desired, rel);
 
+            if (Commons.context(result).lateMaterialization()) {
+                result = LateMaterialization.apply(result);
+            }
+
             if (!root.isRefTrivial()) {
                 LogicalProject project = (LogicalProject) root.project();
 
@@ -262,9 +274,9 @@ public final class PlannerHelper {
         );
 
         try {
-            // TODO: https://issues.apache.org/jira/browse/IGNITE-23608 remove after window functions are supported
-            // Decorrelation may produce Window node which is currently not supported.
-            result.accept(new WindowNodeIsNotPresentedValidator());
+            // Decorrelation may produce a window the execution node can't evaluate, e.g. with a frame
+            // not starting at the beginning of the partition, keep the correlated plan then.
+            result.accept(new UnsupportedWindowValidator());
         } catch (FoundOne ignored) {
             return rel;
         }
@@ -272,6 +284,20 @@ public final class PlannerHelper {
         return result;
     }
 
+    /**
+     * Extracts window functions from projections into {@link Window} relations, which are implemented by
+     * {@link org.apache.ignite.internal.sql.engine.rel.IgniteWindow}.
+     */
+    private static RelNode convertWindowFunctions(IgnitePlanner planner, RelNode rel) {
+        try {
+            rel.accept(new CorrelatedWindowFunctionValidator());
+        } catch (FoundOne ignored) {
+            throw new SqlException(STMT_VALIDATION_ERR, "Correlated expressions inside window functions are not supported.");
+        }
+
+        return planner.transform(PlannerPhase.HEP_PROJECT_TO_WINDOW, rel.getTraitSet(), rel);
+    }
+
     private static void validateIndexesFromHints(RelNode rel, Hints hints) {
         List<String> noIdxParams = hints.params(NO_INDEX);
         List<String> forceIdxParams = hints.params(FORCE_INDEX);
@@ -669,14 +695,38 @@ public final class PlannerHelper {
         }
     }
 
-    private static class WindowNodeIsNotPresentedValidator extends RelHomogeneousShuttle {
+    private static class UnsupportedWindowValidator extends RelHomogeneousShuttle {
         @Override
         public RelNode visit(RelNode other) {
-            if (other instanceof Window) {
+            if (other instanceof Window && !WindowConverterRule.supported((Window) other)) {
                 throw new Util.FoundOne(other);
             }
 
             return super.visit(other);
         }
     }
+
+    private static class CorrelatedWindowFunctionValidator extends RelHomogeneousShuttle {
+        private static final RexVisitor<Void> OVER_VISITOR = new RexVisitorImpl<>(true) {
+            @Override
+            public Void visitOver(RexOver over) {
+                if (RexUtil.containsCorrelation(over)) {
+                    throw new Util.FoundOne(over);
+                }
+
+                return super.visitOver(over);
+            }
+        };
+
+        @Override
+        public RelNode visit(RelNode other) {
+            if (other instanceof Project) {
+                for (RexNode expr : ((Project) other).getProjects()) {
+                    expr.accept(OVER_VISITOR);
+                }
+            }
+
+            return super.visit(other);
+        }
+    }
 }
@@ -54,6 +54,7 @@ import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToHashIndexSpo
 import org.apache.ignite.internal.sql.engine.rule.FilterSpoolMergeToSortedIndexSpoolRule;
 import org.apache.ignite.internal.sql.engine.rule.HashAggregateConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.HashJoinConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.LimitExchangeTransposeRule;
 import org.apache.ignite.internal.sql.engine.rule.LogicalScanConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.MergeJoinConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.NestedLoopJoinConverterRule;
@@ -71,12 +72,14 @@ import org.apache.ignite.internal.sql.engine.rule.TableModifyToKeyValueInsertRul
 import org.apache.ignite.internal.sql.engine.rule.TableScanToKeyValueGetRule;
 import org.apache.ignite.internal.sql.engine.rule.UnionConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.ValuesConverterRule;
+import org.apache.ignite.internal.sql.engine.rule.WindowConverterRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.ExposeIndexRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.FilterScanMergeRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.IgniteJoinConditionPushRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.IgniteMultiJoinOptimizeBushyRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.IgniteProjectCorrelateTransposeRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.LogicalOrToUnionRule;
+import org.apache.ignite.internal.sql.engine.rule.logical.MinMaxIndexSeekRule;
 import org.apache.ignite.internal.sql.engine.rule.logical.ProjectScanMergeRule;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 
@@ -152,7 +155,9 @@ public enum PlannerPhase {
             CoreRules.JOIN_PUSH_EXPRESSIONS,
             CoreRules.PROJECT_MERGE,
             CoreRules.PROJECT_REMOVE,
-            CoreRules.PROJECT_FILTER_TRANSPOSE
+            CoreRules.PROJECT_FILTER_TRANSPOSE,
+
+            MinMaxIndexSeekRule.INSTANCE
     ) {
         /** {@inheritDoc} */
         @Override
@@ -241,6 +246,7 @@ public enum PlannerPhase {
             SortMergeRule.INSTANCE,
 
             SortExchangeTransposeRule.INSTANCE,
+            LimitExchangeTransposeRule.INSTANCE,
 
             CoreRules.UNION_MERGE,
             CoreRules.MINUS_MERGE,
@@ -302,7 +308,8 @@ public enum PlannerPhase {
             TableModifyConverterRule.INSTANCE,
             UnionConverterRule.INSTANCE,
             SortConverterRule.INSTANCE,
-            TableFunctionScanConverterRule.INSTANCE
+            TableFunctionScanConverterRule.INSTANCE,
+            WindowConverterRule.INSTANCE
     ) {
         /** {@inheritDoc} */
         @Override
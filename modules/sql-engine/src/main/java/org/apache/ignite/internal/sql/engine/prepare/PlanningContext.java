@@ -183,6 +183,10 @@ public final class PlanningContext implements Context {
 
     private final @Nullable String defaultSchemaName;
 
+    private final @Nullable CardinalityFeedback cardinalityFeedback;
+
+    private final boolean lateMaterialization;
+
     /** Private constructor, used by a builder. */
     private PlanningContext(
             FrameworkConfig config,
@@ -191,7 +195,9 @@ public final class PlanningContext implements Context {
             Int2ObjectMap<ColumnType> parameters,
             boolean explicitTx,
             int catalogVersion,
-            @Nullable String defaultSchemaName
+            @Nullable String defaultSchemaName,
+            @Nullable CardinalityFeedback cardinalityFeedback,
+            boolean lateMaterialization
     ) {
         this.parentCtx = config.getContext();
 
@@ -205,6 +211,8 @@ public final class PlanningContext implements Context {
         this.explicitTx = explicitTx;
         this.catalogVersion = catalogVersion;
         this.defaultSchemaName = defaultSchemaName;
+        this.cardinalityFeedback = cardinalityFeedback;
+        this.lateMaterialization = lateMaterialization;
     }
 
     /** Get framework config. */
@@ -297,6 +305,16 @@ public final class PlanningContext implements Context {
                 IgniteTypeFactory.INSTANCE, CALCITE_CONNECTION_CONFIG);
     }
 
+    /** Get numbers of rows observed by the scans of executed queries, or {@code null} if the cardinality feedback is disabled. */
+    public @Nullable CardinalityFeedback cardinalityFeedback() {
+        return cardinalityFeedback;
+    }
+
+    /** Whether wide columns passed through joins are fetched by primary key after the join instead of being read by the scan. */
+    public boolean lateMaterialization() {
+        return lateMaterialization;
+    }
+
     /** Get cluster based on a planner and its configuration. */
     public RelOptCluster cluster() {
         return planner().cluster();
@@ -419,6 +437,10 @@ public final class PlanningContext implements Context {
 
         private @Nullable String defaultSchemaName;
 
+        private @Nullable CardinalityFeedback cardinalityFeedback;
+
+        private boolean lateMaterialization;
+
         public Builder frameworkConfig(FrameworkConfig frameworkCfg) {
             this.frameworkConfig = Objects.requireNonNull(frameworkCfg);
             return this;
@@ -460,13 +482,35 @@ public final class PlanningContext implements Context {
             return this;
         }
 
+        /** Numbers of rows observed by the scans of executed queries to use instead of the estimations. */
+        public Builder cardinalityFeedback(@Nullable CardinalityFeedback cardinalityFeedback) {
+            this.cardinalityFeedback = cardinalityFeedback;
+            return this;
+        }
+
+        /** Whether wide columns passed through joins are fetched by primary key after the join instead of being read by the scan. */
+        public Builder lateMaterialization(boolean lateMaterialization) {
+            this.lateMaterialization = lateMaterialization;
+            return this;
+        }
+
         /**
          * Builds planner context.
          *
          * @return Planner context.
          */
         public PlanningContext build() {
-            return new PlanningContext(frameworkConfig, qry, plannerTimeout, parameters, explicitTx, catalogVersion, defaultSchemaName);
+            return new PlanningContext(
+                    frameworkConfig,
+                    qry,
+                    plannerTimeout,
+                    parameters,
+                    explicitTx,
+                    catalogVersion,
+                    defaultSchemaName,
+                    cardinalityFeedback,
+                    lateMaterialization
+            );
         }
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.prepare;
 
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
@@ -55,4 +56,15 @@ public interface PrepareService extends LifecycleAware {
      * @return Cached prepared plans.
      */
     Set<PreparedPlan> preparedPlans();
+
+    /**
+     * Accepts the numbers of rows produced by the scans of a completed query, the cached plan is re-optimized if they differ
+     * from the estimated ones too much.
+     *
+     * @param planId ID of the plan the query was executed with.
+     * @param rowCounts Numbers of rows by source ID of the scans.
+     */
+    default void onQueryCompleted(PlanId planId, Long2LongMap rowCounts) {
+        // No-op.
+    }
 }
@@ -32,10 +32,15 @@ import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
 
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,11 +50,13 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.IntSupplier;
@@ -84,6 +91,7 @@ import org.apache.ignite.internal.sql.configuration.local.SqlLocalConfiguration;
 import org.apache.ignite.internal.sql.engine.SqlOperationContext;
 import org.apache.ignite.internal.sql.engine.SqlQueryType;
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommand;
+import org.apache.ignite.internal.sql.engine.prepare.CardinalityFeedback.ScanEstimate;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.prepare.partitionawareness.PartitionAwarenessMetadata;
 import org.apache.ignite.internal.sql.engine.prepare.partitionawareness.PartitionAwarenessMetadataExtractor;
@@ -103,6 +111,8 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlExplain;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlExplainMode;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlKill;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
+import org.apache.ignite.internal.sql.engine.sql.ParserService;
+import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent;
 import org.apache.ignite.internal.sql.engine.statistic.event.StatisticEventParameters;
 import org.apache.ignite.internal.sql.engine.util.Cloner;
@@ -147,6 +157,14 @@ public class PrepareServiceImpl implements PrepareService {
 
     private static final String PLANNING_EXECUTOR_SOURCE_NAME = THREAD_POOLS_METRICS_SOURCE_NAME + "sql-planning-executor";
 
+    /** Default number of the most used plans the plan cache is warmed up with. */
+    public static final int DEFAULT_WARM_UP_SIZE = 100;
+
+    /** Delay of the warm-up while the planning pool is busy with user queries. */
+    private static final long WARMUP_BACKOFF_MS = 100;
+
+    private static final ParserService PARSER = new ParserServiceImpl();
+
     private final UUID prepareServiceId = UUID.randomUUID();
     private final AtomicLong planIdGen = new AtomicLong();
 
@@ -174,6 +192,19 @@ public class PrepareServiceImpl implements PrepareService {
 
     private final EventProducer<StatisticChangedEvent, StatisticEventParameters> statUpdates;
 
+    private final @Nullable CardinalityFeedback cardinalityFeedback;
+
+    private final boolean lateMaterialization;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final @Nullable HotQueriesStore hotQueriesStore;
+
+    private final int warmUpSize;
+
+    /** The latest catalog version queries were prepared against, the cache is warmed up once the version changes. */
+    private final AtomicInteger lastCatalogVersion = new AtomicInteger(-1);
+
     /**
      * Factory method.
      *
@@ -188,6 +219,7 @@ public class PrepareServiceImpl implements PrepareService {
      * @param currentClock Actual clock supplier.
      * @param scheduler Scheduler.
      * @param statUpdates Statistic updates notifier.
+     * @param hotQueriesDir Directory to persist the queries of the most used plans to.
      */
     public static PrepareServiceImpl create(
             String nodeName,
@@ -200,7 +232,8 @@ public class PrepareServiceImpl implements PrepareService {
             DdlSqlToCommandConverter ddlSqlToCommandConverter,
             LongSupplier currentClock,
             ScheduledExecutorService scheduler,
-            EventProducer<StatisticChangedEvent, StatisticEventParameters> statUpdates
+            EventProducer<StatisticChangedEvent, StatisticEventParameters> statUpdates,
+            Path hotQueriesDir
     ) {
         return new PrepareServiceImpl(
                 nodeName,
@@ -215,7 +248,11 @@ public class PrepareServiceImpl implements PrepareService {
                 currentClock,
                 scheduler,
                 statUpdates,
-                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds()
+                clusterCfg.statistics().autoRefresh().staleRowsCheckIntervalSeconds(),
+                clusterCfg.planner().cardinalityFeedbackFactor().value(),
+                clusterCfg.planner().lateMaterializationEnabled().value(),
+                nodeCfg.planner().planCacheWarmUpSize().value(),
+                hotQueriesDir
         );
     }
 
@@ -248,6 +285,51 @@ public class PrepareServiceImpl implements PrepareService {
             ScheduledExecutorService scheduler,
             EventProducer<StatisticChangedEvent, StatisticEventParameters> statUpdates,
             ConfigurationValue<Integer> staleRowsCheckIntervalSeconds
+    ) {
+        this(nodeName, cacheSize, cacheFactory, ddlConverter, plannerTimeout, plannerThreadCount, planExpirySeconds, metricManager,
+                schemaManager, currentClock, scheduler, statUpdates, staleRowsCheckIntervalSeconds, 0, false,
+                DEFAULT_WARM_UP_SIZE, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Name of the current Ignite node. Will be used in thread factory as part of the thread name.
+     * @param cacheSize Size of the cache of query plans. Should be non negative.
+     * @param cacheFactory A factory to create cache of query plans.
+     * @param ddlConverter A converter of the DDL-related AST to the actual command.
+     * @param plannerTimeout Timeout in milliseconds to planning.
+     * @param metricManager Metric manager.
+     * @param schemaManager Schema manager to use on validation phase to bind identifiers in AST with particular schema objects.
+     * @param currentClock Actual clock supplier.
+     * @param scheduler Scheduler.
+     * @param statUpdates Statistic updates notifier.
+     * @param staleRowsCheckIntervalSeconds Interval between runs of the plan cache update routine.
+     * @param cardinalityFeedbackFactor Factor the observed number of rows of a scan must differ from the estimated one by to have
+     *      the plan re-optimized, values not greater than 1 disable the cardinality feedback.
+     * @param lateMaterialization Whether wide columns passed through joins by read-only queries are fetched by primary key after
+     *      the join instead of being read by the scan.
+     * @param warmUpSize Number of the most used plans the plan cache is warmed up with, zero disables the warm-up.
+     * @param hotQueriesDir Directory to persist the queries of the most used plans to, or {@code null} to not persist them.
+     */
+    public PrepareServiceImpl(
+            String nodeName,
+            int cacheSize,
+            CacheFactory cacheFactory,
+            DdlSqlToCommandConverter ddlConverter,
+            long plannerTimeout,
+            int plannerThreadCount,
+            int planExpirySeconds,
+            MetricManager metricManager,
+            SqlSchemaManager schemaManager,
+            LongSupplier currentClock,
+            ScheduledExecutorService scheduler,
+            EventProducer<StatisticChangedEvent, StatisticEventParameters> statUpdates,
+            ConfigurationValue<Integer> staleRowsCheckIntervalSeconds,
+            double cardinalityFeedbackFactor,
+            boolean lateMaterialization,
+            int warmUpSize,
+            @Nullable Path hotQueriesDir
     ) {
         this.nodeName = nodeName;
         this.ddlConverter = ddlConverter;
@@ -256,15 +338,26 @@ public class PrepareServiceImpl implements PrepareService {
         this.plannerThreadCount = plannerThreadCount;
         this.schemaManager = schemaManager;
         this.statUpdates = statUpdates;
+        this.scheduler = scheduler;
 
         this.currentClock = currentClock;
 
+        this.lateMaterialization = lateMaterialization;
+        this.warmUpSize = warmUpSize;
+        hotQueriesStore = hotQueriesDir != null && warmUpSize > 0 ? new HotQueriesStore(hotQueriesDir) : null;
+
         sqlPlanCacheMetricSource = new SqlPlanCacheMetricSource();
         cache = cacheFactory.create(cacheSize, sqlPlanCacheMetricSource, Duration.ofSeconds(planExpirySeconds));
 
+        cardinalityFeedback = CardinalityFeedback.enabled(cardinalityFeedbackFactor)
+                ? new CardinalityFeedback(cacheFactory, cacheSize, cardinalityFeedbackFactor)
+                : null;
+
         planUpdater = new PlanUpdater(
                 scheduler, cache,
                 plannerTimeout,
+                cardinalityFeedback,
+                lateMaterialization,
                 this::recalculatePlan,
                 this::directCatalogVersion,
                 this::getDefaultSchema,
@@ -301,12 +394,34 @@ public class PrepareServiceImpl implements PrepareService {
         });
 
         planUpdater.start();
+
+        if (hotQueriesStore != null) {
+            List<CacheKey> hotQueries = hotQueriesStore.read();
+
+            if (!hotQueries.isEmpty()) {
+                int catalogVersion = directCatalogVersion();
+
+                lastCatalogVersion.set(catalogVersion);
+
+                warmUp(hotQueries, catalogVersion);
+            }
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void stop() throws Exception {
         planUpdater.stop();
+
+        if (hotQueriesStore != null) {
+            List<CacheKey> hotQueries = hotQueries();
+
+            // Keep the queries of the previous run if the node was stopped before any query was planned.
+            if (!hotQueries.isEmpty()) {
+                hotQueriesStore.write(hotQueries);
+            }
+        }
+
         planningPool.shutdownNow();
         metricManager.unregisterSource(sqlPlanCacheMetricSource);
         metricManager.unregisterSource(PLANNING_EXECUTOR_SOURCE_NAME);
@@ -326,12 +441,16 @@ public class PrepareServiceImpl implements PrepareService {
         long timestamp = operationContext.operationTime().longValue();
         int catalogVersion = schemaManager.catalogVersion(timestamp);
 
+        onCatalogVersion(catalogVersion);
+
         CacheKey key = createCacheKey(parsedResult.normalizedQuery(), catalogVersion, schemaName, operationContext.parameters());
 
         CompletableFuture<PlanInfo> planFuture = cache.get(key);
 
         if (planFuture != null) {
             return planFuture.thenApply((plan) -> {
+                plan.onHit();
+
                 // We assume that non-multi-step plans is always better then a multi-step plan.
                 // or fast query optimization is disabled return a regular plan.
                 if (!(plan.queryPlan instanceof MultiStepPlan)) {
@@ -360,6 +479,8 @@ public class PrepareServiceImpl implements PrepareService {
                 .defaultSchemaName(schemaName)
                 .parameters(Commons.arrayToMap(key.paramTypes()))
                 .explicitTx(explicitTx)
+                .cardinalityFeedback(cardinalityFeedback)
+                .lateMaterialization(lateMaterialization)
                 .build();
 
         return prepareAsync0(parsedResult, planningContext).exceptionally(ex -> {
@@ -370,6 +491,144 @@ public class PrepareServiceImpl implements PrepareService {
         );
     }
 
+    private void onCatalogVersion(int catalogVersion) {
+        while (true) {
+            int prev = lastCatalogVersion.get();
+
+            if (catalogVersion <= prev) {
+                return;
+            }
+
+            if (lastCatalogVersion.compareAndSet(prev, catalogVersion)) {
+                // Plans of the previous version are not used anymore, let's plan the most used queries before they are requested.
+                if (prev >= 0 && warmUpSize > 0) {
+                    warmUp(hotQueries(), catalogVersion);
+                }
+
+                return;
+            }
+        }
+    }
+
+    /** Returns the keys of the most used cached plans with undefined catalog version, the most used first. */
+    List<CacheKey> hotQueries() {
+        Map<CacheKey, Long> hits = new HashMap<>();
+
+        for (Entry<CacheKey, CompletableFuture<PlanInfo>> ent : cache.entrySet()) {
+            CompletableFuture<PlanInfo> fut = ent.getValue();
+
+            if (!isCompletedSuccessfully(fut)) {
+                continue;
+            }
+
+            PlanInfo info = fut.join();
+
+            // Only plans of queries and DML statements keep the statement, other ones are not worth planning in advance.
+            if (info.statement != null) {
+                hits.merge(ent.getKey().withCatalogVersion(-1), info.hits(), Long::sum);
+            }
+        }
+
+        return hits.entrySet().stream()
+                .sorted(Entry.<CacheKey, Long>comparingByValue().reversed())
+                .limit(warmUpSize)
+                .map(Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private void warmUp(List<CacheKey> keys, int catalogVersion) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        sqlPlanCacheMetricSource.recordWarmUpScheduled(keys.size());
+
+        warmUpNext(keys.iterator(), catalogVersion);
+    }
+
+    /**
+     * Plans the next query to warm up the cache with. Queries are planned one by one, and only once the planning pool has no user
+     * queries waiting, thus the warm-up never delays the user queries.
+     */
+    private void warmUpNext(Iterator<CacheKey> keys, int catalogVersion) {
+        ThreadPoolExecutor pool = planningPool;
+
+        // The catalog changed once again, the warm-up for the new version supersedes this one.
+        if (!keys.hasNext() || pool.isShutdown() || lastCatalogVersion.get() != catalogVersion) {
+            return;
+        }
+
+        try {
+            if (!pool.getQueue().isEmpty()) {
+                scheduler.schedule(() -> warmUpNext(keys, catalogVersion), WARMUP_BACKOFF_MS, TimeUnit.MILLISECONDS);
+
+                return;
+            }
+
+            CacheKey key = keys.next().withCatalogVersion(catalogVersion);
+
+            pool.execute(() -> {
+                CompletableFuture<PlanInfo> fut;
+
+                try {
+                    fut = prepareInBackground(key);
+                } catch (Throwable t) {
+                    fut = CompletableFuture.failedFuture(t);
+                }
+
+                fut.whenComplete((info, err) -> {
+                    if (err != null) {
+                        LOG.debug("Failed to warm up plan cache [query={}].", err, key.query());
+
+                        sqlPlanCacheMetricSource.recordWarmUpFailed();
+                    } else {
+                        sqlPlanCacheMetricSource.recordWarmUpCompleted();
+                    }
+
+                    warmUpNext(keys, catalogVersion);
+                });
+            });
+        } catch (RejectedExecutionException e) {
+            // The node is stopping.
+        }
+    }
+
+    private CompletableFuture<PlanInfo> prepareInBackground(CacheKey key) {
+        ParsedResult parsed = PARSER.parse(key.query());
+        SqlQueryType queryType = parsed.queryType();
+
+        if (queryType != SqlQueryType.QUERY && queryType != SqlQueryType.DML) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Unexpected queryType=" + queryType));
+        }
+
+        // Normalization of the normalized query is not guaranteed to be the same, so the stored text is kept to match the cache key.
+        ParsedResult parsedResult = new ParsedResultImpl(
+                queryType,
+                parsed.originalQuery(),
+                key.query(),
+                parsed.dynamicParamsCount(),
+                parsed.parsedTree()
+        );
+
+        SchemaPlus defaultSchema = getDefaultSchema(key.catalogVersion(), key.schemaName());
+
+        PlanningContext planningContext = PlanningContext.builder()
+                .frameworkConfig(Frameworks.newConfigBuilder(FRAMEWORK_CONFIG)
+                        .defaultSchema(defaultSchema).build())
+                .query(parsedResult.originalQuery())
+                .plannerTimeout(plannerTimeout)
+                .catalogVersion(key.catalogVersion())
+                .defaultSchemaName(key.schemaName())
+                .parameters(Commons.arrayToMap(key.paramTypes()))
+                .cardinalityFeedback(cardinalityFeedback)
+                .lateMaterialization(lateMaterialization)
+                .build();
+
+        return queryType == SqlQueryType.QUERY
+                ? prepareQuery(parsedResult, planningContext)
+                : prepareDml(parsedResult, planningContext);
+    }
+
     private static CacheKey createCacheKey(
             String query, int catalogVersion, String schemaName, Object[] params
     ) {
@@ -690,6 +949,10 @@ public class PrepareServiceImpl implements PrepareService {
         if (currentCatalogVersion == catalogVersion) {
             IntSet sources = resolveSources(plan.getRel());
 
+            if (cardinalityFeedback != null && relWithMetadata.scanEstimates != null) {
+                cardinalityFeedback.register(plan.id(), relWithMetadata.scanEstimates);
+            }
+
             return PlanInfo.createRefreshable(plan, stmt, sources);
         }
 
@@ -1050,13 +1313,18 @@ public class PrepareServiceImpl implements PrepareService {
         int numTables = reWithSources.sources().size();
         IgniteRel rel = reWithSources.root();
 
+        // Sources are still attached to the planning cluster, thus the estimations are the same the planner made.
+        Long2ObjectMap<ScanEstimate> scanEstimates = cardinalityFeedback == null
+                ? null
+                : cardinalityFeedback.estimate(reWithSources.sources());
+
         PartitionPruningMetadata partitionPruningMetadata = new PartitionPruningMetadataExtractor()
                 .go(rel);
 
         PartitionAwarenessMetadata partitionAwarenessMetadata =
                 PartitionAwarenessMetadataExtractor.getMetadata(reWithSources, partitionPruningMetadata);
 
-        return new RelWithMetadata(rel, numTables, partitionAwarenessMetadata, partitionPruningMetadata);
+        return new RelWithMetadata(rel, numTables, partitionAwarenessMetadata, partitionPruningMetadata, scanEstimates);
     }
 
     private static ParameterMetadata createParameterMetadata(RelDataType parameterRowType) {
@@ -1085,6 +1353,32 @@ public class PrepareServiceImpl implements PrepareService {
         planUpdater.statisticsChanged(tableId);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void onQueryCompleted(PlanId planId, Long2LongMap rowCounts) {
+        if (cardinalityFeedback == null || !cardinalityFeedback.onQueryCompleted(planId, rowCounts)) {
+            return;
+        }
+
+        for (Entry<CacheKey, CompletableFuture<PlanInfo>> ent : cache.entrySet()) {
+            CompletableFuture<PlanInfo> fut = ent.getValue();
+
+            if (!isCompletedSuccessfully(fut)) {
+                continue;
+            }
+
+            PlanInfo info = fut.join();
+
+            if (info.statement != null && planId.equals(info.queryPlan.id())) {
+                info.invalidate();
+
+                planUpdater.planInvalidated();
+
+                return;
+            }
+        }
+    }
+
     private static class PlanUpdater {
         private final ScheduledExecutorService planUpdater;
 
@@ -1094,6 +1388,10 @@ public class PrepareServiceImpl implements PrepareService {
 
         private final long plannerTimeout;
 
+        private final @Nullable CardinalityFeedback cardinalityFeedback;
+
+        private final boolean lateMaterialization;
+
         private final PlanPrepare prepare;
 
         private final IntSupplier catalogVersionSupplier;
@@ -1102,6 +1400,9 @@ public class PrepareServiceImpl implements PrepareService {
 
         private final Set<Integer> statPerTableChanges = new IntOpenHashSet();
 
+        /** Whether plans have been invalidated by the cardinality feedback since the last update. */
+        private final AtomicBoolean plansInvalidated = new AtomicBoolean();
+
         private final ConfigurationValue<Integer> staleRowsCheckIntervalSeconds;
 
         private final ConfigurationListener<Integer> configListener = this::listener;
@@ -1112,6 +1413,8 @@ public class PrepareServiceImpl implements PrepareService {
                 ScheduledExecutorService planUpdater,
                 Cache<CacheKey, CompletableFuture<PlanInfo>> cache,
                 long plannerTimeout,
+                @Nullable CardinalityFeedback cardinalityFeedback,
+                boolean lateMaterialization,
                 PlanPrepare prepare,
                 IntSupplier catalogVersionSupplier,
                 BiFunction<Integer, String, SchemaPlus> defaultSchema,
@@ -1120,6 +1423,8 @@ public class PrepareServiceImpl implements PrepareService {
             this.planUpdater = planUpdater;
             this.cache = cache;
             this.plannerTimeout = plannerTimeout;
+            this.cardinalityFeedback = cardinalityFeedback;
+            this.lateMaterialization = lateMaterialization;
             this.prepare = prepare;
             this.catalogVersionSupplier = catalogVersionSupplier;
             this.defaultSchemaFunc = defaultSchema;
@@ -1135,6 +1440,11 @@ public class PrepareServiceImpl implements PrepareService {
             statPerTableChanges.add(tableId);
         }
 
+        /** Reacts to the plan invalidated by the cardinality feedback. */
+        void planInvalidated() {
+            plansInvalidated.set(true);
+        }
+
         void start() {
             staleRowsCheckIntervalSeconds.listen(configListener);
 
@@ -1183,7 +1493,7 @@ public class PrepareServiceImpl implements PrepareService {
         }
 
         private void executeUpdate() {
-            if (statPerTableChanges.isEmpty()) {
+            if (statPerTableChanges.isEmpty() && !plansInvalidated.get()) {
                 return;
             }
 
@@ -1191,6 +1501,8 @@ public class PrepareServiceImpl implements PrepareService {
                 return;
             }
 
+            plansInvalidated.set(false);
+
             for (int tableId : statPerTableChanges) {
                 Set<Entry<CacheKey, CompletableFuture<PlanInfo>>> cachedEntries = cache.entrySet();
 
@@ -1244,6 +1556,8 @@ public class PrepareServiceImpl implements PrepareService {
                                 .catalogVersion(key.catalogVersion())
                                 .defaultSchemaName(key.schemaName())
                                 .parameters(Commons.arrayToMap(key.paramTypes()))
+                                .cardinalityFeedback(cardinalityFeedback)
+                                .lateMaterialization(lateMaterialization)
                                 .build();
 
                         CompletableFuture<Void> newPlanFut =
@@ -1342,17 +1656,20 @@ public class PrepareServiceImpl implements PrepareService {
         final @Nullable PartitionAwarenessMetadata paMetadata;
         final @Nullable PartitionPruningMetadata ppMetadata;
         final int numSources;
+        final @Nullable Long2ObjectMap<ScanEstimate> scanEstimates;
 
         RelWithMetadata(
                 IgniteRel rel,
                 int numSources,
                 @Nullable PartitionAwarenessMetadata paMetadata,
-                @Nullable PartitionPruningMetadata ppMetadata
+                @Nullable PartitionPruningMetadata ppMetadata,
+                @Nullable Long2ObjectMap<ScanEstimate> scanEstimates
         ) {
             this.rel = rel;
             this.numSources = numSources;
             this.paMetadata = paMetadata;
             this.ppMetadata = ppMetadata;
+            this.scanEstimates = scanEstimates;
         }
     }
 
@@ -1402,6 +1719,8 @@ public class PrepareServiceImpl implements PrepareService {
         private final IntSet sources;
         private volatile boolean needToInvalidate;
         private final Instant timestamp = Instant.now();
+        /** Number of times the plan was taken from the cache. */
+        private final AtomicLong hits = new AtomicLong();
 
         private PlanInfo(
                 QueryPlan plan,
@@ -1421,6 +1740,14 @@ public class PrepareServiceImpl implements PrepareService {
             return needToInvalidate;
         }
 
+        void onHit() {
+            hits.incrementAndGet();
+        }
+
+        long hits() {
+            return hits.get();
+        }
+
         static PlanInfo createRefreshable(
                 QueryPlan plan,
                 ValidStatement<ValidationResult> statement,
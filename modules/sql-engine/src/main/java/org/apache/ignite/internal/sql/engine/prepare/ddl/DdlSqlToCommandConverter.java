@@ -111,12 +111,14 @@ import org.apache.ignite.internal.catalog.commands.DropIndexCommand;
 import org.apache.ignite.internal.catalog.commands.DropSchemaCommand;
 import org.apache.ignite.internal.catalog.commands.DropTableCommand;
 import org.apache.ignite.internal.catalog.commands.DropZoneCommand;
+import org.apache.ignite.internal.catalog.commands.IndexConditionParams;
 import org.apache.ignite.internal.catalog.commands.RenameZoneCommand;
 import org.apache.ignite.internal.catalog.commands.StorageProfileParams;
 import org.apache.ignite.internal.catalog.commands.TableHashPrimaryKey;
 import org.apache.ignite.internal.catalog.commands.TablePrimaryKey;
 import org.apache.ignite.internal.catalog.commands.TableSortedPrimaryKey;
 import org.apache.ignite.internal.catalog.descriptors.CatalogColumnCollation;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
 import org.apache.ignite.internal.catalog.descriptors.ConsistencyMode;
 import org.apache.ignite.internal.partitiondistribution.DistributionAlgorithm;
 import org.apache.ignite.internal.sql.engine.exec.exp.IgniteSqlFunctions;
@@ -158,6 +160,18 @@ import org.jetbrains.annotations.Nullable;
  * Converts the DDL AST tree to the appropriate catalog command.
  */
 public class DdlSqlToCommandConverter {
+    /** Mapping: SQL kind -> operator of a condition of the partial index predicate. */
+    private static final Map<SqlKind, Operator> INDEX_PREDICATE_OPERATORS = new EnumMap<>(Map.of(
+            SqlKind.EQUALS, Operator.EQUALS,
+            SqlKind.NOT_EQUALS, Operator.NOT_EQUALS,
+            SqlKind.LESS_THAN, Operator.LESS_THAN,
+            SqlKind.LESS_THAN_OR_EQUAL, Operator.LESS_THAN_OR_EQUAL,
+            SqlKind.GREATER_THAN, Operator.GREATER_THAN,
+            SqlKind.GREATER_THAN_OR_EQUAL, Operator.GREATER_THAN_OR_EQUAL,
+            SqlKind.IS_NULL, Operator.IS_NULL,
+            SqlKind.IS_NOT_NULL, Operator.IS_NOT_NULL
+    ));
+
     /** Mapping: Zone option ID -> DDL option info. */
     private final Map<ZoneOptionEnum, DdlOptionInfo<CreateZoneCommandBuilder, ?>> zoneOptionInfos;
 
@@ -701,8 +715,14 @@ public class DdlSqlToCommandConverter {
         List<String> columns = new ArrayList<>(columnList.size());
         List<CatalogColumnCollation> collations = new ArrayList<>(columnList.size());
 
+        // TODO: Support expression keys, e.g. LOWER(email). The table module builds index rows out of raw column values and can't
+        //  evaluate SQL expressions, storage index descriptors take key types from table columns, and search bounds are only derived
+        //  from conditions on columns.
         parseColumnList(columnList, columns, collations, sortedIndex);
 
+        SqlNode where = sqlCmd.where();
+        List<IndexConditionParams> predicate = where == null ? null : convertIndexPredicate(where);
+
         CatalogCommand command;
 
         if (sortedIndex) {
@@ -713,6 +733,7 @@ public class DdlSqlToCommandConverter {
                     .indexName(sqlCmd.indexName().getSimple())
                     .columns(columns)
                     .collations(collations)
+                    .predicate(predicate)
                     .build();
         } else {
             command = CreateHashIndexCommand.builder()
@@ -721,12 +742,109 @@ public class DdlSqlToCommandConverter {
                     .ifNotExists(sqlCmd.ifNotExists())
                     .indexName(sqlCmd.indexName().getSimple())
                     .columns(columns)
+                    .predicate(predicate)
                     .build();
         }
 
         return completedFuture(command);
     }
 
+    /**
+     * Converts the predicate of a partial index. Only a conjunction of comparisons of a column with a literal and of
+     * {@code IS [NOT] NULL} checks of a column is supported.
+     */
+    private static List<IndexConditionParams> convertIndexPredicate(SqlNode where) {
+        List<IndexConditionParams> conditions = new ArrayList<>();
+
+        convertIndexPredicate(where, conditions);
+
+        return conditions;
+    }
+
+    private static void convertIndexPredicate(SqlNode node, List<IndexConditionParams> conditions) {
+        if (node.getKind() == SqlKind.AND) {
+            for (SqlNode operand : ((SqlCall) node).getOperandList()) {
+                convertIndexPredicate(operand, conditions);
+            }
+
+            return;
+        }
+
+        Operator operator = INDEX_PREDICATE_OPERATORS.get(node.getKind());
+
+        if (operator == null) {
+            throw unsupportedIndexPredicate(node);
+        }
+
+        List<SqlNode> operands = ((SqlCall) node).getOperandList();
+
+        if (operator.unary()) {
+            conditions.add(IndexConditionParams.builder()
+                    .columnName(columnName(operands.get(0), node))
+                    .operator(operator)
+                    .build());
+
+            return;
+        }
+
+        SqlNode column = operands.get(0);
+        SqlNode literal = operands.get(1);
+
+        if (column instanceof SqlLiteral) {
+            // Literal on the left side: 'literal < column' is the same as 'column > literal'.
+            column = operands.get(1);
+            literal = operands.get(0);
+            operator = INDEX_PREDICATE_OPERATORS.get(node.getKind().reverse());
+        }
+
+        if (!(literal instanceof SqlLiteral)) {
+            throw unsupportedIndexPredicate(node);
+        }
+
+        String columnName = columnName(column, node);
+        SqlLiteral literal0 = (SqlLiteral) literal;
+
+        conditions.add(IndexConditionParams.builder()
+                .columnName(columnName)
+                .operator(operator)
+                .deferredValue(type -> fromIndexPredicateLiteral(type, columnName, literal0))
+                .build());
+    }
+
+    private static String columnName(SqlNode node, SqlNode condition) {
+        if (!(node instanceof SqlIdentifier) || !((SqlIdentifier) node).isSimple()) {
+            throw unsupportedIndexPredicate(condition);
+        }
+
+        return ((SqlIdentifier) node).getSimple();
+    }
+
+    private static @Nullable Object fromIndexPredicateLiteral(ColumnType columnType, String columnName, SqlLiteral literal) {
+        switch (columnType) {
+            case BOOLEAN:
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case FLOAT:
+            case DOUBLE:
+            case STRING:
+                return fromLiteral(columnType, columnName, literal, PRECISION_NOT_SPECIFIED, SCALE_NOT_SPECIFIED);
+            case DECIMAL:
+                acceptNumericLiteral(literal, columnType);
+
+                // Compared by value, thus neither precision nor scale of the column matter.
+                return literal.getValueAs(BigDecimal.class);
+            default:
+                throw new SqlException(STMT_VALIDATION_ERR,
+                        format("Column '{}' of type {} can't be used in the index predicate", columnName, columnType));
+        }
+    }
+
+    private static SqlException unsupportedIndexPredicate(SqlNode node) {
+        return new SqlException(STMT_VALIDATION_ERR, "Unsupported index predicate: " + node);
+    }
+
     private static void parseColumnList(
             SqlNodeList columnList,
             List<String> columns,
@@ -48,6 +48,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteSender;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSystemViewScan;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableFetch;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableFunctionScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableModify;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
@@ -55,6 +56,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteTableSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteTrimExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteUnionAll;
 import org.apache.ignite.internal.sql.engine.rel.IgniteValues;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedHashAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteColocatedSortAggregate;
 import org.apache.ignite.internal.sql.engine.rel.agg.IgniteMapHashAggregate;
@@ -303,6 +305,18 @@ class ModifyNodeVisitor implements IgniteRelVisitor<List<List<RexNode>>> {
         return processUnexpected("SelectCountPlan is not supposed to be part of distributed plans [node={}].", rel.getClass().getName());
     }
 
+    @Override
+    public @Nullable List<List<RexNode>> visit(IgniteWindow rel) {
+        // processing of window functions are not supported at the moment
+        return null;
+    }
+
+    @Override
+    public @Nullable List<List<RexNode>> visit(IgniteTableFetch rel) {
+        // values of the fetched fields are not known until the execution
+        return null;
+    }
+
     @Override
     public @Nullable List<List<RexNode>> visit(IgniteRel rel) {
         return rel.accept(this);
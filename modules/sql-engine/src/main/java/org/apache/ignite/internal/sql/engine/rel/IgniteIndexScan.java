@@ -32,6 +32,7 @@ import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -142,6 +143,33 @@ public class IgniteIndexScan extends AbstractIndexScan implements SourceAwareIgn
         return collation;
     }
 
+    /**
+     * Returns {@code true} if every column required by the scan is a column of the index, thus the values may be read from the index
+     * rows without looking up the table rows.
+     */
+    public boolean indexOnly() {
+        IgniteTable tbl = getTable().unwrapOrThrow(IgniteTable.class);
+        IgniteIndex idx = tbl.indexes().get(idxName);
+
+        if (idx == null) {
+            return false;
+        }
+
+        List<Integer> indexColumns = idx.collation().getKeys();
+
+        if (requiredColumns != null) {
+            return indexColumns.containsAll(requiredColumns);
+        }
+
+        for (int i = 0; i < tbl.descriptor().columnsCount(); i++) {
+            if (!indexColumns.contains(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected RelWriter explainTerms0(RelWriter pw) {
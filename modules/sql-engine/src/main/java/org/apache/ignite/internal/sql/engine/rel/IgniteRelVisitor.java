@@ -189,6 +189,16 @@ public interface IgniteRelVisitor<T> {
      */
     T visit(IgniteSelectCount rel);
 
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}.
+     */
+    T visit(IgniteWindow rel);
+
+    /**
+     * See {@link IgniteRelVisitor#visit(IgniteRel)}.
+     */
+    T visit(IgniteTableFetch rel);
+
     /**
      * Visits a relational node and calculates a result on the basis of node meta information.
      *
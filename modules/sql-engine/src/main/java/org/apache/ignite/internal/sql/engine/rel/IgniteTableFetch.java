@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rel;
+
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
+
+/**
+ * Relational operator that fills in values of the fields left out by a table scan below, see
+ * {@link IgniteTableScan#deferredFields()}. Values are looked up by the primary key of the table, which is taken from the input
+ * row, thus only the rows which survived the operators in between are materialized in full.
+ *
+ * <p>The operator does not change the row type of its input.
+ */
+public class IgniteTableFetch extends SingleRel implements IgniteRel {
+    private static final String REL_TYPE_NAME = "TableFetch";
+
+    private final RelOptTable table;
+
+    /** Input fields holding the columns of the primary key, in the order of the key. */
+    private final ImmutableIntList keys;
+
+    /** Input fields to fill in. */
+    private final ImmutableIntList fields;
+
+    /** Table columns the fields are filled in from. */
+    private final ImmutableIntList columns;
+
+    /**
+     * Constructor.
+     *
+     * @param cluster Cluster.
+     * @param traits Trait set.
+     * @param input Input relational expression.
+     * @param table Table to fetch values from.
+     * @param keys Input fields holding the columns of the primary key, in the order of the key.
+     * @param fields Input fields to fill in.
+     * @param columns Table columns the fields are filled in from.
+     */
+    public IgniteTableFetch(
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            RelNode input,
+            RelOptTable table,
+            ImmutableIntList keys,
+            ImmutableIntList fields,
+            ImmutableIntList columns
+    ) {
+        super(cluster, traits, input);
+
+        assert fields.size() == columns.size() : "fields=" + fields + ", columns=" + columns;
+
+        this.table = table;
+        this.keys = keys;
+        this.fields = fields;
+        this.columns = columns;
+    }
+
+    /**
+     * Constructor used for deserialization.
+     *
+     * @param input Serialized representation.
+     */
+    public IgniteTableFetch(RelInput input) {
+        this(
+                input.getCluster(),
+                input.getTraitSet().replace(IgniteConvention.INSTANCE),
+                input.getInput(),
+                input.getTable("table"),
+                ImmutableIntList.copyOf(input.getIntegerList("keys")),
+                ImmutableIntList.copyOf(input.getIntegerList("fields")),
+                ImmutableIntList.copyOf(input.getIntegerList("columns"))
+        );
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelOptTable getTable() {
+        return table;
+    }
+
+    /** Returns input fields holding the columns of the primary key, in the order of the key. */
+    public ImmutableIntList keys() {
+        return keys;
+    }
+
+    /** Returns input fields to fill in. */
+    public ImmutableIntList fields() {
+        return fields;
+    }
+
+    /** Returns table columns the fields are filled in from. */
+    public ImmutableIntList columns() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteTableFetch copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteTableFetch(getCluster(), traitSet, sole(inputs), table, keys, fields, columns);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteTableFetch(cluster, getTraitSet(), sole(inputs), table, keys, fields, columns);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        return super.explainTerms(pw)
+                .item("table", table.getQualifiedName())
+                .item("keys", keys)
+                .item("fields", fields)
+                .item("columns", columns);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        double rows = mq.getRowCount(getInput());
+
+        return planner.getCostFactory().makeCost(rows, rows * IgniteCost.HASH_LOOKUP_COST, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getRelTypeName() {
+        return REL_TYPE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRelWriter explain(IgniteRelWriter writer) {
+        return writer
+                .addTable(table)
+                .addDeferredFields(ImmutableBitSet.of(fields), getRowType());
+    }
+}
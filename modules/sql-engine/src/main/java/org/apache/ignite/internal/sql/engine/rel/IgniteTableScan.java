@@ -27,6 +27,7 @@ import org.apache.calcite.rel.RelInput;
 import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +40,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
 
     private final long sourceId;
 
+    /** Output fields whose values may be left out by the scan and fetched later, see {@link IgniteTableFetch}. */
+    private final @Nullable ImmutableBitSet deferredFields;
+
     /**
      * Constructor used for deserialization.
      *
@@ -53,6 +57,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         } else {
             sourceId = -1;
         }
+
+        List<Integer> deferredFields0 = input.getIntegerList("deferredFields");
+        deferredFields = deferredFields0 == null ? null : ImmutableBitSet.of(deferredFields0);
     }
 
     /**
@@ -118,9 +125,39 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             @Nullable List<RexNode> proj,
             @Nullable RexNode cond,
             @Nullable ImmutableIntList requiredColumns
+    ) {
+        this(sourceId, cluster, traits, hints, tbl, names, proj, cond, requiredColumns, null);
+    }
+
+    /**
+     * Creates a TableScan.
+     *
+     * @param sourceId Source id.
+     * @param cluster Cluster that this relational expression belongs to.
+     * @param traits Traits of this relational expression.
+     * @param hints Table hints.
+     * @param tbl Table definition.
+     * @param names Names of the fields in output row. If not provided, field names will be autogenerated.
+     * @param proj Projects.
+     * @param cond Filters.
+     * @param requiredColumns Participating columns.
+     * @param deferredFields Output fields which may be left out by the scan.
+     */
+    public IgniteTableScan(
+            long sourceId,
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            List<RelHint> hints,
+            RelOptTable tbl,
+            @Nullable List<String> names,
+            @Nullable List<RexNode> proj,
+            @Nullable RexNode cond,
+            @Nullable ImmutableIntList requiredColumns,
+            @Nullable ImmutableBitSet deferredFields
     ) {
         super(cluster, traits, hints, tbl, names, proj, cond, requiredColumns);
         this.sourceId = sourceId;
+        this.deferredFields = deferredFields;
     }
 
     /** {@inheritDoc} */
@@ -129,11 +166,28 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         return sourceId;
     }
 
+    /**
+     * Returns output fields whose values may be left out by the scan, or {@code null} if the scan must return all the fields. Values
+     * of such fields are filled in by {@link IgniteTableFetch} located above in the plan, thus the scan is allowed to return
+     * {@code null} instead of them.
+     */
+    public @Nullable ImmutableBitSet deferredFields() {
+        return deferredFields;
+    }
+
+    /** Returns a copy of this scan which may leave out values of the given output fields. */
+    public IgniteTableScan withDeferredFields(ImmutableBitSet deferredFields) {
+        return new IgniteTableScan(
+                sourceId, getCluster(), getTraitSet(), getHints(), getTable(), names, projects, condition, requiredColumns, deferredFields
+        );
+    }
+
     /** {@inheritDoc} */
     @Override
     protected RelWriter explainTerms0(RelWriter pw) {
         return super.explainTerms0(pw)
-                .itemIf("sourceId", sourceId, sourceId != -1);
+                .itemIf("sourceId", sourceId, sourceId != -1)
+                .itemIf("deferredFields", deferredFields, deferredFields != null);
     }
 
     /** {@inheritDoc} */
@@ -146,14 +200,16 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     @Override
     public IgniteRel clone(long sourceId) {
         return new IgniteTableScan(
-                sourceId, getCluster(), getTraitSet(), getHints(), getTable(), names, projects, condition, requiredColumns
+                sourceId, getCluster(), getTraitSet(), getHints(), getTable(), names, projects, condition, requiredColumns, deferredFields
         );
     }
 
     /** {@inheritDoc} */
     @Override
     public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
-        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getHints(), getTable(), names, projects, condition, requiredColumns);
+        return new IgniteTableScan(
+                sourceId, cluster, getTraitSet(), getHints(), getTable(), names, projects, condition, requiredColumns, deferredFields
+        );
     }
 
     @Override
@@ -166,7 +222,7 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     @Override
     public IgniteTableScan withHints(List<RelHint> hintList) {
         return new IgniteTableScan(
-                sourceId, getCluster(), getTraitSet(), hintList, getTable(), names, projects, condition, requiredColumns
+                sourceId, getCluster(), getTraitSet(), hintList, getTable(), names, projects, condition, requiredColumns, deferredFields
         );
     }
 
@@ -178,6 +234,12 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     @Override
     public IgniteRelWriter explain(
             IgniteRelWriter writer) {
-        return explainAttributes(writer);
+        explainAttributes(writer);
+
+        if (deferredFields != null) {
+            writer.addDeferredFields(deferredFields, getRowType());
+        }
+
+        return writer;
     }
 }
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rel;
+
+import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.changeTraits;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelCollation;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelDistribution;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.RelWriter;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexWindowExclusion;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.sql.engine.externalize.RelInputEx;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
+import org.apache.ignite.internal.sql.engine.trait.TraitsAwareIgniteRel;
+
+/**
+ * Relational operator that evaluates window functions of a single window over the input sorted by the partition keys and then
+ * by the order keys of the window.
+ *
+ * <p>Output row consists of all the input columns followed by the results of the window functions. Since the input columns are
+ * passed through as is, the operator preserves both distribution and collation of its input. Query with several different
+ * windows is implemented by a chain of operators.
+ */
+public class IgniteWindow extends Window implements TraitsAwareIgniteRel {
+    private static final String REL_TYPE_NAME = "Window";
+
+    /**
+     * Constructor.
+     *
+     * @param cluster Cluster that this relational expression belongs to.
+     * @param traits Traits of this relational expression.
+     * @param input Input relational expression.
+     * @param rowType Output row type.
+     * @param group Window group.
+     */
+    public IgniteWindow(RelOptCluster cluster, RelTraitSet traits, RelNode input, RelDataType rowType, Group group) {
+        super(cluster, traits, List.of(), input, List.of(), rowType, List.of(group));
+    }
+
+    /**
+     * Constructor used for deserialization.
+     *
+     * @param input Serialized representation.
+     */
+    public IgniteWindow(RelInput input) {
+        this(
+                input.getCluster(),
+                changeTraits(input, IgniteConvention.INSTANCE).getTraitSet(),
+                input.getInput(),
+                input.getRowType("rowType"),
+                group((RelInputEx) input)
+        );
+    }
+
+    private static Group group(RelInputEx input) {
+        List<RexNode> aggs = input.getExpressionList("aggs");
+        List<RexWinAggCall> aggCalls = new ArrayList<>(aggs.size());
+
+        for (int i = 0; i < aggs.size(); i++) {
+            RexCall call = (RexCall) aggs.get(i);
+
+            aggCalls.add(new RexWinAggCall((SqlAggFunction) call.getOperator(), call.getType(), call.getOperands(), i, false, false));
+        }
+
+        return new Group(
+                input.getBitSet("partition"),
+                input.getBoolean("rows", false),
+                input.getWindowBound("lower"),
+                input.getWindowBound("upper"),
+                RexWindowExclusion.EXCLUDE_NO_OTHER,
+                input.getCollation("order"),
+                aggCalls
+        );
+    }
+
+    /** Returns the window group evaluated by this operator. */
+    public Group group() {
+        return groups.get(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelNode copy(RelTraitSet traitSet, List<RelNode> inputs) {
+        return new IgniteWindow(getCluster(), traitSet, sole(inputs), getRowType(), group());
+    }
+
+    /**
+     * Creates a copy of this operator with the given constants. Window functions evaluated by this operator never refer to
+     * constants, since the constants are projected to the input by the planner.
+     */
+    public Window copy(List<RexLiteral> constants) {
+        assert constants.isEmpty() : constants;
+
+        return new IgniteWindow(getCluster(), getTraitSet(), getInput(), getRowType(), group());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteWindow(cluster, getTraitSet(), sole(inputs), getRowType(), group());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelWriter explainTerms(RelWriter pw) {
+        Group group = group();
+
+        return super.explainTerms(pw)
+                .item("rowType", getRowType())
+                .item("partition", group.keys)
+                .item("order", group.orderKeys)
+                .item("rows", group.isRows)
+                .item("lower", group.lowerBound)
+                .item("upper", group.upperBound)
+                .item("aggs", group.aggCalls);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Pair<RelTraitSet, List<RelTraitSet>> passThroughCollation(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        RelCollation required = TraitUtils.collation(nodeTraits);
+        RelCollation collation = inputCollation(group(), required);
+
+        int inputFieldCount = getInput().getRowType().getFieldCount();
+
+        // Input columns are passed through as is, thus the input sorted in the required order satisfies the window as well.
+        if (required.satisfies(collation) && required.getKeys().stream().allMatch(key -> key < inputFieldCount)) {
+            return Pair.of(nodeTraits, List.of(inputTraits.get(0).replace(required)));
+        }
+
+        return Pair.of(nodeTraits.replace(collation), List.of(inputTraits.get(0).replace(collation)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCollation(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        RelCollation inputCollation = TraitUtils.collation(inputTraits.get(0));
+
+        if (!inputCollation.satisfies(inputCollation(group(), inputCollation))) {
+            return List.of();
+        }
+
+        return List.of(Pair.of(nodeTraits.replace(inputCollation), inputTraits));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Pair<RelTraitSet, List<RelTraitSet>> passThroughDistribution(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        IgniteDistribution distribution = TraitUtils.distribution(nodeTraits);
+
+        if (distribution == IgniteDistributions.single() || partitionsColocated(distribution)) {
+            return Pair.of(nodeTraits, List.of(inputTraits.get(0).replace(distribution)));
+        }
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveDistribution(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        IgniteDistribution inDistribution = TraitUtils.distribution(inputTraits.get(0));
+
+        if (inDistribution.satisfies(IgniteDistributions.single()) || partitionsColocated(inDistribution)) {
+            return List.of(Pair.of(nodeTraits.replace(inDistribution), inputTraits));
+        }
+
+        ImmutableBitSet keys = group().keys;
+
+        // Without partition keys the whole input is a single partition, thus the only option is to bring all data to the single place.
+        if (keys.isEmpty()) {
+            return List.of(Pair.of(
+                    nodeTraits.replace(IgniteDistributions.single()),
+                    List.of(inputTraits.get(0).replace(IgniteDistributions.single()))
+            ));
+        }
+
+        IgniteDistribution distribution = IgniteDistributions.hash(keys.asList());
+
+        return List.of(
+                Pair.of(
+                        nodeTraits.replace(IgniteDistributions.single()),
+                        List.of(inputTraits.get(0).replace(IgniteDistributions.single()))
+                ),
+                Pair.of(
+                        nodeTraits.replace(distribution),
+                        List.of(inputTraits.get(0).replace(distribution))
+                )
+        );
+    }
+
+    /** Returns {@code true} if all rows of any partition of the window reside on the same node for the given distribution. */
+    private boolean partitionsColocated(IgniteDistribution distribution) {
+        ImmutableBitSet keys = group().keys;
+
+        return distribution.getType() == RelDistribution.Type.HASH_DISTRIBUTED
+                && !keys.isEmpty()
+                && !distribution.getKeys().isEmpty()
+                && keys.contains(ImmutableBitSet.of(distribution.getKeys()));
+    }
+
+    /**
+     * Returns the collation of the input required to evaluate the given window group: the partition keys followed by the order
+     * keys.
+     *
+     * @param group Window group.
+     * @return Collation of the input.
+     */
+    public static RelCollation inputCollation(Group group) {
+        return inputCollation(group, RelCollations.EMPTY);
+    }
+
+    /**
+     * Returns the collation of the input required to evaluate the given window group.
+     *
+     * <p>Partition keys only need to be grouped together, thus their order and directions are borrowed from the given collation
+     * if its prefix consists of the partition keys. This allows to use, for example, an index sorted by the partition keys in any
+     * order.
+     *
+     * @param group Window group.
+     * @param hint Collation to borrow order of the partition keys from.
+     * @return Collation of the input.
+     */
+    private static RelCollation inputCollation(Group group, RelCollation hint) {
+        ImmutableBitSet keys = group.keys;
+
+        List<RelFieldCollation> fieldCollations = new ArrayList<>(keys.cardinality() + group.orderKeys.getFieldCollations().size());
+
+        List<RelFieldCollation> hintCollations = hint.getFieldCollations();
+
+        if (hintCollations.size() >= keys.cardinality()
+                && ImmutableBitSet.of(RelCollations.ordinals(hintCollations.subList(0, keys.cardinality()))).equals(keys)) {
+            fieldCollations.addAll(hintCollations.subList(0, keys.cardinality()));
+        } else {
+            keys.forEachInt(key -> fieldCollations.add(TraitUtils.createFieldCollation(key)));
+        }
+
+        for (RelFieldCollation fieldCollation : group.orderKeys.getFieldCollations()) {
+            // Order keys that are also partition keys have the same value within a partition.
+            if (!keys.get(fieldCollation.getFieldIndex())) {
+                fieldCollations.add(fieldCollation);
+            }
+        }
+
+        return RelCollations.of(fieldCollations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        IgniteCostFactory costFactory = (IgniteCostFactory) planner.getCostFactory();
+
+        Group group = group();
+        double rows = mq.getRowCount(getInput());
+        double cpu = rows * (IgniteCost.ROW_PASS_THROUGH_COST + group.aggCalls.size());
+
+        // Rows are compared with the previous row to find the boundaries of the partitions and the peer groups.
+        if (!group.keys.isEmpty() || !group.orderKeys.getFieldCollations().isEmpty()) {
+            cpu += rows * IgniteCost.ROW_COMPARISON_COST;
+        }
+
+        return costFactory.makeCost(rows, cpu, 0, group.aggCalls.size() * IgniteCost.AGG_CALL_MEM_COST, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getRelTypeName() {
+        return REL_TYPE_NAME;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRelWriter explain(IgniteRelWriter writer) {
+        Group group = group();
+        RelDataType rowType = getInput().getRowType();
+
+        return writer
+                .addGroup(group.keys, rowType)
+                .addCollation(group.orderKeys, rowType)
+                .addAggregation(group.getAggregateCalls(this), rowType);
+    }
+}
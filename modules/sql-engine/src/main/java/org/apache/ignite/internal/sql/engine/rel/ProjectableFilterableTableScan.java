@@ -47,6 +47,8 @@ import org.apache.calcite.util.ControlFlowException;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.mapping.Mappings;
 import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.prepare.CardinalityFeedback;
+import org.apache.ignite.internal.sql.engine.prepare.PlanningContext;
 import org.apache.ignite.internal.sql.engine.rel.explain.IgniteRelWriter;
 import org.apache.ignite.internal.sql.engine.schema.IgniteDataSource;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
@@ -179,6 +181,17 @@ public abstract class ProjectableFilterableTableScan extends TableScan {
     /** {@inheritDoc} */
     @Override
     public double estimateRowCount(RelMetadataQuery mq) {
+        PlanningContext ctx = getCluster().getPlanner().getContext().unwrap(PlanningContext.class);
+        CardinalityFeedback feedback = ctx == null ? null : ctx.cardinalityFeedback();
+
+        if (feedback != null) {
+            Double observed = feedback.observedRowCount(this);
+
+            if (observed != null) {
+                return observed;
+            }
+        }
+
         return table.getRowCount() * mq.getSelectivity(this, null);
     }
 
@@ -236,4 +236,13 @@ public interface IgniteRelWriter {
      * @return This writer instance for chaining.
      */
     IgniteRelWriter addAll(boolean all);
+
+    /**
+     * Adds fields whose values are fetched from a table after the rest of the row has been processed.
+     *
+     * @param fields The {@link ImmutableBitSet} representing indexes of deferred fields.
+     * @param rowType The row type against which field indexes should be resolved.
+     * @return This writer instance for chaining.
+     */
+    IgniteRelWriter addDeferredFields(ImmutableBitSet fields, RelDataType rowType);
 }
@@ -138,6 +138,7 @@ class RelTreeToTextWriter {
         OFFSET("offset"),
         FETCH("fetch"),
         ALL("all"),
+        DEFERRED_FIELDS("deferred"),
         SOURCE_FRAGMENT_ID("sourceFragmentId"),
         TARGET_FRAGMENT_ID("targetFragmentId");
 
@@ -326,6 +327,13 @@ class RelTreeToTextWriter {
             return this;
         }
 
+        @Override
+        public IgniteRelWriter addDeferredFields(ImmutableBitSet fields, RelDataType rowType) {
+            attributes.put(AttributeName.DEFERRED_FIELDS, beautifyBitSet(fields, rowType).toString());
+
+            return this;
+        }
+
         @Override
         public IgniteRelWriter addSourceFragmentId(long fragmentId) {
             attributes.put(AttributeName.SOURCE_FRAGMENT_ID, String.valueOf(fragmentId));
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import static org.apache.ignite.internal.sql.engine.rule.SortExchangeTransposeRule.createLimitForSort;
+import static org.apache.ignite.internal.sql.engine.trait.IgniteDistributions.single;
+import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.distribution;
+
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelDistribution.Type;
+import org.apache.calcite.rel.RelNode;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
+import org.immutables.value.Value;
+
+/**
+ * A rule that puts a copy of {@link IgniteLimit} node having fetch under {@link IgniteExchange}, thus every fragment sends no
+ * more than {@code offset + fetch} rows to the parent one. The original node is kept on top of the exchange.
+ */
+@Value.Enclosing
+public class LimitExchangeTransposeRule extends RelRule<LimitExchangeTransposeRule.Config> {
+    public static final RelOptRule INSTANCE = Config.INSTANCE.toRule();
+
+    private LimitExchangeTransposeRule(Config cfg) {
+        super(cfg);
+    }
+
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        return limit.fetch() != null && hashAlike(distribution(exchange.getInput())) && exchange.distribution() == single();
+    }
+
+    private static boolean hashAlike(IgniteDistribution distribution) {
+        return distribution.getType() == Type.HASH_DISTRIBUTED
+                || distribution.getType() == Type.RANDOM_DISTRIBUTED;
+    }
+
+    /** Returns {@code true} if the input of the exchange does not limit the number of rows already. */
+    private static boolean notLimited(RelNode input) {
+        return !(input instanceof IgniteLimit) && !(input instanceof IgniteSort && ((IgniteSort) input).fetch != null);
+    }
+
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        IgniteLimit limit = call.rel(0);
+        IgniteExchange exchange = call.rel(1);
+
+        RelOptCluster cluster = limit.getCluster();
+        RelNode input = exchange.getInput();
+        RelNode newLimit = new IgniteLimit(
+                cluster,
+                input.getTraitSet(),
+                input,
+                null,
+                createLimitForSort(cluster.getPlanner().getExecutor(), cluster.getRexBuilder(), limit.offset(), limit.fetch())
+        );
+
+        call.transformTo(new IgniteLimit(
+                cluster,
+                limit.getTraitSet(),
+                new IgniteExchange(cluster, exchange.getTraitSet(), newLimit, exchange.distribution()),
+                limit.offset(),
+                limit.fetch()
+        ));
+    }
+
+    /** Configuration. */
+    @SuppressWarnings({"ClassNameSameAsAncestorName", "InnerClassFieldHidesOuterClassField"})
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        Config INSTANCE = ImmutableLimitExchangeTransposeRule.Config.of()
+                .withDescription("LimitExchangeTransposeRule")
+                .withOperandSupplier(o0 ->
+                        o0.operand(IgniteLimit.class)
+                                .oneInput(o1 ->
+                                        o1.operand(IgniteExchange.class)
+                                                .oneInput(o2 ->
+                                                        o2.operand(RelNode.class)
+                                                                .predicate(LimitExchangeTransposeRule::notLimited)
+                                                                .anyInputs())))
+                .as(Config.class);
+
+        /** {@inheritDoc} */
+        @Override
+        default LimitExchangeTransposeRule toRule() {
+            return new LimitExchangeTransposeRule(this);
+        }
+    }
+}
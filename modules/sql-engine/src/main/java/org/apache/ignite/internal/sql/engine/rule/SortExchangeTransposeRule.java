@@ -105,7 +105,7 @@ public class SortExchangeTransposeRule extends RelRule<SortExchangeTransposeRule
         }
     }
 
-    private static @Nullable RexNode createLimitForSort(
+    static @Nullable RexNode createLimitForSort(
             @Nullable RexExecutor executor, RexBuilder builder, @Nullable RexNode offset, @Nullable RexNode fetch
     ) {
         if (fetch == null) {
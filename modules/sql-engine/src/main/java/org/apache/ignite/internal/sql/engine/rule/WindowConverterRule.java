@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.Window;
+import org.apache.calcite.rel.core.Window.Group;
+import org.apache.calcite.rel.core.Window.RexWinAggCall;
+import org.apache.calcite.rel.logical.LogicalWindow;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.rex.RexWindowBound;
+import org.apache.calcite.rex.RexWindowExclusion;
+import org.apache.calcite.sql.SqlAggFunction;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.validate.SqlValidatorUtil;
+import org.apache.ignite.internal.sql.engine.rel.IgniteConvention;
+import org.apache.ignite.internal.sql.engine.rel.IgniteProject;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+
+/**
+ * Planner rule that converts {@link LogicalWindow} into a chain of {@link IgniteWindow} relations, one per window group.
+ *
+ * <p>Every {@link IgniteWindow} requires its input to be sorted by the partition keys followed by the order keys of the window,
+ * thus the window may be evaluated over an index scan without any additional sorting.
+ */
+public class WindowConverterRule extends AbstractIgniteConverterRule<LogicalWindow> {
+    public static final RelOptRule INSTANCE = new WindowConverterRule();
+
+    /** Functions supported by the execution node. */
+    private static final Set<SqlKind> SUPPORTED_FUNCTIONS = EnumSet.of(
+            SqlKind.ROW_NUMBER,
+            SqlKind.RANK,
+            SqlKind.DENSE_RANK,
+            SqlKind.COUNT,
+            SqlKind.SUM,
+            SqlKind.SUM0,
+            SqlKind.AVG,
+            SqlKind.MIN,
+            SqlKind.MAX,
+            SqlKind.ANY_VALUE,
+            SqlKind.SINGLE_VALUE
+    );
+
+    private WindowConverterRule() {
+        super(LogicalWindow.class, "WindowConverterRule");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        LogicalWindow window = call.rel(0);
+
+        return supported(window);
+    }
+
+    /** Returns {@code true} if every group of the window can be evaluated by the execution node. */
+    public static boolean supported(Window window) {
+        return window.groups.stream().allMatch(WindowConverterRule::supported);
+    }
+
+    /** Returns {@code true} if the window group can be evaluated by the execution node. */
+    private static boolean supported(Group group) {
+        RexWindowBound lower = group.lowerBound;
+        RexWindowBound upper = group.upperBound;
+
+        // Only frames growing from the start of the partition are supported, since they are evaluated incrementally.
+        if (!lower.isUnbounded() || !lower.isPreceding()) {
+            return false;
+        }
+
+        if (!upper.isCurrentRow() && !(upper.isUnbounded() && upper.isFollowing())) {
+            return false;
+        }
+
+        if (group.exclude != RexWindowExclusion.EXCLUDE_NO_OTHER) {
+            return false;
+        }
+
+        for (RexWinAggCall aggCall : group.aggCalls) {
+            if (aggCall.distinct || aggCall.ignoreNulls || !SUPPORTED_FUNCTIONS.contains(aggCall.getKind())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalWindow window) {
+        RelOptCluster cluster = window.getCluster();
+        RelDataTypeFactory typeFactory = cluster.getTypeFactory();
+
+        RelTraitSet traits = cluster.traitSetOf(IgniteConvention.INSTANCE).replace(IgniteDistributions.single());
+
+        RelNode input = window.getInput();
+        int inputFieldCount = input.getRowType().getFieldCount();
+
+        if (!window.constants.isEmpty()) {
+            // Window functions refer to the constants as to the fields following the fields of the input,
+            // thus let's append the constants to the input.
+            RexBuilder rexBuilder = cluster.getRexBuilder();
+
+            List<RexNode> projects = new ArrayList<>(rexBuilder.identityProjects(input.getRowType()));
+            projects.addAll(window.constants);
+
+            RelDataType rowType = RexUtil.createStructType(typeFactory, projects, null, SqlValidatorUtil.F_SUGGESTER);
+
+            input = new IgniteProject(cluster, traits, convert(input, traits), projects, rowType);
+        }
+
+        List<RelDataTypeField> windowFields = window.getRowType().getFieldList();
+        int windowField = inputFieldCount;
+
+        for (Group group : window.groups) {
+            List<RexWinAggCall> aggCalls = new ArrayList<>(group.aggCalls.size());
+            RelDataTypeFactory.Builder rowType = typeFactory.builder().addAll(input.getRowType().getFieldList());
+
+            for (RexWinAggCall aggCall : group.aggCalls) {
+                aggCalls.add(new RexWinAggCall(
+                        (SqlAggFunction) aggCall.getOperator(),
+                        aggCall.getType(),
+                        aggCall.getOperands(),
+                        aggCalls.size(),
+                        false,
+                        false
+                ));
+
+                rowType.add(windowFields.get(windowField++));
+            }
+
+            Group group0 = new Group(group.keys, group.isRows, group.lowerBound, group.upperBound, group.exclude, group.orderKeys,
+                    aggCalls);
+
+            RelTraitSet windowTraits = traits.replace(IgniteWindow.inputCollation(group0));
+
+            input = new IgniteWindow(cluster, windowTraits, convert(input, windowTraits), rowType.build(), group0);
+        }
+
+        if (window.constants.isEmpty()) {
+            return (PhysicalNode) input;
+        }
+
+        // Remove the constants appended to the input.
+        RexBuilder rexBuilder = cluster.getRexBuilder();
+        List<RexNode> projects = new ArrayList<>(window.getRowType().getFieldCount());
+        List<RelDataTypeField> fields = input.getRowType().getFieldList();
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i < inputFieldCount || i >= inputFieldCount + window.constants.size()) {
+                projects.add(rexBuilder.makeInputRef(fields.get(i).getType(), i));
+            }
+        }
+
+        return new IgniteProject(cluster, traits, input, projects, window.getRowType());
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.calcite.plan.RelRule;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.TableScan;
 import org.apache.calcite.rel.hint.RelHint;
+import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.sql.engine.hint.IgniteHint;
@@ -48,7 +49,10 @@ import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.schema.PartialIndexPredicate;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.HintUtils;
+import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.apache.ignite.sql.SqlException;
 import org.immutables.value.Value;
@@ -86,6 +90,7 @@ public class ExposeIndexRule extends RelRule<ExposeIndexRule.Config> {
         ImmutableIntList requiredCols = scan.requiredColumns();
 
         List<IgniteLogicalIndexScan> indexes = igniteTable.indexes().values().stream()
+                .filter(idx -> covers(idx, scan))
                 .map(idx -> idx.toRel(cluster, optTable, names, proj, condition, requiredCols))
                 .filter(idx -> filter(igniteTable, idx.indexName(), idx.searchBounds()))
                 .collect(Collectors.toList());
@@ -170,6 +175,21 @@ public class ExposeIndexRule extends RelRule<ExposeIndexRule.Config> {
                 .collect(Collectors.toList());
     }
 
+    /** Returns {@code true} if the index contains every row the scan may return, i.e. it's not a partial index excluding some. */
+    private static boolean covers(IgniteIndex index, IgniteLogicalTableScan scan) {
+        PartialIndexPredicate predicate = index.predicate();
+
+        if (predicate == null) {
+            return true;
+        }
+
+        RelOptCluster cluster = scan.getCluster();
+        IgniteTable table = scan.getTable().unwrap(IgniteTable.class);
+        RelDataType rowType = table.getRowType(Commons.typeFactory(cluster), scan.requiredColumns());
+
+        return predicate.impliedBy(cluster.getRexBuilder(), RexUtils.executor(cluster), rowType, scan.requiredColumns(), scan.condition());
+    }
+
     /** Filter pre known not applicable variants. Significant shrink search space in some cases. */
     private static boolean filter(IgniteTable table, String idxName, List<SearchBounds> searchBounds) {
         IgniteIndex index = table.indexes().get(idxName);
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule.logical;
+
+import static org.apache.ignite.internal.sql.engine.hint.IgniteHint.FORCE_INDEX;
+import static org.apache.ignite.internal.sql.engine.hint.IgniteHint.NO_INDEX;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelRule;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.RelFieldCollation;
+import org.apache.calcite.rel.RelFieldCollation.Direction;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalSort;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexLocalRef;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexSlot;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalIndexScan;
+import org.apache.ignite.internal.sql.engine.rel.logical.IgniteLogicalTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.util.HintUtils;
+import org.apache.ignite.internal.sql.engine.util.RexUtils;
+import org.immutables.value.Value;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Rule that answers MIN or MAX of a column, which leads a sorted index, with the first row of the index instead of aggregating
+ * all rows of the table.
+ *
+ * <p>The aggregate is put on top of the sort with fetch 1 over the index scan, thus every partition returns a single row found
+ * by the index seek (see {@code SortExchangeTransposeRule} and {@code SortRemoveRule}). MIN requires an ascending index, and MAX
+ * requires a descending one, since sorted indexes are not scanned backwards. NULLs are excluded by the scan condition, because
+ * the aggregate functions ignore them.
+ */
+@Value.Enclosing
+public class MinMaxIndexSeekRule extends RelRule<MinMaxIndexSeekRule.Config> {
+    public static final RelOptRule INSTANCE = Config.DEFAULT.toRule();
+
+    private MinMaxIndexSeekRule(Config config) {
+        super(config);
+    }
+
+    private static boolean isSimpleMinMax(LogicalAggregate aggregate) {
+        if (aggregate.getGroupCount() != 0 || aggregate.getAggCallList().size() != 1) {
+            return false;
+        }
+
+        AggregateCall call = aggregate.getAggCallList().get(0);
+
+        return (call.getAggregation().getKind() == SqlKind.MIN || call.getAggregation().getKind() == SqlKind.MAX)
+                && !call.isDistinct()
+                && !call.hasFilter()
+                && call.getArgList().size() == 1;
+    }
+
+    private static boolean hasNoIndexHints(IgniteLogicalTableScan scan) {
+        // Index hints are taken into account by ExposeIndexRule.
+        return HintUtils.hints(scan, EnumSet.of(NO_INDEX, FORCE_INDEX)).isEmpty();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMatch(RelOptRuleCall call) {
+        LogicalAggregate aggregate = call.rel(0);
+        IgniteLogicalTableScan scan = call.rel(1);
+
+        AggregateCall aggCall = aggregate.getAggCallList().get(0);
+        int field = aggCall.getArgList().get(0);
+
+        RexNode expr;
+        int localIdx;
+
+        if (scan.projects() == null) {
+            expr = null;
+            localIdx = field;
+        } else {
+            expr = scan.projects().get(field);
+
+            if (!(expr instanceof RexSlot)) {
+                return;
+            }
+
+            localIdx = ((RexSlot) expr).getIndex();
+        }
+
+        int column = scan.requiredColumns() == null ? localIdx : scan.requiredColumns().get(localIdx);
+        Direction direction = aggCall.getAggregation().getKind() == SqlKind.MIN ? Direction.ASCENDING : Direction.DESCENDING;
+
+        IgniteTable table = scan.getTable().unwrap(IgniteTable.class);
+        IgniteIndex index = findIndex(table, column, direction);
+
+        if (index == null) {
+            return;
+        }
+
+        RelOptCluster cluster = scan.getCluster();
+        RexBuilder builder = RexUtils.builder(cluster);
+        RelDataType fieldType = scan.getRowType().getFieldList().get(field).getType();
+        RexNode condition = scan.condition();
+
+        if (fieldType.isNullable()) {
+            RexNode notNull = builder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, expr != null ? expr : new RexLocalRef(localIdx, fieldType));
+
+            condition = condition == null ? notNull : RexUtil.composeConjunction(builder, List.of(condition, notNull));
+        }
+
+        IgniteLogicalIndexScan indexScan = index.toRel(
+                cluster, scan.getTable(), scan.fieldNames(), scan.projects(), condition, scan.requiredColumns());
+
+        RelFieldCollation fieldCollation = index.collation().getFieldCollations().get(0).withFieldIndex(field);
+
+        LogicalSort sort = LogicalSort.create(
+                indexScan, RelCollations.of(fieldCollation), null, builder.makeExactLiteral(BigDecimal.ONE));
+
+        call.transformTo(aggregate.copy(aggregate.getTraitSet(), List.of(sort)));
+    }
+
+    private static @Nullable IgniteIndex findIndex(IgniteTable table, int column, Direction direction) {
+        for (IgniteIndex index : table.indexes().values()) {
+            if (index.type() != Type.SORTED || index.predicate() != null) {
+                continue;
+            }
+
+            RelFieldCollation first = index.collation().getFieldCollations().get(0);
+
+            if (first.getFieldIndex() == column && first.getDirection() == direction) {
+                return index;
+            }
+        }
+
+        return null;
+    }
+
+    /** Configuration. */
+    @SuppressWarnings({"ClassNameSameAsAncestorName", "InnerClassFieldHidesOuterClassField"})
+    @Value.Immutable
+    public interface Config extends RelRule.Config {
+        Config DEFAULT = ImmutableMinMaxIndexSeekRule.Config.of()
+                .withDescription("MinMaxIndexSeekRule")
+                .withOperandSupplier(o0 ->
+                        o0.operand(LogicalAggregate.class)
+                                .predicate(MinMaxIndexSeekRule::isSimpleMinMax)
+                                .oneInput(o1 ->
+                                        o1.operand(IgniteLogicalTableScan.class)
+                                                .predicate(MinMaxIndexSeekRule::hasNoIndexHints)
+                                                .noInputs()))
+                .as(Config.class);
+
+        /** {@inheritDoc} */
+        @Override
+        default MinMaxIndexSeekRule toRule() {
+            return new MinMaxIndexSeekRule(this);
+        }
+    }
+}
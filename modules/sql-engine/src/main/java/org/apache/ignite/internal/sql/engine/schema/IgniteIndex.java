@@ -94,6 +94,8 @@ public class IgniteIndex {
 
     private final boolean primaryKey;
 
+    private final @Nullable PartialIndexPredicate predicate;
+
     private RelDataType rowType;
 
     public IgniteIndex(int id, String name, Type type, IgniteDistribution tableDistribution, RelCollation collation) {
@@ -102,12 +104,26 @@ public class IgniteIndex {
 
     /** Constructor. */
     public IgniteIndex(int id, String name, Type type, IgniteDistribution tableDistribution, RelCollation collation, boolean primaryKey) {
+        this(id, name, type, tableDistribution, collation, primaryKey, null);
+    }
+
+    /** Constructor. */
+    public IgniteIndex(
+            int id,
+            String name,
+            Type type,
+            IgniteDistribution tableDistribution,
+            RelCollation collation,
+            boolean primaryKey,
+            @Nullable PartialIndexPredicate predicate
+    ) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.tableDistribution = tableDistribution;
         this.collation = collation;
         this.primaryKey = primaryKey;
+        this.predicate = predicate;
     }
 
     /** Returns an id of the index. */
@@ -135,6 +151,11 @@ public class IgniteIndex {
         return primaryKey;
     }
 
+    /** Returns the predicate of a partial index, {@code null} if the index contains all rows of the table. */
+    public @Nullable PartialIndexPredicate predicate() {
+        return predicate;
+    }
+
     /** Returns index row type. */
     public RelDataType rowType(IgniteTypeFactory factory, TableDescriptor tableDescriptor) {
         if (rowType == null) {
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.schema;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptPredicateList;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexExecutor;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexSimplify;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.sql.engine.util.RexUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Predicate of a partial index in terms of fields of the table row.
+ *
+ * <p>A partial index contains only rows satisfying its predicate, thus it may be used to scan a table only if every row satisfying
+ * the condition of the scan satisfies the predicate as well.
+ */
+public class PartialIndexPredicate {
+    private final List<Condition> conditions;
+
+    /** Index of the field of the table row by condition. */
+    private final int[] fieldIndexes;
+
+    /** Constructor. */
+    PartialIndexPredicate(List<Condition> conditions, int[] fieldIndexes) {
+        assert conditions.size() == fieldIndexes.length;
+
+        this.conditions = conditions;
+        this.fieldIndexes = fieldIndexes;
+    }
+
+    /**
+     * Creates the predicate of an index of the given table.
+     *
+     * @param predicate Predicate of the index.
+     * @param tableDescriptor Descriptor of the table.
+     * @return Predicate in terms of fields of the table row.
+     */
+    static PartialIndexPredicate of(CatalogIndexPredicate predicate, CatalogTableDescriptor tableDescriptor) {
+        List<Condition> conditions = predicate.conditions();
+        int[] fieldIndexes = new int[conditions.size()];
+
+        for (int i = 0; i < fieldIndexes.length; i++) {
+            fieldIndexes[i] = tableDescriptor.columnIndexById(conditions.get(i).columnId());
+
+            assert fieldIndexes[i] >= 0 : "tableId=" + tableDescriptor.id() + ", columnId=" + conditions.get(i).columnId();
+        }
+
+        return new PartialIndexPredicate(conditions, fieldIndexes);
+    }
+
+    /**
+     * Checks whether the given condition of a scan implies the predicate.
+     *
+     * @param rexBuilder Expression builder.
+     * @param executor Expression executor.
+     * @param rowType Type of the row the condition refers to.
+     * @param requiredColumns Columns of the table the row consists of, {@code null} for all columns.
+     * @param condition Condition of the scan.
+     * @return {@code true} if every row satisfying the condition satisfies the predicate.
+     */
+    public boolean impliedBy(
+            RexBuilder rexBuilder,
+            RexExecutor executor,
+            RelDataType rowType,
+            @Nullable ImmutableIntList requiredColumns,
+            @Nullable RexNode condition
+    ) {
+        if (condition == null) {
+            return false;
+        }
+
+        RexNode predicate = toRexNode(rexBuilder, rowType, requiredColumns);
+
+        if (predicate == null) {
+            return false;
+        }
+
+        condition = RexUtils.replaceLocalRefs(condition);
+
+        Set<RexNode> conditionConjunctions = new HashSet<>(RelOptUtil.conjunctions(condition));
+
+        if (conditionConjunctions.containsAll(RelOptUtil.conjunctions(predicate))) {
+            return true;
+        }
+
+        // There is no row satisfying the condition but not satisfying the predicate.
+        RexNode check = rexBuilder.makeCall(SqlStdOperatorTable.AND, condition,
+                rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_TRUE, predicate));
+
+        return new RexSimplify(rexBuilder, RelOptPredicateList.EMPTY, executor).simplifyUnknownAsFalse(check).isAlwaysFalse();
+    }
+
+    /**
+     * Converts the predicate into an expression over the given row type.
+     *
+     * @return Expression or {@code null} if the predicate can't be expressed, e.g. it refers to a column which is not in the row.
+     */
+    private @Nullable RexNode toRexNode(RexBuilder rexBuilder, RelDataType rowType, @Nullable ImmutableIntList requiredColumns) {
+        List<RexNode> operands = new ArrayList<>(conditions.size());
+
+        for (int i = 0; i < conditions.size(); i++) {
+            Condition condition = conditions.get(i);
+            int fieldIndex = requiredColumns == null ? fieldIndexes[i] : requiredColumns.indexOf(fieldIndexes[i]);
+
+            if (fieldIndex < 0) {
+                return null;
+            }
+
+            RexNode ref = rexBuilder.makeInputRef(rowType.getFieldList().get(fieldIndex).getType(), fieldIndex);
+
+            switch (condition.operator()) {
+                case IS_NULL:
+                    operands.add(rexBuilder.makeCall(SqlStdOperatorTable.IS_NULL, ref));
+
+                    continue;
+                case IS_NOT_NULL:
+                    operands.add(rexBuilder.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref));
+
+                    continue;
+                default:
+                    break;
+            }
+
+            Object value = condition.value();
+
+            // Only constants the DDL accepts are expressed, the predicate is not used by the planner otherwise.
+            if (!(value instanceof Number || value instanceof String || value instanceof Boolean)) {
+                return null;
+            }
+
+            RelDataType literalType = rexBuilder.getTypeFactory().createTypeWithNullability(ref.getType(), false);
+            RexNode literal = rexBuilder.makeLiteral(value, literalType, false);
+
+            operands.add(rexBuilder.makeCall(operator(condition), ref, literal));
+        }
+
+        return RexUtil.composeConjunction(rexBuilder, operands);
+    }
+
+    private static SqlOperator operator(Condition condition) {
+        switch (condition.operator()) {
+            case EQUALS:
+                return SqlStdOperatorTable.EQUALS;
+            case NOT_EQUALS:
+                return SqlStdOperatorTable.NOT_EQUALS;
+            case LESS_THAN:
+                return SqlStdOperatorTable.LESS_THAN;
+            case LESS_THAN_OR_EQUAL:
+                return SqlStdOperatorTable.LESS_THAN_OR_EQUAL;
+            case GREATER_THAN:
+                return SqlStdOperatorTable.GREATER_THAN;
+            case GREATER_THAN_OR_EQUAL:
+                return SqlStdOperatorTable.GREATER_THAN_OR_EQUAL;
+            default:
+                throw new AssertionError(condition.operator());
+        }
+    }
+}
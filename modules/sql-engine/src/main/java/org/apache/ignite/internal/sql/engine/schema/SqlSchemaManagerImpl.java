@@ -49,6 +49,7 @@ import org.apache.ignite.internal.catalog.commands.DefaultValue.ConstantValue;
 import org.apache.ignite.internal.catalog.commands.DefaultValue.FunctionCall;
 import org.apache.ignite.internal.catalog.descriptors.CatalogHashIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSortedIndexDescriptor;
 import org.apache.ignite.internal.catalog.descriptors.CatalogSystemViewDescriptor;
@@ -270,6 +271,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
     private static IgniteIndex createSchemaIndex(
             CatalogIndexDescriptor indexDescriptor,
+            CatalogTableDescriptor tableDescriptor,
             RelCollation outputCollation,
             IgniteDistribution distribution,
             boolean primaryKey
@@ -283,8 +285,11 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
             throw new IllegalArgumentException("Unexpected index type: " + indexDescriptor);
         }
 
+        CatalogIndexPredicate predicate = indexDescriptor.predicate();
+
         return new IgniteIndex(
-                indexDescriptor.id(), indexDescriptor.name(), type, distribution, outputCollation, primaryKey
+                indexDescriptor.id(), indexDescriptor.name(), type, distribution, outputCollation, primaryKey,
+                predicate == null ? null : PartialIndexPredicate.of(predicate, tableDescriptor)
         );
     }
 
@@ -480,6 +485,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
                 return createSchemaIndex(
                         indexDescriptor,
+                        table,
                         outputCollation,
                         distribution,
                         indexDescriptor.id() == primaryKeyIndexId
@@ -520,7 +526,11 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         int tableId = catalogTableDescriptor.id();
         String tableName = catalogTableDescriptor.name();
 
-        IgniteStatistic statistic = new IgniteStatistic(() -> sqlStatisticManager.tableSize(tableId), tableDescriptor.distribution());
+        IgniteStatistic statistic = new IgniteStatistic(
+                () -> sqlStatisticManager.tableSize(tableId),
+                columnIdx -> sqlStatisticManager.columnStatistics(tableId, tableDescriptor.columnDescriptor(columnIdx).name()),
+                tableDescriptor.distribution()
+        );
 
         return new IgniteTableImpl(
                 tableName,
@@ -54,7 +54,7 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         @Override
         public SqlCall createCall(@Nullable SqlLiteral functionQualifier, SqlParserPos pos, @Nullable SqlNode... operands) {
             return new IgniteSqlCreateIndex(pos, existFlag(), (SqlIdentifier) operands[0], (SqlIdentifier) operands[1],
-                    indexType, (SqlNodeList) operands[2]);
+                    indexType, (SqlNodeList) operands[2], operands[3]);
         }
     }
 
@@ -69,14 +69,18 @@ public class IgniteSqlCreateIndex extends SqlCreate {
     /** Columns involved. */
     private final SqlNodeList columnList;
 
+    /** Predicate of a partial index. */
+    private final @Nullable SqlNode where;
+
     /** Creates a SqlCreateIndex. */
     public IgniteSqlCreateIndex(SqlParserPos pos, boolean ifNotExists, SqlIdentifier idxName, SqlIdentifier tblName,
-            IgniteSqlIndexType type, SqlNodeList columnList) {
+            IgniteSqlIndexType type, SqlNodeList columnList, @Nullable SqlNode where) {
         super(new Operator(type, ifNotExists), pos, false, ifNotExists);
         this.idxName = Objects.requireNonNull(idxName, "index name");
         this.tblName = Objects.requireNonNull(tblName, "table name");
         this.type = Objects.requireNonNull(type, "type");
         this.columnList = columnList;
+        this.where = where;
     }
 
     /** {@inheritDoc} */
@@ -88,7 +92,7 @@ public class IgniteSqlCreateIndex extends SqlCreate {
     /** {@inheritDoc} */
     @Override
     public List<SqlNode> getOperandList() {
-        return ImmutableNullableList.of(idxName, tblName, columnList);
+        return ImmutableNullableList.of(idxName, tblName, columnList, where);
     }
 
     /** {@inheritDoc} */
@@ -134,6 +138,12 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         }
 
         writer.endList(frame);
+
+        if (where != null) {
+            writer.keyword("WHERE");
+
+            where.unparse(writer, 0, 0);
+        }
     }
 
     public SqlIdentifier indexName() {
@@ -152,6 +162,10 @@ public class IgniteSqlCreateIndex extends SqlCreate {
         return columnList;
     }
 
+    public @Nullable SqlNode where() {
+        return where;
+    }
+
     public boolean ifNotExists() {
         Operator operator = (Operator) getOperator();
         return operator.existFlag();
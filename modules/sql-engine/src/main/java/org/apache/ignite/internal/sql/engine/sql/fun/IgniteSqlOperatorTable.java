@@ -597,6 +597,11 @@ public class IgniteSqlOperatorTable extends ReflectiveSqlOperatorTable {
         definedOperatorsBuilder.add(SOME);
         definedOperatorsBuilder.add(SAME_VALUE);
 
+        // Window functions.
+        definedOperatorsBuilder.add(SqlStdOperatorTable.ROW_NUMBER);
+        definedOperatorsBuilder.add(SqlStdOperatorTable.RANK);
+        definedOperatorsBuilder.add(SqlStdOperatorTable.DENSE_RANK);
+
         // IS ... operator.
         definedOperatorsBuilder.add(SqlStdOperatorTable.IS_NULL);
         definedOperatorsBuilder.add(SqlStdOperatorTable.IS_NOT_NULL);
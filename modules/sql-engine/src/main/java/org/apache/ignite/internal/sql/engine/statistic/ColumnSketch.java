@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Summary of values of a column collected on a single partition.
+ *
+ * <p>Sketch counts rows and nulls, tracks distinct values with {@link HyperLogLog} and keeps a uniform reservoir sample of numeric
+ * values. Sketches of all partitions of a table are merged into the {@link ColumnStatistics}.
+ */
+final class ColumnSketch {
+    /** Maximal number of sampled values per partition. */
+    static final int SAMPLE_SIZE = 256;
+
+    private long rowCount;
+
+    private long nullCount;
+
+    private long numericCount;
+
+    private final HyperLogLog hll;
+
+    private final double[] sample;
+
+    private int sampleSize;
+
+    ColumnSketch() {
+        this(0, 0, 0, new HyperLogLog(), new double[SAMPLE_SIZE], 0);
+    }
+
+    private ColumnSketch(long rowCount, long nullCount, long numericCount, HyperLogLog hll, double[] sample, int sampleSize) {
+        this.rowCount = rowCount;
+        this.nullCount = nullCount;
+        this.numericCount = numericCount;
+        this.hll = hll;
+        this.sample = sample;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Adds a value of the column.
+     *
+     * @param value Value of the column of the next row.
+     */
+    void add(@Nullable Object value) {
+        rowCount++;
+
+        if (value == null) {
+            nullCount++;
+
+            return;
+        }
+
+        hll.add(value);
+
+        if (value instanceof Number) {
+            double val = ((Number) value).doubleValue();
+
+            numericCount++;
+
+            if (sampleSize < SAMPLE_SIZE) {
+                sample[sampleSize++] = val;
+            } else {
+                long idx = ThreadLocalRandom.current().nextLong(numericCount);
+
+                if (idx < SAMPLE_SIZE) {
+                    sample[(int) idx] = val;
+                }
+            }
+        }
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    long nullCount() {
+        return nullCount;
+    }
+
+    long numericCount() {
+        return numericCount;
+    }
+
+    HyperLogLog hll() {
+        return hll;
+    }
+
+    double[] sample() {
+        return sample;
+    }
+
+    int sampleSize() {
+        return sampleSize;
+    }
+
+    /** Returns the number of bytes {@link #writeTo(ByteBuffer)} writes. */
+    int serializedSize() {
+        return 3 * Long.BYTES + Integer.BYTES + sampleSize * Double.BYTES + HyperLogLog.REGISTERS;
+    }
+
+    /** Writes the sketch to the buffer. */
+    void writeTo(ByteBuffer buf) {
+        buf.putLong(rowCount);
+        buf.putLong(nullCount);
+        buf.putLong(numericCount);
+        buf.putInt(sampleSize);
+
+        for (int i = 0; i < sampleSize; i++) {
+            buf.putDouble(sample[i]);
+        }
+
+        hll.writeTo(buf);
+    }
+
+    /** Reads the sketch written by {@link #writeTo(ByteBuffer)}. */
+    static ColumnSketch readFrom(ByteBuffer buf) {
+        long rowCount = buf.getLong();
+        long nullCount = buf.getLong();
+        long numericCount = buf.getLong();
+        int sampleSize = buf.getInt();
+
+        double[] sample = new double[SAMPLE_SIZE];
+
+        for (int i = 0; i < sampleSize; i++) {
+            sample[i] = buf.getDouble();
+        }
+
+        return new ColumnSketch(rowCount, nullCount, numericCount, HyperLogLog.readFrom(buf), sample, sampleSize);
+    }
+}
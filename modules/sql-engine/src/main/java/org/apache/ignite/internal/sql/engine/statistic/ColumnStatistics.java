@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import org.apache.ignite.internal.tostring.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a single table column: number of distinct values, fraction of nulls and, for numeric columns, an equi-depth
+ * histogram of values.
+ *
+ * <p>Instances are immutable and built by merging {@link ColumnSketch sketches} collected on every partition of the table.
+ */
+public final class ColumnStatistics {
+    /** Number of buckets of the histogram. */
+    static final int HISTOGRAM_BUCKETS = 32;
+
+    private final long rowCount;
+
+    private final long nullCount;
+
+    private final long distinctCount;
+
+    /** Bounds of equi-depth buckets, every bucket holds the same fraction of non-null values. */
+    private final double @Nullable [] histogram;
+
+    ColumnStatistics(long rowCount, long nullCount, long distinctCount, double @Nullable [] histogram) {
+        assert histogram == null || histogram.length > 1 : Arrays.toString(histogram);
+
+        this.rowCount = rowCount;
+        this.nullCount = nullCount;
+        this.distinctCount = distinctCount;
+        this.histogram = histogram;
+    }
+
+    /** Returns the number of rows the statistics were collected on. */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /** Returns the fraction of rows having {@code null} in the column. */
+    public double nullFraction() {
+        return rowCount == 0 ? 0.0 : (double) nullCount / rowCount;
+    }
+
+    /** Returns the estimated number of distinct non-null values of the column, at least 1. */
+    public long distinctCount() {
+        return Math.max(1, distinctCount);
+    }
+
+    /** Returns {@code true} if the histogram of values is available. */
+    public boolean hasHistogram() {
+        return histogram != null;
+    }
+
+    /** Returns the estimated fraction of rows matching the {@code col = ?} predicate. */
+    public double equalsSelectivity() {
+        return (1.0 - nullFraction()) / distinctCount();
+    }
+
+    /**
+     * Returns the estimated fraction of rows matching the {@code col < value} or {@code col <= value} predicate.
+     *
+     * @param value Value to compare with.
+     * @param inclusive Whether the predicate is inclusive.
+     * @return Estimated selectivity or {@code null} if the histogram is not available.
+     */
+    public @Nullable Double lessThanSelectivity(double value, boolean inclusive) {
+        if (histogram == null) {
+            return null;
+        }
+
+        double fraction = fractionBelow(histogram, value) + (inclusive ? 1.0 / distinctCount() : 0.0);
+
+        return (1.0 - nullFraction()) * Math.min(fraction, 1.0);
+    }
+
+    /**
+     * Returns the estimated fraction of rows matching the {@code col > value} or {@code col >= value} predicate.
+     *
+     * @param value Value to compare with.
+     * @param inclusive Whether the predicate is inclusive.
+     * @return Estimated selectivity or {@code null} if the histogram is not available.
+     */
+    public @Nullable Double greaterThanSelectivity(double value, boolean inclusive) {
+        Double lessThan = lessThanSelectivity(value, !inclusive);
+
+        return lessThan == null ? null : Math.max(1.0 - nullFraction() - lessThan, 0.0);
+    }
+
+    /** Returns the fraction of non-null values which are less than the given one. */
+    private static double fractionBelow(double[] bounds, double value) {
+        int buckets = bounds.length - 1;
+
+        if (value <= bounds[0]) {
+            return 0.0;
+        }
+
+        if (value > bounds[buckets]) {
+            return 1.0;
+        }
+
+        double res = 0.0;
+
+        for (int i = 0; i < buckets; i++) {
+            double lo = bounds[i];
+            double hi = bounds[i + 1];
+
+            if (value > hi) {
+                res += 1.0;
+            } else {
+                if (hi > lo) {
+                    res += (value - lo) / (hi - lo);
+                }
+
+                break;
+            }
+        }
+
+        return res / buckets;
+    }
+
+    /**
+     * Builds statistics of a column from the sketches collected on partitions of the table.
+     *
+     * @param sketches Sketches of the column, one per partition.
+     * @return Statistics of the column.
+     */
+    static ColumnStatistics build(Collection<ColumnSketch> sketches) {
+        long rowCount = 0;
+        long nullCount = 0;
+        long numericCount = 0;
+        int samples = 0;
+        HyperLogLog hll = new HyperLogLog();
+
+        for (ColumnSketch sketch : sketches) {
+            rowCount += sketch.rowCount();
+            nullCount += sketch.nullCount();
+            numericCount += sketch.numericCount();
+            samples += sketch.sampleSize();
+
+            hll.merge(sketch.hll());
+        }
+
+        double[] histogram = null;
+
+        // Histogram is built only if every non-null value is numeric.
+        if (samples > 0 && numericCount == rowCount - nullCount) {
+            histogram = buildHistogram(sketches, samples);
+        }
+
+        return new ColumnStatistics(rowCount, nullCount, Math.min(hll.estimate(), rowCount - nullCount), histogram);
+    }
+
+    /**
+     * Builds an equi-depth histogram from the union of samples of partitions. Every sampled value represents {@code n / s} values
+     * of its partition, where {@code n} is the number of numeric values and {@code s} is the size of the sample of the partition,
+     * thus larger partitions contribute to the histogram proportionally.
+     */
+    private static double[] buildHistogram(Collection<ColumnSketch> sketches, int samples) {
+        double[] values = new double[samples];
+        double[] weights = new double[samples];
+        int cnt = 0;
+
+        for (ColumnSketch sketch : sketches) {
+            double weight = (double) sketch.numericCount() / sketch.sampleSize();
+
+            for (int i = 0; i < sketch.sampleSize(); i++) {
+                values[cnt] = sketch.sample()[i];
+                weights[cnt++] = weight;
+            }
+        }
+
+        Integer[] order = new Integer[samples];
+
+        for (int i = 0; i < samples; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double totalWeight = 0;
+
+        for (double w : weights) {
+            totalWeight += w;
+        }
+
+        double[] bounds = new double[HISTOGRAM_BUCKETS + 1];
+
+        bounds[0] = values[order[0]];
+        bounds[HISTOGRAM_BUCKETS] = values[order[samples - 1]];
+
+        double cumulative = 0;
+        int bucket = 1;
+
+        for (int i = 0; i < samples && bucket < HISTOGRAM_BUCKETS; i++) {
+            cumulative += weights[order[i]];
+
+            while (bucket < HISTOGRAM_BUCKETS && cumulative >= totalWeight * bucket / HISTOGRAM_BUCKETS) {
+                bounds[bucket++] = values[order[i]];
+            }
+        }
+
+        while (bucket < HISTOGRAM_BUCKETS) {
+            bounds[bucket++] = bounds[HISTOGRAM_BUCKETS];
+        }
+
+        return bounds;
+    }
+
+    /** Returns the number of bytes {@link #writeTo(ByteBuffer)} writes. */
+    int serializedSize() {
+        return 3 * Long.BYTES + Integer.BYTES + (histogram == null ? 0 : histogram.length * Double.BYTES);
+    }
+
+    /** Writes the statistics to the buffer. */
+    void writeTo(ByteBuffer buf) {
+        buf.putLong(rowCount);
+        buf.putLong(nullCount);
+        buf.putLong(distinctCount);
+
+        if (histogram == null) {
+            buf.putInt(0);
+        } else {
+            buf.putInt(histogram.length);
+
+            for (double bound : histogram) {
+                buf.putDouble(bound);
+            }
+        }
+    }
+
+    /** Reads the statistics written by {@link #writeTo(ByteBuffer)}. */
+    static ColumnStatistics readFrom(ByteBuffer buf) {
+        long rowCount = buf.getLong();
+        long nullCount = buf.getLong();
+        long distinctCount = buf.getLong();
+        int histogramLength = buf.getInt();
+
+        double[] histogram = null;
+
+        if (histogramLength > 0) {
+            histogram = new double[histogramLength];
+
+            for (int i = 0; i < histogramLength; i++) {
+                histogram[i] = buf.getDouble();
+            }
+        }
+
+        return new ColumnStatistics(rowCount, nullCount, distinctCount, histogram);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return S.toString(ColumnStatistics.class, this);
+    }
+}
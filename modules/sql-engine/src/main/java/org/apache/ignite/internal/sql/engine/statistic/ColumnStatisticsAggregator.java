@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.internal.table.InternalTable;
+
+/**
+ * Collects statistics of columns of a table over the cluster.
+ */
+@FunctionalInterface
+public interface ColumnStatisticsAggregator {
+    /**
+     * Collects sketches of columns on every partition of the given table and merges them.
+     *
+     * @param table Table to collect statistics of.
+     * @return Future of statistics by column name, the map is empty if no partition responded.
+     */
+    CompletableFuture<Map<String, ColumnStatistics>> columnStatistics(InternalTable table);
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.apache.ignite.internal.thread.ThreadOperation.STORAGE_READ;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.network.MessagingService;
+import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.engine.message.ColumnStatisticsRequest;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.TableViewInternal;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects sketches of columns of a table on partitions stored locally on the node.
+ *
+ * <p>Every replica of a partition holds the same data, thus the requester takes the sketch of a partition from any node which
+ * responded. Every node of the cluster refreshes statistics on its own, therefore a result collected recently is reused instead
+ * of scanning the partitions once again.
+ */
+public class ColumnStatisticsCollector implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(ColumnStatisticsCollector.class);
+
+    private static final SqlQueryMessagesFactory FACTORY = new SqlQueryMessagesFactory();
+
+    /** Period a collected result is reused for. */
+    private static final long RESULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final String nodeName;
+
+    private final TableManager tableManager;
+
+    private final MessagingService messagingService;
+
+    private final ConcurrentMap<Integer, CollectedSketches> results = new ConcurrentHashMap<>();
+
+    private volatile @Nullable ExecutorService executor;
+
+    /** Constructor. */
+    public ColumnStatisticsCollector(String nodeName, TableManager tableManager, MessagingService messagingService) {
+        this.nodeName = nodeName;
+        this.tableManager = tableManager;
+        this.messagingService = messagingService;
+    }
+
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(
+                IgniteThreadFactory.create(nodeName, "sql-statistics-collector", LOG, STORAGE_READ)
+        );
+
+        messagingService.addMessageHandler(SqlQueryMessageGroup.class, this::onMessage);
+    }
+
+    @Override
+    public void stop() {
+        ExecutorService executor0 = executor;
+
+        executor = null;
+
+        IgniteUtils.shutdownAndAwaitTermination(executor0, 10, TimeUnit.SECONDS);
+    }
+
+    private void onMessage(NetworkMessage networkMessage, InternalClusterNode sender, @Nullable Long correlationId) {
+        if (!(networkMessage instanceof ColumnStatisticsRequest)) {
+            return;
+        }
+
+        assert correlationId != null;
+
+        int tableId = ((ColumnStatisticsRequest) networkMessage).tableId();
+
+        collect(tableId).whenComplete((sketches, err) -> {
+            if (err != null) {
+                LOG.debug("Failed to collect column statistics [tableId={}].", err, tableId);
+
+                sketches = ByteBuffer.allocate(0);
+            }
+
+            messagingService.respond(sender, FACTORY.columnStatisticsResponse().sketches(sketches).build(), correlationId);
+        });
+    }
+
+    /**
+     * Collects sketches of columns of the given table on locally stored partitions.
+     *
+     * @param tableId ID of the table.
+     * @return Future of serialized {@link PartitionSketches}.
+     */
+    CompletableFuture<ByteBuffer> collect(int tableId) {
+        ExecutorService executor0 = executor;
+
+        if (executor0 == null) {
+            return CompletableFuture.completedFuture(ByteBuffer.allocate(0));
+        }
+
+        long now = System.currentTimeMillis();
+
+        CollectedSketches res = results.compute(tableId, (id, prev) -> {
+            if (prev != null && !prev.future.isCompletedExceptionally() && now - prev.timestamp < RESULT_TTL_MILLIS) {
+                return prev;
+            }
+
+            return new CollectedSketches(CompletableFuture.supplyAsync(() -> collectLocal(id), executor0), now);
+        });
+
+        return res.future.thenApply(ByteBuffer::duplicate);
+    }
+
+    private ByteBuffer collectLocal(int tableId) {
+        TableViewInternal table = tableManager.cachedTable(tableId);
+
+        if (table == null) {
+            return ByteBuffer.allocate(0);
+        }
+
+        InternalTable internalTable = table.internalTable();
+        MvTableStorage storage = internalTable.storage();
+        SchemaRegistry registry = table.schemaView();
+        SchemaDescriptor schema = registry.schema(registry.lastKnownSchemaVersion());
+
+        List<PartitionSketches> partitions = new ArrayList<>();
+
+        for (int partId = 0; partId < internalTable.partitions(); partId++) {
+            MvPartitionStorage partition = storage.getMvPartition(partId);
+
+            if (partition == null) {
+                continue;
+            }
+
+            try {
+                partitions.add(new PartitionSketches(partId, collectPartition(partition, registry, schema)));
+            } catch (Exception e) {
+                // Partition may be destroyed or rebalanced concurrently, the remaining ones are still of use.
+                LOG.debug("Failed to collect column statistics [tableId={}, partId={}].", e, tableId, partId);
+            }
+        }
+
+        return PartitionSketches.serialize(partitions);
+    }
+
+    private static Map<String, ColumnSketch> collectPartition(
+            MvPartitionStorage partition,
+            SchemaRegistry registry,
+            SchemaDescriptor schema
+    ) {
+        List<Column> columns = schema.columns();
+        ColumnSketch[] sketches = new ColumnSketch[columns.size()];
+
+        for (int i = 0; i < sketches.length; i++) {
+            sketches[i] = new ColumnSketch();
+        }
+
+        try (PartitionTimestampCursor cursor = partition.scan(HybridTimestamp.MAX_VALUE)) {
+            while (cursor.hasNext()) {
+                ReadResult res = cursor.next();
+                BinaryRow binaryRow = res.binaryRow();
+
+                if (binaryRow == null) {
+                    continue;
+                }
+
+                Row row = registry.resolve(binaryRow, schema);
+
+                for (int i = 0; i < sketches.length; i++) {
+                    sketches[i].add(row.value(i));
+                }
+            }
+        }
+
+        Map<String, ColumnSketch> res = new HashMap<>(sketches.length * 2);
+
+        for (int i = 0; i < sketches.length; i++) {
+            res.put(columns.get(i).name(), sketches[i]);
+        }
+
+        return res;
+    }
+
+    private static class CollectedSketches {
+        private final CompletableFuture<ByteBuffer> future;
+
+        private final long timestamp;
+
+        CollectedSketches(CompletableFuture<ByteBuffer> future, long timestamp) {
+            this.future = future;
+            this.timestamp = timestamp;
+        }
+    }
+}
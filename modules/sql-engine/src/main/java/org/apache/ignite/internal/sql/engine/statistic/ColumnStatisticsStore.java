@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Durable storage of column statistics, every table is stored to a separate file in the given directory.
+ *
+ * <p>Statistics are not critical for query execution, thus I/O errors are logged and never propagated.
+ */
+class ColumnStatisticsStore {
+    private static final IgniteLogger LOG = Loggers.forClass(ColumnStatisticsStore.class);
+
+    private static final String FILE_SUFFIX = ".bin";
+
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+
+    private final Path dir;
+
+    ColumnStatisticsStore(Path dir) {
+        this.dir = dir;
+    }
+
+    /** Returns statistics of the table, or {@code null} if the statistics were never stored or can't be read. */
+    @Nullable TableColumnStatistics read(int tableId) {
+        Path file = file(tableId);
+
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            return TableColumnStatistics.deserialize(ByteBuffer.wrap(Files.readAllBytes(file)));
+        } catch (Exception e) {
+            LOG.warn("Failed to read column statistics [tableId={}, file={}].", e, tableId, file);
+
+            return null;
+        }
+    }
+
+    /** Stores statistics of the table replacing the previous ones. */
+    void write(int tableId, TableColumnStatistics stats) {
+        Path file = file(tableId);
+        Path tmp = dir.resolve(tableId + TMP_FILE_SUFFIX);
+
+        try {
+            Files.createDirectories(dir);
+
+            Files.write(tmp, stats.serialize().array());
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Failed to write column statistics [tableId={}, file={}].", e, tableId, file);
+        }
+    }
+
+    /** Removes statistics of the table. */
+    void remove(int tableId) {
+        try {
+            Files.deleteIfExists(file(tableId));
+        } catch (IOException e) {
+            LOG.warn("Failed to remove column statistics [tableId={}].", e, tableId);
+        }
+    }
+
+    private Path file(int tableId) {
+        return dir.resolve(tableId + FILE_SUFFIX);
+    }
+}
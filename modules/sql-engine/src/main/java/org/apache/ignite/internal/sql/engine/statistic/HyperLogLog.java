@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct values.
+ *
+ * <p>Sketches built on different partitions of the same column may be merged, and the estimation of the merged sketch is the
+ * estimation of the number of distinct values in the union of the partitions. Values are hashed in a way which does not depend
+ * on the JVM, thus sketches built on different nodes are compatible.
+ */
+public final class HyperLogLog {
+    /** Number of bits of a hash used to choose a register. */
+    private static final int PRECISION = 11;
+
+    /** Number of registers, the standard error of the estimation is {@code 1.04 / sqrt(REGISTERS)}, i.e. about 2.3%. */
+    static final int REGISTERS = 1 << PRECISION;
+
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    /** Constructor. */
+    public HyperLogLog() {
+        this(new byte[REGISTERS]);
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    /**
+     * Adds a value to the sketch.
+     *
+     * @param value Non-null value.
+     */
+    public void add(Object value) {
+        addHash(hash(value));
+    }
+
+    private void addHash(long hash) {
+        int idx = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Math.min(Long.numberOfLeadingZeros(hash << PRECISION), Long.SIZE - PRECISION) + 1;
+
+        if (rank > registers[idx]) {
+            registers[idx] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges the given sketch into this one.
+     *
+     * @param other Sketch to merge.
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    /** Returns the estimated number of distinct values added to the sketch. */
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+
+        for (byte r : registers) {
+            sum += 1.0 / (1L << r);
+
+            if (r == 0) {
+                zeros++;
+            }
+        }
+
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+
+        // Small range correction, the hash is 64-bit wide thus there is no need in the large range one.
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+
+        return Math.round(estimate);
+    }
+
+    /** Writes the sketch to the buffer, {@link #REGISTERS} bytes are written. */
+    void writeTo(ByteBuffer buf) {
+        buf.put(registers);
+    }
+
+    /** Reads the sketch written by {@link #writeTo(ByteBuffer)}. */
+    static HyperLogLog readFrom(ByteBuffer buf) {
+        byte[] registers = new byte[REGISTERS];
+
+        buf.get(registers);
+
+        return new HyperLogLog(registers);
+    }
+
+    private static long hash(Object value) {
+        long h;
+
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            h = ((Number) value).longValue();
+        } else if (value instanceof Double || value instanceof Float) {
+            h = Double.doubleToLongBits(((Number) value).doubleValue());
+        } else if (value instanceof String) {
+            String str = (String) value;
+
+            h = 0;
+
+            // Wider than String#hashCode to avoid collisions on large domains.
+            for (int i = 0; i < str.length(); i++) {
+                h = 31 * h + str.charAt(i);
+            }
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+
+            h = 0;
+
+            for (byte b : bytes) {
+                h = 31 * h + b;
+            }
+        } else {
+            h = value.hashCode();
+        }
+
+        return mix(h);
+    }
+
+    /** Finalization mix of MurmurHash3. */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+
+        return h;
+    }
+}
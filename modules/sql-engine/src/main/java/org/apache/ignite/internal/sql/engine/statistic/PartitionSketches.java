@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sketches of all columns of a table collected on a single partition.
+ */
+final class PartitionSketches {
+    private final int partitionId;
+
+    private final Map<String, ColumnSketch> columns;
+
+    PartitionSketches(int partitionId, Map<String, ColumnSketch> columns) {
+        this.partitionId = partitionId;
+        this.columns = columns;
+    }
+
+    int partitionId() {
+        return partitionId;
+    }
+
+    /** Returns sketches by column name. */
+    Map<String, ColumnSketch> columns() {
+        return columns;
+    }
+
+    /**
+     * Merges sketches of all partitions of a table into statistics of its columns.
+     *
+     * @param partitions Sketches of partitions, one per partition.
+     * @return Statistics by column name.
+     */
+    static Map<String, ColumnStatistics> merge(Collection<PartitionSketches> partitions) {
+        Map<String, List<ColumnSketch>> sketchesByColumn = new HashMap<>();
+
+        for (PartitionSketches part : partitions) {
+            for (Map.Entry<String, ColumnSketch> e : part.columns.entrySet()) {
+                sketchesByColumn.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
+            }
+        }
+
+        Map<String, ColumnStatistics> res = new HashMap<>(sketchesByColumn.size() * 2);
+
+        for (Map.Entry<String, List<ColumnSketch>> e : sketchesByColumn.entrySet()) {
+            res.put(e.getKey(), ColumnStatistics.build(e.getValue()));
+        }
+
+        return res;
+    }
+
+    /** Serializes sketches of partitions to be sent over the network. */
+    static ByteBuffer serialize(List<PartitionSketches> partitions) {
+        int size = Integer.BYTES;
+
+        for (PartitionSketches part : partitions) {
+            size += 2 * Integer.BYTES;
+
+            for (Map.Entry<String, ColumnSketch> e : part.columns.entrySet()) {
+                size += Integer.BYTES + e.getKey().getBytes(StandardCharsets.UTF_8).length + e.getValue().serializedSize();
+            }
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.putInt(partitions.size());
+
+        for (PartitionSketches part : partitions) {
+            buf.putInt(part.partitionId);
+            buf.putInt(part.columns.size());
+
+            for (Map.Entry<String, ColumnSketch> e : part.columns.entrySet()) {
+                writeString(buf, e.getKey());
+
+                e.getValue().writeTo(buf);
+            }
+        }
+
+        return buf.flip();
+    }
+
+    /** Deserializes sketches written by {@link #serialize(List)}. */
+    static List<PartitionSketches> deserialize(ByteBuffer buf) {
+        buf = buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        int partCnt = buf.getInt();
+
+        List<PartitionSketches> res = new ArrayList<>(partCnt);
+
+        for (int i = 0; i < partCnt; i++) {
+            int partId = buf.getInt();
+            int colCnt = buf.getInt();
+
+            Map<String, ColumnSketch> columns = new HashMap<>(colCnt * 2);
+
+            for (int j = 0; j < colCnt; j++) {
+                String name = readString(buf);
+
+                columns.put(name, ColumnSketch.readFrom(buf));
+            }
+
+            res.add(new PartitionSketches(partId, columns));
+        }
+
+        return res;
+    }
+
+    static void writeString(ByteBuffer buf, String str) {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+
+        buf.putInt(bytes.length);
+        buf.put(bytes);
+    }
+
+    static String readString(ByteBuffer buf) {
+        byte[] bytes = new byte[buf.getInt()];
+
+        buf.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.statistic;
 
 import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Defined interface to manage SQL statistics.
@@ -29,6 +30,16 @@ public interface SqlStatisticManager extends LifecycleAware {
      */
     long tableSize(int tableId);
 
+    /**
+     * Returns statistics of the column of the table, or {@code null} if statistics of the column have not been collected yet.
+     *
+     * @param tableId ID of the table.
+     * @param columnName Name of the column.
+     */
+    default @Nullable ColumnStatistics columnStatistics(int tableId, String columnName) {
+        return null;
+    }
+
     @Override
     default void start(){}
 
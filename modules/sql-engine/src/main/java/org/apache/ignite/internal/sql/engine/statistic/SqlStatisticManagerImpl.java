@@ -17,12 +17,14 @@
 
 package org.apache.ignite.internal.sql.engine.statistic;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.apache.ignite.internal.event.EventListener.fromConsumer;
 import static org.apache.ignite.internal.sql.engine.statistic.event.StatisticChangedEvent.STATISTIC_CHANGED;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -58,6 +60,7 @@ import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.TableViewInternal;
 import org.apache.ignite.internal.table.distributed.TableManager;
 import org.apache.ignite.internal.util.LongPriorityQueue;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 /**
@@ -85,12 +88,22 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
     /* Contains all known table id's with statistics. */
     final ConcurrentMap<Integer, ActualSize> tableSizeMap = new ConcurrentHashMap<>();
 
+    /* Contains statistics of columns of tables, statistics are refreshed when the modification counter of a table advances. */
+    final ConcurrentMap<Integer, TableColumnStatistics> columnStatsMap = new ConcurrentHashMap<>();
+
+    /* Contains tables statistics of columns are being collected for. */
+    private final Set<Integer> collectingTables = ConcurrentHashMap.newKeySet();
+
     /* Contain dropped tables, can`t update statistic for such a case. */
     final Set<Integer> droppedTables = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private final ScheduledExecutorService scheduler;
     private final StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier;
 
+    private final ColumnStatisticsAggregator columnStatSupplier;
+
+    private final @Nullable ColumnStatisticsStore columnStatStore;
+
     private final ConfigurationValue<Integer> staleRowsCheckIntervalSeconds;
 
     private final ConfigurationListener<Integer> updateRefreshIntervalListener = this::updateConfig;
@@ -105,12 +118,42 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
             ScheduledExecutorService scheduler,
             StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
             ConfigurationValue<Integer> staleRowsCheckIntervalSeconds
+    ) {
+        this(
+                tableManager,
+                catalogService,
+                lowWatermark,
+                scheduler,
+                statSupplier,
+                table -> completedFuture(Map.of()),
+                null,
+                staleRowsCheckIntervalSeconds
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param columnStatSupplier Supplier of statistics of columns.
+     * @param columnStatDir Directory to store statistics of columns to, statistics are kept in memory only if {@code null}.
+     */
+    public SqlStatisticManagerImpl(
+            TableManager tableManager,
+            CatalogService catalogService,
+            LowWatermark lowWatermark,
+            ScheduledExecutorService scheduler,
+            StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> statSupplier,
+            ColumnStatisticsAggregator columnStatSupplier,
+            @Nullable Path columnStatDir,
+            ConfigurationValue<Integer> staleRowsCheckIntervalSeconds
     ) {
         this.tableManager = tableManager;
         this.catalogService = catalogService;
         this.lowWatermark = lowWatermark;
         this.scheduler = scheduler;
         this.statSupplier = statSupplier;
+        this.columnStatSupplier = columnStatSupplier;
+        this.columnStatStore = columnStatDir == null ? null : new ColumnStatisticsStore(columnStatDir);
         this.staleRowsCheckIntervalSeconds = staleRowsCheckIntervalSeconds;
     }
 
@@ -127,6 +170,25 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         return tableSizeMap.getOrDefault(tableId, DEFAULT_VALUE).getSize();
     }
 
+    /**
+     * Returns statistics of the column of the table.
+     *
+     * <p>Statistics are collected in background once the modification counter of the table advances, thus the statistics
+     * returned may describe a slightly outdated state of the table.
+     */
+    @Override
+    public @Nullable ColumnStatistics columnStatistics(int tableId, String columnName) {
+        TableColumnStatistics stats = columnStatsMap.get(tableId);
+
+        if (stats == null) {
+            return null;
+        }
+
+        ColumnStatistics columnStats = stats.column(columnName);
+
+        return columnStats == null || columnStats.rowCount() == 0 ? null : columnStats;
+    }
+
     @Override
     public void start() {
         catalogService.listen(CatalogEvent.TABLE_CREATE, createTableEventListener);
@@ -143,6 +205,16 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
             }
         }
 
+        if (columnStatStore != null) {
+            for (Integer tableId : tableSizeMap.keySet()) {
+                TableColumnStatistics stats = columnStatStore.read(tableId);
+
+                if (stats != null) {
+                    columnStatsMap.put(tableId, stats);
+                }
+            }
+        }
+
         staleRowsCheckIntervalSeconds.listen(updateRefreshIntervalListener);
         int seconds = staleRowsCheckIntervalSeconds.value();
 
@@ -225,11 +297,53 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
                 if (updatedSize.modificationCounter() >= currentSize.modificationCounter()) {
                     fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
                 }
+
+                refreshColumnStatistics(tableId, info.lastModificationCounter());
             }
             return null;
         });
     }
 
+    /** Starts collection of statistics of columns of the table if the stored ones were collected before the last modification. */
+    private void refreshColumnStatistics(int tableId, long modificationCounter) {
+        TableColumnStatistics current = columnStatsMap.get(tableId);
+
+        if (current != null && current.modificationCounter() >= modificationCounter) {
+            return;
+        }
+
+        TableViewInternal tableView = tableManager.cachedTable(tableId);
+
+        if (tableView == null || !collectingTables.add(tableId)) {
+            return;
+        }
+
+        columnStatSupplier.columnStatistics(tableView.internalTable())
+                .thenAccept(columns -> {
+                    // The table can be concurrently dropped and we shouldn't put new value in this case.
+                    if (columns.isEmpty() || droppedTables.contains(tableId)) {
+                        return;
+                    }
+
+                    TableColumnStatistics stats = new TableColumnStatistics(modificationCounter, columns);
+
+                    columnStatsMap.put(tableId, stats);
+
+                    if (columnStatStore != null) {
+                        columnStatStore.write(tableId, stats);
+                    }
+
+                    fireEvent(STATISTIC_CHANGED, new StatisticEventParameters(tableId));
+                })
+                .whenComplete((r, t) -> {
+                    collectingTables.remove(tableId);
+
+                    if (t != null) {
+                        LOG.warn("Failed to collect column statistics [tableId={}].", t, tableId);
+                    }
+                });
+    }
+
     @Override
     public void stop() {
         lowWatermark.removeListener(LowWatermarkEvent.LOW_WATERMARK_CHANGED, lwmListener);
@@ -259,6 +373,13 @@ public class SqlStatisticManagerImpl extends AbstractEventProducer<StatisticChan
         List<DestroyTableEvent> events = destructionEventsQueue.drainUpTo(earliestVersion);
 
         events.forEach(event -> tableSizeMap.remove(event.tableId()));
+        events.forEach(event -> {
+            columnStatsMap.remove(event.tableId());
+
+            if (columnStatStore != null) {
+                columnStatStore.remove(event.tableId());
+            }
+        });
         events.forEach(event -> droppedTables.remove(event.tableId()));
     }
 
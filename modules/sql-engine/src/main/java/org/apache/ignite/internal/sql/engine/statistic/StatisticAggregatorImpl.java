@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.util.CompletableFutures.isCompletedSucc
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -41,6 +42,9 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.NetworkMessage;
+import org.apache.ignite.internal.sql.engine.message.ColumnStatisticsRequest;
+import org.apache.ignite.internal.sql.engine.message.ColumnStatisticsResponse;
+import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.table.message.GetEstimatedSizeWithLastModifiedTsRequest;
 import org.apache.ignite.internal.table.message.GetEstimatedSizeWithLastModifiedTsResponse;
@@ -52,7 +56,8 @@ import org.jetbrains.annotations.Nullable;
 
 /** Statistic aggregator. */
 public class StatisticAggregatorImpl implements
-        StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>> {
+        StatisticAggregator<Collection<InternalTable>, CompletableFuture<Int2ObjectMap<PartitionModificationInfo>>>,
+        ColumnStatisticsAggregator {
     private static final IgniteLogger LOG = Loggers.forClass(StatisticAggregatorImpl.class);
 
     private final Supplier<Set<LogicalNode>> clusterNodes;
@@ -61,8 +66,13 @@ public class StatisticAggregatorImpl implements
 
     private static final TableMessagesFactory TABLE_MESSAGES_FACTORY = new TableMessagesFactory();
 
+    private static final SqlQueryMessagesFactory SQL_MESSAGES_FACTORY = new SqlQueryMessagesFactory();
+
     private static final long REQUEST_ESTIMATION_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
 
+    /** Column statistics are collected by scanning partitions, thus the timeout is much longer than the one of estimation. */
+    private static final long COLUMN_STATISTICS_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
     private final AtomicReference<@Nullable Map<TablePartitionIdentifier, CompletableFuture<Object>>> requestsCompletion =
             new AtomicReference<>();
 
@@ -202,6 +212,56 @@ public class StatisticAggregatorImpl implements
         });
     }
 
+    /**
+     * Returns future with statistics of columns of the given table.
+     *
+     * <p>Every node responds with sketches of partitions stored locally, the sketch of a partition is taken from any node which
+     * responded. Partitions no node responded for are not taken into account.
+     */
+    @Override
+    public CompletableFuture<Map<String, ColumnStatistics>> columnStatistics(InternalTable table) {
+        ColumnStatisticsRequest request = SQL_MESSAGES_FACTORY.columnStatisticsRequest().tableId(table.tableId()).build();
+
+        List<CompletableFuture<@Nullable NetworkMessage>> responses = new ArrayList<>();
+
+        for (LogicalNode node : clusterNodes.get()) {
+            responses.add(messagingService.invoke(node, request, COLUMN_STATISTICS_TIMEOUT_MILLIS)
+                    .handle((msg, ex) -> {
+                        if (ex != null) {
+                            LOG.debug("Can`t collect column statistics [tableId={}, node={}].", ex, table.tableId(), node.name());
+
+                            return null;
+                        }
+
+                        return msg;
+                    }));
+        }
+
+        return allOf(responses.toArray(CompletableFuture[]::new)).thenApply(none -> {
+            Int2ObjectMap<PartitionSketches> partitions = new Int2ObjectOpenHashMap<>();
+
+            for (CompletableFuture<@Nullable NetworkMessage> fut : responses) {
+                NetworkMessage msg = fut.join();
+
+                if (!(msg instanceof ColumnStatisticsResponse)) {
+                    continue;
+                }
+
+                ByteBuffer sketches = ((ColumnStatisticsResponse) msg).sketches();
+
+                if (!sketches.hasRemaining()) {
+                    continue;
+                }
+
+                for (PartitionSketches part : PartitionSketches.deserialize(sketches)) {
+                    partitions.putIfAbsent(part.partitionId(), part);
+                }
+            }
+
+            return PartitionSketches.merge(partitions.values());
+        });
+    }
+
     private static class TablePartitionIdentifier {
         final int tableId;
         final int partitionId;
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of all columns of a table along with the modification counter of the table they were collected at.
+ */
+final class TableColumnStatistics {
+    private final long modificationCounter;
+
+    private final Map<String, ColumnStatistics> columns;
+
+    TableColumnStatistics(long modificationCounter, Map<String, ColumnStatistics> columns) {
+        this.modificationCounter = modificationCounter;
+        this.columns = columns;
+    }
+
+    long modificationCounter() {
+        return modificationCounter;
+    }
+
+    @Nullable ColumnStatistics column(String name) {
+        return columns.get(name);
+    }
+
+    /** Serializes the statistics. */
+    ByteBuffer serialize() {
+        int size = Long.BYTES + Integer.BYTES;
+
+        for (Map.Entry<String, ColumnStatistics> e : columns.entrySet()) {
+            size += Integer.BYTES + e.getKey().getBytes(StandardCharsets.UTF_8).length + e.getValue().serializedSize();
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buf.putLong(modificationCounter);
+        buf.putInt(columns.size());
+
+        for (Map.Entry<String, ColumnStatistics> e : columns.entrySet()) {
+            PartitionSketches.writeString(buf, e.getKey());
+
+            e.getValue().writeTo(buf);
+        }
+
+        return buf.flip();
+    }
+
+    /** Deserializes the statistics written by {@link #serialize()}. */
+    static TableColumnStatistics deserialize(ByteBuffer buf) {
+        buf = buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        long modificationCounter = buf.getLong();
+        int colCnt = buf.getInt();
+
+        Map<String, ColumnStatistics> columns = new HashMap<>(colCnt * 2);
+
+        for (int i = 0; i < colCnt; i++) {
+            String name = PartitionSketches.readString(buf);
+
+            columns.put(name, ColumnStatistics.readFrom(buf));
+        }
+
+        return new TableColumnStatistics(modificationCounter, columns);
+    }
+}
@@ -30,6 +30,7 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import java.io.StringReader;
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -131,6 +132,12 @@ public final class Commons {
     public static final int IO_BATCH_SIZE = 256;
     public static final int IO_BATCH_COUNT = 4;
 
+    /**
+     * Target size of a batch sent by an exchange in bytes, a batch is sent once either the size or {@link #IO_BATCH_SIZE} rows are
+     * reached.
+     */
+    public static final int IO_BATCH_BYTES = 64 * 1024;
+
     private static final EnumSet<SqlKind> SUPPORTED_DDL = EnumSet.of(
             SqlKind.CREATE_SCHEMA, SqlKind.DROP_SCHEMA,
             SqlKind.CREATE_TABLE, SqlKind.ALTER_TABLE, SqlKind.DROP_TABLE,
@@ -365,36 +372,72 @@ public final class Commons {
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
      */
     public static <T> T compile(Class<T> interfaceType, String body) {
-        final boolean debug = CalciteSystemProperty.DEBUG.value();
-
-        if (debug) {
-            Util.debugCode(System.out, body);
+        try {
+            return (T) classBodyEvaluator(interfaceType, body).createInstance(new StringReader(body));
+        } catch (Exception e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Unable to compile expression", e);
         }
+    }
+
+    /**
+     * Compiles the class body implementing the given interface and returns a factory which instantiates the compiled class. The body
+     * must declare a public constructor of the given class name accepting a single {@code Object[]} argument.
+     *
+     * @param interfaceType Interface the class implements.
+     * @param className Simple name of the class.
+     * @param body Body of the class.
+     * @return Factory accepting an argument of the constructor and returning a new instance of the class.
+     */
+    public static <T> Function<Object[], T> compileFactory(Class<T> interfaceType, String className, String body) {
+        Constructor<?> ctor;
 
         try {
-            final ICompilerFactory compilerFactory;
+            IClassBodyEvaluator cbe = classBodyEvaluator(interfaceType, body);
+
+            cbe.setClassName(className);
+            cbe.cook(new StringReader(body));
 
+            ctor = cbe.getClazz().getConstructor(Object[].class);
+        } catch (Exception e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Unable to compile expression", e);
+        }
+
+        return args -> {
             try {
-                compilerFactory = CompilerFactoryFactory.getDefaultCompilerFactory(SqlExpressionFactoryImpl.class.getClassLoader());
-            } catch (Exception e) {
-                throw new IllegalStateException(
-                        "Unable to instantiate java compiler", e);
+                return (T) ctor.newInstance((Object) args);
+            } catch (ReflectiveOperationException e) {
+                throw new IgniteInternalException(INTERNAL_ERR, "Unable to instantiate expression", e);
             }
+        };
+    }
 
-            IClassBodyEvaluator cbe = compilerFactory.newClassBodyEvaluator();
+    private static IClassBodyEvaluator classBodyEvaluator(Class<?> interfaceType, String body) {
+        final boolean debug = CalciteSystemProperty.DEBUG.value();
 
-            cbe.setImplementedInterfaces(new Class[]{interfaceType});
-            cbe.setParentClassLoader(Commons.class.getClassLoader());
+        if (debug) {
+            Util.debugCode(System.out, body);
+        }
 
-            if (debug) {
-                // Add line numbers to the generated janino class
-                cbe.setDebuggingInformation(true, true, true);
-            }
+        final ICompilerFactory compilerFactory;
 
-            return (T) cbe.createInstance(new StringReader(body));
+        try {
+            compilerFactory = CompilerFactoryFactory.getDefaultCompilerFactory(SqlExpressionFactoryImpl.class.getClassLoader());
         } catch (Exception e) {
-            throw new IgniteInternalException(INTERNAL_ERR, "Unable to compile expression", e);
+            throw new IllegalStateException(
+                    "Unable to instantiate java compiler", e);
+        }
+
+        IClassBodyEvaluator cbe = compilerFactory.newClassBodyEvaluator();
+
+        cbe.setImplementedInterfaces(new Class[]{interfaceType});
+        cbe.setParentClassLoader(Commons.class.getClassLoader());
+
+        if (debug) {
+            // Add line numbers to the generated janino class
+            cbe.setDebuggingInformation(true, true, true);
         }
+
+        return cbe;
     }
 
     /**
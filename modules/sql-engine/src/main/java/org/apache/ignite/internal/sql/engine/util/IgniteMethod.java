@@ -33,6 +33,7 @@ import org.apache.calcite.sql.SqlIntervalQualifier;
 import org.apache.calcite.sql.parser.SqlParserUtil;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowAccessor;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory.RowBuilder;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.SqlEvaluationContext;
 import org.apache.ignite.internal.sql.engine.exec.exp.IgniteSqlFunctions;
@@ -44,6 +45,24 @@ public enum IgniteMethod {
     /** See {@link RowBuilder#addField(Object)} )}. */
     ROW_BUILDER_ADD_FIELD(RowBuilder.class, "addField", Object.class),
 
+    /** See {@link RowBuilder#buildAndReset()}. */
+    ROW_BUILDER_BUILD_AND_RESET(RowBuilder.class, "buildAndReset"),
+
+    /** See {@link RowBatch#row(int)}. */
+    ROW_BATCH_ROW(RowBatch.class, "row", int.class),
+
+    /** See {@link RowBatch#set(int, Object)}. */
+    ROW_BATCH_SET(RowBatch.class, "set", int.class, Object.class),
+
+    /** See {@link RowBatch#selection()}. */
+    ROW_BATCH_SELECTION(RowBatch.class, "selection"),
+
+    /** See {@link RowBatch#selectedCount()}. */
+    ROW_BATCH_SELECTED_COUNT(RowBatch.class, "selectedCount"),
+
+    /** See {@link RowBatch#select(int)}. */
+    ROW_BATCH_SELECT(RowBatch.class, "select", int.class),
+
     /** See {@link RowHandler#get(int, Object)}. */
     ROW_ACCESSOR_GET(RowAccessor.class, "get", int.class, Object.class),
 
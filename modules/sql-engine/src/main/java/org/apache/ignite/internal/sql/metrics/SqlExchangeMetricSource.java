@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides metrics of the exchange of rows between query fragments.
+ *
+ * <p>The throughput of the exchanges is given by the rate of the sent and received bytes, the buffered bytes are the bytes
+ * received by the inboxes of the node but not yet consumed by the query execution.
+ */
+public class SqlExchangeMetricSource extends AbstractMetricSource<SqlExchangeMetricSource.Holder> {
+    public static final String NAME = "sql.exchange";
+    public static final String SENT_BATCHES = "SentBatches";
+    public static final String SENT_BYTES = "SentBytes";
+    public static final String RECEIVED_BATCHES = "ReceivedBatches";
+    public static final String RECEIVED_BYTES = "ReceivedBytes";
+    public static final String BUFFERED_BYTES = "BufferedBytes";
+
+    /** Bytes buffered by the inboxes, tracked regardless of whether the source is enabled to keep the value consistent. */
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    /** Constructor. */
+    public SqlExchangeMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a batch sent to a remote inbox.
+     *
+     * @param bytes Size of the batch in bytes.
+     */
+    public void onBatchSent(long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.sentBatches.increment();
+            holder.sentBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Records a batch received from a remote outbox.
+     *
+     * @param bytes Size of the batch in bytes.
+     */
+    public void onBatchReceived(long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.receivedBatches.increment();
+            holder.receivedBytes.add(bytes);
+        }
+    }
+
+    /**
+     * Records a change of the amount of bytes buffered by an inbox.
+     *
+     * @param delta Number of bytes buffered, or released if negative.
+     */
+    public void onBufferedBytesChanged(long delta) {
+        bufferedBytes.addAndGet(delta);
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric sentBatches = new LongAdderMetric(SENT_BATCHES, "Total number of batches sent by exchanges");
+        private final LongAdderMetric sentBytes = new LongAdderMetric(SENT_BYTES, "Total number of bytes sent by exchanges");
+        private final LongAdderMetric receivedBatches = new LongAdderMetric(
+                RECEIVED_BATCHES, "Total number of batches received by exchanges");
+        private final LongAdderMetric receivedBytes = new LongAdderMetric(
+                RECEIVED_BYTES, "Total number of bytes received by exchanges");
+
+        private final LongGauge buffered = new LongGauge(
+                BUFFERED_BYTES, "The number of bytes received by exchanges but not yet consumed", bufferedBytes::get);
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(sentBatches, sentBytes, receivedBatches, receivedBytes, buffered);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.Metric;
+
+/**
+ * Metric source, which provides per stripe metrics of the query execution thread pool.
+ *
+ * <p>The utilization of a stripe is given by the rate of its busy time, thus an imbalance between stripes is seen as a difference
+ * of the rates. Tasks executed by a stripe other than the one the fragment is pinned to are counted as stolen.
+ */
+public class SqlExecutorMetricSource extends AbstractMetricSource<SqlExecutorMetricSource.Holder> {
+    public static final String NAME = "sql.executor";
+    public static final String BUSY_TIME = "BusyTime";
+    public static final String EXECUTED_TASKS = "ExecutedTasks";
+    public static final String STOLEN_TASKS = "StolenTasks";
+
+    private final int stripes;
+
+    /**
+     * Constructor.
+     *
+     * @param stripes Number of stripes of the thread pool.
+     */
+    public SqlExecutorMetricSource(int stripes) {
+        super(NAME);
+
+        this.stripes = stripes;
+    }
+
+    /** Returns the name of the metric of the given stripe. */
+    public static String stripeMetricName(int stripe, String metric) {
+        return "stripe." + stripe + '.' + metric;
+    }
+
+    /**
+     * Records a task executed by a stripe.
+     *
+     * @param stripe Index of the stripe.
+     * @param nanos Time spent executing the task in nanoseconds.
+     * @param stolen Whether the task was stolen from another stripe.
+     */
+    public void onTaskExecuted(int stripe, long nanos, boolean stolen) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.busyTime[stripe].add(nanos);
+            holder.executedTasks[stripe].increment();
+
+            if (stolen) {
+                holder.stolenTasks[stripe].increment();
+            }
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric[] busyTime = new LongAdderMetric[stripes];
+        private final LongAdderMetric[] executedTasks = new LongAdderMetric[stripes];
+        private final LongAdderMetric[] stolenTasks = new LongAdderMetric[stripes];
+
+        Holder() {
+            for (int i = 0; i < stripes; i++) {
+                busyTime[i] = new LongAdderMetric(
+                        stripeMetricName(i, BUSY_TIME), "Total time in nanoseconds the stripe spent executing query tasks");
+                executedTasks[i] = new LongAdderMetric(
+                        stripeMetricName(i, EXECUTED_TASKS), "Total number of query tasks executed by the stripe");
+                stolenTasks[i] = new LongAdderMetric(
+                        stripeMetricName(i, STOLEN_TASKS), "Total number of query tasks the stripe has stolen from other stripes");
+            }
+        }
+
+        @Override
+        public Iterable<Metric> metrics() {
+            List<Metric> metrics = new ArrayList<>(stripes * 3);
+
+            for (int i = 0; i < stripes; i++) {
+                metrics.add(busyTime[i]);
+                metrics.add(executedTasks[i]);
+                metrics.add(stolenTasks[i]);
+            }
+
+            return metrics;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.LongAdderMetric;
+import org.apache.ignite.internal.metrics.LongGauge;
+import org.apache.ignite.internal.metrics.Metric;
+
+/** Metric source, which provides metrics of the memory used by SQL execution. */
+public class SqlMemoryMetricSource extends AbstractMetricSource<SqlMemoryMetricSource.Holder> {
+    public static final String NAME = "sql.memory";
+    public static final String SPILLED_BYTES = "SpilledBytes";
+    public static final String SPILL_FILES = "SpillFiles";
+    public static final String AGGREGATION_GROUPS = "AggregationGroups";
+    public static final String AGGREGATION_SPILLED_BYTES = "AggregationSpilledBytes";
+    public static final String LIMIT = "Limit";
+    public static final String STATEMENT_LIMIT = "StatementLimit";
+    public static final String RESERVED = "Reserved";
+    public static final String MAX_RESERVED = "MaxReserved";
+
+    private final long limit;
+
+    private final long statementLimit;
+
+    private final LongSupplier reservedSupplier;
+
+    private final LongSupplier maxReservedSupplier;
+
+    /**
+     * Constructor.
+     *
+     * @param limit Amount of memory (in bytes) all queries may use on the node, zero if not limited.
+     * @param statementLimit Amount of memory (in bytes) a single query may use on the node, zero if not limited.
+     * @param reservedSupplier Supplier of the amount of memory currently reserved by queries on the node.
+     * @param maxReservedSupplier Supplier of the maximum amount of memory reserved by queries on the node so far.
+     */
+    public SqlMemoryMetricSource(long limit, long statementLimit, LongSupplier reservedSupplier, LongSupplier maxReservedSupplier) {
+        super(NAME);
+
+        this.limit = limit;
+        this.statementLimit = statementLimit;
+        this.reservedSupplier = reservedSupplier;
+        this.maxReservedSupplier = maxReservedSupplier;
+    }
+
+    /**
+     * Records the number of bytes written to disk by execution nodes that exceeded the memory quota.
+     *
+     * @param bytes Number of bytes.
+     */
+    public void onBytesSpilled(long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.spilledBytes.add(bytes);
+        }
+    }
+
+    /** Increments the number of created spill files. */
+    public void onSpillFileCreated() {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.spillFiles.increment();
+        }
+    }
+
+    /**
+     * Records the number of groups built by a hash aggregation.
+     *
+     * @param count Number of groups.
+     */
+    public void onGroupsAggregated(long count) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.aggregationGroups.add(count);
+        }
+    }
+
+    /**
+     * Records the number of bytes written to disk by a hash aggregation.
+     *
+     * @param bytes Number of bytes.
+     */
+    public void onAggregationSpilled(long bytes) {
+        Holder holder = holder();
+
+        if (holder != null) {
+            holder.aggregationSpilledBytes.add(bytes);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final LongAdderMetric spilledBytes = new LongAdderMetric(SPILLED_BYTES, "Total number of bytes spilled to disk");
+        private final LongAdderMetric spillFiles = new LongAdderMetric(SPILL_FILES, "Total number of created spill files");
+        private final LongAdderMetric aggregationGroups = new LongAdderMetric(
+                AGGREGATION_GROUPS, "Total number of groups built by hash aggregations");
+        private final LongAdderMetric aggregationSpilledBytes = new LongAdderMetric(
+                AGGREGATION_SPILLED_BYTES, "Total number of bytes spilled to disk by hash aggregations");
+
+        private final LongGauge limitGauge = new LongGauge(LIMIT, "The SQL memory limit (bytes)", () -> limit);
+        private final LongGauge statementLimitGauge = new LongGauge(
+                STATEMENT_LIMIT, "The memory limit per SQL statement (bytes)", () -> statementLimit);
+        private final LongGauge reserved = new LongGauge(RESERVED, "The current memory usage by SQL (bytes)", reservedSupplier);
+        private final LongGauge maxReserved = new LongGauge(
+                MAX_RESERVED, "The maximum memory usage by SQL so far (bytes)", maxReservedSupplier);
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(spilledBytes, spillFiles, aggregationGroups, aggregationSpilledBytes, limitGauge, statementLimitGauge, reserved,
+                    maxReserved);
+        }
+    }
+}
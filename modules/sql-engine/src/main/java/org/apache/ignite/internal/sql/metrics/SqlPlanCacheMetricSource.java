@@ -50,6 +50,33 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
         }
     }
 
+    /** Accounts queries scheduled to be planned in background to warm up the cache. */
+    public void recordWarmUpScheduled(int count) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.warmUpScheduled.add(count);
+        }
+    }
+
+    /** Accounts a query planned in background to warm up the cache. */
+    public void recordWarmUpCompleted() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.warmUpCompleted.increment();
+        }
+    }
+
+    /** Accounts a query failed to be planned in background to warm up the cache. */
+    public void recordWarmUpFailed() {
+        Holder h = holder();
+
+        if (h != null) {
+            h.warmUpFailed.increment();
+        }
+    }
+
     @Override
     protected Holder createHolder() {
         return new Holder();
@@ -59,10 +86,16 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
     protected static class Holder implements AbstractMetricSource.Holder<Holder> {
         private final AtomicLongMetric cachePlanHits = new AtomicLongMetric("Hits", "Cache plan hits");
         private final AtomicLongMetric cachePlanMisses = new AtomicLongMetric("Misses", "Cache plan misses");
+        private final AtomicLongMetric warmUpScheduled = new AtomicLongMetric(
+                "WarmUpScheduled", "Queries scheduled to be planned in background to warm up the cache");
+        private final AtomicLongMetric warmUpCompleted = new AtomicLongMetric(
+                "WarmUpCompleted", "Queries planned in background to warm up the cache");
+        private final AtomicLongMetric warmUpFailed = new AtomicLongMetric(
+                "WarmUpFailed", "Queries failed to be planned in background to warm up the cache");
 
         @Override
         public Iterable<Metric> metrics() {
-            return List.of(cachePlanHits, cachePlanMisses);
+            return List.of(cachePlanHits, cachePlanMisses, warmUpScheduled, warmUpCompleted, warmUpFailed);
         }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.IntGauge;
+import org.apache.ignite.internal.metrics.Metric;
+import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
+
+/**
+ * Metric source, which provides SQL query result cache metrics.
+ *
+ * <p>Only queries which results may be cached are accounted, a cached result which is outdated is a miss.
+ */
+public class SqlResultCacheMetricSource extends AbstractMetricSource<SqlResultCacheMetricSource.Holder> implements StatsCounter {
+    public static final String NAME = "sql.result.cache";
+    public static final String HITS = "Hits";
+    public static final String MISSES = "Misses";
+    public static final String SIZE = "Size";
+
+    private final IntSupplier size;
+
+    /**
+     * Constructor.
+     *
+     * @param size Supplier of the number of cached results.
+     */
+    public SqlResultCacheMetricSource(IntSupplier size) {
+        super(NAME);
+
+        this.size = size;
+    }
+
+    @Override
+    public void recordHits(int count) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.hits.add(count);
+        }
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.misses.add(count);
+        }
+    }
+
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /** Holder. */
+    protected class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final AtomicLongMetric hits = new AtomicLongMetric(HITS, "Queries answered with a cached result");
+        private final AtomicLongMetric misses = new AtomicLongMetric(MISSES, "Queries executed since no valid cached result was found");
+        private final IntGauge cached = new IntGauge(SIZE, "The number of cached results", size);
+
+        @Override
+        public Iterable<Metric> metrics() {
+            return List.of(hits, misses, cached);
+        }
+    }
+}
@@ -71,6 +71,7 @@ public class OperatorListTest extends BaseIgniteAbstractTest {
             numericFunctions(),
             dateTimeFunctions(),
             aggregateFunctions(),
+            windowFunctions(),
             otherFunctions(),
             regexFunctions(),
             jsonFunctions(),
@@ -278,6 +279,16 @@ public class OperatorListTest extends BaseIgniteAbstractTest {
         return ops;
     }
 
+    private static DocumentedOperators windowFunctions() {
+        DocumentedOperators ops = new DocumentedOperators("Window Functions");
+
+        ops.add(SqlStdOperatorTable.ROW_NUMBER);
+        ops.add(SqlStdOperatorTable.RANK);
+        ops.add(SqlStdOperatorTable.DENSE_RANK);
+
+        return ops;
+    }
+
     private static DocumentedOperators jsonFunctions() {
         DocumentedOperators ops = new DocumentedOperators("JSON Functions");
 
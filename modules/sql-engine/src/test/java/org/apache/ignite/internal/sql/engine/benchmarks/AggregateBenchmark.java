@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.benchmarks;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.sql.engine.AsyncSqlCursor;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.framework.DataProvider;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestCluster;
+import org.apache.ignite.internal.sql.engine.framework.TestNode;
+import org.apache.ignite.internal.util.AsyncCursor.BatchedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of GROUP BY queries over numeric columns, which measures the overhead of accumulator functions.
+ *
+ * <p>Run with the "gc" profiler to check the allocation rate per an input row.
+ */
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+public class AggregateBenchmark {
+    private static final int ROWS = 10_000_000;
+
+    /** Number of distinct groups. */
+    @Param({"10", "10000"})
+    private int groups;
+
+    private final TestCluster cluster = TestBuilders.cluster()
+            .nodes("N1")
+            .build();
+
+    private final TestNode gatewayNode = cluster.node("N1");
+
+    /** Starts the cluster and creates the table. */
+    @Setup
+    public void setUp() {
+        cluster.start();
+
+        gatewayNode.initSchema("CREATE TABLE t1 (id INT PRIMARY KEY, grp INT, ival INT, lval BIGINT, dval DOUBLE)");
+
+        int groups0 = groups;
+
+        DataProvider<Object[]> dataProvider = new DataProvider<>() {
+            @Override
+            public long estimatedSize() {
+                return ROWS;
+            }
+
+            @Override
+            public Iterator<Object[]> iterator() {
+                return IntStream.range(0, ROWS)
+                        .mapToObj(i -> new Object[] {i, i % groups0, i, (long) i * 31, i * 0.5d})
+                        .iterator();
+            }
+        };
+
+        cluster.setAssignmentsProvider("T1", (partitionCount, b) -> IntStream.range(0, partitionCount)
+                .mapToObj(i -> List.of("N1"))
+                .collect(Collectors.toList()));
+        cluster.setDataProvider("T1", TestBuilders.tableScan(dataProvider));
+    }
+
+    /** Stops the cluster. */
+    @TearDown
+    public void tearDown() throws Exception {
+        cluster.stop();
+    }
+
+    /** Integral aggregates. */
+    @Benchmark
+    public void sumCountInt(Blackhole bh) {
+        query(bh, "SELECT grp, COUNT(ival), SUM(ival), MIN(ival), MAX(ival) FROM t1 GROUP BY grp");
+    }
+
+    /** Aggregates producing DECIMAL result from BIGINT values. */
+    @Benchmark
+    public void sumAvgBigint(Blackhole bh) {
+        query(bh, "SELECT grp, SUM(lval), MIN(lval) FROM t1 GROUP BY grp");
+    }
+
+    /** Approximate numeric aggregates. */
+    @Benchmark
+    public void sumAvgDouble(Blackhole bh) {
+        query(bh, "SELECT grp, SUM(dval), AVG(dval), MAX(dval) FROM t1 GROUP BY grp");
+    }
+
+    private void query(Blackhole bh, String sql) {
+        AsyncSqlCursor<InternalSqlRow> cursor = gatewayNode.executeQuery(sql);
+
+        BatchedResult<InternalSqlRow> res;
+
+        do {
+            res = await(cursor.requestNextAsync(10_000));
+
+            for (InternalSqlRow row : res.items()) {
+                bh.consume(row);
+            }
+        } while (res.hasMore());
+
+        await(cursor.closeAsync());
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .addProfiler("gc")
+                .include(AggregateBenchmark.class.getName())
+                .build();
+
+        new Runner(build).run();
+    }
+}
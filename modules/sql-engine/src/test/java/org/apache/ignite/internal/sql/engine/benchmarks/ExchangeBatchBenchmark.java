@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
+import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ColumnarBatch;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.type.NativeType;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.type.NativeTypes.StructTypeBuilder;
+import org.apache.ignite.internal.type.StructNativeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that compares packing a batch of rows sent through the exchange into a {@link ColumnarBatch} with packing
+ * every row into a separate {@link BinaryTupleMessage}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExchangeBatchBenchmark {
+    private static final PartitionReplicationMessagesFactory MESSAGES_FACTORY = new PartitionReplicationMessagesFactory();
+
+    private static final SqlRowHandler HANDLER = SqlRowHandler.INSTANCE;
+
+    /** Number of columns of the rows. */
+    @Param({"3", "20"})
+    private int width;
+
+    private RowFactory<RowWrapper> rowFactory;
+
+    private List<RowWrapper> rows;
+
+    private List<BinaryTupleMessage> rowMessages;
+
+    private ByteBuffer columnarBatch;
+
+    /** Generates rows of a batch. */
+    @Setup
+    public void setUp() {
+        Random rnd = new Random(42);
+        StructTypeBuilder schemaBuilder = NativeTypes.structBuilder();
+
+        for (int i = 0; i < width; i++) {
+            schemaBuilder.addField("C" + i, columnType(i), true);
+        }
+
+        StructNativeType schema = schemaBuilder.build();
+
+        rowFactory = HANDLER.create(schema);
+        rows = new ArrayList<>(Commons.IO_BATCH_SIZE);
+
+        for (int r = 0; r < Commons.IO_BATCH_SIZE; r++) {
+            Object[] values = new Object[width];
+
+            for (int i = 0; i < width; i++) {
+                values[i] = value(schema.fields().get(i).type(), rnd);
+            }
+
+            rows.add(rowFactory.create(values));
+        }
+
+        rowMessages = writeRowMessages();
+        columnarBatch = ColumnarBatch.write(HANDLER, rows);
+    }
+
+    /** Packs the batch into per-row messages. */
+    @Benchmark
+    public void writeRowMessages(Blackhole bh) {
+        bh.consume(writeRowMessages());
+    }
+
+    /** Packs the batch into a columnar batch. */
+    @Benchmark
+    public void writeColumnarBatch(Blackhole bh) {
+        bh.consume(ColumnarBatch.write(HANDLER, rows));
+    }
+
+    /** Reads rows of the batch from per-row messages and accesses every value. */
+    @Benchmark
+    public void readRowMessages(Blackhole bh) {
+        for (BinaryTupleMessage message : rowMessages) {
+            consume(rowFactory.create(message.asBinaryTuple()), bh);
+        }
+    }
+
+    /** Reads rows of the batch from a columnar batch and accesses every value. */
+    @Benchmark
+    public void readColumnarBatch(Blackhole bh) {
+        ColumnarBatch batch = ColumnarBatch.read(columnarBatch);
+
+        for (int i = 0; i < batch.rowCount(); i++) {
+            consume(rowFactory.create(batch.row(i)), bh);
+        }
+    }
+
+    private List<BinaryTupleMessage> writeRowMessages() {
+        List<BinaryTupleMessage> messages = new ArrayList<>(rows.size());
+
+        for (RowWrapper row : rows) {
+            messages.add(
+                    MESSAGES_FACTORY.binaryTupleMessage()
+                            .elementCount(HANDLER.columnsCount(row))
+                            .tuple(HANDLER.toByteBuffer(row))
+                            .build()
+            );
+        }
+
+        return messages;
+    }
+
+    private void consume(RowWrapper row, Blackhole bh) {
+        for (int i = 0; i < width; i++) {
+            bh.consume(HANDLER.get(i, row));
+        }
+    }
+
+    private static NativeType columnType(int idx) {
+        switch (idx % 4) {
+            case 0:
+                return NativeTypes.INT64;
+            case 1:
+                return NativeTypes.INT32;
+            case 2:
+                return NativeTypes.STRING;
+            default:
+                return NativeTypes.DOUBLE;
+        }
+    }
+
+    private static Object value(NativeType type, Random rnd) {
+        switch (type.spec()) {
+            case INT64:
+                return rnd.nextLong();
+            case INT32:
+                return rnd.nextInt(1_000);
+            case STRING:
+                // Low cardinality strings, like names of categories or statuses.
+                return "value-" + rnd.nextInt(16);
+            default:
+                return rnd.nextDouble();
+        }
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                // .addProfiler("gc")
+                .include(ExchangeBatchBenchmark.class.getName())
+                .build();
+
+        new Runner(build).run();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory.Builder;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactory;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactoryImpl;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark that measures the time it takes to implement predicates of ad-hoc queries, i.e. of expressions which differ only in
+ * literals.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpressionCompilationBenchmark {
+    private final RexBuilder rexBuilder = Commons.rexBuilder();
+
+    private SqlExpressionFactory expressionFactory;
+
+    private RelDataType rowType;
+
+    /** Creates the expression factory. */
+    @Setup
+    public void setUp() {
+        IgniteTypeFactory typeFactory = Commons.typeFactory();
+
+        expressionFactory = new SqlExpressionFactoryImpl(typeFactory, 1024, CaffeineCacheFactory.INSTANCE);
+
+        rowType = new Builder(typeFactory)
+                .add("C1", SqlTypeName.INTEGER)
+                .add("C2", SqlTypeName.VARCHAR)
+                .build();
+    }
+
+    /** Implements a predicate with random literals. */
+    @Benchmark
+    public void predicate(Blackhole bh) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(rowType, 0),
+                        rexBuilder.makeExactLiteral(BigDecimal.valueOf(rnd.nextInt()))),
+                rexBuilder.makeCall(SqlStdOperatorTable.EQUALS, rexBuilder.makeInputRef(rowType, 1),
+                        rexBuilder.makeLiteral("val" + rnd.nextInt(1000, 10000))));
+
+        bh.consume(expressionFactory.predicate(filter, rowType));
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args args
+     * @throws Exception if something goes wrong
+     */
+    public static void main(String[] args) throws Exception {
+        Options build = new OptionsBuilder()
+                .include(ExpressionCompilationBenchmark.class.getName())
+                .build();
+
+        new Runner(build).run();
+    }
+}
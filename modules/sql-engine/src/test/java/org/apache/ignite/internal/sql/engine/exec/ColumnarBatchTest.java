@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.type.StructNativeType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link ColumnarBatch}.
+ */
+public class ColumnarBatchTest extends BaseIgniteAbstractTest {
+    private static final SqlRowHandler HANDLER = SqlRowHandler.INSTANCE;
+
+    private static final StructNativeType SCHEMA = NativeTypes.structBuilder()
+            .addField("ID", NativeTypes.INT32, false)
+            .addField("CATEGORY", NativeTypes.STRING, true)
+            .addField("NAME", NativeTypes.STRING, true)
+            .addField("VAL", NativeTypes.DOUBLE, true)
+            .addField("FLAG", NativeTypes.BOOLEAN, true)
+            .build();
+
+    private static final RowFactory<RowWrapper> FACTORY = HANDLER.create(SCHEMA);
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 7, 8, 9, 512, 1000})
+    public void rowsAreRestored(int rowCount) {
+        List<RowWrapper> rows = generate(rowCount);
+
+        ColumnarBatch batch = ColumnarBatch.read(ColumnarBatch.write(HANDLER, rows));
+
+        assertEquals(rowCount, batch.rowCount());
+
+        for (int i = 0; i < rowCount; i++) {
+            assertRowEquals(rows.get(i), FACTORY.create(batch.row(i)));
+        }
+    }
+
+    @Test
+    public void repetitiveValuesAreDictionaryEncoded() {
+        ByteBuffer buffer = ColumnarBatch.write(HANDLER, generate(100));
+
+        // Header is followed by the plain ID column: encoding byte, null bitmap, size and values.
+        int bitmapSize = (100 + 7) / 8;
+        int categoryOffset = 2 * Integer.BYTES + 1 + bitmapSize + Integer.BYTES + buffer.getInt(2 * Integer.BYTES + 1 + bitmapSize);
+
+        assertEquals(ColumnarBatch.PLAIN, buffer.get(2 * Integer.BYTES));
+        assertEquals(ColumnarBatch.DICTIONARY, buffer.get(categoryOffset));
+    }
+
+    @Test
+    public void rowIsConvertedToBinaryTuple() {
+        List<RowWrapper> rows = generate(10);
+
+        ColumnarBatch batch = ColumnarBatch.read(ColumnarBatch.write(HANDLER, rows));
+
+        for (int i = 0; i < rows.size(); i++) {
+            RowWrapper row = FACTORY.create(batch.row(i));
+            BinaryTuple tuple = HANDLER.toBinaryTuple(row);
+
+            assertRowEquals(rows.get(i), FACTORY.create(tuple));
+        }
+    }
+
+    @Test
+    public void batchIsReadFromSharedBuffer() {
+        List<RowWrapper> rows = generate(10);
+
+        ByteBuffer buffer = ColumnarBatch.write(HANDLER, rows);
+        ByteBuffer shared = ByteBuffer.allocate(buffer.remaining() + 3);
+
+        shared.position(3);
+        shared.put(buffer);
+        shared.position(3);
+
+        ColumnarBatch batch = ColumnarBatch.read(shared);
+
+        assertTrue(batch.size() > 0);
+
+        for (int i = 0; i < rows.size(); i++) {
+            assertRowEquals(rows.get(i), FACTORY.create(batch.row(i)));
+        }
+    }
+
+    private static void assertRowEquals(RowWrapper expected, RowWrapper actual) {
+        assertEquals(HANDLER.columnsCount(expected), HANDLER.columnsCount(actual));
+
+        for (int i = 0; i < HANDLER.columnsCount(expected); i++) {
+            assertEquals(HANDLER.isNull(i, expected), HANDLER.isNull(i, actual), "column " + i);
+            assertEquals(HANDLER.get(i, expected), HANDLER.get(i, actual), "column " + i);
+        }
+    }
+
+    private static List<RowWrapper> generate(int rowCount) {
+        return IntStream.range(0, rowCount)
+                .mapToObj(i -> FACTORY.create(
+                        i,
+                        i % 5 == 0 ? null : "category-" + i % 3,
+                        i % 7 == 0 ? "" : "name-" + i,
+                        i % 2 == 0 ? null : i * 1.5,
+                        i % 3 == 0 ? null : i % 2 == 0
+                ))
+                .collect(Collectors.toList());
+    }
+}
@@ -75,6 +75,16 @@ class DummyScannableTable implements ScannableTable {
         return new CompletableFuture<>();
     }
 
+    @Override
+    public <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(
+            ExecutionContext<RowT> ctx,
+            RowFactory<RowT> rowFactory,
+            List<RowT> keys,
+            int @Nullable [] requiredColumns
+    ) {
+        return new CompletableFuture<>();
+    }
+
     @Override
     public CompletableFuture<Long> estimatedSize() {
         return new CompletableFuture<>();
@@ -135,6 +135,7 @@ public class ExecutableTableRegistrySelfTest extends BaseIgniteAbstractTest {
                     sqlSchemaManager,
                     replicaService,
                     new TestClockService(clock),
+                    0,
                     cacheSize,
                     CaffeineCacheFactory.INSTANCE
             );
@@ -50,6 +50,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -63,6 +64,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -118,6 +120,7 @@ import org.apache.ignite.internal.sql.engine.exec.exp.func.TableFunctionRegistry
 import org.apache.ignite.internal.sql.engine.exec.kill.KillCommandHandler;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImplTest.TestExecutionDistributionProvider;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
@@ -581,6 +584,66 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                         .mapToInt(i -> i).sum() == 0, TIMEOUT_IN_MS));
     }
 
+    /**
+     * Fragment plan is sent to a node only once, subsequent executions refer to the plan cached on the node. If the node
+     * has lost the cached plan, it requests the plan once again.
+     */
+    @Test
+    public void testFragmentPlanIsSentOnlyIfNotCached() {
+        List<QueryStartRequest> requests = new CopyOnWriteArrayList<>();
+
+        nodeNames.stream().map(testCluster::node).forEach(node -> node.interceptor((senderNode, msg, original) -> {
+            if (msg instanceof QueryStartRequest) {
+                requests.add((QueryStartRequest) msg);
+            }
+
+            original.onMessage(senderNode, msg);
+
+            return nullCompletedFuture();
+        }));
+
+        ExecutionService execService = executionServices.get(0);
+
+        executeAndDrain(execService, "SELECT * FROM test_tbl");
+
+        assertFalse(requests.isEmpty());
+        assertTrue(requests.stream().allMatch(r -> r.root() != null));
+
+        int fragmentsCount = requests.size();
+
+        requests.clear();
+
+        executeAndDrain(execService, "SELECT * FROM test_tbl");
+
+        assertEquals(fragmentsCount, requests.size());
+        assertTrue(requests.stream().allMatch(r -> r.root() == null));
+
+        requests.clear();
+
+        executionServices.get(1).clearFragmentsCache();
+
+        executeAndDrain(execService, "SELECT * FROM test_tbl");
+
+        // The fragment is resent with the plan to the node which has lost it.
+        assertEquals(fragmentsCount + 1, requests.size());
+        assertEquals(1, requests.stream().filter(r -> r.root() != null).count());
+    }
+
+    private void executeAndDrain(ExecutionService execService, String query) {
+        SqlOperationContext ctx = createContext();
+        QueryPlan plan = prepare(query, ctx);
+
+        AsyncCursor<InternalSqlRow> cursor = await(execService.executePlan(plan, ctx));
+
+        BatchedResult<?> res = await(cursor.requestNextAsync(9));
+
+        assertNotNull(res);
+        assertFalse(res.hasMore());
+        assertEquals(9, res.items().size());
+
+        await(cursor.closeAsync());
+    }
+
     /**
      * One node fail while reading data from cursor, check all fragments still correctly closed.
      */
@@ -1394,8 +1457,11 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                 new SqlExpressionFactoryImpl(
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
+                new SpillManager(Path.of(nodeName, "sql-spill"), 0, 0),
                 SHUTDOWN_TIMEOUT,
-                SqlPlanToTxSchemaVersionValidator.NOOP
+                SqlPlanToTxSchemaVersionValidator.NOOP,
+                CardinalityFeedbackListener.NOOP,
+                QueryResultCache.NOOP
         );
 
         taskExecutor.start();
@@ -1563,7 +1629,7 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                     ResolvedDependencies deps,
                     TableFunctionRegistry tableFunctionRegistry
             ) {
-                return new LogicalRelImplementor<>(ctx, mailboxRegistry, exchangeService, deps, tableFunctionRegistry) {
+                return new LogicalRelImplementor<>(ctx, mailboxRegistry, exchangeService, deps, tableFunctionRegistry, true, false, false) {
                     @Override
                     public Node<Object[]> visit(IgniteTableScan rel) {
                         return new ScanNode<>(ctx, dataset) {
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.testframework.flow.TestFlowUtils.subscribeToList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
+import org.apache.ignite.internal.network.InternalClusterNode;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.framework.NoOpTransaction;
+import org.apache.ignite.internal.table.IndexScanCriteria;
+import org.apache.ignite.internal.table.InternalTable;
+import org.apache.ignite.internal.table.OperationContext;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.type.StructNativeType;
+import org.apache.ignite.internal.util.SubscriptionUtils;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests that rows built by {@link ScannableTableImpl} from index tuples during an index-only scan are the same
+ * as the rows built from the table rows.
+ */
+@ExtendWith(MockitoExtension.class)
+public class IndexOnlyScanSelfTest extends BaseIgniteAbstractTest {
+    /** Table columns: ID INT32 (key), VAL STRING, NUM INT64. */
+    private static final SchemaDescriptor SCHEMA = new SchemaDescriptor(
+            1,
+            List.of(
+                    new Column("ID", NativeTypes.INT32, false),
+                    new Column("VAL", NativeTypes.STRING, true),
+                    new Column("NUM", NativeTypes.INT64, true)
+            ),
+            List.of("ID"),
+            null
+    );
+
+    /** Required columns VAL and NUM. */
+    private static final int[] REQUIRED_COLUMNS = {1, 2};
+
+    /** Index columns NUM and VAL, thus required column VAL is the index column 1 and NUM is the index column 0. */
+    private static final int[] INDEX_COLUMNS_MAPPING = {1, 0};
+
+    private static final List<String> INDEX_COLUMNS = List.of("NUM", "VAL");
+
+    private static final StructNativeType ROW_SCHEMA = NativeTypes.structBuilder()
+            .addField("VAL", NativeTypes.STRING, true)
+            .addField("NUM", NativeTypes.INT64, true)
+            .build();
+
+    private final List<BinaryRow> tableRows = new ArrayList<>();
+
+    private final List<BinaryRow> indexRows = new ArrayList<>();
+
+    @Mock(lenient = true)
+    private InternalTable internalTable;
+
+    @Mock(lenient = true)
+    private ExecutionContext<Object[]> ctx;
+
+    @Mock
+    private SchemaRegistry schemaRegistry;
+
+    private ScannableTableImpl scannableTable;
+
+    @BeforeEach
+    void setUp() {
+        NoOpTransaction tx = NoOpTransaction.readOnly("RO", false);
+
+        when(ctx.txAttributes()).thenReturn(TxAttributes.fromTx(tx));
+        when(ctx.localNode()).thenReturn(tx.clusterNode());
+        when(ctx.rowAccessor()).thenReturn(ArrayRowHandler.INSTANCE);
+
+        when(internalTable.scan(anyInt(), any(InternalClusterNode.class), anyInt(), any(IndexScanCriteria.class),
+                any(OperationContext.class))).thenAnswer(invocation -> SubscriptionUtils.fromIterable(tableRows));
+        when(internalTable.indexOnlyScan(anyInt(), any(InternalClusterNode.class), anyInt(), any(IndexScanCriteria.class),
+                any(OperationContext.class))).thenAnswer(invocation -> SubscriptionUtils.fromIterable(indexRows));
+
+        scannableTable = new ScannableTableImpl(
+                internalTable,
+                requiredColumns -> new ProjectedTableRowConverterImpl(schemaRegistry, SCHEMA, requiredColumns, Int2ObjectMaps.emptyMap())
+        );
+
+        addRow(1, "a", 10L);
+        addRow(2, null, 20L);
+        addRow(3, "c", null);
+        addRow(4, null, null);
+    }
+
+    @Test
+    public void sortedIndexOnlyRowsAreTheSameAsTableRows() {
+        RowFactory<Object[]> rowFactory = ArrayRowHandler.INSTANCE.create(ROW_SCHEMA);
+        PartitionWithConsistencyToken part = new PartitionWithConsistencyToken(0, 1L);
+
+        List<Object[]> expected = collect(
+                scannableTable.indexRangeScan(ctx, part, rowFactory, 1, INDEX_COLUMNS, null, REQUIRED_COLUMNS, null));
+        List<Object[]> actual = collect(
+                scannableTable.indexRangeScan(ctx, part, rowFactory, 1, INDEX_COLUMNS, null, REQUIRED_COLUMNS, INDEX_COLUMNS_MAPPING));
+
+        assertSameRows(expected, actual);
+    }
+
+    @Test
+    public void hashIndexOnlyRowsAreTheSameAsTableRows() {
+        RowFactory<Object[]> rowFactory = ArrayRowHandler.INSTANCE.create(ROW_SCHEMA);
+        PartitionWithConsistencyToken part = new PartitionWithConsistencyToken(0, 1L);
+        Object[] key = {10L, "a"};
+
+        List<Object[]> expected = collect(
+                scannableTable.indexLookup(ctx, part, rowFactory, 1, INDEX_COLUMNS, key, REQUIRED_COLUMNS, null));
+        List<Object[]> actual = collect(
+                scannableTable.indexLookup(ctx, part, rowFactory, 1, INDEX_COLUMNS, key, REQUIRED_COLUMNS, INDEX_COLUMNS_MAPPING));
+
+        assertSameRows(expected, actual);
+    }
+
+    /** Adds a table row and the index row the replica returns for it during an index-only scan. */
+    private void addRow(int id, @Nullable String val, @Nullable Long num) {
+        tableRows.add(new BinaryRowImpl(SCHEMA.version(), new BinaryTupleBuilder(3)
+                .appendInt(id)
+                .appendString(val)
+                .appendLong(num)
+                .build()));
+
+        indexRows.add(new BinaryRowImpl(SCHEMA.version(), new BinaryTupleBuilder(2)
+                .appendLong(num)
+                .appendString(val)
+                .build()));
+    }
+
+    private static List<Object[]> collect(Publisher<Object[]> publisher) {
+        return subscribeToList(publisher).join();
+    }
+
+    private static void assertSameRows(List<Object[]> expected, List<Object[]> actual) {
+        assertEquals(4, expected.size());
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i), actual.get(i), "Row " + i);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.hlc.TestClockService.TEST_MAX_CLOCK_SKEW_MILLIS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.apache.ignite.internal.TestHybridClock;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.hlc.TestClockService;
+import org.apache.ignite.internal.sql.engine.InternalSqlRow;
+import org.apache.ignite.internal.sql.engine.InternalSqlRowSingleLong;
+import org.apache.ignite.internal.sql.engine.exec.QueryResultCache.Lookup;
+import org.apache.ignite.internal.sql.engine.exec.QueryResultCacheImpl.ResultKey;
+import org.apache.ignite.internal.sql.engine.prepare.PlanId;
+import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.AsyncCursor;
+import org.apache.ignite.internal.util.AsyncCursor.BatchedResult;
+import org.apache.ignite.internal.util.AsyncWrapper;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cache of query results.
+ */
+public class QueryResultCacheImplTest extends BaseIgniteAbstractTest {
+    private static final long TTL = 1_000;
+
+    private static final UUID NODE_ID = UUID.randomUUID();
+
+    private static final IntSet TABLES = IntSet.of(1);
+
+    private final PlanId planId = new PlanId(UUID.randomUUID(), 1);
+
+    private @Nullable LongList counters = LongArrayList.wrap(new long[] {1, 0, 0});
+
+    private long now = 1_000;
+
+    private final QueryResultCacheImpl cache = new QueryResultCacheImpl(
+            CaffeineCacheFactory.INSTANCE,
+            10,
+            TTL,
+            tableIds -> CompletableFuture.completedFuture(counters == null ? null : Map.of(NODE_ID, counters)),
+            new TestClockService(new TestHybridClock(() -> now))
+    );
+
+    @Test
+    public void drainedResultIsReturnedUntilTableIsModified() {
+        assertNull(lookup(key(1)).rows());
+
+        drain(lookup(key(1)), rows(3), 2);
+
+        assertEquals(List.of(0L, 1L, 2L), values(lookup(key(1)).rows()));
+
+        // Different parameters.
+        assertNull(lookup(key(2)).rows());
+
+        counters = LongArrayList.wrap(new long[] {1, 0, 1});
+
+        assertNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void resultIsNotReturnedAfterTtl() {
+        drain(lookup(key(1)), rows(1), 10);
+
+        now += TTL;
+
+        assertNotNull(lookup(key(1)).rows());
+
+        now++;
+
+        assertNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void resultIsNotCachedIfCursorIsNotDrained() throws Exception {
+        AsyncCursor<InternalSqlRow> cursor = lookup(key(1)).collect(
+                new AsyncWrapper<>(rows(10).iterator()),
+                new HybridTimestamp(now + 100, 0)
+        );
+
+        cursor.requestNextAsync(5).get();
+        cursor.closeAsync().get();
+
+        assertNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void largeResultIsNotCached() {
+        drain(lookup(key(1)), rows(QueryResultCacheImpl.MAX_ROWS + 1), 100);
+
+        assertNull(lookup(key(1)).rows());
+
+        drain(lookup(key(1)), rows(QueryResultCacheImpl.MAX_ROWS), 100);
+
+        assertNotNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void resultReadBeforeCountersAreObservedIsNotCached() {
+        Lookup lookup = lookup(key(1));
+
+        // An implicit read-only transaction reads data at a timestamp lagging behind the current time, thus a modification counted
+        // already may be not visible to the query.
+        drain(lookup, rows(1), 10, now);
+
+        assertNull(lookup(key(1)).rows());
+
+        now += 2 * TEST_MAX_CLOCK_SKEW_MILLIS;
+
+        // Counters are not changed since the first lookup, the data read after it are up to date.
+        drain(lookup(key(1)), rows(1), 10, now);
+
+        assertNotNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void resultReadBeforeCountersAreChangedIsNotCached() {
+        lookup(key(1));
+
+        now += 2 * TEST_MAX_CLOCK_SKEW_MILLIS;
+
+        counters = LongArrayList.wrap(new long[] {1, 0, 1});
+
+        Lookup lookup = lookup(key(1));
+
+        // The data are read after the first lookup, but the modification counted by the second one may be not visible.
+        drain(lookup, rows(1), 10, now);
+
+        assertNull(lookup(key(1)).rows());
+    }
+
+    @Test
+    public void nothingIsCachedIfCountersAreUnavailable() throws Exception {
+        counters = null;
+
+        assertNull(cache.lookup(key(1), TABLES).get());
+    }
+
+    private Lookup lookup(ResultKey key) {
+        Lookup lookup = cache.lookup(key, TABLES).join();
+
+        assertNotNull(lookup);
+
+        return lookup;
+    }
+
+    private ResultKey key(Object param) {
+        return new ResultKey(planId, 1, new Object[] {param}, ZoneId.of("UTC"));
+    }
+
+    private void drain(Lookup lookup, List<InternalSqlRow> rows, int batchSize) {
+        drain(lookup, rows, batchSize, now + TEST_MAX_CLOCK_SKEW_MILLIS + 1);
+    }
+
+    private static void drain(Lookup lookup, List<InternalSqlRow> rows, int batchSize, long readTimeMillis) {
+        AsyncCursor<InternalSqlRow> cursor = lookup.collect(new AsyncWrapper<>(rows.iterator()), new HybridTimestamp(readTimeMillis, 0));
+
+        BatchedResult<InternalSqlRow> batch;
+
+        do {
+            batch = cursor.requestNextAsync(batchSize).join();
+        } while (batch.hasMore());
+
+        cursor.closeAsync().join();
+    }
+
+    private static List<InternalSqlRow> rows(int count) {
+        return LongStream.range(0, count).mapToObj(InternalSqlRowSingleLong::new).collect(Collectors.toList());
+    }
+
+    private static List<Object> values(@Nullable List<InternalSqlRow> rows) {
+        assertNotNull(rows);
+
+        List<Object> res = new ArrayList<>(rows.size());
+
+        for (InternalSqlRow row : rows) {
+            res.add(row.get(0));
+        }
+
+        return res;
+    }
+}
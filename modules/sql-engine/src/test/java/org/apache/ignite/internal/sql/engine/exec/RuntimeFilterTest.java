@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RuntimeFilter}.
+ */
+public class RuntimeFilterTest extends BaseIgniteAbstractTest {
+    private static final RowHandler<Object[]> HANDLER = ArrayRowHandler.INSTANCE;
+
+    @Test
+    public void matchingRowsAreAccepted() {
+        RuntimeFilter.Builder<Object[]> builder = RuntimeFilter.builder(HANDLER, new int[]{1, 2}, new int[]{0, 1});
+
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(new Object[]{"build", i, "key-" + i});
+        }
+
+        RuntimeFilter filter = serializeAndRestore(builder.build());
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.test(HANDLER, new Object[]{i, "key-" + i, "probe"}));
+        }
+    }
+
+    @Test
+    public void mostOfNonMatchingRowsAreRejected() {
+        RuntimeFilter.Builder<Object[]> builder = RuntimeFilter.builder(HANDLER, new int[]{0}, new int[]{0});
+
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(new Object[]{"key-" + i});
+        }
+
+        RuntimeFilter filter = serializeAndRestore(builder.build());
+
+        int falsePositives = 0;
+
+        for (int i = 1_000; i < 101_000; i++) {
+            if (filter.test(HANDLER, new Object[]{"key-" + i})) {
+                falsePositives++;
+            }
+        }
+
+        // Expected rate of false positives is about one percent.
+        assertThat(falsePositives, lessThan(3_000));
+    }
+
+    @Test
+    public void rowsOutOfRangeAreRejected() {
+        RuntimeFilter.Builder<Object[]> builder = RuntimeFilter.builder(HANDLER, new int[]{0}, new int[]{0});
+
+        for (long i = 100; i < 200; i++) {
+            builder.add(new Object[]{i});
+        }
+
+        RuntimeFilter filter = serializeAndRestore(builder.build());
+
+        for (long i = 0; i < 300; i++) {
+            if (i < 100 || i >= 200) {
+                assertFalse(filter.test(HANDLER, new Object[]{i}), "key " + i);
+            } else {
+                assertTrue(filter.test(HANDLER, new Object[]{i}), "key " + i);
+            }
+        }
+    }
+
+    @Test
+    public void rowsWithNullKeysAreRejected() {
+        RuntimeFilter.Builder<Object[]> builder = RuntimeFilter.builder(HANDLER, new int[]{0, 1}, new int[]{0, 1});
+
+        builder.add(new Object[]{1, null});
+        builder.add(new Object[]{1, "a"});
+
+        RuntimeFilter filter = serializeAndRestore(builder.build());
+
+        assertTrue(filter.test(HANDLER, new Object[]{1, "a"}));
+        assertFalse(filter.test(HANDLER, new Object[]{1, null}));
+        assertFalse(filter.test(HANDLER, new Object[]{null, "a"}));
+    }
+
+    @Test
+    public void emptyBuildSideRejectsAllRows() {
+        RuntimeFilter filter = serializeAndRestore(RuntimeFilter.builder(HANDLER, new int[]{0}, new int[]{0}).build());
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(filter.test(HANDLER, new Object[]{i}));
+        }
+    }
+
+    @Test
+    public void filterIsNotBuiltForBigBuildSide() {
+        RuntimeFilter.Builder<Object[]> builder = RuntimeFilter.builder(HANDLER, new int[]{0}, new int[]{0});
+
+        for (int i = 0; i <= RuntimeFilter.MAX_KEYS; i++) {
+            builder.add(new Object[]{i});
+        }
+
+        assertNull(builder.build());
+    }
+
+    private static RuntimeFilter serializeAndRestore(RuntimeFilter filter) {
+        assertNotNull(filter);
+
+        return RuntimeFilter.fromByteBuffer(filter.toByteBuffer());
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.sql.SqlCommon;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactoryImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -133,7 +134,8 @@ public class RuntimeSortedIndexTest extends IgniteAbstractTest {
                         -1,
                         Clock.systemUTC(),
                         null,
-                        1L
+                        1L,
+                        QueryMemoryBudget.UNLIMITED
                 ),
                 RelCollations.of(ImmutableIntList.copyOf(idxCols)),
                 (o1, o2) -> {
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.apache.ignite.internal.sql.metrics.SqlExecutorMetricSource.STOLEN_TASKS;
+import static org.apache.ignite.internal.sql.metrics.SqlExecutorMetricSource.stripeMetricName;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willBe;
+import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
+import static org.apache.ignite.internal.thread.ThreadOperation.NOTHING_ALLOWED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.metrics.SqlExecutorMetricSource;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.thread.IgniteThreadFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link WorkStealingExecutor}.
+ */
+public class WorkStealingExecutorTest extends BaseIgniteAbstractTest {
+    private static final int STRIPES = 4;
+
+    private final SqlExecutorMetricSource metricSource = new SqlExecutorMetricSource(STRIPES);
+
+    private final WorkStealingExecutor executor = new WorkStealingExecutor(
+            STRIPES,
+            IgniteThreadFactory.create("test", "sql-execution-pool", log, NOTHING_ALLOWED),
+            metricSource
+    );
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void tasksOfFragmentAreExecutedOneByOneInOrder() throws InterruptedException {
+        int fragments = 8;
+        int tasks = 1_000;
+
+        UUID qryId = UUID.randomUUID();
+        CountDownLatch done = new CountDownLatch(fragments * tasks);
+        AtomicInteger violations = new AtomicInteger();
+
+        List<List<Integer>> executed = new ArrayList<>();
+
+        for (int f = 0; f < fragments; f++) {
+            // Not thread-safe on purpose, tasks of a fragment must be executed one by one.
+            executed.add(new ArrayList<>());
+        }
+
+        AtomicInteger[] active = new AtomicInteger[fragments];
+
+        for (int f = 0; f < fragments; f++) {
+            active[f] = new AtomicInteger();
+        }
+
+        for (int i = 0; i < tasks; i++) {
+            for (int f = 0; f < fragments; f++) {
+                int fragmentId = f;
+                int taskId = i;
+
+                // All fragments are pinned to the same stripe, so the other ones steal.
+                executor.execute(qryId, fragmentId, 0, () -> {
+                    if (active[fragmentId].incrementAndGet() != 1) {
+                        violations.incrementAndGet();
+                    }
+
+                    executed.get(fragmentId).add(taskId);
+
+                    active[fragmentId].decrementAndGet();
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, violations.get());
+
+        List<Integer> expected = IntStream.range(0, tasks).boxed().collect(Collectors.toList());
+
+        for (int f = 0; f < fragments; f++) {
+            assertEquals(expected, executed.get(f));
+        }
+
+        assertTrue(waitForCondition(() -> executor.queueSize() == 0, 10_000));
+    }
+
+    @Test
+    public void idleStripeStealsFragmentOfBusyStripe() throws InterruptedException {
+        MetricSet metrics = metricSource.enable();
+
+        assertNotNull(metrics);
+
+        UUID qryId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> blocked = new CompletableFuture<>();
+        CompletableFuture<Void> stolen = new CompletableFuture<>();
+
+        executor.execute(qryId, 1, 0, () -> {
+            try {
+                release.await();
+
+                blocked.complete(null);
+            } catch (InterruptedException e) {
+                blocked.completeExceptionally(e);
+            }
+        });
+
+        // Pinned to the same stripe which is blocked by the first fragment.
+        executor.execute(qryId, 2, 0, () -> stolen.complete(null));
+
+        assertThat(stolen, willCompleteSuccessfully());
+        assertFalse(blocked.isDone());
+
+        release.countDown();
+
+        assertThat(blocked, willCompleteSuccessfully());
+
+        assertTrue(waitForCondition(() -> IntStream.range(1, STRIPES)
+                .mapToLong(i -> metrics.<LongMetric>get(stripeMetricName(i, STOLEN_TASKS)).value())
+                .sum() == 1, 10_000));
+        assertEquals(0, metrics.<LongMetric>get(stripeMetricName(0, STOLEN_TASKS)).value());
+    }
+
+    @Test
+    public void executingFragmentIsExposed() {
+        UUID qryId = UUID.randomUUID();
+        CompletableFuture<Boolean> sameFragment = new CompletableFuture<>();
+        CompletableFuture<Boolean> otherFragment = new CompletableFuture<>();
+
+        executor.execute(qryId, 1, 0, () -> {
+            sameFragment.complete(WorkStealingExecutor.executesFragment(qryId, 1));
+            otherFragment.complete(WorkStealingExecutor.executesFragment(qryId, 2));
+        });
+
+        assertThat(sameFragment, willBe(true));
+        assertThat(otherFragment, willBe(false));
+        assertThat(WorkStealingExecutor.executesFragment(qryId, 1), is(false));
+    }
+}
@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 import org.apache.calcite.rel.RelCollations;
@@ -56,6 +57,7 @@ import org.apache.calcite.util.ImmutableIntList;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
+import org.apache.ignite.internal.sql.engine.exec.RowBatch;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.ExactBounds;
@@ -68,6 +70,7 @@ import org.apache.ignite.internal.sql.engine.util.RexUtils;
 import org.apache.ignite.internal.sql.engine.util.SqlTestUtils;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.internal.type.NativeTypes;
 import org.apache.ignite.lang.ErrorGroups.Sql;
@@ -646,6 +649,122 @@ public class SqlExpressionFactoryImplTest extends BaseIgniteAbstractTest {
         assertFalse(predicate.test(ctx, new Object[]{1}));
     }
 
+    @Test
+    public void testBatchPredicate() {
+        RexBuilder rexBuilder = Commons.rexBuilder();
+        IgniteTypeFactory tf = Commons.typeFactory();
+
+        RelDataType intType = tf.createTypeWithNullability(tf.createSqlType(SqlTypeName.INTEGER), true);
+        RelDataType rowType = new Builder(tf)
+                .add("c1", intType)
+                .build();
+
+        RexInputRef ref = rexBuilder.makeInputRef(rowType, 0);
+        RexNode filter = rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, ref, rexBuilder.makeExactLiteral(BigDecimal.ONE));
+
+        SqlPredicate predicate = expFactory.predicate(filter, rowType);
+
+        RowBatch<Object[]> batch = new RowBatch<>(8);
+
+        for (Object val : Arrays.asList(0, 2, null, 3, 1, 4)) {
+            batch.add(new Object[]{val});
+        }
+
+        predicate.filter(ctx, batch);
+
+        assertEquals(3, batch.selectedCount());
+        assertArrayEquals(new Object[]{2}, batch.selectedRow(0));
+        assertArrayEquals(new Object[]{3}, batch.selectedRow(1));
+        assertArrayEquals(new Object[]{4}, batch.selectedRow(2));
+
+        // Already deselected rows are not tested again.
+        batch.set(0, new Object[]{42});
+
+        predicate.filter(ctx, batch);
+
+        assertEquals(3, batch.selectedCount());
+        assertArrayEquals(new Object[]{2}, batch.selectedRow(0));
+    }
+
+    @Test
+    public void testBatchProject() {
+        RexBuilder rexBuilder = Commons.rexBuilder();
+        IgniteTypeFactory tf = Commons.typeFactory();
+
+        RelDataType intType = tf.createSqlType(SqlTypeName.INTEGER);
+        RelDataType rowType = new Builder(tf)
+                .add("c1", intType)
+                .add("c2", intType)
+                .build();
+
+        RexNode sum = rexBuilder.makeCall(SqlStdOperatorTable.PLUS, rexBuilder.makeInputRef(rowType, 0),
+                rexBuilder.makeInputRef(rowType, 1));
+
+        SqlProjection project = expFactory.project(List.of(sum, rexBuilder.makeInputRef(rowType, 0)), rowType);
+
+        RowBatch<Object[]> batch = new RowBatch<>(4);
+
+        batch.add(new Object[]{1, 10});
+        batch.add(new Object[]{2, 20});
+        batch.add(new Object[]{3, 30});
+
+        batch.retainIf(row -> (int) row[0] != 2);
+
+        project.project(ctx, batch);
+
+        assertEquals(2, batch.selectedCount());
+        assertArrayEquals(new Object[]{11, 1}, batch.selectedRow(0));
+        assertArrayEquals(new Object[]{33, 3}, batch.selectedRow(1));
+
+        // Deselected row is left intact.
+        assertArrayEquals(new Object[]{2, 20}, batch.row(1));
+    }
+
+    @Test
+    public void predicatesDifferingInLiteralsShareCompiledClass() {
+        RexBuilder rexBuilder = Commons.rexBuilder();
+        IgniteTypeFactory tf = Commons.typeFactory();
+
+        AtomicInteger hits = new AtomicInteger();
+        AtomicInteger misses = new AtomicInteger();
+
+        SqlExpressionFactoryImpl factory = new SqlExpressionFactoryImpl(tf, 1024, CaffeineCacheFactory.INSTANCE, new StatsCounter() {
+            @Override
+            public void recordHits(int count) {
+                hits.addAndGet(count);
+            }
+
+            @Override
+            public void recordMisses(int count) {
+                misses.addAndGet(count);
+            }
+        });
+
+        RelDataType rowType = new Builder(tf)
+                .add("c1", tf.createSqlType(SqlTypeName.INTEGER))
+                .add("c2", tf.createSqlType(SqlTypeName.VARCHAR))
+                .build();
+
+        BiFunction<Integer, String, RexNode> filter = (num, str) -> rexBuilder.makeCall(SqlStdOperatorTable.AND,
+                rexBuilder.makeCall(SqlStdOperatorTable.GREATER_THAN, rexBuilder.makeInputRef(rowType, 0),
+                        rexBuilder.makeExactLiteral(BigDecimal.valueOf(num))),
+                rexBuilder.makeCall(SqlStdOperatorTable.NOT_EQUALS, rexBuilder.makeInputRef(rowType, 1),
+                        rexBuilder.makeLiteral(str)));
+
+        SqlPredicate predicate1 = factory.predicate(filter.apply(1, "a"), rowType);
+        SqlPredicate predicate2 = factory.predicate(filter.apply(5, "b"), rowType);
+
+        assertEquals(1, misses.get());
+        assertEquals(1, hits.get());
+        assertEquals(predicate1.getClass(), predicate2.getClass());
+
+        assertTrue(predicate1.test(ctx, new Object[]{3, "b"}));
+        assertFalse(predicate1.test(ctx, new Object[]{3, "a"}));
+        assertFalse(predicate2.test(ctx, new Object[]{3, "a"}));
+        assertTrue(predicate2.test(ctx, new Object[]{6, "a"}));
+        assertFalse(predicate2.test(ctx, new Object[]{6, "b"}));
+    }
+
     @Test
     public void testJoinPredicate() {
         RexBuilder rexBuilder = Commons.rexBuilder();
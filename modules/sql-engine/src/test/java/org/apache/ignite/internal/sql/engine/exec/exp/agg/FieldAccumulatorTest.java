@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.agg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.DecimalSumEmptyIsZero;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.DoubleAvg;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.DoubleMinMax;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.DoubleSumEmptyIsZero;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.LongCount;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.LongMinMax;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.LongSumEmptyIsZero;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.Accumulators.Sum;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for accumulator functions reading the argument directly from the row.
+ */
+public class FieldAccumulatorTest {
+    private static final IgniteTypeFactory TYPE_FACTORY = Commons.typeFactory();
+
+    @Test
+    public void count() {
+        FieldAccumulator acc = (FieldAccumulator) LongCount.FACTORY.get();
+
+        assertTrue(acc.acceptsField(type(SqlTypeName.VARCHAR)));
+        assertEquals(2L, accumulate(acc, "a", null, "b"));
+    }
+
+    @Test
+    public void longSum() {
+        FieldAccumulator acc = (FieldAccumulator) LongSumEmptyIsZero.FACTORY.get();
+
+        assertTrue(acc.acceptsField(type(SqlTypeName.INTEGER)));
+        assertFalse(acc.acceptsField(type(SqlTypeName.DOUBLE)));
+
+        assertEquals(0L, accumulate(acc));
+        assertEquals(6L, accumulate(acc, 1, null, 2, 3));
+    }
+
+    @Test
+    public void sumOfNulls() {
+        FieldAccumulator acc = new Sum(LongSumEmptyIsZero.FACTORY.get());
+
+        assertTrue(acc.acceptsField(type(SqlTypeName.BIGINT)));
+
+        assertNull(accumulate(acc, (Object) null));
+        assertEquals(3L, accumulate(acc, null, 1L, 2L));
+    }
+
+    @Test
+    public void doubleSum() {
+        FieldAccumulator acc = (FieldAccumulator) DoubleSumEmptyIsZero.FACTORY.get();
+
+        assertTrue(acc.acceptsField(type(SqlTypeName.REAL)));
+        assertFalse(acc.acceptsField(type(SqlTypeName.DECIMAL)));
+
+        assertEquals(4.0d, accumulate(acc, 1.5d, null, 2.5f));
+    }
+
+    @Test
+    public void decimalSum() {
+        FieldAccumulator acc = (FieldAccumulator) DecimalSumEmptyIsZero.FACTORY.apply(0);
+
+        assertTrue(acc.acceptsField(type(SqlTypeName.BIGINT)));
+        assertFalse(acc.acceptsField(type(SqlTypeName.DECIMAL)));
+
+        assertEquals(new BigDecimal(6), accumulate(acc, 1L, null, 2, 3L));
+
+        // Overflow of long switches the state to BigDecimal.
+        assertEquals(
+                BigDecimal.valueOf(Long.MAX_VALUE).multiply(BigDecimal.valueOf(2)).add(BigDecimal.ONE),
+                accumulate(acc, Long.MAX_VALUE, Long.MAX_VALUE, 1L)
+        );
+    }
+
+    @Test
+    public void doubleAvg() {
+        FieldAccumulator acc = (FieldAccumulator) DoubleAvg.FACTORY.get();
+
+        assertNull(accumulate(acc, (Object) null));
+        assertEquals(2.0d, accumulate(acc, 1.0d, null, 3.0d));
+    }
+
+    @Test
+    public void longMinMax() {
+        assertEquals(-3, accumulate(longMinMax(true, SqlTypeName.INTEGER), 1, null, -3, 2));
+        assertEquals(2, accumulate(longMinMax(false, SqlTypeName.INTEGER), 1, null, -3, 2));
+        assertEquals((short) 2, accumulate(longMinMax(false, SqlTypeName.SMALLINT), (short) 1, (short) 2));
+        assertEquals(Long.MIN_VALUE, accumulate(longMinMax(true, SqlTypeName.BIGINT), 0L, Long.MIN_VALUE));
+        assertNull(accumulate(longMinMax(true, SqlTypeName.BIGINT), (Object) null));
+    }
+
+    @Test
+    public void doubleMinMax() {
+        assertEquals(-0.0d, accumulate(doubleMinMax(true, SqlTypeName.DOUBLE), 0.0d, -0.0d, 1.0d));
+        assertEquals(2.5f, accumulate(doubleMinMax(false, SqlTypeName.REAL), 1.0f, null, 2.5f));
+        assertNull(accumulate(doubleMinMax(false, SqlTypeName.DOUBLE), (Object) null));
+    }
+
+    /** Accumulates the values reading them directly from the rows. */
+    private static Object accumulate(FieldAccumulator acc, Object... values) {
+        AccumulatorsState state = newState();
+
+        for (Object value : values) {
+            acc.addField(state, ArrayRowHandler.INSTANCE, new Object[] {"key", value}, 1);
+        }
+
+        AccumulatorsState result = newState();
+
+        acc.end(state, result);
+
+        return result.get();
+    }
+
+    private static AccumulatorsState newState() {
+        AccumulatorsState state = new AccumulatorsState(1);
+
+        state.setIndex(0);
+
+        return state;
+    }
+
+    private static FieldAccumulator longMinMax(boolean min, SqlTypeName typeName) {
+        return (FieldAccumulator) LongMinMax.newAccumulator(min, TYPE_FACTORY, type(typeName)).get();
+    }
+
+    private static FieldAccumulator doubleMinMax(boolean min, SqlTypeName typeName) {
+        return (FieldAccumulator) DoubleMinMax.newAccumulator(min, TYPE_FACTORY, type(typeName)).get();
+    }
+
+    private static RelDataType type(SqlTypeName typeName) {
+        return TYPE_FACTORY.createSqlType(typeName);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static java.util.UUID.randomUUID;
+import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.UUID;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.lang.ErrorGroups.Sql;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for memory accounting provided by {@link QueryMemoryBudget} and {@link SpillManager}.
+ */
+public class QueryMemoryBudgetTest extends BaseIgniteAbstractTest {
+    private static final Path SPILL_DIR = Path.of("sql-spill");
+
+    @Test
+    public void memoryIsNotAccountedWithoutQuotas() {
+        SpillManager manager = new SpillManager(SPILL_DIR, 0, 0);
+
+        QueryMemoryBudget budget = manager.createBudget(randomUUID());
+
+        assertFalse(budget.spillEnabled());
+        assertTrue(budget.tryReserve(Long.MAX_VALUE / 2));
+        assertEquals(0, budget.reserved());
+    }
+
+    @Test
+    public void queryQuotaLimitsSingleQuery() {
+        SpillManager manager = new SpillManager(SPILL_DIR, 100, 0);
+
+        QueryMemoryBudget budget1 = manager.createBudget(randomUUID());
+        QueryMemoryBudget budget2 = manager.createBudget(randomUUID());
+
+        assertTrue(budget1.spillEnabled());
+        assertTrue(budget1.tryReserve(60));
+        assertFalse(budget1.tryReserve(60));
+
+        // Another query has its own quota.
+        assertTrue(budget2.tryReserve(60));
+
+        budget1.release(60);
+
+        assertTrue(budget1.tryReserve(100));
+    }
+
+    @Test
+    public void nodeQuotaLimitsAllQueries() {
+        SpillManager manager = new SpillManager(SPILL_DIR, 0, 100);
+
+        QueryMemoryBudget budget1 = manager.createBudget(randomUUID());
+        QueryMemoryBudget budget2 = manager.createBudget(randomUUID());
+
+        assertTrue(budget1.spillEnabled());
+        assertTrue(budget1.tryReserve(60));
+        assertFalse(budget2.tryReserve(60));
+        assertEquals(0, budget2.reserved());
+
+        budget1.close();
+
+        assertTrue(budget2.tryReserve(60));
+    }
+
+    @Test
+    public void reserveOrFailFailsQueryOnceQuotaIsExceeded() {
+        SpillManager manager = new SpillManager(SPILL_DIR, 100, 0);
+
+        QueryMemoryBudget budget = manager.createBudget(randomUUID());
+
+        budget.reserveOrFail(100);
+
+        assertThrowsSqlException(Sql.EXECUTION_CANCELLED_ERR, "Query exceeded the memory quota", () -> budget.reserveOrFail(1));
+    }
+
+    @Test
+    public void reservationsAreExposedPerQueryAndInMetrics() {
+        SpillManager manager = new SpillManager(SPILL_DIR, 100, 1_000);
+
+        MetricSet metrics = manager.metricSource().enable();
+
+        UUID queryId = randomUUID();
+        QueryMemoryBudget budget = manager.createBudget(queryId);
+
+        budget.reserve(150);
+
+        assertEquals(150, manager.reserved(queryId));
+        assertEquals(150, metrics.<LongMetric>get(SqlMemoryMetricSource.RESERVED).value());
+        assertEquals(1_000, metrics.<LongMetric>get(SqlMemoryMetricSource.LIMIT).value());
+        assertEquals(100, metrics.<LongMetric>get(SqlMemoryMetricSource.STATEMENT_LIMIT).value());
+
+        budget.release(50);
+        budget.close();
+
+        assertEquals(0, manager.reserved(queryId));
+        assertEquals(0, metrics.<LongMetric>get(SqlMemoryMetricSource.RESERVED).value());
+        assertEquals(150, metrics.<LongMetric>get(SqlMemoryMetricSource.MAX_RESERVED).value());
+    }
+}
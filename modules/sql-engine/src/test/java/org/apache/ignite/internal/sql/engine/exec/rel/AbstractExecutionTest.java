@@ -23,6 +23,7 @@ import static org.apache.calcite.rel.core.JoinRelType.SEMI;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -30,6 +31,7 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -47,6 +49,7 @@ import org.apache.ignite.internal.binarytuple.BinaryTupleBuilder;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.failure.handlers.NoOpFailureHandler;
 import org.apache.ignite.internal.lang.InternalTuple;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.InternalClusterNode;
@@ -64,6 +67,8 @@ import org.apache.ignite.internal.sql.engine.exec.TxAttributes;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlExpressionFactoryImpl;
 import org.apache.ignite.internal.sql.engine.exec.exp.SqlJoinProjection;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
 import org.apache.ignite.internal.sql.engine.framework.NoOpTransaction;
 import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
@@ -88,12 +93,26 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
 
     private final List<ExecutionContext<?>> contexts = new ArrayList<>();
 
+    private SpillManager spillManager;
+
+    /** Metrics of the spill manager, which provides memory budgets to the execution contexts. */
+    protected MetricSet memoryMetrics;
+
+    /** Directory where execution nodes spill their state to. */
+    protected Path spillDir;
+
     @BeforeEach
     public void beforeTest() {
         var failureProcessor = new FailureManager(new NoOpFailureHandler());
         var metricManager = new NoOpMetricManager();
         taskExecutor = new QueryTaskExecutorImpl("no_node", 4, failureProcessor, metricManager);
         taskExecutor.start();
+
+        spillDir = workDir.resolve("sql-spill");
+        spillManager = new SpillManager(spillDir, memoryQuota(), nodeMemoryQuota());
+        spillManager.start();
+
+        memoryMetrics = spillManager.metricSource().enable();
     }
 
     /**
@@ -104,6 +123,7 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
         contexts.forEach(ExecutionContext::cancel);
         contexts.clear();
         taskExecutor.stop();
+        spillManager.stop();
     }
 
     protected abstract RowHandler<T> rowHandler();
@@ -146,12 +166,13 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
         FragmentDescription fragmentDesc = getFragmentDescription();
 
         InternalClusterNode node = new ClusterNodeImpl(randomUUID(), "fake-test-node", NetworkAddress.from("127.0.0.1:1111"));
+        ExecutionId executionId = new ExecutionId(randomUUID(), 0);
         ExecutionContext<T> executionContext = new ExecutionContext<>(
                 new SqlExpressionFactoryImpl(
                         Commons.typeFactory(), 1024, CaffeineCacheFactory.INSTANCE
                 ),
                 taskExecutor,
-                new ExecutionId(randomUUID(), 0),
+                executionId,
                 node,
                 node.name(),
                 node.id(),
@@ -164,7 +185,8 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
                 bufferSize,
                 Clock.systemUTC(),
                 null,
-                1L
+                1L,
+                memoryBudget(executionId.queryId())
         );
 
         contexts.add(executionContext);
@@ -172,6 +194,21 @@ public abstract class AbstractExecutionTest<T> extends IgniteAbstractTest {
         return executionContext;
     }
 
+    /** Returns amount of memory a query may use before execution nodes start spilling to disk, zero means no limit. */
+    protected long memoryQuota() {
+        return 0;
+    }
+
+    /** Returns memory budget for the query under test. */
+    protected QueryMemoryBudget memoryBudget(UUID queryId) {
+        return spillManager.createBudget(queryId);
+    }
+
+    /** Returns amount of memory all queries may use together, zero means no limit. */
+    protected long nodeMemoryQuota() {
+        return 0;
+    }
+
     protected FragmentDescription getFragmentDescription() {
         return new FragmentDescription(0, true, Long2ObjectMaps.emptyMap(), null, null, null);
     }
@@ -22,11 +22,16 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
@@ -41,6 +46,7 @@ import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ignite.internal.failure.FailureManager;
 import org.apache.ignite.internal.failure.handlers.NoOpFailureHandler;
@@ -48,6 +54,8 @@ import org.apache.ignite.internal.hlc.ClockService;
 import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.hlc.TestClockService;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
 import org.apache.ignite.internal.metrics.NoOpMetricManager;
 import org.apache.ignite.internal.network.ClusterNodeImpl;
 import org.apache.ignite.internal.network.ClusterService;
@@ -61,6 +69,7 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.framework.ClusterServiceFactory;
@@ -71,6 +80,7 @@ import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.trait.AllNodes;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.metrics.SqlExchangeMetricSource;
 import org.apache.ignite.internal.testframework.IgniteTestUtils;
 import org.apache.ignite.internal.testframework.IgniteTestUtils.PredicateMatcher;
 import org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher;
@@ -217,6 +227,150 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
         return args.stream();
     }
 
+    @Test
+    public void exchangeMetrics() throws InterruptedException {
+        UUID queryId = randomUUID();
+        int rowCount = 2 * Commons.IO_BATCH_SIZE + 1;
+
+        createSourceFragment(queryId, ANOTHER_NODE, serviceFactory, DataProvider.fromRow(new Object[]{0, 0}, rowCount));
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(ANOTHER_NODE_NAME),
+                false,
+                serviceFactory
+        );
+
+        MetricSet sourceMetrics = ((ExchangeServiceImpl) exchangeServices.get(ANOTHER_NODE_NAME)).metricSource().enable();
+        MetricSet rootMetrics = ((ExchangeServiceImpl) exchangeServices.get(ROOT_NODE_NAME)).metricSource().enable();
+
+        assertNotNull(sourceMetrics);
+        assertNotNull(rootMetrics);
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount));
+
+        assertEquals(rowCount, res.items().size());
+
+        // Narrow rows don't reach the size limit of a batch, thus batches are limited by the number of rows.
+        assertEquals(3, sourceMetrics.<LongMetric>get(SqlExchangeMetricSource.SENT_BATCHES).value());
+        assertEquals(3, rootMetrics.<LongMetric>get(SqlExchangeMetricSource.RECEIVED_BATCHES).value());
+        assertEquals(
+                sourceMetrics.<LongMetric>get(SqlExchangeMetricSource.SENT_BYTES).value(),
+                rootMetrics.<LongMetric>get(SqlExchangeMetricSource.RECEIVED_BYTES).value()
+        );
+
+        LongMetric buffered = rootMetrics.get(SqlExchangeMetricSource.BUFFERED_BYTES);
+
+        assertTrue(waitForCondition(() -> buffered.value() == 0, 1_000));
+    }
+
+    @Test
+    public void localExchangeBypassesSerialization() {
+        UUID queryId = randomUUID();
+        int rowCount = 3 * Commons.IO_BATCH_SIZE * Commons.IO_BATCH_COUNT + 1;
+
+        createSourceFragment(queryId, ROOT_NODE, serviceFactory, DataProvider.fromRow(new Object[]{0, 0}, rowCount));
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(ROOT_NODE_NAME),
+                false,
+                serviceFactory
+        );
+
+        MetricSet metrics = ((ExchangeServiceImpl) exchangeServices.get(ROOT_NODE_NAME)).metricSource().enable();
+
+        assertNotNull(metrics);
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount + 1));
+
+        assertEquals(rowCount, res.items().size());
+        assertFalse(res.hasMore());
+
+        // Batches are passed to the inbox as is.
+        assertEquals(0, metrics.<LongMetric>get(SqlExchangeMetricSource.SENT_BATCHES).value());
+        assertEquals(0, metrics.<LongMetric>get(SqlExchangeMetricSource.RECEIVED_BATCHES).value());
+    }
+
+    @Test
+    public void disabledLocalExchangeSerializesBatches() {
+        UUID queryId = randomUUID();
+        int rowCount = 3 * Commons.IO_BATCH_SIZE * Commons.IO_BATCH_COUNT + 1;
+
+        createSourceFragment(queryId, ROOT_NODE, serviceFactory, DataProvider.fromRow(new Object[]{0, 0}, rowCount), false);
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(ROOT_NODE_NAME),
+                false,
+                serviceFactory
+        );
+
+        MetricSet metrics = ((ExchangeServiceImpl) exchangeServices.get(ROOT_NODE_NAME)).metricSource().enable();
+
+        assertNotNull(metrics);
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount + 1));
+
+        assertEquals(rowCount, res.items().size());
+        assertFalse(res.hasMore());
+
+        // Every batch goes through the message service.
+        long sentBatches = metrics.<LongMetric>get(SqlExchangeMetricSource.SENT_BATCHES).value();
+
+        assertThat(sentBatches, greaterThanOrEqualTo(4L));
+        assertEquals(sentBatches, metrics.<LongMetric>get(SqlExchangeMetricSource.RECEIVED_BATCHES).value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void outboxDropsRowsRejectedByRuntimeFilter() {
+        UUID queryId = randomUUID();
+        String dataNodeName = "DATA_NODE";
+
+        ClusterServiceFactory serviceFactory = TestBuilders.clusterServiceFactory(List.of(ROOT_NODE_NAME, dataNodeName));
+
+        InternalClusterNode dataNode = new ClusterNodeImpl(randomUUID(), dataNodeName, NetworkAddress.from("127.0.0.1:10001"));
+        Outbox<Object[]> outbox = (Outbox<Object[]>) createSourceFragment(
+                queryId,
+                dataNode,
+                serviceFactory,
+                new TestDataProvider(3 * Commons.IO_BATCH_SIZE)
+        );
+
+        RuntimeFilter.Builder<Object[]> filter = RuntimeFilter.builder(rowHandler(), new int[]{0}, new int[]{0});
+
+        for (int key : List.of(5, 7, 9)) {
+            filter.add(new Object[]{key});
+        }
+
+        await(outbox.context().submit(() -> outbox.onRuntimeFilter(ROOT_NODE_NAME, filter.build()), outbox::onError));
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(
+                queryId,
+                -1,
+                ROOT_NODE,
+                List.of(dataNodeName),
+                false,
+                serviceFactory
+        );
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(3 * Commons.IO_BATCH_SIZE));
+
+        List<Integer> keys = res.items().stream().map(row -> (Integer) row[0]).collect(Collectors.toList());
+
+        // Range of the filter rejects all keys out of [5, 9], the bloom filter may accept 6 and 8 though.
+        assertThat(keys, hasItems(5, 7, 9));
+        assertThat(keys, everyItem(both(greaterThanOrEqualTo(5)).and(lessThanOrEqualTo(9))));
+        assertFalse(res.hasMore());
+    }
+
     /**
      * This test verifies that races between batches from previous request and subtree rewinding are
      * handled properly.
@@ -544,6 +698,16 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
             InternalClusterNode localNode,
             ClusterServiceFactory serviceFactory,
             DataProvider<Object[]> dataProvider
+    ) {
+        return createSourceFragment(queryId, localNode, serviceFactory, dataProvider, true);
+    }
+
+    private Outbox<?> createSourceFragment(
+            UUID queryId,
+            InternalClusterNode localNode,
+            ClusterServiceFactory serviceFactory,
+            DataProvider<Object[]> dataProvider,
+            boolean localExchange
     ) {
         QueryTaskExecutor taskExecutor = getOrCreateTaskExecutor(localNode.name());
 
@@ -560,7 +724,7 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
 
         Outbox<Object[]> outbox = new Outbox<>(
                 sourceCtx, exchangeService, mailboxRegistry, SOURCE_FRAGMENT_ID,
-                TARGET_FRAGMENT_ID, new AllNodes<>(List.of(ROOT_NODE_NAME))
+                TARGET_FRAGMENT_ID, new AllNodes<>(List.of(ROOT_NODE_NAME)), localExchange
         );
         mailboxRegistry.register(outbox);
 
@@ -607,7 +771,8 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
                     public List<String> targets() {
                         return List.of(ROOT_NODE_NAME, ANOTHER_NODE_NAME);
                     }
-                }
+                },
+                true
         );
         mailboxRegistry.register(outbox);
 
@@ -62,13 +62,15 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
         ImmutableBitSet grpSet = grpSets.get(0);
         StructNativeType outputRowSchema = createOutputSchema(ctx, call, inRowType, grpSet);
         RowFactory<Object[]> outputRowFactory = ctx.rowFactoryFactory().create(outputRowSchema);
+        RowFactory<Object[]> inputRowFactory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(inRowType));
 
         HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
                 ctx,
                 SINGLE,
                 grpSets,
                 accFactory(ctx, call, SINGLE, inRowType),
-                outputRowFactory
+                outputRowFactory,
+                inputRowFactory
         );
 
         agg.register(scan);
@@ -122,13 +124,15 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
 
         RelDataType reduceRowType = PlanUtils.createHashAggRowType(grpSets, ctx.getTypeFactory(), inRowType, List.of(call));
         RowFactory<Object[]> mapRowFactory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(reduceRowType));
+        RowFactory<Object[]> inputRowFactory = ctx.rowFactoryFactory().create(TypeUtils.convertStructuredType(inRowType));
 
         HashAggregateNode<Object[]> aggMap = new HashAggregateNode<>(
                 ctx,
                 MAP,
                 grpSets,
                 accFactory(ctx, call, MAP, inRowType),
-                mapRowFactory
+                mapRowFactory,
+                inputRowFactory
         );
 
         aggMap.register(scan);
@@ -153,7 +157,8 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
                 REDUCE,
                 grpSets,
                 accFactory(ctx, mapReduceAgg.getReduceCall(), REDUCE, inRowType),
-                outputRowFactory
+                outputRowFactory,
+                mapRowFactory
         );
 
         aggRdc.register(aggMap);
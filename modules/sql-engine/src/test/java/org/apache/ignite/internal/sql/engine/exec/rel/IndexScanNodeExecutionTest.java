@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,6 +32,7 @@ import java.util.Spliterators;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscriber;
 import java.util.concurrent.Flow.Subscription;
@@ -50,6 +52,7 @@ import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
+import org.apache.ignite.internal.sql.engine.exec.exp.RangeIterable;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.framework.DataProvider;
 import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
@@ -103,6 +106,53 @@ public class IndexScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         validateResult(result, List.of(new Object[]{1}, new Object[]{2}, new Object[]{4}, new Object[]{5}));
     }
 
+    /**
+     * Sorted index scan by several ranges, every partition is expected to be scanned once by all the ranges.
+     */
+    @Test
+    public void testSortedIndexMultiRange() {
+        List<String> columns = List.of("C1");
+        List<Collation> collations = List.of(IgniteIndex.Collation.ASC_NULLS_LAST);
+
+        TableDescriptor tableDescriptor = createTableDescriptor(columns);
+        IgniteIndex indexDescriptor = createSortedIndexDescriptor(columns, collations, tableDescriptor);
+
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        TestScannableTable<Object[]> scannableTable = new TestScannableTable<>();
+        scannableTable.setPartitionData(0, new Object[]{1}, new Object[]{5});
+        scannableTable.setPartitionData(2, new Object[]{3}, new Object[]{7});
+
+        List<RangeCondition<Object[]>> ranges = IntStream.of(1, 3, 5, 7)
+                .mapToObj(i -> new SingleRangeIterable<>(new Object[]{i}, new Object[]{i}, true, true).iterator().next())
+                .collect(Collectors.toList());
+
+        RangeIterable<Object[]> conditions = new RangeIterable<>() {
+            @Override
+            public boolean multiBounds() {
+                return true;
+            }
+
+            @Override
+            public Iterator<RangeCondition<Object[]>> iterator() {
+                return ranges.iterator();
+            }
+        };
+
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(
+                NativeTypes.structBuilder().addField("C1", NativeTypes.INT32, true).build());
+
+        Comparator<Object[]> cmp = Comparator.comparing(row -> (Comparable<Object>) row[0]);
+
+        IndexScanNode<Object[]> node = new IndexScanNode<>(ctx, rowFactory, indexDescriptor, scannableTable, tableDescriptor,
+                PartitionProvider.fromPartitions(scannableTable.getPartitions()), cmp, conditions, null, null, null);
+
+        List<Object[]> result = new Tester(ctx).execute(node);
+
+        validateResult(result, List.of(new Object[]{1}, new Object[]{3}, new Object[]{5}, new Object[]{7}));
+        assertEquals(List.of(4, 4), scannableTable.multiRangeScans);
+    }
+
     /**
      * Hash index lookup execution.
      */
@@ -295,6 +345,9 @@ public class IndexScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
 
         private final Map<Integer, List<T>> partitionedData = new ConcurrentHashMap<>();
 
+        /** Numbers of ranges of multi-range scans. */
+        private final List<Integer> multiRangeScans = new CopyOnWriteArrayList<>();
+
         void setPartitionData(int partitionId, T... rows) {
             partitionedData.put(partitionId, List.of(rows));
         }
@@ -334,6 +387,22 @@ public class IndexScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
             return new ScanPublisher<>(list, ctx, rowFactory);
         }
 
+        @Override
+        public <RowT> Publisher<RowT> indexMultiRangeScan(
+                ExecutionContext<RowT> ctx,
+                PartitionWithConsistencyToken partWithConsistencyToken,
+                RowFactory<RowT> rowFactory,
+                int indexId,
+                List<String> columns,
+                List<RangeCondition<RowT>> conds,
+                int @Nullable [] requiredColumns,
+                int @Nullable [] indexColumnsMapping
+        ) {
+            multiRangeScans.add(conds.size());
+
+            return newPublisher(ctx, partWithConsistencyToken, rowFactory);
+        }
+
         @Override
         public <RowT> Publisher<RowT> indexLookup(
                 ExecutionContext<RowT> ctx,
@@ -359,6 +428,16 @@ public class IndexScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(
+                ExecutionContext<RowT> ctx,
+                RowFactory<RowT> rowFactory,
+                List<RowT> keys,
+                int @Nullable [] requiredColumns
+        ) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public CompletableFuture<Long> estimatedSize() {
             throw new UnsupportedOperationException();
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Hash aggregate execution tests with the memory quota so small, that input rows of new groups are always spilled to disk.
+ */
+public class SpillingHashAggregateExecutionTest extends HashAggregateExecutionTest {
+    @Override
+    protected long memoryQuota() {
+        return 1;
+    }
+
+    @ParameterizedTest
+    @EnumSource
+    public void spilledPartitionsAreAggregatedAndRemoved(TestAggregateType testAgg) throws IOException {
+        int groupsCount = 2_000;
+        int rowsPerGroup = 5;
+
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.INT32));
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, IntStream.range(0, groupsCount * rowsPerGroup)
+                .mapToObj(i -> row(i % groupsCount, i))
+                .collect(Collectors.toList()));
+
+        AggregateCall call = createAggregateCall(
+                SqlStdOperatorTable.COUNT,
+                List.of(),
+                tf.createSqlType(SqlTypeName.INTEGER)
+        );
+
+        SingleNode<Object[]> aggChain = createAggregateNodesChain(
+                testAgg,
+                ctx,
+                List.of(ImmutableBitSet.of(0)),
+                call,
+                rowType,
+                scan
+        );
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(aggChain);
+
+        for (int i = 0; i < groupsCount; i++) {
+            assertTrue(root.hasNext());
+            assertArrayEquals(row(i, rowsPerGroup), root.next());
+        }
+
+        assertFalse(root.hasNext());
+
+        assertThat(memoryMetrics.<LongMetric>get(SqlMemoryMetricSource.AGGREGATION_GROUPS).value(), greaterThan(0L));
+        assertThat(memoryMetrics.<LongMetric>get(SqlMemoryMetricSource.AGGREGATION_SPILLED_BYTES).value(), greaterThan(0L));
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertThat(files.collect(Collectors.toList()), empty());
+        }
+    }
+}
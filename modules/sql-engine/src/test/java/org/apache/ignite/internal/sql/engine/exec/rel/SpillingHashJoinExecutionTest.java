@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
+import org.apache.ignite.internal.sql.engine.exec.memory.SpillManager;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Hash join execution tests with the memory quota so small, that the build side is always spilled to disk.
+ */
+public class SpillingHashJoinExecutionTest extends HashJoinExecutionTest {
+    private SpillManager spillManager;
+
+    private MetricSet metrics;
+
+    private Path spillDir;
+
+    @BeforeEach
+    public void startSpillManager() {
+        spillDir = workDir.resolve("sql-spill");
+        spillManager = new SpillManager(spillDir, 1, 0);
+
+        spillManager.start();
+
+        metrics = spillManager.metricSource().enable();
+    }
+
+    @AfterEach
+    public void stopSpillManager() {
+        spillManager.stop();
+    }
+
+    @Override
+    protected QueryMemoryBudget memoryBudget(UUID queryId) {
+        return spillManager.createBudget(queryId);
+    }
+
+    @Test
+    public void spillFilesAreRemovedOnceJoinIsCompleted() throws IOException {
+        int rowsCount = 10_000;
+
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        ScanNode<Object[]> persons = new ScanNode<>(ctx, IntStream.range(0, rowsCount)
+                .mapToObj(i -> new Object[]{i, "Person" + i, i % 100})
+                .collect(Collectors.toList()));
+
+        ScanNode<Object[]> deps = new ScanNode<>(ctx, IntStream.range(0, 100)
+                .mapToObj(i -> new Object[]{i, "Department" + i})
+                .collect(Collectors.toList()));
+
+        HashJoinNode<Object[]> join = createJoinNode(ctx, INNER, null);
+        join.register(asList(persons, deps));
+
+        RootNode<Object[]> node = new RootNode<>(ctx);
+        node.register(join);
+
+        long count = StreamSupport.stream(Spliterators.spliteratorUnknownSize(node, Spliterator.ORDERED), false).count();
+
+        assertEquals(rowsCount, count);
+
+        assertThat(metrics.<LongMetric>get(SqlMemoryMetricSource.SPILL_FILES).value(), greaterThan(0L));
+        assertThat(metrics.<LongMetric>get(SqlMemoryMetricSource.SPILLED_BYTES).value(), greaterThan(0L));
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertThat(files.collect(Collectors.toList()), empty());
+        }
+    }
+}
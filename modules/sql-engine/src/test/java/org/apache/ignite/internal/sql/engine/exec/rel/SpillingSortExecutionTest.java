@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.util.Commons.IN_BUFFER_SIZE;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.convertStructuredType;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Sort node execution tests with the memory quota so small, that buffered rows are always spilled to disk.
+ */
+public class SpillingSortExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparingInt(r -> (Integer) r[0]);
+
+    @Override
+    protected long memoryQuota() {
+        return 1;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, IN_BUFFER_SIZE - 1, IN_BUFFER_SIZE, IN_BUFFER_SIZE * 10 + 1})
+    public void rowsAreSorted(int rowsCount) {
+        List<Object[]> data = generate(rowsCount);
+
+        assertEquals(sortedKeys(data), execute(data));
+    }
+
+    @Test
+    public void runsAreMergedAndRemovedOnceSortIsCompleted() throws IOException {
+        // Enough rows to produce more runs than can be merged at once.
+        List<Object[]> data = generate(IN_BUFFER_SIZE * SortNode.MERGE_FACTOR * 2 + 42);
+
+        assertEquals(sortedKeys(data), execute(data));
+
+        assertThat(memoryMetrics.<LongMetric>get(SqlMemoryMetricSource.SPILL_FILES).value(), greaterThan(0L));
+        assertThat(memoryMetrics.<LongMetric>get(SqlMemoryMetricSource.SPILLED_BYTES).value(), greaterThan(0L));
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertThat(files.collect(Collectors.toList()), empty());
+        }
+    }
+
+    private List<Integer> execute(List<Object[]> data) {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.INT32, NativeTypes.STRING));
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(convertStructuredType(rowType));
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, 0, -1, rowFactory);
+        sort.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+        root.register(sort);
+
+        List<Integer> res = new ArrayList<>(data.size());
+
+        while (root.hasNext()) {
+            res.add((Integer) root.next()[0]);
+        }
+
+        return res;
+    }
+
+    private static List<Object[]> generate(int rowsCount) {
+        Random rnd = new Random();
+
+        return IntStream.range(0, rowsCount)
+                .mapToObj(i -> {
+                    int key = rnd.nextInt(rowsCount + 1);
+
+                    return new Object[]{key, "val" + key};
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static List<Integer> sortedKeys(List<Object[]> data) {
+        return data.stream().map(r -> (Integer) r[0]).sorted().collect(Collectors.toList());
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apache.ignite.internal.sql.engine.util.Commons.IN_BUFFER_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.type.StructNativeType;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test TableFetchNode execution.
+ */
+public class TableFetchNodeExecutionTest extends AbstractExecutionTest<Object[]> {
+    @Test
+    public void testFetchWithVariousBufferSize() {
+        validateFetch(1, 0);
+        validateFetch(1, 10);
+
+        validateFetch(IN_BUFFER_SIZE, 0);
+        validateFetch(IN_BUFFER_SIZE, IN_BUFFER_SIZE - 1);
+        validateFetch(IN_BUFFER_SIZE, IN_BUFFER_SIZE);
+        validateFetch(IN_BUFFER_SIZE, 2 * IN_BUFFER_SIZE + 1);
+    }
+
+    @Test
+    public void testLookupIsBatched() {
+        AtomicInteger lookups = new AtomicInteger();
+
+        List<Object[]> res = executeFetch(IN_BUFFER_SIZE, 2 * IN_BUFFER_SIZE, lookups);
+
+        assertEquals(2 * IN_BUFFER_SIZE, res.size());
+        assertEquals(2, lookups.get());
+    }
+
+    private void validateFetch(int bufSize, int dataSize) {
+        List<Object[]> res = executeFetch(bufSize, dataSize, new AtomicInteger());
+
+        assertEquals(dataSize, res.size());
+
+        for (int i = 0; i < dataSize; i++) {
+            Object[] row = res.get(i);
+            Integer id = (Integer) row[0];
+
+            // Odd keys are missing in the table, the null key stands for a row produced by an outer join.
+            Object expected = id == null || id % 2 != 0 ? null : "payload-" + id;
+
+            assertArrayEquals(new Object[]{id, "name-" + i, expected}, row);
+        }
+    }
+
+    private List<Object[]> executeFetch(int bufSize, int dataSize, AtomicInteger lookups) {
+        ExecutionContext<Object[]> ctx = executionContext(bufSize);
+
+        StructNativeType inputSchema = NativeTypes.structBuilder()
+                .addField("ID", NativeTypes.INT32, true)
+                .addField("NAME", NativeTypes.STRING, true)
+                .addField("PAYLOAD", NativeTypes.STRING, true)
+                .build();
+        StructNativeType keySchema = NativeTypes.structBuilder()
+                .addField("ID", NativeTypes.INT32, false)
+                .build();
+        StructNativeType fetchedSchema = NativeTypes.structBuilder()
+                .addField("PAYLOAD", NativeTypes.STRING, true)
+                .build();
+
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(inputSchema);
+        RowFactory<Object[]> keyFactory = ctx.rowFactoryFactory().create(keySchema);
+        RowFactory<Object[]> fetchedRowFactory = ctx.rowFactoryFactory().create(fetchedSchema);
+
+        ScanNode<Object[]> srcNode = new ScanNode<>(ctx, () -> IntStream.range(0, dataSize)
+                .mapToObj(i -> new Object[]{i % 10 == 9 ? null : i, "name-" + i, null})
+                .iterator());
+
+        TableFetchNode<Object[]> fetchNode = new TableFetchNode<>(
+                ctx,
+                table(lookups),
+                rowFactory,
+                keyFactory,
+                fetchedRowFactory,
+                new int[]{0},
+                new int[]{2},
+                new int[]{2}
+        );
+
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+
+        fetchNode.register(srcNode);
+        rootNode.register(fetchNode);
+
+        List<Object[]> res = new ArrayList<>();
+
+        while (rootNode.hasNext()) {
+            res.add(rootNode.next());
+        }
+
+        return res;
+    }
+
+    /** Table which holds the rows with even keys. */
+    private static ScannableTable table(AtomicInteger lookups) {
+        ScannableTable table = mock(ScannableTable.class);
+
+        when(table.primaryKeyLookupAll(any(), any(), any(), any())).thenAnswer(invocation -> {
+            List<Object[]> keys = invocation.getArgument(2);
+            List<Object[]> rows = new ArrayList<>(keys.size());
+
+            lookups.incrementAndGet();
+
+            for (Object[] key : keys) {
+                int id = (Integer) key[0];
+
+                rows.add(id % 2 == 0 ? new Object[]{"payload-" + id} : null);
+            }
+
+            return completedFuture(rows);
+        });
+
+        return table;
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -24,11 +24,15 @@ import static org.apache.ignite.internal.testframework.IgniteTestUtils.deriveUui
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Spliterator;
@@ -40,6 +44,7 @@ import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.Flow.Subscription;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
@@ -70,6 +75,7 @@ import org.apache.ignite.internal.sql.SqlCommon;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
 import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.ObservedRowCounts;
 import org.apache.ignite.internal.sql.engine.exec.PartitionProvider;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
@@ -292,6 +298,110 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         assertEquals((long) partDataSize * partitionsCount, count);
     }
 
+    @Test
+    public void tableScanNodeInBatchMode() {
+        checkBatchMode(1, 10);
+        checkBatchMode(10, 95);
+        checkBatchMode(IN_BUFFER_SIZE, 3 * IN_BUFFER_SIZE + 7);
+    }
+
+    private void checkBatchMode(int bufferSize, int dataSize) {
+        ExecutionContext<Object[]> ctx = executionContext(bufferSize);
+
+        List<PartitionWithConsistencyToken> partitions = List.of(new PartitionWithConsistencyToken(1, 42L));
+
+        StructNativeType schema = NativeTypes.structBuilder().addField("C1", NativeTypes.INT32, false).build();
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(schema);
+
+        List<Object[]> data = IntStream.range(0, dataSize).mapToObj(i -> new Object[]{i}).collect(Collectors.toList());
+
+        // The scan keeps even values, the filter keeps values not divisible by 3, and the projection doubles the value.
+        ScannableTable scannableTable = TestBuilders.tableScan(DataProvider.fromCollection(data));
+        TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, scannableTable, c -> partitions,
+                r -> (int) r[0] % 2 == 0, null, null);
+        FilterNode<Object[]> filterNode = new FilterNode<>(ctx, r -> (int) r[0] % 3 != 0);
+        ProjectNode<Object[]> projectNode = new ProjectNode<>(ctx, r -> new Object[]{(int) r[0] * 2});
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+
+        scanNode.enableBatchMode(null, null);
+
+        filterNode.register(scanNode);
+        projectNode.register(filterNode);
+        rootNode.register(projectNode);
+
+        int[] actual = StreamSupport.stream(Spliterators.spliteratorUnknownSize(rootNode, Spliterator.ORDERED), false)
+                .mapToInt(r -> (int) r[0])
+                .toArray();
+
+        int[] expected = IntStream.range(0, dataSize).filter(i -> i % 2 == 0 && i % 3 != 0).map(i -> i * 2).toArray();
+
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void tableScanNodeWithLimit() {
+        checkLimit(10, 35, 5, false);
+        checkLimit(10, 35, 25, false);
+        checkLimit(10, 35, 5, true);
+        checkLimit(10, 3, 5, false);
+    }
+
+    private void checkLimit(int bufferSize, int dataSize, int limit, boolean filter) {
+        ExecutionContext<Object[]> ctx = executionContext(bufferSize);
+
+        List<PartitionWithConsistencyToken> partitions = List.of(new PartitionWithConsistencyToken(1, 42L));
+
+        StructNativeType schema = NativeTypes.structBuilder().addField("C1", NativeTypes.INT32, false).build();
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(schema);
+
+        AtomicInteger readRows = new AtomicInteger();
+
+        ScannableTable scannableTable = TestBuilders.tableScan(new DataProvider<>() {
+            @Override
+            public long estimatedSize() {
+                return dataSize;
+            }
+
+            @Override
+            public Iterator<Object[]> iterator() {
+                return IntStream.range(0, dataSize).peek(i -> readRows.incrementAndGet()).mapToObj(i -> new Object[]{i}).iterator();
+            }
+        });
+
+        TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, scannableTable, c -> partitions,
+                filter ? r -> (int) r[0] % 2 == 0 : null, null, null);
+        RootNode<Object[]> rootNode = new RootNode<>(ctx);
+
+        ObservedRowCounts rowCounts = new ObservedRowCounts();
+
+        scanNode.limit(limit);
+        scanNode.countRows(rowCounts.counter(0));
+
+        rootNode.register(scanNode);
+
+        int[] actual = StreamSupport.stream(Spliterators.spliteratorUnknownSize(rootNode, Spliterator.ORDERED), false)
+                .mapToInt(r -> (int) r[0])
+                .toArray();
+
+        int[] expected = IntStream.range(0, dataSize).filter(i -> !filter || i % 2 == 0).limit(limit).toArray();
+
+        assertArrayEquals(expected, actual);
+
+        if (filter) {
+            // Rows are requested by buffer, the scan stops once the buffer with enough rows is pushed.
+            assertThat(readRows.get(), lessThanOrEqualTo(bufferSize * (limit * 2 / bufferSize + 1)));
+        } else {
+            assertEquals(Math.min(limit, dataSize), readRows.get());
+        }
+
+        if (dataSize > limit) {
+            // The scan is cut short by the limit, thus the number of rows in the table is unknown.
+            assertNull(rowCounts.toArray());
+        } else {
+            assertArrayEquals(new long[] {0, dataSize, 1}, rowCounts.toArray());
+        }
+    }
+
     @AfterEach
     public void afterEach() throws Exception {
         closeAll(closeables);
@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactory;
+import org.apache.ignite.internal.sql.engine.api.expressions.RowFactoryFactory;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.exp.SqlComparator;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.sql.engine.exec.rel.WindowNode.Frame;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests execution of the {@link WindowNode}.
+ */
+public class WindowExecutionTest extends AbstractExecutionTest<Object[]> {
+    /** Input rows sorted by the partition key (the first field) and the order key (the second field). */
+    private static final List<Object[]> DATA = List.of(
+            new Object[] {1, 10, 1},
+            new Object[] {1, 20, 2},
+            new Object[] {1, 20, 3},
+            new Object[] {1, 30, 4},
+            new Object[] {2, 10, 5},
+            new Object[] {2, 10, 6}
+    );
+
+    @Test
+    public void ranking() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.RANGE, true, true,
+                List.of(SqlKind.ROW_NUMBER, SqlKind.RANK, SqlKind.DENSE_RANK), List.of());
+
+        assertRows(res,
+                row(1, 10, 1, 1L, 1L, 1L),
+                row(1, 20, 2, 2L, 2L, 2L),
+                row(1, 20, 3, 3L, 2L, 2L),
+                row(1, 30, 4, 4L, 4L, 3L),
+                row(2, 10, 5, 1L, 1L, 1L),
+                row(2, 10, 6, 2L, 1L, 1L)
+        );
+    }
+
+    @Test
+    public void runningSumRows() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.ROWS, true, true, List.of(SqlKind.SUM), List.of(sum(ctx)));
+
+        assertRows(res,
+                row(1, 10, 1, 1),
+                row(1, 20, 2, 3),
+                row(1, 20, 3, 6),
+                row(1, 30, 4, 10),
+                row(2, 10, 5, 5),
+                row(2, 10, 6, 11)
+        );
+    }
+
+    @Test
+    public void runningSumRange() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.RANGE, true, true, List.of(SqlKind.SUM), List.of(sum(ctx)));
+
+        // Peers share the same frame.
+        assertRows(res,
+                row(1, 10, 1, 1),
+                row(1, 20, 2, 6),
+                row(1, 20, 3, 6),
+                row(1, 30, 4, 10),
+                row(2, 10, 5, 11),
+                row(2, 10, 6, 11)
+        );
+    }
+
+    @Test
+    public void wholePartition() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.PARTITION, true, false,
+                List.of(SqlKind.COUNT, SqlKind.ROW_NUMBER), List.of(count(ctx)));
+
+        assertRows(res,
+                row(1, 10, 1, 4, 1L),
+                row(1, 20, 2, 4, 2L),
+                row(1, 20, 3, 4, 3L),
+                row(1, 30, 4, 4, 4L),
+                row(2, 10, 5, 2, 1L),
+                row(2, 10, 6, 2, 2L)
+        );
+    }
+
+    @Test
+    public void runningCountRowsWithoutOrderKeys() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.ROWS, true, false, List.of(SqlKind.COUNT), List.of(count(ctx)));
+
+        assertRows(res,
+                row(1, 10, 1, 1),
+                row(1, 20, 2, 2),
+                row(1, 20, 3, 3),
+                row(1, 30, 4, 4),
+                row(2, 10, 5, 1),
+                row(2, 10, 6, 2)
+        );
+    }
+
+    @Test
+    public void frameSelection() {
+        // ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW, with and without ORDER BY.
+        assertEquals(Frame.ROWS, Frame.of(true, true, false));
+        assertEquals(Frame.ROWS, Frame.of(true, false, false));
+
+        // RANGE BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW, with and without ORDER BY.
+        assertEquals(Frame.RANGE, Frame.of(false, true, false));
+        assertEquals(Frame.PARTITION, Frame.of(false, false, false));
+
+        // Frames ending with UNBOUNDED FOLLOWING.
+        assertEquals(Frame.PARTITION, Frame.of(true, true, true));
+        assertEquals(Frame.PARTITION, Frame.of(false, true, true));
+    }
+
+    @Test
+    public void singlePartition() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> res = execute(ctx, Frame.RANGE, false, true,
+                List.of(SqlKind.DENSE_RANK, SqlKind.SUM), List.of(sum(ctx)));
+
+        assertRows(res,
+                row(1, 10, 1, 1L, 1),
+                row(1, 20, 2, 2L, 6),
+                row(1, 20, 3, 2L, 6),
+                row(1, 30, 4, 3L, 10),
+                row(2, 10, 5, 1L, 21),
+                row(2, 10, 6, 1L, 21)
+        );
+    }
+
+    @Test
+    public void rewind() {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootRewindable<Object[]> root = new RootRewindable<>(ctx);
+
+        root.register(createNode(ctx, Frame.ROWS, true, true, List.of(SqlKind.ROW_NUMBER), List.of()));
+
+        for (int i = 0; i < 2; i++) {
+            List<Object[]> res = new ArrayList<>();
+
+            while (root.hasNext()) {
+                res.add(root.next());
+            }
+
+            assertEquals(DATA.size(), res.size());
+            assertArrayEquals(row(1, 30, 4, 4L), res.get(3));
+            assertArrayEquals(row(2, 10, 6, 2L), res.get(5));
+
+            root.rewind();
+        }
+
+        root.closeRewindableRoot();
+    }
+
+    private List<Object[]> execute(
+            ExecutionContext<Object[]> ctx,
+            Frame frame,
+            boolean partitioned,
+            boolean ordered,
+            List<SqlKind> functions,
+            List<AccumulatorWrapper<Object[]>> accumulators
+    ) {
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(createNode(ctx, frame, partitioned, ordered, functions, accumulators));
+
+        List<Object[]> res = new ArrayList<>();
+
+        while (root.hasNext()) {
+            res.add(root.next());
+        }
+
+        return res;
+    }
+
+    private WindowNode<Object[]> createNode(
+            ExecutionContext<Object[]> ctx,
+            Frame frame,
+            boolean partitioned,
+            boolean ordered,
+            List<SqlKind> functions,
+            List<AccumulatorWrapper<Object[]>> accumulators
+    ) {
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        List<RelDataType> fieldTypes = new ArrayList<>(TypeUtils.native2relationalTypes(tf,
+                NativeTypes.INT32, NativeTypes.INT32, NativeTypes.INT32));
+
+        for (SqlKind function : functions) {
+            fieldTypes.add(tf.createSqlType(WindowNode.isRanking(function) ? SqlTypeName.BIGINT : SqlTypeName.INTEGER));
+        }
+
+        RowFactory<Object[]> rowFactory = ctx.rowFactoryFactory().create(
+                TypeUtils.convertStructuredType(TypeUtils.createRowType(tf, fieldTypes)));
+
+        WindowNode<Object[]> node = new WindowNode<>(
+                ctx,
+                partitioned ? comparator(ctx, 0) : null,
+                ordered ? comparator(ctx, 1) : null,
+                frame,
+                functions,
+                accumulators,
+                3,
+                rowFactory
+        );
+
+        node.register(new ScanNode<>(ctx, DATA));
+
+        return node;
+    }
+
+    private static Comparator<Object[]> comparator(ExecutionContext<Object[]> ctx, int field) {
+        SqlComparator comparator = ctx.expressionFactory().comparator(RelCollations.of(field));
+
+        return (r1, r2) -> comparator.compare(ctx, r1, r2);
+    }
+
+    private static AccumulatorWrapper<Object[]> sum(ExecutionContext<Object[]> ctx) {
+        return accumulator(ctx, AggregateCall.create(SqlStdOperatorTable.SUM, false, false, false, List.of(), List.of(2), -1,
+                null, RelCollations.EMPTY, ctx.getTypeFactory().createSqlType(SqlTypeName.INTEGER), null));
+    }
+
+    private static AccumulatorWrapper<Object[]> count(ExecutionContext<Object[]> ctx) {
+        return accumulator(ctx, AggregateCall.create(SqlStdOperatorTable.COUNT, false, false, false, List.of(), List.of(), -1,
+                null, RelCollations.EMPTY, ctx.getTypeFactory().createSqlType(SqlTypeName.INTEGER), null));
+    }
+
+    private static AccumulatorWrapper<Object[]> accumulator(ExecutionContext<Object[]> ctx, AggregateCall call) {
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType inputType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf,
+                NativeTypes.INT32, NativeTypes.INT32, NativeTypes.INT32));
+
+        return ctx.expressionFactory().<Object[]>accumulatorsFactory(AggregateType.SINGLE, List.of(call), inputType)
+                .get(ctx).get(0);
+    }
+
+    private static void assertRows(List<Object[]> actual, Object[]... expected) {
+        assertEquals(expected.length, actual.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], actual.get(i), "Row " + i);
+        }
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+
+    @Override
+    protected RowFactoryFactory<Object[]> rowFactoryFactory() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -115,6 +115,7 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionDistributionProvider;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.QueryMemoryBudget;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PreparedPlan;
@@ -597,7 +598,8 @@ public class TestBuilders {
                     -1,
                     clock,
                     null,
-                    1L
+                    1L,
+                    QueryMemoryBudget.UNLIMITED
             );
         }
     }
@@ -1614,6 +1616,16 @@ public class TestBuilders {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(
+                ExecutionContext<RowT> ctx,
+                RowFactory<RowT> rowFactory,
+                List<RowT> keys,
+                int @Nullable [] requiredColumns
+        ) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public CompletableFuture<Long> estimatedSize() {
             throw new UnsupportedOperationException();
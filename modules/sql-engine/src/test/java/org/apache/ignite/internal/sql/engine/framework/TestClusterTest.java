@@ -127,6 +127,12 @@ public class TestClusterTest extends BaseIgniteAbstractTest {
             return CompletableFuture.completedFuture(rowFactory.create());
         }
 
+        @Override
+        public <RowT> CompletableFuture<List<@Nullable RowT>> primaryKeyLookupAll(ExecutionContext<RowT> ctx,
+                RowFactory<RowT> rowFactory, List<RowT> keys, int @Nullable [] requiredColumns) {
+            return CompletableFuture.completedFuture(Collections.nCopies(keys.size(), rowFactory.create()));
+        }
+
         @Override
         public CompletableFuture<Long> estimatedSize() {
             return CompletableFuture.completedFuture(42L);
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import java.util.function.UnaryOperator;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Collation;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests to verify index scans are marked as index-only when the index covers all the columns required by the scan.
+ */
+public class IndexOnlyScanPlannerTest extends AbstractPlannerTest {
+    private IgniteSchema schema;
+
+    @BeforeEach
+    public void beforeEach() {
+        schema = createSchemaFrom(table("TEST"));
+    }
+
+    @Test
+    public void testCoveredColumns() throws Exception {
+        assertIndexOnly("SELECT C1, C2 FROM TEST WHERE C1 = 1", "C1C2", true);
+        assertIndexOnly("SELECT C2 FROM TEST WHERE C1 > 1 AND C2 = 'a'", "C1C2", true);
+        assertIndexOnly("SELECT C1 FROM TEST ORDER BY C1", "C1C2", true);
+        assertIndexOnly("SELECT C3 FROM TEST WHERE C3 = 1", "C3_HASH", true);
+    }
+
+    @Test
+    public void testNotCoveredColumns() throws Exception {
+        assertIndexOnly("SELECT C1, C3 FROM TEST WHERE C1 = 1", "C1C2", false);
+        assertIndexOnly("SELECT C1 FROM TEST WHERE C1 = 1 AND C3 > 1", "C1C2", false);
+        assertIndexOnly("SELECT * FROM TEST WHERE C1 = 1", "C1C2", false);
+        assertIndexOnly("SELECT C1 FROM TEST WHERE C3 = 1", "C3_HASH", false);
+    }
+
+    private void assertIndexOnly(String sql, String indexName, boolean indexOnly) throws Exception {
+        assertPlan(sql, schema, nodeOrAnyChild(isIndexScan("TEST", indexName)
+                .and(scan -> scan.indexOnly() == indexOnly)));
+    }
+
+    private static UnaryOperator<TableBuilder> table(String tableName) {
+        return tableBuilder -> tableBuilder
+                .name(tableName)
+                .addColumn("C1", NativeTypes.INT32)
+                .addColumn("C2", NativeTypes.STRING)
+                .addColumn("C3", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .size(1_000)
+                .sortedIndex()
+                .name("C1C2")
+                .addColumn("C1", Collation.ASC_NULLS_LAST)
+                .addColumn("C2", Collation.ASC_NULLS_LAST)
+                .end()
+                .hashIndex()
+                .name("C3_HASH")
+                .addColumn("C3")
+                .end();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.calcite.util.Util;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.prepare.LateMaterialization;
+import org.apache.ignite.internal.sql.engine.rel.AbstractIgniteJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableFetch;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Planner test for late materialization of wide columns passed through joins.
+ */
+public class LateMaterializationPlannerTest extends AbstractPlannerTest {
+    private static final String[] DISABLED_RULES = {"CorrelatedNestedLoopJoin"};
+
+    @Test
+    public void testWideColumnIsFetchedAfterJoin() throws Exception {
+        IgniteRel phys = LateMaterialization.apply(physicalPlan(
+                "SELECT t1.id, t1.payload, t2.name FROM t1 JOIN t2 ON t1.id = t2.t1_id", createTestSchema(), DISABLED_RULES
+        ));
+
+        String invalidPlanMsg = "Invalid plan:\n" + RelOptUtil.toString(phys);
+
+        IgniteTableFetch fetch = findFirstNode(phys, byClass(IgniteTableFetch.class));
+
+        assertThat(invalidPlanMsg, fetch, notNullValue());
+        assertThat(invalidPlanMsg, fetch.getInput() instanceof AbstractIgniteJoin, equalTo(true));
+        assertThat(invalidPlanMsg, Util.last(fetch.getTable().getQualifiedName()), equalTo("T1"));
+        assertThat(invalidPlanMsg, fetch.columns(), equalTo(ImmutableIntList.of(1)));
+        assertThat(invalidPlanMsg, findNodes(phys, byClass(IgniteTableFetch.class)).size(), equalTo(1));
+
+        IgniteTableScan scan = findFirstNode(phys, scanOf("T1"));
+
+        assertThat(invalidPlanMsg, scan.deferredFields(), notNullValue());
+        assertThat(invalidPlanMsg, scan.deferredFields().cardinality(), equalTo(1));
+
+        // Narrow columns are read by the scan.
+        IgniteTableScan scan2 = findFirstNode(phys, scanOf("T2"));
+
+        assertThat(invalidPlanMsg, scan2.deferredFields(), nullValue());
+    }
+
+    @Test
+    public void testWideColumnUsedByJoinIsNotDeferred() throws Exception {
+        IgniteRel phys = LateMaterialization.apply(physicalPlan(
+                "SELECT t1.id, t1.payload, t2.name FROM t1 JOIN t2 ON t1.id = t2.t1_id AND t1.payload = t2.name",
+                createTestSchema(), DISABLED_RULES
+        ));
+
+        assertThat(RelOptUtil.toString(phys), findNodes(phys, byClass(IgniteTableFetch.class)).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void testWideColumnWithoutPrimaryKeyIsNotDeferred() throws Exception {
+        IgniteRel phys = LateMaterialization.apply(physicalPlan(
+                "SELECT t1.payload, t2.name FROM t1 JOIN t2 ON t1.val = t2.t1_id", createTestSchema(), DISABLED_RULES
+        ));
+
+        assertThat(RelOptUtil.toString(phys), findNodes(phys, byClass(IgniteTableFetch.class)).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void testFetchIsPulledUpThroughJoins() throws Exception {
+        IgniteRel phys = LateMaterialization.apply(physicalPlan(
+                "SELECT /*+ ENFORCE_JOIN_ORDER */ t1.id, t1.payload, t2.name, t3.id FROM t1 "
+                        + "JOIN t2 ON t1.id = t2.t1_id "
+                        + "JOIN t2 t3 ON t2.id = t3.t1_id",
+                createTestSchema(), DISABLED_RULES
+        ));
+
+        String invalidPlanMsg = "Invalid plan:\n" + RelOptUtil.toString(phys);
+
+        List<RelNode> fetches = findNodes(phys, byClass(IgniteTableFetch.class));
+
+        assertThat(invalidPlanMsg, fetches.size(), equalTo(1));
+
+        // There are no joins above the fetch.
+        RelNode fetch = fetches.get(0);
+
+        assertThat(invalidPlanMsg, findNodes(fetch, byClass(AbstractIgniteJoin.class)).size(), equalTo(2));
+    }
+
+    private static Predicate<RelNode> scanOf(String tableName) {
+        return byClass(IgniteTableScan.class, node -> tableName.equals(Util.last(node.getTable().getQualifiedName())));
+    }
+
+    private static IgniteSchema createTestSchema() {
+        return createSchema(
+                TestBuilders.table()
+                        .name("T1")
+                        .addKeyColumn("ID", NativeTypes.INT32)
+                        .addColumn("PAYLOAD", NativeTypes.stringOf(4096), true)
+                        .addColumn("VAL", NativeTypes.INT32, true)
+                        .size(1_000)
+                        .distribution(IgniteDistributions.random())
+                        .build(),
+                TestBuilders.table()
+                        .name("T2")
+                        .addKeyColumn("ID", NativeTypes.INT32)
+                        .addColumn("T1_ID", NativeTypes.INT32, true)
+                        .addColumn("NAME", NativeTypes.stringOf(16), true)
+                        .size(1_000)
+                        .distribution(IgniteDistributions.random())
+                        .build()
+        );
+    }
+}
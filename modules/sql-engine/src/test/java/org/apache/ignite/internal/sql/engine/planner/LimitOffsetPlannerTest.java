@@ -203,6 +203,43 @@ public class LimitOffsetPlannerTest extends AbstractPlannerTest {
                     .and(hasChildThat(isInstanceOf(IgniteExchange.class)).negate()));
     }
 
+    @Test
+    public void testLimitPushedUnderExchange() throws Exception {
+        IgniteSchema publicSchema = createSchemaWithTable(IgniteDistributions.random());
+
+        assertPlan("SELECT * FROM TEST LIMIT 5", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 5)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 5)
+                                        .and(l -> l.offset() == null)
+                                        .and(input(isInstanceOf(IgniteTableScan.class))))))));
+
+        assertPlan("SELECT * FROM TEST OFFSET 10 ROWS FETCH FIRST 5 ROWS ONLY", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 5)
+                        .and(l -> doubleFromRex(l.offset(), -1) == 10)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 15)
+                                        .and(l -> l.offset() == null)
+                                        .and(input(isInstanceOf(IgniteTableScan.class))))))));
+
+        // Nothing to push down if there is no fetch.
+        assertPlan("SELECT * FROM TEST OFFSET 10", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteTableScan.class))))));
+
+        publicSchema = createSchemaWithTable(IgniteDistributions.single());
+
+        // Exchange node is not required, since distribution of the table is already "single".
+        assertPlan("SELECT * FROM TEST LIMIT 5", publicSchema,
+                isInstanceOf(IgniteLimit.class)
+                        .and(input(isInstanceOf(IgniteTableScan.class))));
+    }
+
     @Test
     public void testNestedOffset() throws Exception {
         // Tests for planner for limit/sort in nested subqueries
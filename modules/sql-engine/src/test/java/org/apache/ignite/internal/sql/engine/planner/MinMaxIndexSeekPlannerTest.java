@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import static org.apache.ignite.internal.sql.engine.util.RexUtils.doubleFromRex;
+
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.apache.calcite.rel.RelNode;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.rel.IgniteAggregate;
+import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
+import org.apache.ignite.internal.sql.engine.rel.IgniteLimit;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.rel.IgniteTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Collation;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Planner test for MIN and MAX answered with an index seek.
+ */
+public class MinMaxIndexSeekPlannerTest extends AbstractPlannerTest {
+    @Test
+    public void testMinWithAscendingIndex() throws Exception {
+        IgniteSchema schema = createSchemaWithTable(addSortIndex("VAL"));
+
+        assertPlan("SELECT MIN(val) FROM test", schema, seekOf("IDX_VAL"));
+        assertPlan("SELECT MIN(val) FROM test WHERE id > 10", schema, seekOf("IDX_VAL"));
+        assertPlan("SELECT MIN(val) + 1 FROM test", schema, seekOf("IDX_VAL"));
+    }
+
+    @Test
+    public void testMaxWithDescendingIndex() throws Exception {
+        IgniteSchema schema = createSchemaWithTable(
+                tableBuilder -> tableBuilder.sortedIndex()
+                        .name("IDX_VAL_DESC")
+                        .addColumn("VAL", Collation.DESC_NULLS_FIRST)
+                        .end()
+        );
+
+        assertPlan("SELECT MAX(val) FROM test", schema, seekOf("IDX_VAL_DESC"));
+    }
+
+    @Test
+    public void testNotApplicable() throws Exception {
+        IgniteSchema schema = createSchemaWithTable(addSortIndex("VAL"));
+
+        // Sorted indexes are not scanned backwards.
+        assertPlan("SELECT MAX(val) FROM test", schema, hasChildThat(isInstanceOf(IgniteLimit.class)).negate());
+
+        // Index does not start with the column.
+        assertPlan("SELECT MIN(id) FROM test", schema, hasChildThat(isInstanceOf(IgniteLimit.class)).negate());
+
+        assertPlan("SELECT MIN(val) FROM test GROUP BY id", schema, hasChildThat(isInstanceOf(IgniteLimit.class)).negate());
+        assertPlan("SELECT MIN(val), COUNT(*) FROM test", schema, hasChildThat(isInstanceOf(IgniteLimit.class)).negate());
+        assertPlan("SELECT /*+ NO_INDEX */ MIN(val) FROM test", schema,
+                hasChildThat(isInstanceOf(IgniteLimit.class)).negate()
+                        .and(hasChildThat(isInstanceOf(IgniteTableScan.class))));
+    }
+
+    /** Every partition returns a single row of the index, the aggregate is computed over these rows. */
+    private Predicate<RelNode> seekOf(String idxName) {
+        return nodeOrAnyChild(isInstanceOf(IgniteAggregate.class)
+                .and(hasChildThat(isInstanceOf(IgniteLimit.class)
+                        .and(l -> doubleFromRex(l.fetch(), -1) == 1)
+                        .and(input(isInstanceOf(IgniteExchange.class)
+                                .and(input(isInstanceOf(IgniteLimit.class)
+                                        .and(l -> doubleFromRex(l.fetch(), -1) == 1)
+                                        .and(input(isIndexScan("TEST", idxName)))))))))
+                .and(hasChildThat(isInstanceOf(IgniteSort.class)).negate())
+                .and(hasChildThat(isInstanceOf(IgniteTableScan.class)).negate()));
+    }
+
+    private static IgniteSchema createSchemaWithTable(UnaryOperator<TableBuilder> index) {
+        TableBuilder builder = TestBuilders.table()
+                .name("TEST")
+                .addKeyColumn("ID", NativeTypes.INT32)
+                .addColumn("VAL", NativeTypes.INT32, true)
+                .size(1_000)
+                .distribution(IgniteDistributions.random());
+
+        return createSchema(index.apply(builder).build());
+    }
+}
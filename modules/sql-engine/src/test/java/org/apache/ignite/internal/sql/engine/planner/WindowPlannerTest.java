@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import java.util.function.UnaryOperator;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.rel.IgniteSort;
+import org.apache.ignite.internal.sql.engine.rel.IgniteWindow;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Planner test for window functions.
+ */
+public class WindowPlannerTest extends AbstractPlannerTest {
+    @Test
+    public void windowOverSort() throws Exception {
+        IgniteSchema schema = createSchemaFrom(table("TEST"));
+
+        assertPlan("SELECT id, ROW_NUMBER() OVER (PARTITION BY val1 ORDER BY val2) FROM test", schema,
+                nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                        .and(input(isInstanceOf(IgniteSort.class)))));
+    }
+
+    @Test
+    public void windowOverIndexScan() throws Exception {
+        IgniteSchema schema = createSchemaFrom(table("TEST").andThen(addSortIndex("VAL1", "VAL2")));
+
+        assertPlan("SELECT id, SUM(val2) OVER (PARTITION BY val1 ORDER BY val2) FROM test", schema,
+                nodeOrAnyChild(isInstanceOf(IgniteWindow.class))
+                        .and(nodeOrAnyChild(isInstanceOf(IgniteSort.class)).negate())
+                        .and(nodeOrAnyChild(isIndexScan("TEST", "IDX_VAL1_VAL2"))));
+    }
+
+    @Test
+    public void severalWindows() throws Exception {
+        IgniteSchema schema = createSchemaFrom(table("TEST"));
+
+        assertPlan("SELECT id, RANK() OVER (ORDER BY val1), COUNT(*) OVER (PARTITION BY val2) FROM test", schema,
+                nodeOrAnyChild(isInstanceOf(IgniteWindow.class)
+                        .and(hasChildThat(isInstanceOf(IgniteWindow.class)))));
+    }
+
+    private static UnaryOperator<TableBuilder> table(String name) {
+        return t -> t.name(name)
+                .size(1_000)
+                .distribution(IgniteDistributions.single())
+                .addKeyColumn("ID", NativeTypes.INT32)
+                .addColumn("VAL1", NativeTypes.INT32)
+                .addColumn("VAL2", NativeTypes.INT32);
+    }
+}
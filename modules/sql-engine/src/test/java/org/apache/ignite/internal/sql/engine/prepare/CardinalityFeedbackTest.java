@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.UUID;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.sql.engine.exec.ObservedRowCounts;
+import org.apache.ignite.internal.sql.engine.prepare.CardinalityFeedback.ScanEstimate;
+import org.apache.ignite.internal.sql.engine.prepare.CardinalityFeedback.ScanKey;
+import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the cardinality feedback collected from the executed queries.
+ */
+public class CardinalityFeedbackTest {
+    private final CardinalityFeedback feedback = new CardinalityFeedback(CaffeineCacheFactory.INSTANCE, 100, 10);
+
+    @Test
+    public void planIsReoptimizedOnlyIfEstimationIsTooFarFromActualRowCount() {
+        PlanId planId = new PlanId(UUID.randomUUID(), 1);
+
+        Long2ObjectMap<ScanEstimate> estimates = new Long2ObjectOpenHashMap<>();
+
+        estimates.put(0, new ScanEstimate(new ScanKey(1, ImmutableIntList.of(0), ">($t0, 10)"), 1_000));
+        estimates.put(1, new ScanEstimate(new ScanKey(2, null, ""), 100));
+
+        feedback.register(planId, estimates);
+
+        assertFalse(feedback.onQueryCompleted(planId, rowCounts(0, 5_000, 1, 20)));
+
+        // The second scan was not drained, thus its row count is not taken into account.
+        assertFalse(feedback.onQueryCompleted(planId, rowCounts(0, 500)));
+
+        assertTrue(feedback.onQueryCompleted(planId, rowCounts(0, 10, 1, 100)));
+
+        // The plan is to be re-optimized, subsequent executions are ignored.
+        assertFalse(feedback.onQueryCompleted(planId, rowCounts(0, 10, 1, 100)));
+    }
+
+    @Test
+    public void sameConditionOverDifferentColumnsIsDifferentScan() {
+        // Both conditions are ">($t0, 5)", but the first one filters the column 1 of the table and the second one the column 2.
+        ScanKey first = new ScanKey(1, ImmutableIntList.of(1), ">($t0, 5)");
+        ScanKey second = new ScanKey(1, ImmutableIntList.of(2), ">($t0, 5)");
+
+        assertNotEquals(first, second);
+        assertEquals(first, new ScanKey(1, ImmutableIntList.of(1), ">($t0, 5)"));
+    }
+
+    @Test
+    public void unknownPlanIsIgnored() {
+        assertFalse(feedback.onQueryCompleted(new PlanId(UUID.randomUUID(), 1), rowCounts(0, 1_000_000)));
+    }
+
+    @Test
+    public void rowCountsAreMergedFromChildFragments() {
+        ObservedRowCounts local = new ObservedRowCounts();
+
+        ObservedRowCounts.Counter drained = local.counter(0);
+
+        drained.add(30);
+        drained.onEnd();
+        drained.add(10);
+        drained.onEnd();
+
+        // Not drained.
+        local.counter(1).add(100);
+
+        ObservedRowCounts remote = new ObservedRowCounts();
+
+        remote.merge(new long[] {2, 7, 1});
+        remote.merge(new long[] {2, 3, 1});
+        remote.merge(local.toArray());
+
+        Long2LongMap res = remote.toMap(sourceId -> sourceId == 2 ? 2 : 1);
+
+        assertTrue(res.size() == 2 && res.get(0) == 20 && res.get(2) == 10, res.toString());
+    }
+
+    @Test
+    public void scanIsNotReportedUntilAllInstancesHaveEnded() {
+        ObservedRowCounts counts = new ObservedRowCounts();
+
+        // The scan is executed by three instances of the fragment, two of which have ended.
+        counts.merge(new long[] {0, 10, 1});
+        counts.merge(new long[] {0, 15, 1});
+
+        assertTrue(counts.toMap(sourceId -> 3).isEmpty());
+
+        counts.merge(new long[] {0, 5, 1});
+
+        assertEquals(30, counts.toMap(sourceId -> 3).get(0));
+    }
+
+    private static Long2LongMap rowCounts(long... pairs) {
+        Long2LongMap res = new Long2LongOpenHashMap();
+
+        for (int i = 0; i < pairs.length; i += 2) {
+            res.put(pairs[i], pairs[i + 1]);
+        }
+
+        return res;
+    }
+}
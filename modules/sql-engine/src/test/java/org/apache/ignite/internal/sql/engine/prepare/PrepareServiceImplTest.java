@@ -44,6 +44,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -109,6 +110,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -665,6 +667,47 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         });
     }
 
+    @Test
+    public void hotQueriesArePlannedOnRestart(@TempDir Path workDir) throws Exception {
+        IgniteSchema schema = createSchema();
+
+        PrepareServiceImpl service = createPlannerService(schema, workDir);
+
+        await(service.prepareAsync(parse("SELECT * FROM t WHERE a > ?"), createContext(1L)));
+        await(service.prepareAsync(parse("SELECT c FROM t WHERE c > 1"), createContext()));
+
+        List<CacheKey> hotQueries = service.hotQueries();
+
+        assertThat(hotQueries.size(), is(2));
+
+        service.stop();
+
+        PrepareServiceImpl restarted = createPlannerService(schema, workDir);
+
+        Awaitility.await().untilAsserted(() -> assertThat(restarted.cache.size(), is(2)));
+
+        assertEquals(Set.copyOf(hotQueries), Set.copyOf(restarted.hotQueries()));
+    }
+
+    @Test
+    public void hotQueriesArePlannedOnCatalogChange() {
+        AtomicInteger ver = new AtomicInteger();
+        PrepareServiceImpl service = createPlannerService(createSchema(), CaffeineCacheFactory.INSTANCE, 10000,
+                Integer.MAX_VALUE, 1000, ver);
+
+        String query = "SELECT * FROM t WHERE a > ?";
+        QueryPlan plan = await(service.prepareAsync(parse(query), createContext(1L)));
+
+        // The query is planned against the new catalog version once any query is prepared against it.
+        ver.incrementAndGet();
+
+        await(service.prepareAsync(parse("SELECT c FROM t WHERE c > 1"), createContext()));
+
+        Awaitility.await().untilAsserted(() -> assertThat(service.cache.size(), is(3)));
+
+        assertNotSame(plan, await(service.prepareAsync(parse(query), createContext(1L))));
+    }
+
     @Test
     public void invalidatePlannerCache() {
         IgniteSchema schema = new IgniteSchema("PUBLIC", 0, List.of(
@@ -914,6 +957,25 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         return service;
     }
 
+    private PrepareServiceImpl createPlannerService(IgniteSchema schemas, Path hotQueriesDir) {
+        when(clockService.currentLong()).thenReturn(new HybridTimestamp(1_000, 500).longValue());
+
+        AbstractEventProducer<StatisticChangedEvent, StatisticEventParameters> producer = new AbstractEventProducer<>() {};
+
+        PrepareServiceImpl service = new PrepareServiceImpl("test", 1000, CaffeineCacheFactory.INSTANCE,
+                mock(DdlSqlToCommandConverter.class), 10000L, 2, Integer.MAX_VALUE, mock(MetricManagerImpl.class),
+                new PredefinedSchemaManager(schemas), clockService::currentLong, commonExecutor, producer,
+                statisticsConfiguration.autoRefresh().staleRowsCheckIntervalSeconds(), 0, false,
+                PrepareServiceImpl.DEFAULT_WARM_UP_SIZE, hotQueriesDir
+        );
+
+        createdServices.add(service);
+
+        service.start();
+
+        return service;
+    }
+
     private PrepareServiceImpl createPlannerService(
             IgniteSchema schemas,
             CacheFactory cacheFactory,
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.schema;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.rex.RexBuilder;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexUtil;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Operator;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link PartialIndexPredicate}.
+ */
+public class PartialIndexPredicateTest extends BaseIgniteAbstractTest {
+    private static final RelDataTypeFactory TYPE_FACTORY = Commons.typeFactory();
+
+    private static final RexBuilder REX_BUILDER = new RexBuilder(TYPE_FACTORY);
+
+    private static final RelDataType INT_TYPE = TYPE_FACTORY.createTypeWithNullability(
+            TYPE_FACTORY.createSqlType(SqlTypeName.INTEGER), true);
+
+    private static final RelDataType STRING_TYPE = TYPE_FACTORY.createTypeWithNullability(
+            TYPE_FACTORY.createSqlType(SqlTypeName.VARCHAR), true);
+
+    /** Row of a table with columns C1 INT, C2 VARCHAR, C3 INT. */
+    private static final RelDataType ROW_TYPE = TYPE_FACTORY.builder()
+            .add("C1", INT_TYPE)
+            .add("C2", STRING_TYPE)
+            .add("C3", INT_TYPE)
+            .build();
+
+    /** C1 >= 100 AND C2 IS NOT NULL. */
+    private final PartialIndexPredicate predicate = new PartialIndexPredicate(
+            List.of(new Condition(1, Operator.GREATER_THAN_OR_EQUAL, 100), new Condition(2, Operator.IS_NOT_NULL, null)),
+            new int[] {0, 1}
+    );
+
+    @Test
+    public void conditionContainingPredicateImpliesIt() {
+        RexNode condition = RexUtil.composeConjunction(REX_BUILDER, List.of(
+                greaterThanOrEqual(0, 100),
+                REX_BUILDER.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref(1, STRING_TYPE)),
+                REX_BUILDER.makeCall(SqlStdOperatorTable.EQUALS, ref(2, INT_TYPE), intLiteral(1))
+        ));
+
+        assertTrue(impliedBy(null, condition));
+    }
+
+    @Test
+    public void conditionNotRestrictingAllColumnsDoesNotImplyPredicate() {
+        assertFalse(impliedBy(null, greaterThanOrEqual(0, 100)));
+        assertFalse(impliedBy(null, REX_BUILDER.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref(1, STRING_TYPE))));
+    }
+
+    @Test
+    public void weakerConditionDoesNotImplyPredicate() {
+        RexNode condition = RexUtil.composeConjunction(REX_BUILDER, List.of(
+                greaterThanOrEqual(0, 50),
+                REX_BUILDER.makeCall(SqlStdOperatorTable.IS_NOT_NULL, ref(1, STRING_TYPE))
+        ));
+
+        assertFalse(impliedBy(null, condition));
+    }
+
+    @Test
+    public void absentConditionDoesNotImplyPredicate() {
+        assertFalse(impliedBy(null, null));
+    }
+
+    @Test
+    public void predicateOverColumnsNotInRowIsNotImplied() {
+        // Only C1 and C3 are required, thus C2 the predicate refers to is not in the row.
+        RelDataType rowType = TYPE_FACTORY.builder()
+                .add("C1", INT_TYPE)
+                .add("C3", INT_TYPE)
+                .build();
+
+        boolean res = predicate.impliedBy(REX_BUILDER, RexUtil.EXECUTOR, rowType, ImmutableIntList.of(0, 2),
+                greaterThanOrEqual(0, 100));
+
+        assertFalse(res);
+    }
+
+    private boolean impliedBy(ImmutableIntList requiredColumns, RexNode condition) {
+        return predicate.impliedBy(REX_BUILDER, RexUtil.EXECUTOR, ROW_TYPE, requiredColumns, condition);
+    }
+
+    private static RexNode greaterThanOrEqual(int field, int value) {
+        return REX_BUILDER.makeCall(SqlStdOperatorTable.GREATER_THAN_OR_EQUAL, ref(field, INT_TYPE), intLiteral(value));
+    }
+
+    private static RexNode ref(int field, RelDataType type) {
+        return REX_BUILDER.makeInputRef(type, field);
+    }
+
+    private static RexNode intLiteral(int value) {
+        return REX_BUILDER.makeLiteral(value, TYPE_FACTORY.createSqlType(SqlTypeName.INTEGER), false);
+    }
+}
@@ -812,6 +812,7 @@ public class SqlDdlParserTest extends AbstractParserTest {
         assertThat(createIndex.type(), is(IgniteSqlIndexType.IMPLICIT_SORTED));
         assertThat(createIndex.columnList(), hasItem(ofTypeMatching("col", SqlIdentifier.class,
                 id -> id.isSimple() && id.getSimple().equals("COL"))));
+        assertThat(createIndex.where(), nullValue());
 
         expectUnparsed(node, "CREATE INDEX \"MY_INDEX\" ON \"MY_TABLE\" (\"COL\")");
     }
@@ -973,6 +974,24 @@ public class SqlDdlParserTest extends AbstractParserTest {
         );
     }
 
+    @Test
+    public void createPartialIndex() {
+        var query = "create index my_index on my_table (col1) where col1 > 10 and col2 is not null";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlCreateIndex.class));
+
+        var createIndex = (IgniteSqlCreateIndex) node;
+
+        assertThat(createIndex.indexName().getSimple(), is("MY_INDEX"));
+        assertThat(createIndex.where(), instanceOf(SqlBasicCall.class));
+        assertThat(createIndex.where().getKind(), is(SqlKind.AND));
+
+        expectUnparsed(node, "CREATE INDEX \"MY_INDEX\" ON \"MY_TABLE\" (\"COL1\") "
+                + "WHERE \"COL1\" > 10 AND \"COL2\" IS NOT NULL");
+    }
+
     @Test
     public void dropTable() {
         var query = "drop table my_table";
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of sketches and column statistics built from them.
+ */
+public class ColumnStatisticsTest {
+    @Test
+    public void distinctCountEstimation() {
+        HyperLogLog hll = new HyperLogLog();
+
+        for (int i = 0; i < 100_000; i++) {
+            hll.add(i % 10_000);
+        }
+
+        assertEquals(10_000, hll.estimate(), 10_000 * 0.1);
+    }
+
+    @Test
+    public void distinctCountOfMergedSketches() {
+        HyperLogLog hll1 = new HyperLogLog();
+        HyperLogLog hll2 = new HyperLogLog();
+
+        // Overlapping ranges, 15000 distinct values in total.
+        for (int i = 0; i < 10_000; i++) {
+            hll1.add("val" + i);
+            hll2.add("val" + (i + 5_000));
+        }
+
+        hll1.merge(hll2);
+
+        assertEquals(15_000, hll1.estimate(), 15_000 * 0.1);
+    }
+
+    @Test
+    public void nullFractionAndDistinctCount() {
+        ColumnSketch sketch = new ColumnSketch();
+
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(i % 4 == 0 ? null : "val" + (i % 10));
+        }
+
+        ColumnStatistics stats = ColumnStatistics.build(List.of(sketch));
+
+        assertEquals(0.25, stats.nullFraction(), 0.0001);
+        assertEquals(10, stats.distinctCount(), 1);
+        assertFalse(stats.hasHistogram());
+        assertNull(stats.lessThanSelectivity(1.0, false));
+    }
+
+    @Test
+    public void histogramOverPartitionsOfDifferentSize() {
+        // The first partition holds values [0, 1000), the second one holds values [1000, 10000).
+        ColumnSketch small = new ColumnSketch();
+        ColumnSketch large = new ColumnSketch();
+
+        for (int i = 0; i < 1_000; i++) {
+            small.add(i);
+        }
+
+        for (int i = 1_000; i < 10_000; i++) {
+            large.add((long) i);
+        }
+
+        ColumnStatistics stats = ColumnStatistics.build(List.of(small, large));
+
+        assertTrue(stats.hasHistogram());
+        assertEquals(10_000, stats.distinctCount(), 10_000 * 0.1);
+
+        assertEquals(0.1, selectivity(stats.lessThanSelectivity(1_000, false)), 0.05);
+        assertEquals(0.5, selectivity(stats.lessThanSelectivity(5_000, false)), 0.1);
+        assertEquals(0.5, selectivity(stats.greaterThanSelectivity(5_000, true)), 0.1);
+        assertEquals(0.0, selectivity(stats.lessThanSelectivity(-1, true)), 0.001);
+        assertEquals(0.0, selectivity(stats.greaterThanSelectivity(10_000, false)), 0.001);
+    }
+
+    @Test
+    public void serialization() {
+        ColumnSketch intSketch = new ColumnSketch();
+        ColumnSketch strSketch = new ColumnSketch();
+
+        for (int i = 0; i < 1_000; i++) {
+            intSketch.add(i % 7 == 0 ? null : i);
+            strSketch.add("val" + i);
+        }
+
+        List<PartitionSketches> sent = List.of(
+                new PartitionSketches(0, Map.of("ID", intSketch, "NAME", strSketch)),
+                new PartitionSketches(3, Map.of("ID", new ColumnSketch(), "NAME", new ColumnSketch()))
+        );
+
+        List<PartitionSketches> received = PartitionSketches.deserialize(PartitionSketches.serialize(sent));
+
+        assertEquals(2, received.size());
+        assertEquals(3, received.get(1).partitionId());
+
+        Map<String, ColumnStatistics> expected = PartitionSketches.merge(sent);
+        Map<String, ColumnStatistics> merged = PartitionSketches.merge(received);
+
+        TableColumnStatistics stored = TableColumnStatistics.deserialize(new TableColumnStatistics(42L, merged).serialize());
+
+        assertEquals(42L, stored.modificationCounter());
+
+        for (String column : List.of("ID", "NAME")) {
+            ColumnStatistics exp = expected.get(column);
+            ColumnStatistics act = stored.column(column);
+
+            assertNotNull(act);
+            assertEquals(exp.rowCount(), act.rowCount());
+            assertEquals(exp.nullFraction(), act.nullFraction());
+            assertEquals(exp.distinctCount(), act.distinctCount());
+            assertEquals(exp.hasHistogram(), act.hasHistogram());
+            assertEquals(exp.lessThanSelectivity(500, false), act.lessThanSelectivity(500, false));
+        }
+    }
+
+    private static double selectivity(@Nullable Double selectivity) {
+        assertNotNull(selectivity);
+
+        return selectivity;
+    }
+}
@@ -20,6 +20,9 @@ package org.apache.ignite.internal.sql.engine.statistic;
 import static it.unimi.dsi.fastutil.ints.Int2ObjectMap.entry;
 import static org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl.DEFAULT_TABLE_SIZE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -36,9 +39,11 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -68,6 +73,7 @@ import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.apache.ignite.sql.ColumnType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
@@ -517,6 +523,86 @@ class SqlStatisticManagerImplTest extends BaseIgniteAbstractTest {
         assertEquals(tableSize, sqlStatisticManager.tableSize(tableId));
     }
 
+    @Test
+    public void checkColumnStatisticsRefreshedAndStored(@TempDir Path workDir) {
+        int tableId = ThreadLocalRandom.current().nextInt();
+
+        HybridTimestamp time1 = HybridTimestamp.MAX_VALUE.subtractPhysicalTime(1000);
+        HybridTimestamp time2 = HybridTimestamp.MAX_VALUE.subtractPhysicalTime(500);
+
+        ColumnStatistics stats1 = new ColumnStatistics(100, 10, 50, null);
+        ColumnStatistics stats2 = new ColumnStatistics(200, 0, 20, null);
+
+        // Preparing:
+        prepareCatalogWithTable(tableId);
+        prepareTaskScheduler();
+
+        when(tableManager.cachedTable(tableId)).thenReturn(tableViewInternal);
+        when(tableViewInternal.internalTable()).thenReturn(internalTable);
+
+        when(statAggregator.estimatedSizeWithLastUpdate(List.of(internalTable)))
+                .thenReturn(
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(100, time1.longValue())))),
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(100, time1.longValue())))),
+                        CompletableFuture.completedFuture(Int2ObjectMap.ofEntries(
+                                entry(tableId, new PartitionModificationInfo(200, time2.longValue()))))
+                );
+        when(statAggregator.columnStatistics(internalTable))
+                .thenReturn(
+                        CompletableFuture.completedFuture(Map.of("PKCOL", stats1)),
+                        CompletableFuture.completedFuture(Map.of("PKCOL", stats2))
+                );
+
+        SqlStatisticManagerImpl sqlStatisticManager = newSqlStatisticsManager(workDir);
+        sqlStatisticManager.start();
+
+        assertNull(sqlStatisticManager.columnStatistics(tableId, "PKCOL"));
+
+        runScheduledTasks();
+        assertSame(stats1, sqlStatisticManager.columnStatistics(tableId, "PKCOL"));
+        assertNull(sqlStatisticManager.columnStatistics(tableId, "UNKNOWN"));
+
+        // Table was not modified, statistics are not collected once again.
+        sqlStatisticManager.forceUpdateAll();
+        assertSame(stats1, sqlStatisticManager.columnStatistics(tableId, "PKCOL"));
+        verify(statAggregator, times(1)).columnStatistics(internalTable);
+
+        sqlStatisticManager.forceUpdateAll();
+        assertSame(stats2, sqlStatisticManager.columnStatistics(tableId, "PKCOL"));
+        verify(statAggregator, times(2)).columnStatistics(internalTable);
+
+        sqlStatisticManager.stop();
+
+        // Statistics are loaded from the disk on start.
+        SqlStatisticManagerImpl restarted = newSqlStatisticsManager(workDir);
+        restarted.start();
+
+        ColumnStatistics restored = restarted.columnStatistics(tableId, "PKCOL");
+
+        assertNotNull(restored);
+        assertEquals(200, restored.rowCount());
+        assertEquals(20, restored.distinctCount());
+        assertEquals(time2.longValue(), restarted.columnStatsMap.get(tableId).modificationCounter());
+    }
+
+    private SqlStatisticManagerImpl newSqlStatisticsManager(Path workDir) {
+        ConfigurationValue<Integer> checkInterval = statisticsConfiguration.autoRefresh().staleRowsCheckIntervalSeconds();
+        checkInterval.update(UPDATE_INTERVAL_SECONDS).join();
+
+        return new SqlStatisticManagerImpl(
+                tableManager,
+                catalogManager,
+                lowWatermark,
+                scheduledExecutorService,
+                statAggregator,
+                statAggregator,
+                workDir,
+                checkInterval
+        );
+    }
+
     private SqlStatisticManagerImpl newSqlStatisticsManager() {
         return newSqlStatisticsManager(UPDATE_INTERVAL_SECONDS);
     }
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -187,6 +188,26 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     ReadResult read(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Reads the values of several rows from the storage as they were at the given timestamp, see {@link #read(RowId, HybridTimestamp)}.
+     *
+     * <p>Storages may override this method to read the whole batch at once, e.g. under a single busy section, instead of reading
+     * rows one by one.
+     *
+     * @param rowIds Row ids.
+     * @param timestamp Timestamp.
+     * @return Read results in the order of the given row ids.
+     */
+    default List<ReadResult> read(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        List<ReadResult> res = new ArrayList<>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            res.add(read(rowId, timestamp));
+        }
+
+        return res;
+    }
+
     /**
      * Creates (or replaces) an uncommitted (aka pending) version, assigned to the given transaction ID.
      *
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.storage.index;
+
+import org.apache.ignite.internal.schema.BinaryTuplePrefix;
+import org.apache.ignite.internal.tostring.S;
+import org.intellij.lang.annotations.MagicConstant;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Range of a {@link SortedIndexStorage} to scan.
+ */
+public final class IndexScanRange {
+    private final @Nullable BinaryTuplePrefix lowerBound;
+
+    private final @Nullable BinaryTuplePrefix upperBound;
+
+    private final int flags;
+
+    /**
+     * Constructor.
+     *
+     * @param lowerBound Lower bound. Exclusivity is controlled by a {@link SortedIndexStorage#GREATER_OR_EQUAL} or
+     *      {@link SortedIndexStorage#GREATER} flag. {@code null} means unbounded.
+     * @param upperBound Upper bound. Exclusivity is controlled by a {@link SortedIndexStorage#LESS} or
+     *      {@link SortedIndexStorage#LESS_OR_EQUAL} flag. {@code null} means unbounded.
+     * @param flags Control flags.
+     */
+    public IndexScanRange(
+            @Nullable BinaryTuplePrefix lowerBound,
+            @Nullable BinaryTuplePrefix upperBound,
+            @MagicConstant(flagsFromClass = SortedIndexStorage.class) int flags
+    ) {
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.flags = flags;
+    }
+
+    /** Returns the lower bound, {@code null} means unbounded. */
+    public @Nullable BinaryTuplePrefix lowerBound() {
+        return lowerBound;
+    }
+
+    /** Returns the upper bound, {@code null} means unbounded. */
+    public @Nullable BinaryTuplePrefix upperBound() {
+        return upperBound;
+    }
+
+    /** Returns the control flags. */
+    public int flags() {
+        return flags;
+    }
+
+    @Override
+    public String toString() {
+        return S.toString(IndexScanRange.class, this);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.storage.index;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor over several ranges of a sorted index, the ranges are scanned one after another in the given order.
+ *
+ * <p>A cursor of a range is opened only once the cursor of the previous range is exhausted, thus at most one underlying cursor is
+ * open at a time.
+ */
+final class MultiRangeCursor implements Cursor<IndexRow> {
+    private final Iterator<IndexScanRange> ranges;
+
+    private final Function<IndexScanRange, Cursor<IndexRow>> scan;
+
+    private @Nullable Cursor<IndexRow> current;
+
+    private boolean closed;
+
+    MultiRangeCursor(List<IndexScanRange> ranges, Function<IndexScanRange, Cursor<IndexRow>> scan) {
+        this.ranges = ranges.iterator();
+        this.scan = scan;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+
+        while (current == null || !current.hasNext()) {
+            if (current != null) {
+                current.close();
+
+                current = null;
+            }
+
+            if (!ranges.hasNext()) {
+                return false;
+            }
+
+            current = scan.apply(ranges.next());
+        }
+
+        return true;
+    }
+
+    @Override
+    public IndexRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        if (current != null) {
+            current.close();
+
+            current = null;
+        }
+    }
+}
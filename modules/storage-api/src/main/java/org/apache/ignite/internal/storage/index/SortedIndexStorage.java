@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.index;
 
+import java.util.List;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -90,6 +91,27 @@ public interface SortedIndexStorage extends IndexStorage {
         return scan(lowerBound, upperBound, flags);
     }
 
+    /**
+     * Returns index values of several ranges in a single pass, use in read-only transactions. The ranges are scanned in the
+     * given order, thus the values are returned in the index order if the ranges are sorted and don't overlap.
+     *
+     * @param ranges Ranges to scan.
+     * @return Cursor with fetched index rows.
+     * @throws IllegalArgumentException If backwards flag is passed and backwards iteration is not supported by the storage.
+     * @throws StorageException If failed to read data.
+     * @throws IndexNotBuiltException If the index has not yet been built.
+     * @see #readOnlyScan(BinaryTuplePrefix, BinaryTuplePrefix, int)
+     */
+    default Cursor<IndexRow> readOnlyScan(List<IndexScanRange> ranges) {
+        if (ranges.size() == 1) {
+            IndexScanRange range = ranges.get(0);
+
+            return readOnlyScan(range.lowerBound(), range.upperBound(), range.flags());
+        }
+
+        return new MultiRangeCursor(ranges, range -> readOnlyScan(range.lowerBound(), range.upperBound(), range.flags()));
+    }
+
     /**
      * Returns a range of updatable index values between the lower bound and the upper bound, supporting read-write transactions.
      *
@@ -93,6 +93,37 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertNull(read(rowId, clock.now()));
     }
 
+    /**
+     * Tests that a batched read returns the same results as reads of the rows one by one.
+     */
+    @Test
+    public void testBatchedRead() {
+        RowId committed = new RowId(PARTITION_ID);
+        addWriteCommitted(committed, binaryRow, clock.now());
+
+        RowId writeIntent = insert(binaryRow2, txId);
+        RowId missing = new RowId(PARTITION_ID);
+
+        HybridTimestamp readTs = clock.now();
+
+        List<ReadResult> results = storage.read(List.of(missing, writeIntent, committed, writeIntent), readTs);
+
+        assertEquals(4, results.size());
+
+        assertTrue(results.get(0).isEmpty());
+        assertEquals(missing, results.get(0).rowId());
+
+        assertTrue(results.get(1).isWriteIntent());
+        assertThat(results.get(1).binaryRow(), isRow(binaryRow2));
+
+        assertFalse(results.get(2).isWriteIntent());
+        assertThat(results.get(2).binaryRow(), isRow(binaryRow));
+
+        assertThat(results.get(3).binaryRow(), isRow(binaryRow2));
+
+        assertEquals(List.of(), storage.read(List.of(), readTs));
+    }
+
     @ParameterizedTest
     @EnumSource
     public void testScanOverEmpty(ScanTimestampProvider tsProvider) {
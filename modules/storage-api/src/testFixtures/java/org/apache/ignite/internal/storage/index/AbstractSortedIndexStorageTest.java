@@ -542,6 +542,34 @@ public abstract class AbstractSortedIndexStorageTest extends AbstractIndexStorag
         }
     }
 
+    /**
+     * Tests that {@link SortedIndexStorage#readOnlyScan(List)} returns the rows of all the ranges in the order of the ranges.
+     */
+    @Test
+    void testReadOnlyMultiRangeScan() {
+        SortedIndexStorage indexStorage = createIndexStorage(INDEX_NAME, ColumnType.INT32);
+
+        BinaryTupleRowSerializer serializer = new BinaryTupleRowSerializer(indexStorage.indexDescriptor());
+
+        for (int i = 0; i < 10; i++) {
+            put(indexStorage, serializer.serializeRow(new Object[]{i}, new RowId(TEST_PARTITION)));
+        }
+
+        List<IndexScanRange> ranges = List.of(
+                new IndexScanRange(serializer.serializeRowPrefix(1), serializer.serializeRowPrefix(1), GREATER_OR_EQUAL | LESS_OR_EQUAL),
+                new IndexScanRange(serializer.serializeRowPrefix(3), serializer.serializeRowPrefix(5), GREATER | LESS_OR_EQUAL),
+                new IndexScanRange(serializer.serializeRowPrefix(6), serializer.serializeRowPrefix(7), GREATER | LESS),
+                new IndexScanRange(serializer.serializeRowPrefix(8), null, GREATER_OR_EQUAL)
+        );
+
+        assertThat(
+                scan(indexStorage, index -> index.readOnlyScan(ranges)).stream()
+                        .map(row -> (Integer) row[0])
+                        .collect(toList()),
+                contains(1, 4, 5, 8, 9)
+        );
+    }
+
     /**
      * Checks simple scenarios for a scanning cursor.
      */
@@ -227,22 +227,41 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return busy(() -> {
             throwExceptionIfStorageNotInRunnableState();
 
-            if (rowId.partitionId() != partitionId) {
-                throw new IllegalArgumentException(
-                        String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+            return read0(rowId, timestamp);
+        });
+    }
+
+    @Override
+    public List<ReadResult> read(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            List<ReadResult> res = new ArrayList<>(rowIds.size());
+
+            for (RowId rowId : rowIds) {
+                res.add(read0(rowId, timestamp));
             }
 
-            return findVersionChain(rowId, versionChain -> {
-                if (versionChain == null) {
-                    return ReadResult.empty(rowId);
-                }
+            return res;
+        });
+    }
 
-                if (lookingForLatestVersion(timestamp)) {
-                    return findLatestRowVersion(versionChain);
-                } else {
-                    return findRowVersionByTimestamp(versionChain, timestamp);
-                }
-            });
+    private ReadResult read0(RowId rowId, HybridTimestamp timestamp) {
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
+
+        return findVersionChain(rowId, versionChain -> {
+            if (versionChain == null) {
+                return ReadResult.empty(rowId);
+            }
+
+            if (lookingForLatestVersion(timestamp)) {
+                return findLatestRowVersion(versionChain);
+            } else {
+                return findRowVersionByTimestamp(versionChain, timestamp);
+            }
         });
     }
 
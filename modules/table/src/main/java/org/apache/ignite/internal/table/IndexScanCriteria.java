@@ -17,12 +17,13 @@
 
 package org.apache.ignite.internal.table;
 
+import java.util.List;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Index scan criteria for range scan and lookup index operations.
+ * Index scan criteria for range scan, multi-range scan and lookup index operations.
  */
 public interface IndexScanCriteria {
     /** Creates range scan criteria. */
@@ -30,6 +31,14 @@ public interface IndexScanCriteria {
         return new Range(lowerBound, upperBound, flags);
     }
 
+    /**
+     * Creates criteria to scan several ranges in a single pass, supported by read-only transactions only. The ranges must be sorted
+     * in the index order and must not overlap.
+     */
+    static MultiRange ranges(List<Range> ranges) {
+        return new MultiRange(ranges);
+    }
+
     /** Creates lookup criteria. */
     static Lookup lookup(BinaryTuple key) {
         return new Lookup(key);
@@ -72,6 +81,22 @@ public interface IndexScanCriteria {
         }
     }
 
+    /**
+     * Criteria to scan several ranges in a single pass.
+     */
+    class MultiRange implements IndexScanCriteria {
+        private final List<Range> ranges;
+
+        private MultiRange(List<Range> ranges) {
+            this.ranges = List.copyOf(ranges);
+        }
+
+        /** Get ranges. */
+        public List<Range> ranges() {
+            return ranges;
+        }
+    }
+
     /**
      * Lookup criteria.
      */
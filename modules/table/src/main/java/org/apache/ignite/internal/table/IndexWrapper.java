@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.table;
 
+import java.util.function.Predicate;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
@@ -33,12 +35,20 @@ abstract class IndexWrapper {
     final LockManager lockManager;
     final int indexId;
     final ColumnsExtractor indexRowResolver;
-
-    private IndexWrapper(InternalTable tbl, LockManager lockManager, int indexId, ColumnsExtractor indexRowResolver) {
+    final @Nullable Predicate<BinaryRow> rowFilter;
+
+    private IndexWrapper(
+            InternalTable tbl,
+            LockManager lockManager,
+            int indexId,
+            ColumnsExtractor indexRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter
+    ) {
         this.tbl = tbl;
         this.lockManager = lockManager;
         this.indexId = indexId;
         this.indexRowResolver = indexRowResolver;
+        this.rowFilter = rowFilter;
     }
 
     /**
@@ -59,8 +69,15 @@ abstract class IndexWrapper {
     static class SortedIndexWrapper extends IndexWrapper {
         private final boolean unique;
 
-        SortedIndexWrapper(InternalTable tbl, LockManager lockManager, int indexId, ColumnsExtractor indexRowResolver, boolean unique) {
-            super(tbl, lockManager, indexId, indexRowResolver);
+        SortedIndexWrapper(
+                InternalTable tbl,
+                LockManager lockManager,
+                int indexId,
+                ColumnsExtractor indexRowResolver,
+                @Nullable Predicate<BinaryRow> rowFilter,
+                boolean unique
+        ) {
+            super(tbl, lockManager, indexId, indexRowResolver, rowFilter);
 
             this.unique = unique;
         }
@@ -76,7 +93,8 @@ abstract class IndexWrapper {
             return new TableSchemaAwareIndexStorage(
                     indexId,
                     index,
-                    indexRowResolver
+                    indexRowResolver,
+                    rowFilter
             );
         }
 
@@ -101,9 +119,15 @@ abstract class IndexWrapper {
     static class HashIndexWrapper extends IndexWrapper {
         private final boolean unique;
 
-        HashIndexWrapper(InternalTable tbl, LockManager lockManager, int indexId, ColumnsExtractor indexRowResolver,
-                boolean unique) {
-            super(tbl, lockManager, indexId, indexRowResolver);
+        HashIndexWrapper(
+                InternalTable tbl,
+                LockManager lockManager,
+                int indexId,
+                ColumnsExtractor indexRowResolver,
+                @Nullable Predicate<BinaryRow> rowFilter,
+                boolean unique
+        ) {
+            super(tbl, lockManager, indexId, indexRowResolver, rowFilter);
             this.unique = unique;
         }
 
@@ -118,7 +142,8 @@ abstract class IndexWrapper {
             return new TableSchemaAwareIndexStorage(
                     indexId,
                     index,
-                    indexRowResolver
+                    indexRowResolver,
+                    rowFilter
             );
         }
 
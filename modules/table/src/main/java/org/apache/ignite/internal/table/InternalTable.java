@@ -343,6 +343,26 @@ public interface InternalTable extends ManuallyCloseable {
             OperationContext operationContext
     );
 
+    /**
+     * Scans rows of given partition which IDs are within a range within a read-only transaction, providing {@link Publisher} that
+     * reactively notifies about partition rows. Several ranges of the same partition may be scanned concurrently, see
+     * {@link #rowIdSplitPoints(int, int)}.
+     *
+     * @param partId The partition.
+     * @param recipientNode Cluster node that will handle given get request.
+     * @param lowerRowId Lowest row ID to scan (inclusive), or {@code null} if not bounded.
+     * @param upperRowId Row ID to stop the scan at (exclusive), or {@code null} if not bounded.
+     * @param operationContext Operation context of a read-only transaction.
+     * @return {@link Publisher} that reactively notifies about partition rows.
+     */
+    Publisher<BinaryRow> scan(
+            int partId,
+            InternalClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            OperationContext operationContext
+    );
+
     /**
      * Scans given partition index, providing {@link Publisher}
      * that reactively notifies about partition rows.
@@ -362,6 +382,26 @@ public interface InternalTable extends ManuallyCloseable {
             OperationContext operationContext
     );
 
+    /**
+     * Scans given partition index within a read-only transaction, providing {@link Publisher} that reactively notifies about the
+     * index rows of the partition rows. Every produced row holds the values of the indexed columns in the order of the index
+     * columns, the table row is only read by the replica to check that the index row matches the version visible to the transaction.
+     *
+     * @param partId The partition.
+     * @param recipientNode Cluster node that will handle given get request.
+     * @param indexId Index id.
+     * @param criteria Index scan criteria.
+     * @param operationContext Operation context of a read-only transaction.
+     * @return {@link Publisher} that reactively notifies about index rows.
+     */
+    Publisher<BinaryRow> indexOnlyScan(
+            int partId,
+            InternalClusterNode recipientNode,
+            int indexId,
+            IndexScanCriteria criteria,
+            OperationContext operationContext
+    );
+
     /**
      * Scans given partition within a read-write transaction with explicit index and range criteria specification, providing
      * {@link Publisher} that reactively notifies about partition rows.
@@ -432,6 +472,17 @@ public interface InternalTable extends ManuallyCloseable {
      */
     CompletableFuture<Long> estimatedSize();
 
+    /**
+     * Returns row IDs which split given partition into ranges of roughly the same number of rows, to be scanned concurrently with
+     * {@link #scan(int, InternalClusterNode, UUID, UUID, OperationContext)}. A partition which is too small to be split is not split
+     * at all, that is no row IDs are returned.
+     *
+     * @param partId The partition.
+     * @param count Maximal number of ranges.
+     * @return Row IDs sorted in ascending order.
+     */
+    CompletableFuture<List<UUID>> rowIdSplitPoints(int partId, int count);
+
     /**
      * Returns the streamer receiver runner.
      *
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.failure.FailureContext;
@@ -31,6 +32,7 @@ import org.apache.ignite.internal.failure.FailureProcessor;
 import org.apache.ignite.internal.failure.handlers.NoOpFailureHandler;
 import org.apache.ignite.internal.marshaller.MarshallersProvider;
 import org.apache.ignite.internal.marshaller.ReflectionMarshallersProvider;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryRowEx;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
@@ -285,13 +287,14 @@ public class TableImpl implements TableViewInternal {
             StorageHashIndexDescriptor indexDescriptor,
             boolean unique,
             ColumnsExtractor searchRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter,
             PartitionSet partitions
     ) {
         int indexId = indexDescriptor.id();
 
         partitions.stream().forEach(partitionId -> tbl.storage().createHashIndex(partitionId, indexDescriptor));
 
-        indexWrapperById.put(indexId, new HashIndexWrapper(tbl, lockManager, indexId, searchRowResolver, unique));
+        indexWrapperById.put(indexId, new HashIndexWrapper(tbl, lockManager, indexId, searchRowResolver, rowFilter, unique));
     }
 
     @Override
@@ -299,13 +302,14 @@ public class TableImpl implements TableViewInternal {
             StorageSortedIndexDescriptor indexDescriptor,
             boolean unique,
             ColumnsExtractor searchRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter,
             PartitionSet partitions
     ) {
         int indexId = indexDescriptor.id();
 
         partitions.stream().forEach(partitionId -> tbl.storage().createSortedIndex(partitionId, indexDescriptor));
 
-        indexWrapperById.put(indexId, new SortedIndexWrapper(tbl, lockManager, indexId, searchRowResolver, unique));
+        indexWrapperById.put(indexId, new SortedIndexWrapper(tbl, lockManager, indexId, searchRowResolver, rowFilter, unique));
     }
 
     @Override
@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.table;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
@@ -102,11 +104,13 @@ public interface TableViewInternal extends Table {
      * @param indexDescriptor Index descriptor.
      * @param unique A flag indicating whether the given index unique or not.
      * @param searchRowResolver Function which converts given table row to an index key.
+     * @param rowFilter Filter of the rows covered by a partial index, {@code null} if the index covers all rows.
      */
     void registerHashIndex(
             StorageHashIndexDescriptor indexDescriptor,
             boolean unique,
             ColumnsExtractor searchRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter,
             PartitionSet partitions
     );
 
@@ -116,11 +120,13 @@ public interface TableViewInternal extends Table {
      * @param indexDescriptor Index descriptor.
      * @param unique A flag indicating whether the given index unique or not.
      * @param searchRowResolver Function which converts given table row to an index key.
+     * @param rowFilter Filter of the rows covered by a partial index, {@code null} if the index covers all rows.
      */
     void registerSortedIndex(
             StorageSortedIndexDescriptor indexDescriptor,
             boolean unique,
             ColumnsExtractor searchRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter,
             PartitionSet partitions
     );
 
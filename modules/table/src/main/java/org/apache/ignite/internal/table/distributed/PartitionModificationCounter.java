@@ -35,6 +35,8 @@ public class PartitionModificationCounter {
     private final SizeSupplier partitionSizeSupplier;
     private final StalenessConfigurationSupplier stalenessConfigurationSupplier;
 
+    private final HybridTimestamp creationTimestamp;
+
     private final AtomicLong counter = new AtomicLong(0);
     private volatile long nextMilestone;
     private volatile HybridTimestamp lastMilestoneReachedTimestamp;
@@ -46,6 +48,7 @@ public class PartitionModificationCounter {
             StalenessConfigurationSupplier stalenessConfigurationSupplier
     ) {
         lastMilestoneReachedTimestamp = Objects.requireNonNull(initTimestamp, "initTimestamp");
+        creationTimestamp = initTimestamp;
         this.partitionSizeSupplier = Objects.requireNonNull(partitionSizeSupplier, "partitionSizeSupplier");
         this.stalenessConfigurationSupplier = Objects.requireNonNull(stalenessConfigurationSupplier, "configurationProvider");
 
@@ -63,6 +66,14 @@ public class PartitionModificationCounter {
         return counter.get();
     }
 
+    /**
+     * Returns a timestamp the counter was created at. A partition recreated on the same node gets a new counter which value starts
+     * over, the timestamp distinguishes the counters.
+     */
+    public HybridTimestamp creationTimestamp() {
+        return creationTimestamp;
+    }
+
     /** Returns partition estimated size. */
     public long estimatedSize() {
         return partitionSizeSupplier.get();
@@ -18,9 +18,12 @@
 package org.apache.ignite.internal.table.distributed;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.network.InternalClusterNode;
@@ -28,6 +31,7 @@ import org.apache.ignite.internal.network.MessagingService;
 import org.apache.ignite.internal.network.NetworkMessage;
 import org.apache.ignite.internal.replicator.TablePartitionId;
 import org.apache.ignite.internal.table.message.GetEstimatedSizeWithLastModifiedTsRequest;
+import org.apache.ignite.internal.table.message.GetModificationCountersRequest;
 import org.apache.ignite.internal.table.message.PartitionModificationInfoMessage;
 import org.apache.ignite.internal.table.message.TableMessageGroup;
 import org.apache.ignite.internal.table.message.TableMessagesFactory;
@@ -97,7 +101,43 @@ public class PartitionModificationCounterFactory {
     private void handleMessage(NetworkMessage message, InternalClusterNode sender, @Nullable Long correlationId) {
         if (message instanceof GetEstimatedSizeWithLastModifiedTsRequest) {
             handleRequestCounter(sender);
+        } else if (message instanceof GetModificationCountersRequest) {
+            assert correlationId != null;
+
+            handleRequestModificationCounters((GetModificationCountersRequest) message, sender, correlationId);
+        }
+    }
+
+    private void handleRequestModificationCounters(GetModificationCountersRequest request, InternalClusterNode sender, long correlationId) {
+        Set<Integer> tables = new HashSet<>(request.tables());
+        List<Map.Entry<TablePartitionId, PartitionModificationCounter>> counters = new ArrayList<>();
+
+        synchronized (this) {
+            for (Map.Entry<TablePartitionId, PartitionModificationCounter> ent : partitionsInfo.entrySet()) {
+                if (tables.contains(ent.getKey().tableId())) {
+                    counters.add(ent);
+                }
+            }
         }
+
+        counters.sort(Comparator.comparingLong(ent -> packPartitionId(ent.getKey())));
+
+        long[] res = new long[counters.size() * 3];
+        int idx = 0;
+
+        for (Map.Entry<TablePartitionId, PartitionModificationCounter> ent : counters) {
+            PartitionModificationCounter counter = ent.getValue();
+
+            res[idx++] = packPartitionId(ent.getKey());
+            res[idx++] = counter.creationTimestamp().longValue();
+            res[idx++] = counter.value();
+        }
+
+        messagingService.respond(sender, TABLE_MESSAGES_FACTORY.getModificationCountersResponse().counters(res).build(), correlationId);
+    }
+
+    private static long packPartitionId(TablePartitionId id) {
+        return ((long) id.tableId() << 32) | id.partitionId();
     }
 
     private void handleRequestCounter(InternalClusterNode sender) {
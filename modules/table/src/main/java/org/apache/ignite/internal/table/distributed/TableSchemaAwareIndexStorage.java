@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed;
 
 import java.nio.ByteBuffer;
+import java.util.function.Predicate;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
@@ -28,6 +29,7 @@ import org.apache.ignite.internal.storage.index.IndexRowImpl;
 import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An adapter that provides an index storage with a notion of the structure of a table row,
@@ -38,6 +40,9 @@ public class TableSchemaAwareIndexStorage {
     private final IndexStorage storage;
     private final ColumnsExtractor indexRowResolver;
 
+    /** Filter of the rows covered by a partial index, {@code null} if the index covers all rows. */
+    private final @Nullable Predicate<BinaryRow> rowFilter;
+
     private final int columnCount;
 
     /** Constructs the object. */
@@ -45,10 +50,28 @@ public class TableSchemaAwareIndexStorage {
             int indexId,
             IndexStorage storage,
             ColumnsExtractor indexRowResolver
+    ) {
+        this(indexId, storage, indexRowResolver, null);
+    }
+
+    /**
+     * Constructs the object.
+     *
+     * @param indexId Index ID.
+     * @param storage Index storage.
+     * @param indexRowResolver Function which converts given table row to an index key.
+     * @param rowFilter Filter of the rows covered by a partial index, {@code null} if the index covers all rows.
+     */
+    public TableSchemaAwareIndexStorage(
+            int indexId,
+            IndexStorage storage,
+            ColumnsExtractor indexRowResolver,
+            @Nullable Predicate<BinaryRow> rowFilter
     ) {
         this.indexId = indexId;
         this.storage = storage;
         this.indexRowResolver = indexRowResolver;
+        this.rowFilter = rowFilter;
 
         if (storage instanceof HashIndexStorage) {
             columnCount = ((HashIndexStorage) storage).indexDescriptor().columns().size();
@@ -72,24 +95,41 @@ public class TableSchemaAwareIndexStorage {
     }
 
     /**
-     * Inserts the given table row to an index storage.
+     * Returns {@code true} if the given table row is supposed to be in the index, i.e. it satisfies the predicate of a partial index.
+     *
+     * @param binaryRow A table row.
+     */
+    public boolean covers(BinaryRow binaryRow) {
+        return rowFilter == null || rowFilter.test(binaryRow);
+    }
+
+    /**
+     * Inserts the given table row to an index storage. Rows not {@link #covers covered} by the index are skipped.
      *
      * @param binaryRow A table row to insert.
      * @param rowId An identifier of a row in a main storage.
      */
     public void put(BinaryRow binaryRow, RowId rowId) {
+        if (!covers(binaryRow)) {
+            return;
+        }
+
         BinaryTuple tuple = indexRowResolver.extractColumns(binaryRow);
 
         storage.put(new IndexRowImpl(tuple, rowId));
     }
 
     /**
-     * Removes the given table row from an index storage.
+     * Removes the given table row from an index storage. Rows not {@link #covers covered} by the index are skipped.
      *
      * @param binaryRow A table row to remove.
      * @param rowId An identifier of a row in a main storage.
      */
     public void remove(BinaryRow binaryRow, RowId rowId) {
+        if (!covers(binaryRow)) {
+            return;
+        }
+
         BinaryTuple tuple = indexRowResolver.extractColumns(binaryRow);
 
         storage.remove(new IndexRowImpl(tuple, rowId));
@@ -117,6 +117,13 @@ public class IndexUpdateHandler {
         for (int i = 0; i < indexes.length; i++) {
             TableSchemaAwareIndexStorage index = indexes[i];
 
+            // The row is not in a partial index which doesn't cover it, thus there is nothing to remove.
+            if (!index.covers(rowToRemove)) {
+                indexes[i] = null;
+
+                continue;
+            }
+
             indexValues[i] = index.indexRowResolver().extractColumns(rowToRemove).byteBuffer();
         }
 
@@ -135,10 +142,11 @@ public class IndexUpdateHandler {
                     }
 
                     // If any of the previous versions' index value equals the index value of
-                    // the row to remove, then we can't remove that index as it can still be used.
+                    // the row to remove, then we can't remove that index as it can still be used,
+                    // unless the previous version is not covered by a partial index.
                     BinaryTuple previousRowIndex = index.indexRowResolver().extractColumns(previousRow);
 
-                    if (indexValues[i].equals(previousRowIndex.byteBuffer())) {
+                    if (indexValues[i].equals(previousRowIndex.byteBuffer()) && index.covers(previousRow)) {
                         indexes[i] = null;
                     }
                 }
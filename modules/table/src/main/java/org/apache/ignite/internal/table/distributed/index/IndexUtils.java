@@ -18,12 +18,15 @@
 package org.apache.ignite.internal.table.distributed.index;
 
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import java.util.function.Predicate;
 import org.apache.ignite.internal.catalog.Catalog;
 import org.apache.ignite.internal.catalog.CatalogService;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
 import org.apache.ignite.internal.catalog.descriptors.CatalogIndexStatus;
 import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.SchemaRegistry;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptor;
@@ -58,11 +61,18 @@ public class IndexUtils {
                 storageIndexDescriptor.columns().stream().map(StorageColumnDescriptor::name).toArray(String[]::new)
         );
 
+        CatalogIndexPredicate predicate = indexDescriptor.predicate();
+
+        Predicate<BinaryRow> rowFilter = predicate == null
+                ? null
+                : new PartialIndexRowFilter(schemaRegistry, tableDescriptor, predicate);
+
         if (storageIndexDescriptor instanceof StorageSortedIndexDescriptor) {
             table.registerSortedIndex(
                     (StorageSortedIndexDescriptor) storageIndexDescriptor,
                     indexDescriptor.unique(),
                     tableRowConverter,
+                    rowFilter,
                     partitionSet
             );
         } else {
@@ -70,6 +80,7 @@ public class IndexUtils {
                     (StorageHashIndexDescriptor) storageIndexDescriptor,
                     indexDescriptor.unique(),
                     tableRowConverter,
+                    rowFilter,
                     partitionSet
             );
         }
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.index;
+
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexPredicate.Condition;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableColumnDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowConverter;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.schema.BinaryTupleSchema;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.ColumnsExtractor;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+
+/** Evaluates the predicate of a partial index against table rows, only rows satisfying the predicate are put into the index. */
+class PartialIndexRowFilter implements Predicate<BinaryRow> {
+    private final SchemaRegistry registry;
+
+    private final CatalogIndexPredicate predicate;
+
+    /** Names of the columns the predicate refers to. */
+    private final String[] columnNames;
+
+    /** Index of a column in {@link #columnNames} by ID of the column. */
+    private final Int2IntMap indexByColumnId = new Int2IntOpenHashMap();
+
+    private final Object mutex = new Object();
+
+    private volatile VersionedFilter filter = new VersionedFilter(-1, null, null);
+
+    PartialIndexRowFilter(SchemaRegistry registry, CatalogTableDescriptor tableDescriptor, CatalogIndexPredicate predicate) {
+        this.registry = registry;
+        this.predicate = predicate;
+
+        List<String> names = new ArrayList<>();
+
+        for (Condition condition : predicate.conditions()) {
+            int columnId = condition.columnId();
+
+            if (indexByColumnId.containsKey(columnId)) {
+                continue;
+            }
+
+            CatalogTableColumnDescriptor column = tableDescriptor.columnById(columnId);
+
+            assert column != null : "tableId=" + tableDescriptor.id() + ", columnId=" + columnId;
+
+            indexByColumnId.put(columnId, names.size());
+            names.add(column.name());
+        }
+
+        this.columnNames = names.toArray(String[]::new);
+    }
+
+    @Override
+    public boolean test(BinaryRow row) {
+        VersionedFilter filter = filter(row.schemaVersion());
+
+        BinaryTuple tuple = filter.extractor.extractColumns(row);
+
+        return predicate.test(columnId -> filter.tupleSchema.value(tuple, indexByColumnId.get(columnId)));
+    }
+
+    private VersionedFilter filter(int schemaVersion) {
+        VersionedFilter filter = this.filter;
+
+        if (filter.version != schemaVersion) {
+            synchronized (mutex) {
+                filter = this.filter;
+
+                if (filter.version != schemaVersion) {
+                    filter = createFilter(schemaVersion);
+
+                    this.filter = filter;
+                }
+            }
+        }
+
+        return filter;
+    }
+
+    /** Creates filter for given version of the schema. */
+    private VersionedFilter createFilter(int schemaVersion) {
+        SchemaDescriptor descriptor = registry.schema(schemaVersion);
+
+        int[] columns = new int[columnNames.length];
+
+        for (int i = 0; i < columnNames.length; i++) {
+            Column column = descriptor.column(columnNames[i]);
+
+            assert column != null : "schemaVersion=" + descriptor.version() + ", column=" + columnNames[i];
+
+            columns[i] = column.positionInRow();
+        }
+
+        return new VersionedFilter(
+                descriptor.version(),
+                BinaryRowConverter.columnsExtractor(descriptor, columns),
+                BinaryTupleSchema.createSchema(descriptor, columns)
+        );
+    }
+
+    private static class VersionedFilter {
+        private final int version;
+
+        private final ColumnsExtractor extractor;
+
+        private final BinaryTupleSchema tupleSchema;
+
+        VersionedFilter(int version, ColumnsExtractor extractor, BinaryTupleSchema tupleSchema) {
+            this.version = version;
+            this.extractor = extractor;
+            this.tupleSchema = tupleSchema;
+        }
+    }
+}
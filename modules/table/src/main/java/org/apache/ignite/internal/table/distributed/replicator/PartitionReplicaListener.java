@@ -117,6 +117,8 @@ import org.apache.ignite.internal.partition.replicator.network.replication.Binar
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.BuildIndexReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.GetEstimatedSizeRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.GetRowIdSplitPointsRequest;
+import org.apache.ignite.internal.partition.replicator.network.replication.IndexScanRangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectMultiRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyDirectSingleRowReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
@@ -153,6 +155,7 @@ import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.replicator.message.SchemaVersionAwareReplicaRequest;
 import org.apache.ignite.internal.replicator.message.ZonePartitionIdMessage;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
 import org.apache.ignite.internal.schema.BinaryRowUpgrader;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTupleComparator;
@@ -167,6 +170,7 @@ import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.IndexRow;
 import org.apache.ignite.internal.storage.index.IndexRowImpl;
+import org.apache.ignite.internal.storage.index.IndexScanRange;
 import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.apache.ignite.internal.storage.util.StorageUtils;
@@ -468,6 +472,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             return processGetEstimatedSizeRequest();
         }
 
+        if (request instanceof GetRowIdSplitPointsRequest) {
+            return processGetRowIdSplitPointsRequest((GetRowIdSplitPointsRequest) request);
+        }
+
         HybridTimestamp opTs = tableAwareReplicaRequestPreProcessor.getOperationTimestamp(request);
         @Nullable HybridTimestamp opTsIfDirectRo = (request instanceof ReadOnlyDirectReplicaRequest) ? opTs : null;
 
@@ -478,6 +486,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         return completedFuture(mvDataStorage.estimatedSize());
     }
 
+    private CompletableFuture<long[]> processGetRowIdSplitPointsRequest(GetRowIdSplitPointsRequest request) {
+        return completedFuture(RowIdRangeCursor.splitPoints(mvDataStorage, partId(), request.count()));
+    }
+
     private static void setDelayedAckProcessor(@Nullable ReplicaResult result, @Nullable BiConsumer<Object, Throwable> proc) {
         if (result != null) {
             result.delayedAckProcessor = proc;
@@ -670,8 +682,15 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         }
 
         return safeReadFuture
-                .thenCompose(
-                        unused -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount))
+                .thenCompose(unused -> retrieveExactEntriesUntilCursorEmpty(
+                        txId,
+                        request.coordinatorId(),
+                        readTimestamp,
+                        cursorId,
+                        batchCount,
+                        request.lowerRowId(),
+                        request.upperRowId()
+                ))
                 .thenApply(rows -> {
                     metrics.onRead(rows.size(), true, true);
 
@@ -687,6 +706,8 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
      * @param readTimestamp Timestamp of the moment when that moment when the data will be extracted.
      * @param cursorId Cursor id.
      * @param count Amount of entries which sill be extracted.
+     * @param lowerRowId Lowest row id to extract (inclusive), or {@code null} if not bounded.
+     * @param upperRowId Row id to stop the extraction at (exclusive), or {@code null} if not bounded.
      * @return Result future.
      */
     private CompletableFuture<List<BinaryRow>> retrieveExactEntriesUntilCursorEmpty(
@@ -694,11 +715,13 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             UUID txCoordinatorId,
             @Nullable HybridTimestamp readTimestamp,
             FullyQualifiedResourceId cursorId,
-            int count
+            int count,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
     ) {
         var result = new ArrayList<BinaryRow>(count);
 
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count, result)
+        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count, lowerRowId, upperRowId, result)
                 .thenApply(v -> {
                     closeCursorIfBatchNotFull(result, count, cursorId);
 
@@ -712,12 +735,14 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             @Nullable HybridTimestamp readTimestamp,
             FullyQualifiedResourceId cursorId,
             int count,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
             List<BinaryRow> result
     ) {
         CursorResource resource = remotelyTriggeredResourceRegistry.register(
                 cursorId,
                 txCoordinatorId,
-                () -> new CursorResource(mvDataStorage.scan(readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp))
+                () -> new CursorResource(scanCursor(readTimestamp, lowerRowId, upperRowId))
         );
 
         PartitionTimestampCursor cursor = resource.cursor();
@@ -770,13 +795,25 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                     mergeRowsWithResolvedWriteIntents(result, resultStartIndex, resolutionFutures);
 
                     if (result.size() < count && cursor.hasNext()) {
-                        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count, result);
+                        return retrieveExactEntriesUntilCursorEmpty(
+                                txId, txCoordinatorId, readTimestamp, cursorId, count, lowerRowId, upperRowId, result);
                     } else {
                         return nullCompletedFuture();
                     }
                 }, scanRequestExecutor);
     }
 
+    private PartitionTimestampCursor scanCursor(@Nullable HybridTimestamp readTimestamp, @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId) {
+        HybridTimestamp timestamp = readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp;
+
+        if (lowerRowId == null && upperRowId == null) {
+            return mvDataStorage.scan(timestamp);
+        }
+
+        return new RowIdRangeCursor(mvDataStorage, partId(), timestamp, lowerRowId, upperRowId);
+    }
+
     /**
      * Extracts exact amount of entries, or less if cursor is become empty, from a cursor on the specific time. Use it for RW.
      *
@@ -790,7 +827,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
             FullyQualifiedResourceId cursorId,
             int count
     ) {
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, count).thenCompose(rows -> {
+        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, count, null, null).thenCompose(rows -> {
             if (nullOrEmpty(rows)) {
                 return emptyListCompletedFuture();
             }
@@ -913,15 +950,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 ? nullCompletedFuture()
                 : safeTime.waitFor(request.readTimestamp());
 
-        return safeReadFuture.thenCompose(unused -> {
-            CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-            for (int i = 0; i < primaryKeys.size(); i++) {
-                resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-            }
-
-            return allOfToList(resolutionFuts);
-        });
+        return safeReadFuture.thenCompose(unused -> resolveRowsByPksForReadOnly(primaryKeys, readTimestamp));
     }
 
     /**
@@ -1069,7 +1098,8 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 readTimestamp,
                 batchCount,
                 result,
-                tableVersionByTs(readTimestamp)
+                tableVersionByTs(readTimestamp),
+                request.indexOnly()
         ).thenApply(ignore -> {
             closeCursorIfBatchNotFull(result, batchCount, cursorId);
 
@@ -1205,20 +1235,10 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         FullyQualifiedResourceId cursorId = cursorId(request.transactionId(), request.scanId());
 
-        BinaryTupleMessage lowerBoundMessage = request.lowerBoundPrefix();
-        BinaryTupleMessage upperBoundMessage = request.upperBoundPrefix();
-
-        BinaryTuplePrefix lowerBound = lowerBoundMessage == null ? null : lowerBoundMessage.asBinaryTuplePrefix();
-        BinaryTuplePrefix upperBound = upperBoundMessage == null ? null : upperBoundMessage.asBinaryTuplePrefix();
-
-        int flags = request.flags();
+        List<IndexScanRange> ranges = indexScanRanges(request);
 
         Cursor<IndexRow> cursor = remotelyTriggeredResourceRegistry.<CursorResource>register(cursorId, request.coordinatorId(),
-                () -> new CursorResource(indexStorage.readOnlyScan(
-                        lowerBound,
-                        upperBound,
-                        flags
-                ))).cursor();
+                () -> new CursorResource(indexStorage.readOnlyScan(ranges))).cursor();
 
         int batchCount = request.batchSize();
 
@@ -1232,7 +1252,8 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
                 readTimestamp,
                 batchCount,
                 result,
-                tableVersionByTs(readTimestamp)
+                tableVersionByTs(readTimestamp),
+                request.indexOnly()
         ).thenApply(ignore -> {
             closeCursorIfBatchNotFull(result, batchCount, cursorId);
 
@@ -1240,31 +1261,109 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
         });
     }
 
+    /** Returns the ranges to scan requested by either a list of ranges or a single range. */
+    private static List<IndexScanRange> indexScanRanges(ReadOnlyScanRetrieveBatchReplicaRequest request) {
+        List<IndexScanRangeMessage> rangeMessages = request.ranges();
+
+        if (rangeMessages == null) {
+            return List.of(indexScanRange(request.lowerBoundPrefix(), request.upperBoundPrefix(), request.flags()));
+        }
+
+        assert request.lowerBoundPrefix() == null && request.upperBoundPrefix() == null : "Multi-range scan doesn't allow bounds.";
+
+        var ranges = new ArrayList<IndexScanRange>(rangeMessages.size());
+
+        for (IndexScanRangeMessage range : rangeMessages) {
+            ranges.add(indexScanRange(range.lowerBoundPrefix(), range.upperBoundPrefix(), range.flags()));
+        }
+
+        return ranges;
+    }
+
+    private static IndexScanRange indexScanRange(
+            @Nullable BinaryTupleMessage lowerBoundMessage,
+            @Nullable BinaryTupleMessage upperBoundMessage,
+            int flags
+    ) {
+        BinaryTuplePrefix lowerBound = lowerBoundMessage == null ? null : lowerBoundMessage.asBinaryTuplePrefix();
+        BinaryTuplePrefix upperBound = upperBoundMessage == null ? null : upperBoundMessage.asBinaryTuplePrefix();
+
+        return new IndexScanRange(lowerBound, upperBound, flags);
+    }
+
+    /**
+     * Index scan loop in RO tx. Retrieves next row from index, checks whether the index row matches the table row visible at the read
+     * timestamp and collects the table row, or the index row if the scan is index-only, to the result.
+     *
+     * <p>Committed versions are checked in place, only write intents are resolved asynchronously. Index-only scans compare the index
+     * row with the stored version of the table row and don't upgrade it to the table schema version.
+     *
+     * @param schemaAwareIndexStorage Index storage.
+     * @param cursor Index cursor.
+     * @param readTimestamp Read timestamp.
+     * @param batchSize Batch size.
+     * @param result Result collection.
+     * @param tableVersion Table schema version at read timestamp.
+     * @param indexOnly Whether the values of the indexed columns are returned instead of the table rows.
+     * @return Future.
+     */
     private CompletableFuture<Void> continueReadOnlyIndexScan(
             TableSchemaAwareIndexStorage schemaAwareIndexStorage,
             Cursor<IndexRow> cursor,
             HybridTimestamp readTimestamp,
             int batchSize,
             List<BinaryRow> result,
-            int tableVersion
+            int tableVersion,
+            boolean indexOnly
     ) {
-        if (result.size() >= batchSize || !cursor.hasNext()) {
-            return nullCompletedFuture();
-        }
-
-        IndexRow indexRow = cursor.next();
+        while (result.size() < batchSize && cursor.hasNext()) {
+            IndexRow indexRow = cursor.next();
 
-        RowId rowId = indexRow.rowId();
+            ReadResult readResult = mvDataStorage.read(indexRow.rowId(), readTimestamp);
 
-        return resolvePlainReadResult(rowId, null, readTimestamp).thenComposeAsync(resolvedReadResult -> {
-            BinaryRow binaryRow = upgrade(binaryRow(resolvedReadResult), tableVersion);
+            if (readResult.isWriteIntent()) {
+                return resolvePlainReadResult(readResult, null, readTimestamp).thenComposeAsync(resolvedReadResult -> {
+                    collectIfIndexRowMatches(
+                            indexRow, binaryRow(resolvedReadResult), schemaAwareIndexStorage, result, tableVersion, indexOnly
+                    );
 
-            if (binaryRow != null && indexRowMatches(indexRow, binaryRow, schemaAwareIndexStorage)) {
-                result.add(binaryRow);
+                    return continueReadOnlyIndexScan(
+                            schemaAwareIndexStorage, cursor, readTimestamp, batchSize, result, tableVersion, indexOnly
+                    );
+                }, scanRequestExecutor);
             }
 
-            return continueReadOnlyIndexScan(schemaAwareIndexStorage, cursor, readTimestamp, batchSize, result, tableVersion);
-        }, scanRequestExecutor);
+            collectIfIndexRowMatches(indexRow, readResult.binaryRow(), schemaAwareIndexStorage, result, tableVersion, indexOnly);
+        }
+
+        return nullCompletedFuture();
+    }
+
+    /**
+     * Collects the table row visible at the read timestamp, or the index row if the scan is index-only, to the result, if the index row
+     * matches the table row.
+     *
+     * @param indexRow Index row, read from index storage.
+     * @param binaryRow Table row visible at the read timestamp, {@code null} if there is none.
+     * @param schemaAwareIndexStorage Index storage.
+     * @param result Result collection.
+     * @param tableVersion Table schema version at read timestamp.
+     * @param indexOnly Whether the values of the indexed columns are collected instead of the table row.
+     */
+    private void collectIfIndexRowMatches(
+            IndexRow indexRow,
+            @Nullable BinaryRow binaryRow,
+            TableSchemaAwareIndexStorage schemaAwareIndexStorage,
+            List<BinaryRow> result,
+            int tableVersion,
+            boolean indexOnly
+    ) {
+        if (binaryRow == null || !indexRowMatches(indexRow, binaryRow, schemaAwareIndexStorage)) {
+            return;
+        }
+
+        // The index row matches the visible version of the table row, thus it holds the actual values of the indexed columns.
+        result.add(indexOnly ? new BinaryRowImpl(tableVersion, indexRow.indexColumns().byteBuffer()) : upgrade(binaryRow, tableVersion));
     }
 
     /**
@@ -1381,6 +1480,24 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
     ) {
         ReadResult readResult = mvDataStorage.read(rowId, timestamp == null ? HybridTimestamp.MAX_VALUE : timestamp);
 
+        return resolvePlainReadResult(readResult, txId, timestamp);
+    }
+
+    /**
+     * Resolves a result received from a direct storage read.
+     *
+     * @param readResult Read result.
+     * @param txId Transaction id is used for RW only.
+     * @param timestamp Read timestamp.
+     * @return Future finishes with the resolved binary row.
+     */
+    private CompletableFuture<@Nullable TimedBinaryRow> resolvePlainReadResult(
+            ReadResult readResult,
+            @Nullable UUID txId,
+            @Nullable HybridTimestamp timestamp
+    ) {
+        RowId rowId = readResult.rowId();
+
         return resolveReadResult(readResult, txId, timestamp, () -> {
             HybridTimestamp newestCommitTimestamp = readResult.newestCommitTimestamp();
 
@@ -1661,77 +1778,125 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
      * @return Result of the given action.
      */
     private CompletableFuture<@Nullable BinaryRow> resolveRowByPkForReadOnly(BinaryTuple pk, HybridTimestamp ts) {
-        // Indexes store values associated with different versions of one entry.
-        // It's possible to have multiple entries for a particular search key
-        // only if we insert, delete and again insert an entry with the same indexed fields.
-        // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
-        // Which in turn means that if we have found non empty readResult during PK index iteration
-        // we can proceed with readResult resolution and stop the iteration.
         try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
-            // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
-            List<ReadResult> writeIntents = new ArrayList<>();
-            List<ReadResult> regularEntries = new ArrayList<>();
+            List<ReadResult> readResults = new ArrayList<>();
 
             for (RowId rowId : cursor) {
-                ReadResult readResult = mvDataStorage.read(rowId, ts);
-
-                if (readResult.isWriteIntent()) {
-                    writeIntents.add(readResult);
-                } else if (!readResult.isEmpty()) {
-                    regularEntries.add(readResult);
-                }
+                readResults.add(mvDataStorage.read(rowId, ts));
             }
 
-            // Nothing found in the storage, return null.
-            if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
-                metrics.onRead(true, false);
+            return resolveReadResultForReadOnly(readResults, ts);
+        }
+    }
 
-                return nullCompletedFuture();
+    /**
+     * Finds the rows by given pk search rows. Row ids of all the keys are looked up in the primary index first, and then the rows
+     * are read from the storage in a single batch.
+     *
+     * @param pks Binary Tuples representing primary keys.
+     * @param ts A timestamp regarding which we need to resolve the given rows.
+     * @return Rows in the order of the given keys, {@code null} for missing ones.
+     */
+    private CompletableFuture<List<BinaryRow>> resolveRowsByPksForReadOnly(List<BinaryTuple> pks, HybridTimestamp ts) {
+        List<RowId> rowIds = new ArrayList<>(pks.size());
+        int[] bounds = new int[pks.size() + 1];
+
+        for (int i = 0; i < pks.size(); i++) {
+            try (Cursor<RowId> cursor = getFromPkIndex(pks.get(i))) {
+                for (RowId rowId : cursor) {
+                    rowIds.add(rowId);
+                }
             }
 
-            if (writeIntents.isEmpty()) {
-                metrics.onRead(true, true);
+            bounds[i + 1] = rowIds.size();
+        }
 
-                // No write intents, then return the committed value. We already know that regularEntries is not empty.
-                return completedFuture(regularEntries.get(0).binaryRow());
-            } else {
-                ReadResult writeIntent = writeIntents.get(0);
+        List<ReadResult> readResults = mvDataStorage.read(rowIds, ts);
 
-                // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
-                // This means that we can just resolve the state of this transaction.
-                checkWriteIntentsBelongSameTx(writeIntents, txManager);
+        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[pks.size()];
 
-                return inBusyLockAsync(busyLock, () ->
-                        resolveWriteIntentReadability(writeIntent, ts)
-                                .thenApply(writeIntentReadable ->
-                                        inBusyLock(busyLock, () -> {
-                                            metrics.onRead(true, true);
+        for (int i = 0; i < pks.size(); i++) {
+            resolutionFuts[i] = resolveReadResultForReadOnly(readResults.subList(bounds[i], bounds[i + 1]), ts);
+        }
 
-                                            if (writeIntentReadable) {
-                                                return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
-                                            } else {
-                                                for (ReadResult wi : writeIntents) {
-                                                    HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+        return allOfToList(resolutionFuts);
+    }
 
-                                                    if (newestCommitTimestamp == null) {
-                                                        continue;
-                                                    }
+    /**
+     * Resolves the row visible at the given timestamp out of the versions found by a single primary key.
+     *
+     * @param readResults Read results of all row ids found by the key.
+     * @param ts A timestamp regarding which we need to resolve the row.
+     * @return Result of the given action.
+     */
+    private CompletableFuture<@Nullable BinaryRow> resolveReadResultForReadOnly(List<ReadResult> readResults, HybridTimestamp ts) {
+        // Indexes store values associated with different versions of one entry.
+        // It's possible to have multiple entries for a particular search key
+        // only if we insert, delete and again insert an entry with the same indexed fields.
+        // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
+        // Which in turn means that if we have found non empty readResult during PK index iteration
+        // we can proceed with readResult resolution and stop the iteration.
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
+        List<ReadResult> writeIntents = new ArrayList<>();
+        List<ReadResult> regularEntries = new ArrayList<>();
+
+        for (ReadResult readResult : readResults) {
+            if (readResult.isWriteIntent()) {
+                writeIntents.add(readResult);
+            } else if (!readResult.isEmpty()) {
+                regularEntries.add(readResult);
+            }
+        }
 
-                                                    ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+        // Nothing found in the storage, return null.
+        if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
+            metrics.onRead(true, false);
+
+            return nullCompletedFuture();
+        }
 
-                                                    assert !committedReadResult.isWriteIntent() :
-                                                            "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
-                                                                    + newestCommitTimestamp + ']';
+        if (writeIntents.isEmpty()) {
+            metrics.onRead(true, true);
 
-                                                    return committedReadResult.binaryRow();
+            // No write intents, then return the committed value. We already know that regularEntries is not empty.
+            return completedFuture(regularEntries.get(0).binaryRow());
+        } else {
+            ReadResult writeIntent = writeIntents.get(0);
+
+            // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
+            // This means that we can just resolve the state of this transaction.
+            checkWriteIntentsBelongSameTx(writeIntents, txManager);
+
+            return inBusyLockAsync(busyLock, () ->
+                    resolveWriteIntentReadability(writeIntent, ts)
+                            .thenApply(writeIntentReadable ->
+                                    inBusyLock(busyLock, () -> {
+                                        metrics.onRead(true, true);
+
+                                        if (writeIntentReadable) {
+                                            return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
+                                        } else {
+                                            for (ReadResult wi : writeIntents) {
+                                                HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+
+                                                if (newestCommitTimestamp == null) {
+                                                    continue;
                                                 }
 
-                                                // No suitable value found in write intents, read the committed value (if exists)
-                                                return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                                ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+
+                                                assert !committedReadResult.isWriteIntent() :
+                                                        "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
+                                                                + newestCommitTimestamp + ']';
+
+                                                return committedReadResult.binaryRow();
                                             }
-                                        }))
-                );
-            }
+
+                                            // No suitable value found in write intents, read the committed value (if exists)
+                                            return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                        }
+                                    }))
+            );
         }
     }
 
@@ -1782,13 +1947,7 @@ public class PartitionReplicaListener implements ReplicaTableProcessor {
 
         assert request.requestType() == RO_GET_ALL;
 
-        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), opStartTimestamp);
-        }
-
-        return allOfToList(resolutionFuts).thenApply(rows -> {
+        return resolveRowsByPksForReadOnly(primaryKeys, opStartTimestamp).thenApply(rows -> {
             // Validate read correctness.
             HybridTimestamp lwm = lowWatermark.getLowWatermark();
 
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowMeta;
+import org.apache.ignite.internal.util.Cursor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Cursor over the rows of a partition which IDs are within a range, as they were at the given timestamp.
+ *
+ * <p>Row IDs are taken from the storage in chunks, and the rows of a chunk are read with a single batched read, thus several cursors
+ * over disjoint ranges of the same partition may be read concurrently. See {@link #splitPoints} for the way the ranges are chosen.
+ */
+class RowIdRangeCursor implements PartitionTimestampCursor {
+    /** Number of row IDs taken from the storage at once. */
+    private static final int CHUNK_SIZE = 128;
+
+    /** Minimal estimated number of rows in a range, smaller partitions are split into fewer ranges. */
+    static final long MIN_ROWS_PER_RANGE = 10_000;
+
+    private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+
+    private final MvPartitionStorage storage;
+
+    private final HybridTimestamp timestamp;
+
+    /** Highest row ID of the range (inclusive), or {@code null} if the range is empty. */
+    private final @Nullable RowId upperBound;
+
+    /** Row ID to take the next chunk from, or {@code null} if the range is exhausted. */
+    private @Nullable RowId nextLowerBound;
+
+    private List<RowId> rowIds = List.of();
+
+    private List<ReadResult> chunk = List.of();
+
+    private int pos;
+
+    private @Nullable RowId currentRowId;
+
+    /**
+     * Constructor.
+     *
+     * @param storage Partition storage.
+     * @param partitionId Partition ID.
+     * @param timestamp Timestamp to read the rows at.
+     * @param lowerRowId Lowest row ID of the range (inclusive), or {@code null} if not bounded.
+     * @param upperRowId Row ID the range ends at (exclusive), or {@code null} if not bounded.
+     */
+    RowIdRangeCursor(
+            MvPartitionStorage storage,
+            int partitionId,
+            HybridTimestamp timestamp,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    ) {
+        this.storage = storage;
+        this.timestamp = timestamp;
+        this.nextLowerBound = lowerRowId == null ? RowId.lowestRowId(partitionId) : new RowId(partitionId, lowerRowId);
+        this.upperBound = upperRowId == null ? RowId.highestRowId(partitionId) : decrement(new RowId(partitionId, upperRowId));
+
+        if (upperBound == null || nextLowerBound.compareTo(upperBound) > 0) {
+            nextLowerBound = null;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pos == chunk.size()) {
+            if (!readChunk()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public ReadResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        currentRowId = rowIds.get(pos);
+
+        return chunk.get(pos++);
+    }
+
+    @Override
+    public @Nullable BinaryRow committed(HybridTimestamp timestamp) {
+        if (currentRowId == null) {
+            throw new IllegalStateException("currentRowId is empty");
+        }
+
+        try (Cursor<ReadResult> versions = storage.scanVersions(currentRowId)) {
+            // Versions are sorted from the newest to the oldest one.
+            for (ReadResult version : versions) {
+                HybridTimestamp commitTs = version.commitTimestamp();
+
+                if (commitTs != null && commitTs.compareTo(timestamp) <= 0) {
+                    return version.binaryRow();
+                }
+            }
+        }
+
+        return null;
+    }
+
+    @Override
+    public void close() {
+        nextLowerBound = null;
+        chunk = List.of();
+        rowIds = List.of();
+        pos = 0;
+    }
+
+    private boolean readChunk() {
+        RowId lowerBound = nextLowerBound;
+
+        if (lowerBound == null) {
+            return false;
+        }
+
+        assert upperBound != null;
+
+        List<RowMeta> metas = storage.rowsStartingWith(lowerBound, upperBound, CHUNK_SIZE);
+
+        List<RowId> ids = new ArrayList<>(metas.size());
+
+        for (RowMeta meta : metas) {
+            ids.add(meta.rowId());
+        }
+
+        nextLowerBound = ids.size() < CHUNK_SIZE ? null : ids.get(ids.size() - 1).increment();
+        rowIds = ids;
+        chunk = ids.isEmpty() ? List.of() : storage.read(ids, timestamp);
+        pos = 0;
+
+        return !ids.isEmpty();
+    }
+
+    /**
+     * Returns row IDs which split the partition into at most the given number of ranges, or an empty array if the partition is too
+     * small to be split. Row IDs are generated from the current time and a random number, thus the ranges are chosen by splitting
+     * the interval between the lowest and the highest row IDs evenly, which is only an estimation of the number of rows in a range.
+     *
+     * @param storage Partition storage.
+     * @param partitionId Partition ID.
+     * @param count Maximal number of ranges.
+     * @return Pairs of the most and the least significant bits of the row IDs, sorted in ascending order.
+     */
+    static long[] splitPoints(MvPartitionStorage storage, int partitionId, int count) {
+        int cnt = (int) Math.min(count, storage.estimatedSize() / MIN_ROWS_PER_RANGE);
+
+        if (cnt < 2) {
+            return new long[0];
+        }
+
+        RowId lowest = storage.closestRowId(RowId.lowestRowId(partitionId));
+        RowId highest = storage.highestRowId();
+
+        if (lowest == null || highest == null) {
+            return new long[0];
+        }
+
+        BigInteger lo = toBigInteger(lowest);
+        BigInteger step = toBigInteger(highest).subtract(lo).divide(BigInteger.valueOf(cnt));
+
+        if (step.signum() <= 0) {
+            return new long[0];
+        }
+
+        long[] res = new long[2 * (cnt - 1)];
+
+        for (int i = 1; i < cnt; i++) {
+            BigInteger point = lo.add(step.multiply(BigInteger.valueOf(i)));
+
+            res[2 * (i - 1)] = point.shiftRight(Long.SIZE).longValue();
+            res[2 * (i - 1) + 1] = point.longValue() ^ Long.MIN_VALUE;
+        }
+
+        return res;
+    }
+
+    /** Maps a row ID to a number preserving the order of row IDs. */
+    private static BigInteger toBigInteger(RowId rowId) {
+        BigInteger lsb = BigInteger.valueOf(rowId.leastSignificantBits() ^ Long.MIN_VALUE).and(UNSIGNED_LONG_MASK);
+
+        return BigInteger.valueOf(rowId.mostSignificantBits()).shiftLeft(Long.SIZE).add(lsb);
+    }
+
+    /** Returns the previous row ID within a single partition, or {@code null} if the row ID already has minimal possible value. */
+    private static @Nullable RowId decrement(RowId rowId) {
+        long lsb = rowId.leastSignificantBits() - 1;
+        long msb = rowId.mostSignificantBits();
+
+        if (lsb == Long.MAX_VALUE) {
+            if (msb == Long.MIN_VALUE) {
+                return null;
+            }
+
+            --msb;
+        }
+
+        return new RowId(rowId.partitionId(), msb, lsb);
+    }
+}
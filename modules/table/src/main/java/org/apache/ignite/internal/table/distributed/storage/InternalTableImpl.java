@@ -92,6 +92,7 @@ import org.apache.ignite.internal.network.InternalClusterNode;
 import org.apache.ignite.internal.network.UnresolvableConsistentIdException;
 import org.apache.ignite.internal.partition.replicator.network.PartitionReplicationMessagesFactory;
 import org.apache.ignite.internal.partition.replicator.network.replication.BinaryTupleMessage;
+import org.apache.ignite.internal.partition.replicator.network.replication.IndexScanRangeMessage;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyMultiRowPkReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadOnlyScanRetrieveBatchReplicaRequest;
 import org.apache.ignite.internal.partition.replicator.network.replication.ReadWriteMultiRowPkReplicaRequest;
@@ -588,6 +589,20 @@ public class InternalTableImpl implements InternalTable {
                 .build();
     }
 
+    private static List<IndexScanRangeMessage> indexScanRangeMessages(IndexScanCriteria.MultiRange criteria) {
+        List<IndexScanRangeMessage> res = new ArrayList<>(criteria.ranges().size());
+
+        for (IndexScanCriteria.Range range : criteria.ranges()) {
+            res.add(TABLE_MESSAGES_FACTORY.indexScanRangeMessage()
+                    .lowerBoundPrefix(binaryTupleMessage(range.lowerBound()))
+                    .upperBoundPrefix(binaryTupleMessage(range.upperBound()))
+                    .flags(range.flags())
+                    .build());
+        }
+
+        return res;
+    }
+
     private static boolean canRetry(Throwable e, long ts, long timeout) {
         return exceptionAllowsImplicitTxRetry(e) && coarseCurrentTimeMillis() - ts < timeout;
     }
@@ -1556,7 +1571,10 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     null,
                     null,
-                    operationContext
+                    null,
+                    null,
+                    operationContext,
+                    false
             );
         } else {
             return readWriteScan(
@@ -1585,7 +1603,10 @@ public class InternalTableImpl implements InternalTable {
                     recipientNode,
                     indexId,
                     criteria,
-                    operationContext
+                    null,
+                    null,
+                    operationContext,
+                    false
             );
         } else {
             return readWriteScan(
@@ -1598,6 +1619,54 @@ public class InternalTableImpl implements InternalTable {
         }
     }
 
+    @Override
+    public Publisher<BinaryRow> indexOnlyScan(
+            int partId,
+            InternalClusterNode recipientNode,
+            int indexId,
+            IndexScanCriteria criteria,
+            OperationContext operationContext
+    ) {
+        validatePartitionIndex(partId);
+
+        assert operationContext.txContext().isReadOnly() : "Index-only scan requires read-only transaction.";
+
+        return readOnlyScan(
+                partId,
+                recipientNode,
+                indexId,
+                criteria,
+                null,
+                null,
+                operationContext,
+                true
+        );
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            InternalClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            OperationContext operationContext
+    ) {
+        validatePartitionIndex(partId);
+
+        assert operationContext.txContext().isReadOnly() : "Row ID range scan requires read-only transaction.";
+
+        return readOnlyScan(
+                partId,
+                recipientNode,
+                null,
+                null,
+                lowerRowId,
+                upperRowId,
+                operationContext,
+                false
+        );
+    }
+
     @Override
     public Publisher<BinaryRow> scan(
             int partId,
@@ -1630,7 +1699,10 @@ public class InternalTableImpl implements InternalTable {
             InternalClusterNode recipientNode,
             @Nullable Integer indexId,
             @Nullable IndexScanCriteria criteria,
-            OperationContext opCtx
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            OperationContext opCtx,
+            boolean indexOnly
     ) {
         assert opCtx.txContext().isReadOnly();
 
@@ -1641,6 +1713,9 @@ public class InternalTableImpl implements InternalTable {
         BinaryTuplePrefix lowerBound = rangeScan ? ((IndexScanCriteria.Range) criteria).lowerBound() : null;
         BinaryTuplePrefix upperBound = rangeScan ? ((IndexScanCriteria.Range) criteria).upperBound() : null;
         int flags = rangeScan ? ((IndexScanCriteria.Range) criteria).flags() : 0;
+        List<IndexScanRangeMessage> ranges = criteria instanceof IndexScanCriteria.MultiRange
+                ? indexScanRangeMessages((IndexScanCriteria.MultiRange) criteria)
+                : null;
 
         TxContext.ReadOnly txContext = (TxContext.ReadOnly) opCtx.txContext();
 
@@ -1662,6 +1737,10 @@ public class InternalTableImpl implements InternalTable {
                         .lowerBoundPrefix(binaryTupleMessage(lowerBound))
                         .upperBoundPrefix(binaryTupleMessage(upperBound))
                         .flags(flags)
+                        .ranges(ranges)
+                        .indexOnly(indexOnly)
+                        .lowerRowId(lowerRowId)
+                        .upperRowId(upperRowId)
                         .build();
 
                 return replicaSvc.invoke(recipientNode, request);
@@ -1759,6 +1838,7 @@ public class InternalTableImpl implements InternalTable {
             OperationContext opCtx
     ) {
         assert !opCtx.txContext().isReadOnly();
+        assert !(criteria instanceof IndexScanCriteria.MultiRange) : "Multi-range scan requires read-only transaction.";
 
         boolean rangeScan = criteria instanceof IndexScanCriteria.Range;
         boolean lookup = criteria instanceof IndexScanCriteria.Lookup;
@@ -2197,6 +2277,36 @@ public class InternalTableImpl implements InternalTable {
                 .thenApply(v -> Arrays.stream(invokeFutures).mapToLong(f -> (Long) f.join()).sum());
     }
 
+    @Override
+    public CompletableFuture<List<UUID>> rowIdSplitPoints(int partId, int count) {
+        validatePartitionIndex(partId);
+
+        HybridTimestamp now = clockService.current();
+
+        ZonePartitionId replicaGroupId = targetReplicationGroupId(partId);
+        ReplicationGroupIdMessage partitionIdMessage = serializeReplicationGroupId(replicaGroupId);
+
+        Function<ReplicaMeta, ReplicaRequest> requestFactory = replicaMeta ->
+                TABLE_MESSAGES_FACTORY.getRowIdSplitPointsRequest()
+                        .groupId(partitionIdMessage)
+                        .tableId(tableId)
+                        .enlistmentConsistencyToken(enlistmentConsistencyToken(replicaMeta))
+                        .timestamp(now)
+                        .count(count)
+                        .build();
+
+        return this.<long[]>sendToPrimaryWithRetry(replicaGroupId, now, 5, requestFactory)
+                .thenApply(points -> {
+                    List<UUID> res = new ArrayList<>(points.length / 2);
+
+                    for (int i = 0; i < points.length; i += 2) {
+                        res.add(new UUID(points[i], points[i + 1]));
+                    }
+
+                    return res;
+                });
+    }
+
     @Override
     public final ZonePartitionId targetReplicationGroupId(int partitionIndex) {
         return new ZonePartitionId(zoneId, partitionIndex);
@@ -35,4 +35,10 @@ public interface TableMessageGroup {
 
     /** Message type for {@link PartitionModificationInfoMessage}. */
     short GET_ESTIMATED_SIZE_WITH_MODIFIED_TS_MESSAGE = 3;
+
+    /** Message type for {@link GetModificationCountersRequest}. */
+    short GET_MODIFICATION_COUNTERS_REQUEST = 4;
+
+    /** Message type for {@link GetModificationCountersResponse}. */
+    short GET_MODIFICATION_COUNTERS_RESPONSE = 5;
 }
@@ -27,16 +27,20 @@ import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.ColumnsExtractor;
 import org.apache.ignite.internal.storage.BinaryRowAndRowId;
+import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageDestroyedException;
 import org.apache.ignite.internal.storage.StorageException;
@@ -44,6 +48,7 @@ import org.apache.ignite.internal.storage.index.IndexStorage;
 import org.apache.ignite.internal.table.distributed.TableIndexStoragesSupplier;
 import org.apache.ignite.internal.table.distributed.TableSchemaAwareIndexStorage;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.util.Cursor;
 import org.junit.jupiter.api.Test;
 
 /** For {@link IndexUpdateHandler} testing. */
@@ -275,6 +280,42 @@ public class IndexUpdateHandlerTest extends BaseIgniteAbstractTest {
         );
     }
 
+    @Test
+    void testTryRemoveFromPartialIndex() {
+        TableSchemaAwareIndexStorage indexStorage = createIndexStorage();
+        ColumnsExtractor columnsExtractor = indexStorage.indexRowResolver();
+
+        var coveredRow = mock(BinaryRow.class);
+        var notCoveredRow = mock(BinaryRow.class);
+        var rowId = new RowId(PARTITION_ID);
+
+        BinaryTuple key = mock(BinaryTuple.class);
+
+        when(key.byteBuffer()).thenReturn(ByteBuffer.allocate(1));
+        when(indexStorage.covers(notCoveredRow)).thenReturn(false);
+        when(columnsExtractor.extractColumns(any())).thenReturn(key);
+
+        var indexUpdateHandler = new IndexUpdateHandler(indexStoragesSupplier(Map.of(INDEX_ID, indexStorage)));
+
+        // Previous version with the same key which is not in the index doesn't prevent removal.
+        indexUpdateHandler.tryRemoveFromIndexes(coveredRow, rowId, cursor(notCoveredRow), null);
+
+        verify(indexStorage).remove(eq(coveredRow), eq(rowId));
+
+        // Row which is not in the index is not removed from it.
+        clearInvocations(indexStorage);
+
+        indexUpdateHandler.tryRemoveFromIndexes(notCoveredRow, rowId, emptyCursor(), null);
+
+        verify(indexStorage, never()).remove(any(), any());
+    }
+
+    private static Cursor<ReadResult> cursor(BinaryRow previousRow) {
+        ReadResult previousVersion = ReadResult.createFromCommitted(new RowId(PARTITION_ID), previousRow, HybridTimestamp.MIN_VALUE);
+
+        return Cursor.fromIterable(List.of(previousVersion));
+    }
+
     private static TableSchemaAwareIndexStorage createIndexStorage() {
         TableSchemaAwareIndexStorage indexStorage = mock(TableSchemaAwareIndexStorage.class);
 
@@ -286,6 +327,8 @@ public class IndexUpdateHandlerTest extends BaseIgniteAbstractTest {
 
         when(indexStorage.indexRowResolver()).thenReturn(columnsExtractor);
 
+        when(indexStorage.covers(any())).thenReturn(true);
+
         return indexStorage;
     }
 
@@ -94,6 +94,7 @@ import static org.mockito.Mockito.when;
 
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -1126,6 +1127,59 @@ public class PartitionReplicaListenerTest extends IgniteAbstractTest {
         assertEquals(2, rows.size());
     }
 
+    @Test
+    public void testReadOnlyIndexOnlyScanSkipsStaleIndexRows() throws Exception {
+        UUID txId = newTxId();
+        int sortedIndexId = sortedIndexStorage.id();
+
+        List<RowId> rowIds = new ArrayList<>();
+        List<TestKey> keys = new ArrayList<>();
+
+        IntStream.range(0, 3).forEach(i -> {
+            RowId rowId = new RowId(PART_ID);
+            TestKey key = key(nextBinaryKey());
+
+            testMvPartitionStorage.addWrite(rowId, binaryRow(key, new TestValue(i, "val" + i)), txId, ZONE_ID, PART_ID);
+            sortedIndexStorage.storage().put(new IndexRowImpl(new BinaryTuple(1, new BinaryTupleBuilder(1).appendInt(i).build()), rowId));
+            testMvPartitionStorage.commitWrite(rowId, clock.now(), txId);
+
+            rowIds.add(rowId);
+            keys.add(key);
+        });
+
+        // Update the indexed value of the second row, the index keeps the entry of the previous version.
+        UUID updateTxId = newTxId();
+
+        testMvPartitionStorage.addWrite(rowIds.get(1), binaryRow(keys.get(1), new TestValue(3, "val3")), updateTxId, ZONE_ID, PART_ID);
+        sortedIndexStorage.storage().put(
+                new IndexRowImpl(new BinaryTuple(1, new BinaryTupleBuilder(1).appendInt(3).build()), rowIds.get(1))
+        );
+        testMvPartitionStorage.commitWrite(rowIds.get(1), clock.now(), updateTxId);
+
+        CompletableFuture<ReplicaResult> fut = partitionReplicaListener.process(
+                TABLE_MESSAGES_FACTORY.readOnlyScanRetrieveBatchReplicaRequest()
+                        .groupId(zonePartitionIdMessage(grpId))
+                        .tableId(TABLE_ID)
+                        .transactionId(newTxId())
+                        .readTimestamp(clock.now())
+                        .scanId(1L)
+                        .indexToUse(sortedIndexId)
+                        .indexOnly(true)
+                        .batchSize(10)
+                        .coordinatorId(localNode.id())
+                        .build(), validRoPrimacy(), localNode.id());
+
+        List<BinaryRow> rows = (List<BinaryRow>) fut.get(1, TimeUnit.SECONDS).result();
+
+        assertNotNull(rows);
+
+        List<Integer> indexedValues = rows.stream()
+                .map(row -> new BinaryTuple(1, row.tupleSlice()).intValue(0))
+                .collect(toList());
+
+        assertEquals(List.of(0, 2, 3), indexedValues);
+    }
+
     @Test
     public void testReadOnlyScanRetrieveBatchReplicaRequestHashIndex() throws Exception {
         UUID txId = newTxId();
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.table.distributed.replicator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.BinaryRowImpl;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.impl.TestMvPartitionStorage;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RowIdRangeCursor}.
+ */
+public class RowIdRangeCursorTest extends BaseIgniteAbstractTest {
+    private static final int PART_ID = 1;
+
+    private static final int ROWS = 3 * (int) RowIdRangeCursor.MIN_ROWS_PER_RANGE;
+
+    private static final HybridTimestamp COMMIT_TS = new HybridTimestamp(1_000, 0);
+
+    private final TestMvPartitionStorage storage = new TestMvPartitionStorage(PART_ID);
+
+    @BeforeEach
+    void fillStorage() {
+        storage.runConsistently(locker -> {
+            for (int i = 0; i < ROWS; i++) {
+                storage.addWriteCommitted(new RowId(PART_ID, i, -i), row(i), COMMIT_TS);
+            }
+
+            return null;
+        });
+    }
+
+    @Test
+    public void splitRangesCoverAllRows() {
+        long[] points = RowIdRangeCursor.splitPoints(storage, PART_ID, 8);
+
+        // The partition is too small to be split into more ranges.
+        assertEquals(2 * 2, points.length);
+
+        List<UUID> bounds = new ArrayList<>();
+
+        bounds.add(null);
+
+        for (int i = 0; i < points.length; i += 2) {
+            bounds.add(new UUID(points[i], points[i + 1]));
+        }
+
+        bounds.add(null);
+
+        List<Integer> values = new ArrayList<>();
+
+        for (int i = 0; i < bounds.size() - 1; i++) {
+            List<Integer> rangeValues = read(bounds.get(i), bounds.get(i + 1), COMMIT_TS);
+
+            assertFalse(rangeValues.isEmpty());
+
+            values.addAll(rangeValues);
+        }
+
+        assertEquals(ROWS, values.size());
+
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i, values.get(i));
+        }
+    }
+
+    @Test
+    public void smallPartitionIsNotSplit() {
+        TestMvPartitionStorage small = new TestMvPartitionStorage(PART_ID);
+
+        small.runConsistently(locker -> small.addWriteCommitted(new RowId(PART_ID), row(0), COMMIT_TS));
+
+        assertEquals(0, RowIdRangeCursor.splitPoints(small, PART_ID, 8).length);
+    }
+
+    @Test
+    public void rangeBoundsAreRespected() {
+        List<Integer> values = read(new UUID(10, -10), new UUID(20, -20), COMMIT_TS);
+
+        assertEquals(10, values.size());
+        assertEquals(10, values.get(0));
+        assertEquals(19, values.get(9));
+
+        assertTrue(read(new UUID(20, -20), new UUID(20, -20), COMMIT_TS).isEmpty());
+    }
+
+    @Test
+    public void rowsInvisibleAtTimestampAreNotReturnedAsRows() {
+        List<Integer> values = read(null, new UUID(10, 0), COMMIT_TS.subtractPhysicalTime(1));
+
+        assertTrue(values.isEmpty());
+    }
+
+    private List<Integer> read(@Nullable UUID lower, @Nullable UUID upper, HybridTimestamp timestamp) {
+        List<Integer> res = new ArrayList<>();
+
+        try (RowIdRangeCursor cursor = new RowIdRangeCursor(storage, PART_ID, timestamp, lower, upper)) {
+            while (cursor.hasNext()) {
+                ReadResult readResult = cursor.next();
+                BinaryRow row = readResult.binaryRow();
+
+                if (row != null) {
+                    res.add(row.tupleSlice().order(ByteOrder.BIG_ENDIAN).getInt(0));
+                }
+            }
+        }
+
+        return res;
+    }
+
+    private static BinaryRow row(int value) {
+        return new BinaryRowImpl(1, ByteBuffer.allocate(Integer.BYTES).putInt(0, value));
+    }
+}